@@ -13,7 +13,9 @@
 *******************************************************************************/
 package org.eclipse.lsp4mp.commons.metadata;
 
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 
 /**
  * Configuration metadata
@@ -24,10 +26,60 @@ import java.util.List;
  */
 public class ConfigurationMetadata {
 
+	/**
+	 * Hints indexed by name.
+	 *
+	 */
+	private static class HintsIndex {
+
+		private final List<ItemHint> hints;
+
+		private final int version;
+
+		private final int size;
+
+		private final ItemHint[] snapshot;
+
+		private final Map<String, Integer> positions;
+
+		public HintsIndex(List<ItemHint> hints, int version) {
+			this.hints = hints;
+			this.version = version;
+			this.snapshot = hints.toArray(new ItemHint[0]);
+			this.size = snapshot.length;
+			this.positions = new HashMap<>(size);
+			for (int i = 0; i < snapshot.length; i++) {
+				ItemHint hint = snapshot[i];
+				if (hint != null && hint.getName() != null) {
+					positions.putIfAbsent(hint.getName(), i);
+				}
+			}
+		}
+
+		public boolean isValid(List<ItemHint> hints, int version) {
+			return this.hints == hints && this.version == version && this.size == hints.size();
+		}
+
+		public ItemHint getHint(String... names) {
+			int position = -1;
+			for (String name : names) {
+				Integer namePosition = name != null ? positions.get(name) : null;
+				if (namePosition != null && (position == -1 || namePosition < position)) {
+					position = namePosition;
+				}
+			}
+			return position != -1 ? snapshot[position] : null;
+		}
+	}
+
 	private List<ItemMetadata> properties;
 
 	private List<ItemHint> hints;
 
+	private transient volatile int hintsVersion;
+
+	private transient volatile HintsIndex hintsIndex;
+
 	public List<ItemMetadata> getProperties() {
 		return properties;
 	}
@@ -42,6 +94,21 @@ public class ConfigurationMetadata {
 
 	public void setHints(List<ItemHint> hints) {
 		this.hints = hints;
+		hintsChanged();
+	}
+
+	/**
+	 * Notify that the hints list has been updated in place.
+	 *
+	 * <p>
+	 * The hints index used by {@link #getHint(String...)} is rebuilt lazily when
+	 * the hints list is replaced, when its size changes or when this method is
+	 * called. This method must be called when a hint of the list is replaced
+	 * without changing its size.
+	 * </p>
+	 */
+	public void hintsChanged() {
+		hintsVersion++;
 	}
 
 	/**
@@ -63,17 +130,17 @@ public class ConfigurationMetadata {
 	 * @return the item hint from the given possible hint and null otherwise.
 	 */
 	public ItemHint getHint(String... hint) {
+		List<ItemHint> hints = this.hints;
 		if (hints == null || hint == null) {
 			return null;
 		}
-		for (ItemHint itemHint : hints) {
-			for (String name : hint) {
-				if (itemHint.getName().equals(name)) {
-					return itemHint;
-				}
-			}
+		int version = hintsVersion;
+		HintsIndex index = hintsIndex;
+		if (index == null || !index.isValid(hints, version)) {
+			index = new HintsIndex(hints, version);
+			hintsIndex = index;
 		}
-		return null;
+		return index.getHint(hint);
 	}
 
 }
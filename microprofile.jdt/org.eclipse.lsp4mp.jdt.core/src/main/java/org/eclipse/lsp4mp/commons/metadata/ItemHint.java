@@ -13,7 +13,9 @@
 *******************************************************************************/
 package org.eclipse.lsp4mp.commons.metadata;
 
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 
 /**
  * Configuration item hint.
@@ -24,16 +26,99 @@ import java.util.List;
  */
 public class ItemHint extends ItemBase {
 
+	/**
+	 * Values indexed by their raw value and by their converted values.
+	 *
+	 */
+	private static class ValuesIndex {
+
+		private static final ConverterKind[] CONVERTER_KINDS = ConverterKind.values();
+
+		private final List<ValueHint> values;
+
+		private final int size;
+
+		private final ValueHint[] snapshot;
+
+		private final Map<String, Integer> positions;
+
+		private final Map<ConverterKind, Map<String, Integer>> convertedPositions;
+
+		public ValuesIndex(List<ValueHint> values) {
+			this.values = values;
+			this.snapshot = values.toArray(new ValueHint[0]);
+			this.size = snapshot.length;
+			this.positions = new HashMap<>(size);
+			this.convertedPositions = new HashMap<>(CONVERTER_KINDS.length);
+			for (ConverterKind converterKind : CONVERTER_KINDS) {
+				convertedPositions.put(converterKind, new HashMap<>(size));
+			}
+			for (int i = 0; i < snapshot.length; i++) {
+				ValueHint valueHint = snapshot[i];
+				if (valueHint == null) {
+					continue;
+				}
+				String value = valueHint.getValue();
+				if (value != null) {
+					positions.putIfAbsent(value, i);
+				}
+				for (ConverterKind converterKind : CONVERTER_KINDS) {
+					String convertedValue = valueHint.getValue(converterKind);
+					if (convertedValue != null) {
+						convertedPositions.get(converterKind).putIfAbsent(convertedValue, i);
+					}
+				}
+			}
+		}
+
+		public boolean isValid(List<ValueHint> values) {
+			return this.values == values && this.size == values.size();
+		}
+
+		public ValueHint getValue(String value, List<ConverterKind> converterKinds) {
+			if (converterKinds == null) {
+				Integer position = positions.get(value);
+				return position != null ? snapshot[position] : null;
+			}
+			int position = -1;
+			for (ConverterKind converterKind : converterKinds) {
+				Map<String, Integer> converted = converterKind != null ? convertedPositions.get(converterKind)
+						: positions;
+				Integer convertedPosition = converted.get(value);
+				if (convertedPosition != null && (position == -1 || convertedPosition < position)) {
+					position = convertedPosition;
+				}
+			}
+			return position != -1 ? snapshot[position] : null;
+		}
+	}
+
 	private List<ValueHint> values;
 
 	private List<ValueProvider> providers;
 
+	private transient volatile ValuesIndex valuesIndex;
+
 	public List<ValueHint> getValues() {
 		return values;
 	}
 
 	public void setValues(List<ValueHint> values) {
 		this.values = values;
+		valuesChanged();
+	}
+
+	/**
+	 * Notify that the values list has been updated in place.
+	 *
+	 * <p>
+	 * The values index used by {@link #getValue(String, List)} is rebuilt when the
+	 * values list is replaced or when its size changes. This method must be called
+	 * when values are replaced without changing the size of the list.
+	 * </p>
+	 */
+	public void valuesChanged() {
+		this.valuesIndex = null;
 	}
 
 	public void setProviders(List<ValueProvider> providers) {
@@ -54,22 +139,16 @@ public class ItemHint extends ItemBase {
 	 *         converters <code>converterKinds</code> and null otherwise.
 	 */
 	public ValueHint getValue(String value, List<ConverterKind> converterKinds) {
+		List<ValueHint> values = this.values;
 		if (values == null || value == null) {
 			return null;
 		}
-		for (ValueHint valueHint : values) {
-			if (converterKinds != null) {
-				for (ConverterKind converterKind : converterKinds) {
-					if (value.equals(valueHint.getValue(converterKind))) {
-						return valueHint;
-					}
-				}
-			} else if (value.equals(valueHint.getValue())) {
-				return valueHint;
-			}
-
+		ValuesIndex index = valuesIndex;
+		if (index == null || !index.isValid(values)) {
+			index = new ValuesIndex(values);
+			valuesIndex = index;
 		}
-		return null;
+		return index.getValue(value, converterKinds);
 	}
 
 	@Override
@@ -16,7 +16,10 @@ package org.eclipse.lsp4mp.jdt.core;
 import org.eclipse.lsp4mp.jdt.core.project.JDTMicroProfileProjectManager;
 import org.eclipse.lsp4mp.jdt.internal.core.MicroProfilePropertiesListenerManager;
 import org.eclipse.lsp4mp.jdt.internal.core.PropertiesProviderRegistry;
+import org.eclipse.lsp4mp.jdt.internal.core.ls.BatchCommandExecutor;
 import org.eclipse.lsp4mp.jdt.internal.core.java.validators.JavaASTValidatorRegistry;
+import org.eclipse.lsp4mp.jdt.internal.jaxrs.java.ServerAvailabilityMonitor;
+import org.eclipse.lsp4mp.jdt.internal.restclient.java.RestClientInjectionIndex;
 import org.osgi.framework.BundleActivator;
 import org.osgi.framework.BundleContext;
 
@@ -38,6 +41,7 @@ public class MicroProfileCorePlugin implements BundleActivator {
 		PropertiesProviderRegistry.getInstance().initialize();
 		JavaASTValidatorRegistry.getInstance().initialize();
 		JDTMicroProfileProjectManager.getInstance().initialize();
+		RestClientInjectionIndex.getInstance().initialize();
 	}
 
 	public void stop(BundleContext context) throws Exception {
@@ -45,6 +49,9 @@ public class MicroProfileCorePlugin implements BundleActivator {
 		PropertiesProviderRegistry.getInstance().destroy();
 		JavaASTValidatorRegistry.getInstance().destroy();
 		JDTMicroProfileProjectManager.getInstance().destroy();
+		RestClientInjectionIndex.getInstance().destroy();
+		ServerAvailabilityMonitor.getInstance().destroy();
+		BatchCommandExecutor.getInstance().destroy();
 		plugin = null;
 	}
 
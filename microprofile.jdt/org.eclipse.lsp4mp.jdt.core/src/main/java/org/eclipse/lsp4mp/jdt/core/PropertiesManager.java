@@ -15,8 +15,12 @@ package org.eclipse.lsp4mp.jdt.core;
 
 import java.util.ArrayList;
 import java.util.Collections;
+import java.util.HashMap;
 import java.util.HashSet;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
 import java.util.logging.Level;
 import java.util.logging.Logger;
 import java.util.stream.Collectors;
@@ -57,9 +61,15 @@ import org.eclipse.lsp4mp.commons.MicroProfileProjectInfoParams;
 import org.eclipse.lsp4mp.commons.MicroProfilePropertiesScope;
 import org.eclipse.lsp4mp.commons.MicroProfilePropertyDefinitionParams;
 import org.eclipse.lsp4mp.commons.MicroProfilePropertyDocumentationParams;
+import org.eclipse.lsp4mp.commons.metadata.ConfigurationMetadata;
+import org.eclipse.lsp4mp.commons.metadata.ItemHint;
+import org.eclipse.lsp4mp.commons.metadata.ItemMetadata;
+import org.eclipse.lsp4mp.commons.metadata.ValueHint;
 import org.eclipse.lsp4jdt.core.utils.IJDTUtils;
 import org.eclipse.lsp4mp.jdt.core.utils.JDTMicroProfileUtils;
+import org.eclipse.lsp4mp.jdt.core.IPropertiesCollector.MergingStrategy;
 import org.eclipse.lsp4mp.jdt.internal.core.FakeJavaProject;
+import org.eclipse.lsp4mp.jdt.internal.core.PackageFragmentRootPropertiesCache;
 import org.eclipse.lsp4mp.jdt.internal.core.PropertiesCollector;
 import org.eclipse.lsp4mp.jdt.internal.core.PropertiesProviderRegistry;
 import org.eclipse.lsp4mp.jdt.internal.core.StaticPropertyProviderRegistry;
@@ -212,11 +222,36 @@ public class PropertiesManager {
 
 			SearchPattern pattern = createSearchPattern();
 			SearchEngine engine = new SearchEngine();
-			IJavaSearchScope scope = createSearchScope(javaProjectForSearch, scopes, excludeTestCode, subMonitor);
+
+			// Get the properties and hints of the JARs which have been already scanned
+			PackageFragmentRootPropertiesCache cache = PackageFragmentRootPropertiesCache.getInstance();
+			String projectURI = info.getProjectURI();
+			ClasspathKind classpathKind = info.getClasspathKind();
+			List<IPackageFragmentRoot> cacheableRoots = getCacheableRoots(javaProjectForSearch, scopes);
+			Map<String /* JAR path */, ConfigurationMetadata> rootsMetadata = new HashMap<>();
+			List<IPackageFragmentRoot> rootsToScan = new ArrayList<>();
+			for (IPackageFragmentRoot root : cacheableRoots) {
+				ConfigurationMetadata metadata = cache.get(projectURI, classpathKind, root, documentFormat);
+				if (metadata != null) {
+					rootsMetadata.put(root.getPath().toOSString(), metadata);
+				} else {
+					rootsToScan.add(root);
+				}
+			}
+			// The cached JARs are excluded from the search
+			IJavaSearchScope scope = createSearchScope(javaProjectForSearch, scopes, excludeTestCode,
+					rootsMetadata.keySet(), subMonitor);
+			rootsToScan.removeIf(root -> !scope.encloses(root));
 
 			// Execute the search
 			PropertiesCollector collector = new PropertiesCollector(info, scopes);
 			SearchContext context = new SearchContext(javaProjectForSearch, collector, utils, documentFormat, scopes);
+			// The properties of a scanned JAR are collected in a dedicated collector to
+			// cache them
+			Map<String /* JAR path */, SearchContext> rootContexts = new HashMap<>();
+			for (IPackageFragmentRoot root : rootsToScan) {
+				rootContexts.put(root.getPath().toOSString(), null);
+			}
 			beginSearch(context, subMonitor);
 			engine.search(pattern, new SearchParticipant[] { SearchEngine.getDefaultSearchParticipant() }, scope,
 					new SearchRequestor() {
@@ -234,16 +269,175 @@ public class PropertiesManager {
 							// class A
 
 							if (!match.isInsideDocComment()) {
-								collectProperties(match, context, subMonitor);
+								collectProperties(match, getSearchContext(match), subMonitor);
+							}
+						}
+
+						private SearchContext getSearchContext(SearchMatch match) {
+							IJavaElement root = match.getElement() instanceof IJavaElement
+									? ((IJavaElement) match.getElement())
+											.getAncestor(IJavaElement.PACKAGE_FRAGMENT_ROOT)
+									: null;
+							String rootPath = root != null ? root.getPath().toOSString() : null;
+							if (rootPath == null || !rootContexts.containsKey(rootPath)) {
+								return context;
+							}
+							SearchContext rootContext = rootContexts.get(rootPath);
+							if (rootContext == null) {
+								rootContext = new SearchContext(javaProjectForSearch,
+										new PropertiesCollector(new ConfigurationMetadata(), scopes), utils,
+										documentFormat, scopes);
+								beginSearch(rootContext, subMonitor);
+								rootContexts.put(rootPath, rootContext);
 							}
+							return rootContext;
 						}
 					}, subMonitor);
+
+			// Cache the properties of the scanned JARs
+			for (IPackageFragmentRoot root : rootsToScan) {
+				SearchContext rootContext = rootContexts.get(root.getPath().toOSString());
+				ConfigurationMetadata metadata;
+				if (rootContext != null) {
+					endRootSearch(rootContext, subMonitor);
+					metadata = ((PropertiesCollector) rootContext.getCollector()).getConfiguration();
+				} else {
+					metadata = new ConfigurationMetadata();
+				}
+				cache.put(projectURI, classpathKind, root, documentFormat, metadata);
+				rootsMetadata.put(root.getPath().toOSString(), metadata);
+			}
+			// Merge the properties of all JARs in the classpath order
+			Set<ItemMetadata> collectedProperties = new HashSet<>(collector.getConfiguration().getProperties());
+			for (IPackageFragmentRoot root : cacheableRoots) {
+				ConfigurationMetadata metadata = rootsMetadata.get(root.getPath().toOSString());
+				if (metadata != null) {
+					merge(metadata, collector, collectedProperties);
+				}
+			}
 			endSearch(context, subMonitor);
 		} finally {
 			subMonitor.done();
 		}
 	}
 
+	/**
+	 * Returns the JARs which are searched for the given scopes and whose
+	 * properties can be cached.
+	 *
+	 * @param javaProjectForSearch Java project which hosts original JARs and new
+	 *                             JARs to use for the search.
+	 * @param scopes               the scopes
+	 * @return the JARs which are searched for the given scopes and whose
+	 *         properties can be cached.
+	 * @throws JavaModelException
+	 */
+	private static List<IPackageFragmentRoot> getCacheableRoots(IJavaProject javaProjectForSearch,
+			List<MicroProfilePropertiesScope> scopes) throws JavaModelException {
+		if (!scopes.contains(MicroProfilePropertiesScope.dependencies)) {
+			return Collections.emptyList();
+		}
+		// JARs indexed by path since the same JAR can be hosted by several projects
+		Map<String, IPackageFragmentRoot> roots = new LinkedHashMap<>();
+		IJavaProject javaProject = FakeJavaProject.getRealJavaProject(javaProjectForSearch);
+		for (IPackageFragmentRoot root : javaProject.getAllPackageFragmentRoots()) {
+			if (PackageFragmentRootPropertiesCache.isCacheable(root)) {
+				roots.putIfAbsent(root.getPath().toOSString(), root);
+			}
+		}
+		if (javaProjectForSearch instanceof FakeJavaProject) {
+			for (IJavaElement element : ((FakeJavaProject) javaProjectForSearch).getElementsToSearch(scopes)) {
+				if (element instanceof IPackageFragmentRoot root && PackageFragmentRootPropertiesCache.isCacheable(root)) {
+					roots.putIfAbsent(root.getPath().toOSString(), root);
+				}
+			}
+		}
+		return new ArrayList<>(roots.values());
+	}
+
+	/**
+	 * Merge a copy of the properties and hints collected for a JAR in the given
+	 * collector.
+	 *
+	 * @param metadata            the properties and hints collected for a JAR.
+	 * @param collector           the properties collector.
+	 * @param collectedProperties the properties already collected.
+	 */
+	private static void merge(ConfigurationMetadata metadata, PropertiesCollector collector,
+			Set<ItemMetadata> collectedProperties) {
+		if (metadata.getProperties() != null && !metadata.getProperties().isEmpty()) {
+			List<ItemMetadata> properties = new ArrayList<>(metadata.getProperties().size());
+			for (ItemMetadata property : metadata.getProperties()) {
+				// Properties which are declared once per search (ex : mp-rest properties) are
+				// collected for each JAR, so an identical property is collected only once.
+				if (collectedProperties.add(property)) {
+					properties.add(copy(property));
+				}
+			}
+			ConfigurationMetadata configuration = new ConfigurationMetadata();
+			configuration.setProperties(properties);
+			collector.merge(configuration, MergingStrategy.FORCE);
+		}
+		if (metadata.getHints() != null && !metadata.getHints().isEmpty()) {
+			List<ItemHint> hints = new ArrayList<>(metadata.getHints().size());
+			for (ItemHint hint : metadata.getHints()) {
+				if (!collector.hasItemHint(hint.getName())) {
+					ItemHint newHint = collector.getItemHint(hint.getName());
+					newHint.setDescription(hint.getDescription());
+					newHint.setSourceType(hint.getSourceType());
+					newHint.setSource(hint.getSource());
+				}
+				hints.add(copy(hint));
+			}
+			ConfigurationMetadata configuration = new ConfigurationMetadata();
+			configuration.setHints(hints);
+			collector.merge(configuration, MergingStrategy.FORCE);
+		}
+	}
+
+	private static ItemMetadata copy(ItemMetadata property) {
+		ItemMetadata copy = new ItemMetadata();
+		copy.setName(property.getName());
+		copy.setType(property.getType());
+		copy.setDescription(property.getDescription());
+		copy.setSourceType(property.getSourceType());
+		copy.setSourceField(property.getSourceField());
+		copy.setSourceMethod(property.getSourceMethod());
+		copy.setDefaultValue(property.getDefaultValue());
+		copy.setExtensionName(property.getExtensionName());
+		copy.setSource(property.getSource());
+		copy.setOrigin(property.getOrigin());
+		copy.setPhase(property.getPhase());
+		copy.setRequired(property.isRequired());
+		copy.setConverterKinds(property.getConverterKinds() != null ? new ArrayList<>(property.getConverterKinds())
+				: null);
+		return copy;
+	}
+
+	private static ItemHint copy(ItemHint hint) {
+		ItemHint copy = new ItemHint();
+		copy.setName(hint.getName());
+		copy.setDescription(hint.getDescription());
+		copy.setSourceType(hint.getSourceType());
+		copy.setSource(hint.getSource());
+		copy.setOrigin(hint.getOrigin());
+		if (hint.getValues() != null) {
+			List<ValueHint> values = new ArrayList<>(hint.getValues().size());
+			for (ValueHint value : hint.getValues()) {
+				ValueHint valueCopy = new ValueHint();
+				valueCopy.setValue(value.getValue());
+				valueCopy.setDescription(value.getDescription());
+				valueCopy.setSourceType(value.getSourceType());
+				values.add(valueCopy);
+			}
+			copy.setValues(values);
+		}
+		if (hint.getProviders() != null) {
+			copy.setProviders(new ArrayList<>(hint.getProviders()));
+		}
+		return copy;
+	}
+
 	private void beginSearch(SearchContext context, IProgressMonitor monitor) {
 		for (IPropertiesProvider provider : getPropertiesProviders()) {
 			provider.beginSearch(context, monitor);
@@ -256,6 +450,16 @@ public class PropertiesManager {
 		}
 	}
 
+	private void endRootSearch(SearchContext context, IProgressMonitor monitor) {
+		for (IPropertiesProvider provider : getPropertiesProviders()) {
+			// The static properties don't belong to a JAR, they are collected once by the
+			// search of the project.
+			if (!(provider instanceof AbstractStaticPropertiesProvider)) {
+				provider.endSearch(context, monitor);
+			}
+		}
+	}
+
 	private void collectProperties(SearchMatch match, SearchContext context, IProgressMonitor monitor) {
 		for (IPropertiesProvider provider : getPropertiesProviders()) {
 			provider.collectProperties(match, context, monitor);
@@ -273,7 +477,8 @@ public class PropertiesManager {
 	}
 
 	private IJavaSearchScope createSearchScope(IJavaProject project, List<MicroProfilePropertiesScope> scopes,
-			boolean excludeTestCode, IProgressMonitor monitor) throws JavaModelException {
+			boolean excludeTestCode, Set<String> excludedRootPaths, IProgressMonitor monitor)
+			throws JavaModelException {
 		int searchScope = 0;
 		for (MicroProfilePropertiesScope scope : scopes) {
 			switch (scope) {
@@ -290,11 +495,12 @@ public class PropertiesManager {
 			// classpath like Quarkus deployment JARs)
 			FakeJavaProject fakeProject = (FakeJavaProject) project;
 			return createJavaSearchScope(fakeProject, excludeTestCode, fakeProject.getElementsToSearch(scopes),
-					searchScope);
+					searchScope, excludedRootPaths);
 		}
 		// Standard Java Search in the project.
 		// The search scope is used to search in src, jars
-		return BasicSearchEngine.createJavaSearchScope(excludeTestCode, new IJavaElement[] { project }, searchScope);
+		return createJavaSearchScope(null, excludeTestCode, new IJavaElement[] { project }, searchScope,
+				excludedRootPaths);
 	}
 
 	/**
@@ -376,16 +582,19 @@ public class PropertiesManager {
 	 * This code is the same than
 	 * {@link BasicSearchEngine#createJavaSearchScope(boolean, IJavaElement[], boolean)}.
 	 * It overrides {@link JavaSearchScope#packageFragmentRoot(String, int, String)}
-	 * to search the first the package root (JAR) from the given fake project.
+	 * to search the first the package root (JAR) from the given fake project and
+	 * {@link JavaSearchScope#encloses(String)} to exclude the given JARs from the
+	 * search.
 	 *
-	 * @param fakeProject
+	 * @param fakeProject       the fake project and null otherwise.
 	 * @param excludeTestCode
 	 * @param elements
 	 * @param includeMask
+	 * @param excludedRootPaths the paths of the JARs to exclude from the search.
 	 * @return
 	 */
 	private static IJavaSearchScope createJavaSearchScope(IJavaProject fakeProject, boolean excludeTestCode,
-			IJavaElement[] elements, int includeMask) {
+			IJavaElement[] elements, int includeMask, Set<String> excludedRootPaths) {
 		HashSet<JavaProject> projectsToBeAdded = new HashSet<>(2);
 		for (int i = 0, length = elements.length; i < length; i++) {
 			IJavaElement element = elements[i];
@@ -398,6 +607,9 @@ public class PropertiesManager {
 			@Override
 			public IPackageFragmentRoot packageFragmentRoot(String resourcePathString, int jarSeparatorIndex,
 					String jarPath) {
+				if (fakeProject == null) {
+					return super.packageFragmentRoot(resourcePathString, jarSeparatorIndex, jarPath);
+				}
 				// Search at first in the fake project the package root to avoid creating a non
 				// existing IProject (because fake project doesn't exists)
 				try {
@@ -413,6 +625,19 @@ public class PropertiesManager {
 				// Not found...
 				return super.packageFragmentRoot(resourcePathString, jarSeparatorIndex, jarPath);
 			}
+
+			@Override
+			public boolean encloses(String resourcePathString) {
+				if (!excludedRootPaths.isEmpty()) {
+					int separatorIndex = resourcePathString.indexOf(JAR_FILE_ENTRY_SEPARATOR);
+					if (separatorIndex != -1
+							&& excludedRootPaths.contains(resourcePathString.substring(0, separatorIndex))) {
+						// The JAR properties are cached
+						return false;
+					}
+				}
+				return super.encloses(resourcePathString);
+			}
 		};
 		for (int i = 0, length = elements.length; i < length; i++) {
 			IJavaElement element = elements[i];
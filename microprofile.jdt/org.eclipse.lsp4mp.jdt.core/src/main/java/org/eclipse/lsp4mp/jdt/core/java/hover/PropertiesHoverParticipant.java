@@ -123,7 +123,7 @@ public class PropertiesHoverParticipant implements IJavaHoverParticipant {
 	public boolean isAdaptedForHover(JavaHoverContext context, IProgressMonitor monitor) throws JavaModelException {
 		// Definition is done only if the annotation is on the classpath
 		IJavaProject javaProject = context.getJavaProject();
-		return JDTTypeUtils.findType(javaProject, annotationName) != null;
+		return JDTTypeUtils.hasType(javaProject, annotationName);
 	}
 
 	@Override
@@ -13,6 +13,9 @@
 *******************************************************************************/
 package org.eclipse.lsp4mp.jdt.core.utils;
 
+import org.eclipse.jdt.core.IJavaProject;
+import org.eclipse.lsp4mp.jdt.internal.core.TypePresenceCache;
+
 /**
  * JDT Type utilities.
  *
@@ -24,4 +27,20 @@ package org.eclipse.lsp4mp.jdt.core.utils;
 // ...but the implementation itself can live in the lsp4jdt common layer.
 public class JDTTypeUtils extends org.eclipse.lsp4jdt.core.utils.JDTTypeUtils {
 
+	/**
+	 * Returns true if the given type is on the classpath of the given Java project
+	 * and false otherwise.
+	 *
+	 * <p>
+	 * The result is cached until the classpath of the Java project changes.
+	 * </p>
+	 *
+	 * @param javaProject the Java project.
+	 * @param typeName    the fully qualified name of the type.
+	 * @return true if the given type is on the classpath of the given Java project
+	 *         and false otherwise.
+	 */
+	public static boolean hasType(IJavaProject javaProject, String typeName) {
+		return TypePresenceCache.getInstance().hasType(javaProject, typeName);
+	}
 }
@@ -97,7 +97,7 @@ public class MicroProfileConfigASTValidator extends JavaASTValidator {
 	public boolean isAdaptedForDiagnostics(JavaDiagnosticsContext context, IProgressMonitor monitor)
 			throws CoreException {
 		IJavaProject javaProject = context.getJavaProject();
-		return JDTTypeUtils.findType(javaProject, CONFIG_PROPERTY_ANNOTATION) != null;
+		return JDTTypeUtils.hasType(javaProject, CONFIG_PROPERTY_ANNOTATION);
 	}
 
 	private static List<String> getPatternsFromContext(JavaDiagnosticsContext context) {
@@ -13,9 +13,17 @@
 *******************************************************************************/
 package org.eclipse.lsp4mp.jdt.internal.core;
 
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.EnumSet;
+import java.util.HashMap;
 import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
 import java.util.Set;
 import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
 import java.util.logging.Level;
 import java.util.logging.Logger;
 
@@ -49,6 +57,8 @@ import org.eclipse.lsp4mp.jdt.core.utils.JDTMicroProfileUtils;
  *
  * In this case it executes the "microprofile/propertiesChanged" command on
  * client side with array of project URIs which have classpath/sources changed.
+ * The changes which occur in a short delay are merged per project and sent at
+ * once.
  *
  * @author Angelo ZERR
  *
@@ -59,6 +69,9 @@ public class MicroProfilePropertiesListenerManager {
 
 	private static final MicroProfilePropertiesListenerManager INSTANCE = new MicroProfilePropertiesListenerManager();
 
+	// delay (in ms) during which the changes are collected before being sent
+	private static final long COALESCING_DELAY = 200;
+
 	public static MicroProfilePropertiesListenerManager getInstance() {
 		return INSTANCE;
 	}
@@ -70,13 +83,14 @@ public class MicroProfilePropertiesListenerManager {
 
 		@Override
 		public void elementChanged(ElementChangedEvent event) {
-			if (listeners.isEmpty()) {
-				return;
-			}
 			// Collect project names which have classpath changed.
 			MicroProfilePropertiesChangeEvent mpEvent = processDelta(event.getDelta(), null);
 			if (mpEvent != null) {
-				fireAsyncEvent(mpEvent);
+				// The classpath has changed, the cached presence of Java types is obsolete
+				TypePresenceCache.getInstance().clear();
+				if (!listeners.isEmpty()) {
+					fireAsyncEvent(mpEvent);
+				}
 			}
 		}
 
@@ -153,6 +167,11 @@ public class MicroProfilePropertiesListenerManager {
 				return resource.isAccessible();
 			case IResource.FILE:
 				IFile file = (IFile) resource;
+				if (isJavaFile(file) && isFileCreatedOrDeleted(delta)) {
+					// A Java type can be added or removed, the cached presence of Java types is
+					// obsolete
+					TypePresenceCache.getInstance().clear();
+				}
 				if (isJavaFile(file) && isFileContentChanged(delta)) {
 					// A Java file has been saved
 					MicroProfilePropertiesChangeEvent event = new MicroProfilePropertiesChangeEvent();
@@ -171,25 +190,6 @@ public class MicroProfilePropertiesListenerManager {
 			return false;
 		}
 
-		private void fireAsyncEvent(MicroProfilePropertiesChangeEvent event) {
-			// IMPORTANT: The LSP notification 'microprofile/propertiesChanged' must be
-			// executed
-			// in background otherwise it breaks everything (JDT LS for Java completion,
-			// hover, etc are broken)
-			CompletableFuture.runAsync(() -> {
-				for (IMicroProfilePropertiesChangedListener listener : listeners) {
-					try {
-						listener.propertiesChanged(event);
-					} catch (Exception e) {
-						if (LOGGER.isLoggable(Level.SEVERE)) {
-							LOGGER.log(Level.SEVERE,
-									"Error while sending LSP 'microprofile/propertiesChanged' notification", e);
-						}
-					}
-				}
-			});
-		}
-
 		private boolean isJavaFile(IFile file) {
 			return JAVA_FILE_EXTENSION.equals(file.getFileExtension());
 		}
@@ -198,6 +198,11 @@ public class MicroProfilePropertiesListenerManager {
 			return JDTMicroProfileProjectManager.getInstance().isConfigSource(file);
 		}
 
+		private boolean isFileCreatedOrDeleted(IResourceDelta delta) {
+			int kind = delta.getKind();
+			return kind == IResourceDelta.ADDED || kind == IResourceDelta.REMOVED;
+		}
+
 		private boolean isFileContentChanged(IResourceDelta delta) {
 			return (delta.getKind() == IResourceDelta.CHANGED && (delta.getFlags() & IResourceDelta.CONTENT) != 0);
 		}
@@ -208,8 +213,113 @@ public class MicroProfilePropertiesListenerManager {
 
 	private final Set<IMicroProfilePropertiesChangedListener> listeners;
 
+	private final Map<String /* project URI */, Set<MicroProfilePropertiesScope>> pendingChanges;
+
+	private boolean flushScheduled;
+
 	private MicroProfilePropertiesListenerManager() {
 		listeners = new HashSet<>();
+		pendingChanges = new HashMap<>();
+	}
+
+	/**
+	 * Collect the changes of the given event which will be sent with the other
+	 * changes collected during {@link #COALESCING_DELAY} ms.
+	 *
+	 * <p>
+	 * A "save all", a Git checkout or a Maven update changes a lot of files at the
+	 * same time, and each event makes the language server evict its caches and
+	 * collect the MicroProfile project information again. The changes are so
+	 * merged per project and sent at once.
+	 * </p>
+	 *
+	 * @param event the MicroProfile properties change event.
+	 */
+	private void fireAsyncEvent(MicroProfilePropertiesChangeEvent event) {
+		synchronized (pendingChanges) {
+			for (String projectURI : event.getProjectURIs()) {
+				pendingChanges.computeIfAbsent(projectURI, k -> EnumSet.noneOf(MicroProfilePropertiesScope.class))
+						.addAll(event.getType());
+			}
+			if (flushScheduled) {
+				return;
+			}
+			flushScheduled = true;
+		}
+		// IMPORTANT: The LSP notification 'microprofile/propertiesChanged' must be
+		// executed
+		// in background otherwise it breaks everything (JDT LS for Java completion,
+		// hover, etc are broken)
+		CompletableFuture.runAsync(this::flushEvents,
+				CompletableFuture.delayedExecutor(COALESCING_DELAY, TimeUnit.MILLISECONDS));
+	}
+
+	private void flushEvents() {
+		Map<String, Set<MicroProfilePropertiesScope>> changes;
+		synchronized (pendingChanges) {
+			changes = new HashMap<>(pendingChanges);
+			pendingChanges.clear();
+			flushScheduled = false;
+		}
+		List<IMicroProfilePropertiesChangedListener> listeners;
+		synchronized (this.listeners) {
+			listeners = new ArrayList<>(this.listeners);
+		}
+		for (MicroProfilePropertiesChangeEvent event : createEvents(changes)) {
+			for (IMicroProfilePropertiesChangedListener listener : listeners) {
+				try {
+					listener.propertiesChanged(event);
+				} catch (Exception e) {
+					if (LOGGER.isLoggable(Level.SEVERE)) {
+						LOGGER.log(Level.SEVERE, "Error while sending LSP 'microprofile/propertiesChanged' notification",
+								e);
+					}
+				}
+			}
+		}
+	}
+
+	/**
+	 * Returns the events to send for the given changes grouped by project URI.
+	 *
+	 * <p>
+	 * A classpath change of a project subsumes the changes of its sources and
+	 * configuration files. Otherwise a project whose sources and configuration
+	 * files have changed is sent in the 'only sources' and in the 'only
+	 * configuration files' events, since the language server evicts less
+	 * information for those events than for a classpath change.
+	 * </p>
+	 *
+	 * @param changes the changed scopes by project URI.
+	 * @return the events to send for the given changes grouped by project URI.
+	 */
+	public static Collection<MicroProfilePropertiesChangeEvent> createEvents(
+			Map<String, Set<MicroProfilePropertiesScope>> changes) {
+		Map<List<MicroProfilePropertiesScope>, MicroProfilePropertiesChangeEvent> events = new LinkedHashMap<>();
+		for (Map.Entry<String, Set<MicroProfilePropertiesScope>> change : changes.entrySet()) {
+			Set<MicroProfilePropertiesScope> scopes = change.getValue();
+			if (scopes.contains(MicroProfilePropertiesScope.dependencies)) {
+				addProjectURI(change.getKey(), MicroProfilePropertiesScope.SOURCES_AND_DEPENDENCIES, events);
+			} else {
+				if (scopes.contains(MicroProfilePropertiesScope.sources)) {
+					addProjectURI(change.getKey(), MicroProfilePropertiesScope.ONLY_SOURCES, events);
+				}
+				if (scopes.contains(MicroProfilePropertiesScope.configfiles)) {
+					addProjectURI(change.getKey(), MicroProfilePropertiesScope.ONLY_CONFIG_FILES, events);
+				}
+			}
+		}
+		return events.values();
+	}
+
+	private static void addProjectURI(String projectURI, List<MicroProfilePropertiesScope> scopes,
+			Map<List<MicroProfilePropertiesScope>, MicroProfilePropertiesChangeEvent> events) {
+		events.computeIfAbsent(scopes, k -> {
+			MicroProfilePropertiesChangeEvent event = new MicroProfilePropertiesChangeEvent();
+			event.setType(scopes);
+			event.setProjectURIs(new HashSet<String>());
+			return event;
+		}).getProjectURIs().add(projectURI);
 	}
 
 	/**
@@ -0,0 +1,174 @@
+/*******************************************************************************
+* Copyright (c) 2023 Red Hat Inc. and others.
+*
+* This program and the accompanying materials are made available under the
+* terms of the Eclipse Public License v. 2.0 which is available at
+* http://www.eclipse.org/legal/epl-2.0, or the Apache License, Version 2.0
+* which is available at https://www.apache.org/licenses/LICENSE-2.0.
+*
+* SPDX-License-Identifier: EPL-2.0 OR Apache-2.0
+*
+* Contributors:
+*     Red Hat Inc. - initial API and implementation
+*******************************************************************************/
+package org.eclipse.lsp4mp.jdt.internal.core;
+
+import java.io.File;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+import org.eclipse.core.resources.IResource;
+import org.eclipse.core.runtime.IPath;
+import org.eclipse.jdt.core.IPackageFragmentRoot;
+import org.eclipse.jdt.core.JavaModelException;
+import org.eclipse.lsp4jdt.commons.ClasspathKind;
+import org.eclipse.lsp4jdt.commons.DocumentFormat;
+import org.eclipse.lsp4mp.commons.metadata.ConfigurationMetadata;
+
+/**
+ * Cache of the properties and hints collected from a JAR.
+ *
+ * <p>
+ * Dependency JARs almost never change between two scans of a project, so the
+ * properties and hints collected for a JAR are cached by project, classpath
+ * kind and JAR path and are reused while the size and the last modification
+ * date of the JAR file don't change. The properties collected for a JAR depend
+ * on the classpath of the project (ex : a provider which is adapted only when
+ * some class is present in the classpath), that's why the cache is not shared
+ * across projects.
+ * </p>
+ *
+ * <p>
+ * The cache is bounded, the least recently used entries are removed once
+ * {@link #MAX_ENTRIES} entries are cached.
+ * </p>
+ *
+ */
+public class PackageFragmentRootPropertiesCache {
+
+	private static final PackageFragmentRootPropertiesCache INSTANCE = new PackageFragmentRootPropertiesCache();
+
+	public static PackageFragmentRootPropertiesCache getInstance() {
+		return INSTANCE;
+	}
+
+	/**
+	 * Properties and hints collected for a JAR.
+	 */
+	private static class Entry {
+
+		private final long length;
+
+		private final long lastModified;
+
+		private final ConfigurationMetadata metadata;
+
+		Entry(long length, long lastModified, ConfigurationMetadata metadata) {
+			this.length = length;
+			this.lastModified = lastModified;
+			this.metadata = metadata;
+		}
+	}
+
+	private static final int MAX_ENTRIES = 2000;
+
+	private final Map<String /* project URI + classpath kind + JAR path + document format */, Entry> cache;
+
+	private PackageFragmentRootPropertiesCache() {
+		this.cache = new LinkedHashMap<>(16, 0.75f, true) {
+
+			private static final long serialVersionUID = 1L;
+
+			@Override
+			protected boolean removeEldestEntry(Map.Entry<String, Entry> eldest) {
+				return size() > MAX_ENTRIES;
+			}
+		};
+	}
+
+	/**
+	 * Returns true if the properties and hints collected for the given package
+	 * fragment root can be cached and false otherwise.
+	 *
+	 * @param root the package fragment root.
+	 * @return true if the properties and hints collected for the given package
+	 *         fragment root can be cached and false otherwise.
+	 * @throws JavaModelException
+	 */
+	public static boolean isCacheable(IPackageFragmentRoot root) throws JavaModelException {
+		return root.isArchive() && root.getKind() == IPackageFragmentRoot.K_BINARY && getFile(root) != null;
+	}
+
+	/**
+	 * Returns the properties and hints collected for the given JAR and null if
+	 * the JAR has not been scanned or has been modified since it was scanned.
+	 *
+	 * @param projectURI     the URI of the project which is scanned.
+	 * @param classpathKind  the classpath kind of the scan.
+	 * @param root           the JAR.
+	 * @param documentFormat the document format used to collect the properties.
+	 * @return the properties and hints collected for the given JAR and null if the
+	 *         JAR has not been scanned or has been modified since it was scanned.
+	 */
+	public ConfigurationMetadata get(String projectURI, ClasspathKind classpathKind, IPackageFragmentRoot root,
+			DocumentFormat documentFormat) {
+		File file = getFile(root);
+		if (file == null) {
+			return null;
+		}
+		Entry entry;
+		synchronized (cache) {
+			entry = cache.get(getKey(projectURI, classpathKind, root, documentFormat));
+		}
+		if (entry == null || entry.length != file.length() || entry.lastModified != file.lastModified()) {
+			return null;
+		}
+		return entry.metadata;
+	}
+
+	/**
+	 * Cache the properties and hints collected for the given JAR.
+	 *
+	 * @param projectURI     the URI of the project which is scanned.
+	 * @param classpathKind  the classpath kind of the scan.
+	 * @param root           the JAR.
+	 * @param documentFormat the document format used to collect the properties.
+	 * @param metadata       the properties and hints collected for the JAR.
+	 */
+	public void put(String projectURI, ClasspathKind classpathKind, IPackageFragmentRoot root,
+			DocumentFormat documentFormat, ConfigurationMetadata metadata) {
+		File file = getFile(root);
+		if (file == null) {
+			return;
+		}
+		Entry entry = new Entry(file.length(), file.lastModified(), metadata);
+		synchronized (cache) {
+			cache.put(getKey(projectURI, classpathKind, root, documentFormat), entry);
+		}
+	}
+
+
+	/**
+	 * Clear the cache.
+	 */
+	public void clear() {
+		synchronized (cache) {
+			cache.clear();
+		}
+	}
+
+	private static String getKey(String projectURI, ClasspathKind classpathKind, IPackageFragmentRoot root,
+			DocumentFormat documentFormat) {
+		return projectURI + "|" + classpathKind + "|" + root.getPath().toOSString() + "|" + documentFormat;
+	}
+
+	private static File getFile(IPackageFragmentRoot root) {
+		IResource resource = root.getResource();
+		IPath location = resource != null ? resource.getLocation() : root.getPath();
+		if (location == null) {
+			return null;
+		}
+		File file = location.toFile();
+		return file.isFile() ? file : null;
+	}
+}
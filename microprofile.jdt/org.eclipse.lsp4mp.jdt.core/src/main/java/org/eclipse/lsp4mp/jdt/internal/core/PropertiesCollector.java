@@ -13,11 +13,15 @@
 *******************************************************************************/
 package org.eclipse.lsp4mp.jdt.internal.core;
 
+import java.util.ArrayDeque;
 import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Deque;
 import java.util.HashMap;
+import java.util.IdentityHashMap;
 import java.util.List;
 import java.util.Map;
-import java.util.Optional;
+import java.util.Set;
 
 import org.eclipse.lsp4mp.commons.MicroProfilePropertiesScope;
 import org.eclipse.lsp4mp.commons.metadata.ConfigurationMetadata;
@@ -29,6 +33,13 @@ import org.eclipse.lsp4mp.jdt.core.IPropertiesCollector;
 /**
  * Properties collector implementation.
  *
+ * <p>
+ * Properties and hint values are indexed by name and value to merge a
+ * {@link ConfigurationMetadata} in linear time. Properties and values which
+ * are replaced are removed from the lists once the merge is done, to avoid a
+ * list removal for each replaced item.
+ * </p>
+ *
  * @author Angelo ZERR
  *
  */
@@ -38,6 +49,8 @@ public class PropertiesCollector implements IPropertiesCollector {
 
 	private final Map<String, ItemHint> hintsCache;
 
+	private final Map<String, Deque<ItemMetadata>> propertiesCache;
+
 	private final boolean onlySources;
 
 	public PropertiesCollector(ConfigurationMetadata configuration, List<MicroProfilePropertiesScope> scopes) {
@@ -45,9 +58,19 @@ public class PropertiesCollector implements IPropertiesCollector {
 		this.configuration.setProperties(new ArrayList<>());
 		this.configuration.setHints(new ArrayList<>());
 		this.hintsCache = new HashMap<>();
+		this.propertiesCache = new HashMap<>();
 		this.onlySources = MicroProfilePropertiesScope.isOnlySources(scopes);
 	}
 
+	/**
+	 * Returns the configuration which hosts the collected properties and hints.
+	 *
+	 * @return the configuration which hosts the collected properties and hints.
+	 */
+	public ConfigurationMetadata getConfiguration() {
+		return configuration;
+	}
+
 	@Override
 	public ItemMetadata addItemMetadata(String name, String type, String description, String sourceType,
 			String sourceField, String sourceMethod, String defaultValue, String extensionName, boolean binary,
@@ -70,7 +93,7 @@ public class PropertiesCollector implements IPropertiesCollector {
 		property.setPhase(phase);
 		property.setRequired(defaultValue == null);
 
-		configuration.getProperties().add(property);
+		addProperty(property);
 		return property;
 	}
 
@@ -96,8 +119,12 @@ public class PropertiesCollector implements IPropertiesCollector {
 	public void merge(ConfigurationMetadata metadata, MergingStrategy mergingStrategy) {
 		List<ItemMetadata> properties = metadata.getProperties();
 		if (properties != null) {
+			Set<ItemMetadata> replacedProperties = Collections.newSetFromMap(new IdentityHashMap<>());
 			for (ItemMetadata property : properties) {
-				merge(property, mergingStrategy);
+				merge(property, mergingStrategy, replacedProperties);
+			}
+			if (!replacedProperties.isEmpty()) {
+				configuration.getProperties().removeIf(replacedProperties::contains);
 			}
 		}
 		List<ItemHint> hints = metadata.getHints();
@@ -110,7 +137,7 @@ public class PropertiesCollector implements IPropertiesCollector {
 
 	// --------------- Properties merge
 
-	private void merge(ItemMetadata property, MergingStrategy mergingStrategy) {
+	private void merge(ItemMetadata property, MergingStrategy mergingStrategy, Set<ItemMetadata> replacedProperties) {
 		if (onlySources && (property.getSource() == null || !property.getSource())) {
 			// In the case of the scopes is only sources, the property which is a binary
 			// property must not be added.
@@ -121,7 +148,7 @@ public class PropertiesCollector implements IPropertiesCollector {
 			mergeWithIgnoreIfExists(property);
 			break;
 		case REPLACE:
-			mergeWithReplace(property);
+			mergeWithReplace(property, replacedProperties);
 			break;
 		default:
 			addProperty(property);
@@ -130,28 +157,28 @@ public class PropertiesCollector implements IPropertiesCollector {
 	}
 
 	private void mergeWithIgnoreIfExists(ItemMetadata property) {
-		Optional<ItemMetadata> configProperty = getExistingProperty(property);
-		if (configProperty.isPresent()) {
+		if (propertiesCache.containsKey(property.getName())) {
 			return;
 		}
 		addProperty(property);
 	}
 
-	private Optional<ItemMetadata> getExistingProperty(ItemMetadata property) {
-		List<ItemMetadata> configProperties = configuration.getProperties();
-		return configProperties.stream().filter(cp -> cp.getName().equals(property.getName())).findFirst();
-	}
-
-	private void mergeWithReplace(ItemMetadata property) {
-		Optional<ItemMetadata> configProperty = getExistingProperty(property);
-		if (configProperty.isPresent()) {
-			configuration.getProperties().remove(configProperty.get());
+	private void mergeWithReplace(ItemMetadata property, Set<ItemMetadata> replacedProperties) {
+		Deque<ItemMetadata> existingProperties = propertiesCache.get(property.getName());
+		if (existingProperties != null) {
+			// The first property with the same name is replaced, it will be removed from
+			// the configuration once the merge is done.
+			replacedProperties.add(existingProperties.removeFirst());
+			if (existingProperties.isEmpty()) {
+				propertiesCache.remove(property.getName());
+			}
 		}
 		addProperty(property);
 	}
 
 	private void addProperty(ItemMetadata property) {
 		configuration.getProperties().add(property);
+		propertiesCache.computeIfAbsent(property.getName(), k -> new ArrayDeque<>()).add(property);
 	}
 
 	// --------------- ItemHint merge
@@ -174,28 +201,50 @@ public class PropertiesCollector implements IPropertiesCollector {
 		if (to.getValues() == null) {
 			to.setValues(new ArrayList<>());
 		}
+		List<ValueHint> values = to.getValues();
+		// Values can be added directly in the item hint by the properties providers,
+		// so the index of the existing values is built for each merge.
+		Map<String, Deque<ValueHint>> existingValues = null;
+		Set<ValueHint> replacedValues = null;
+		if (mergingStrategy == MergingStrategy.IGNORE_IF_EXISTS || mergingStrategy == MergingStrategy.REPLACE) {
+			existingValues = new HashMap<>(values.size() + from.size());
+			for (ValueHint value : values) {
+				existingValues.computeIfAbsent(value.getValue(), k -> new ArrayDeque<>()).add(value);
+			}
+		}
 		for (ValueHint fromValue : from) {
 			switch (mergingStrategy) {
 			case IGNORE_IF_EXISTS:
-				if (!getExistingValue(fromValue.getValue(), to.getValues()).isPresent()) {
-					to.getValues().add(fromValue);
+				if (!existingValues.containsKey(fromValue.getValue())) {
+					addValue(fromValue, values, existingValues);
 				}
 				break;
 			case REPLACE:
-				Optional<ValueHint> existingValue = getExistingValue(fromValue.getValue(), to.getValues());
-				if (existingValue.isPresent()) {
-					to.getValues().remove(existingValue.get());
+				Deque<ValueHint> existingValue = existingValues.get(fromValue.getValue());
+				if (existingValue != null) {
+					if (replacedValues == null) {
+						replacedValues = Collections.newSetFromMap(new IdentityHashMap<>());
+					}
+					replacedValues.add(existingValue.removeFirst());
+					if (existingValue.isEmpty()) {
+						existingValues.remove(fromValue.getValue());
+					}
 				}
-				to.getValues().add(fromValue);
+				addValue(fromValue, values, existingValues);
 				break;
 			default:
-				to.getValues().add(fromValue);
+				values.add(fromValue);
 			}
 		}
+		if (replacedValues != null) {
+			values.removeIf(replacedValues::contains);
+		}
+		to.valuesChanged();
 	}
 
-	private static Optional<ValueHint> getExistingValue(String name, List<ValueHint> values) {
-		return values.stream().filter(cp -> cp.getValue().equals(name)).findFirst();
+	private static void addValue(ValueHint value, List<ValueHint> values, Map<String, Deque<ValueHint>> existingValues) {
+		values.add(value);
+		existingValues.computeIfAbsent(value.getValue(), k -> new ArrayDeque<>()).add(value);
 	}
 
 	private ItemHint getExistingItemHint(String hint) {
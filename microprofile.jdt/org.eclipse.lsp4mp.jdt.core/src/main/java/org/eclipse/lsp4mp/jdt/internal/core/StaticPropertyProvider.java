@@ -49,7 +49,7 @@ public class StaticPropertyProvider extends AbstractStaticPropertiesProvider {
 			return true;
 		} else {
 			IJavaProject javaProject = context.getJavaProject();
-			return (JDTTypeUtils.findType(javaProject, type) != null);
+			return JDTTypeUtils.hasType(javaProject, type);
 		}
 	}
 
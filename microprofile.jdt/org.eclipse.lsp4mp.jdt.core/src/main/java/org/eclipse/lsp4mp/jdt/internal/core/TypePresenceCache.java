@@ -0,0 +1,85 @@
+/*******************************************************************************
+* Copyright (c) 2023 Red Hat Inc. and others.
+*
+* This program and the accompanying materials are made available under the
+* terms of the Eclipse Public License v. 2.0 which is available at
+* http://www.eclipse.org/legal/epl-2.0, or the Apache License, Version 2.0
+* which is available at https://www.apache.org/licenses/LICENSE-2.0.
+*
+* SPDX-License-Identifier: EPL-2.0 OR Apache-2.0
+*
+* Contributors:
+*     Red Hat Inc. - initial API and implementation
+*******************************************************************************/
+package org.eclipse.lsp4mp.jdt.internal.core;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+import org.eclipse.jdt.core.IJavaProject;
+import org.eclipse.lsp4mp.jdt.core.utils.JDTTypeUtils;
+
+/**
+ * Cache of the presence of Java types in the classpath of Java projects.
+ *
+ * <p>
+ * The <code>isAdaptedFor*</code> methods of the Java participants check if a
+ * given type (ex : 'org.eclipse.microprofile.health.HealthCheck') is on the
+ * classpath of the Java project for each Java diagnostics, code lens,
+ * completion, hover request. The result of this lookup is cached per Java
+ * project and the cache is cleared by {@link MicroProfilePropertiesListenerManager}
+ * when the classpath of a Java project changes or when a Java file is added or
+ * removed. The whole cache is cleared because the classpath of a Java project
+ * can be exported to the other Java projects.
+ * </p>
+ *
+ */
+public class TypePresenceCache {
+
+	private static final TypePresenceCache INSTANCE = new TypePresenceCache();
+
+	public static TypePresenceCache getInstance() {
+		return INSTANCE;
+	}
+
+	private final Map<String /* Java project name */, Map<String /* type name */, Boolean>> cache;
+
+	private TypePresenceCache() {
+		this.cache = new ConcurrentHashMap<>();
+	}
+
+	/**
+	 * Returns true if the given type is on the classpath of the given Java project
+	 * and false otherwise.
+	 *
+	 * @param javaProject the Java project.
+	 * @param typeName    the fully qualified name of the type.
+	 * @return true if the given type is on the classpath of the given Java project
+	 *         and false otherwise.
+	 */
+	public boolean hasType(IJavaProject javaProject, String typeName) {
+		if (javaProject == null) {
+			return false;
+		}
+		if (javaProject instanceof FakeJavaProject) {
+			// the fake project has the classpath of the deployment JARs, the result cannot
+			// be cached with the Java project name.
+			return JDTTypeUtils.findType(javaProject, typeName) != null;
+		}
+		Map<String, Boolean> types = cache.computeIfAbsent(javaProject.getElementName(),
+				k -> new ConcurrentHashMap<>());
+		Boolean present = types.get(typeName);
+		if (present == null) {
+			present = JDTTypeUtils.findType(javaProject, typeName) != null;
+			types.put(typeName, present);
+		}
+		return present;
+	}
+
+	/**
+	 * Clear the cache.
+	 */
+	public void clear() {
+		cache.clear();
+	}
+}
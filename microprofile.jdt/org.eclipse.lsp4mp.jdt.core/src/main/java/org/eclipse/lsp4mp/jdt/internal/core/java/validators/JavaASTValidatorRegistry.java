@@ -13,9 +13,13 @@
 *******************************************************************************/
 package org.eclipse.lsp4mp.jdt.internal.core.java.validators;
 
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
 import java.util.ArrayList;
 import java.util.Collection;
 import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
 import java.util.logging.Level;
 import java.util.logging.Logger;
 
@@ -33,6 +37,7 @@ import org.eclipse.lsp4jdt.core.LSP4JDTCorePlugin;
 import org.eclipse.lsp4jdt.core.java.diagnostics.JavaDiagnosticsContext;
 import org.eclipse.lsp4jdt.core.java.validators.JavaASTValidator;
 import org.eclipse.lsp4mp.jdt.core.MicroProfileCorePlugin;
+import org.eclipse.lsp4mp.jdt.internal.core.StatusFactory;
 import org.eclipse.lsp4mp.jdt.internal.core.java.validators.annotations.AnnotationAttributeRule;
 import org.eclipse.lsp4mp.jdt.internal.core.java.validators.annotations.AnnotationRule;
 import org.eclipse.lsp4mp.jdt.internal.core.java.validators.annotations.AnnotationRulesJavaASTValidator;
@@ -73,16 +78,61 @@ public class JavaASTValidatorRegistry extends AnnotationValidator implements IRe
 		return INSTANCE;
 	}
 
+	/**
+	 * Factory of {@link JavaASTValidator} declared with {@code <validator class="" />}.
+	 *
+	 * <p>
+	 * A validator has a state per validation, so a new instance is created for
+	 * each validation. The class of the validator is resolved (with the extension
+	 * registry) once and the next instances are created with its constructor.
+	 * </p>
+	 */
+	private static class JavaASTValidatorFactory {
+
+		private final IConfigurationElement ce;
+
+		private volatile MethodHandle constructor;
+
+		public JavaASTValidatorFactory(IConfigurationElement ce) {
+			this.ce = ce;
+		}
+
+		public JavaASTValidator create() throws CoreException {
+			MethodHandle constructor = this.constructor;
+			if (constructor != null) {
+				try {
+					return (JavaASTValidator) constructor.invoke();
+				} catch (Throwable e) {
+					throw new CoreException(
+							StatusFactory.newErrorStatus("Error while creating JavaASTValidator " + getClassName(), e));
+				}
+			}
+			JavaASTValidator validator = (JavaASTValidator) ce.createExecutableExtension(CLASS_ATTR);
+			try {
+				this.constructor = MethodHandles.publicLookup().findConstructor(validator.getClass(),
+						MethodType.methodType(void.class));
+			} catch (NoSuchMethodException | IllegalAccessException e) {
+				// the validator will be created with the extension registry
+				LOGGER.log(Level.WARNING, "  Cannot find public constructor of JavaASTValidator " + getClassName(), e);
+			}
+			return validator;
+		}
+
+		public String getClassName() {
+			return ce.getAttribute(CLASS_ATTR);
+		}
+	}
+
 	private boolean extensionProvidersLoaded;
 	private boolean registryListenerIntialized;
 
-	private final List<IConfigurationElement> validatorsFromClass;
+	private final List<JavaASTValidatorFactory> validatorsFromClass;
 
 	private JavaASTValidatorRegistry() {
 		super();
 		this.extensionProvidersLoaded = false;
 		this.registryListenerIntialized = false;
-		this.validatorsFromClass = new ArrayList<>();
+		this.validatorsFromClass = new CopyOnWriteArrayList<>();
 	}
 
 	public String getExtensionId() {
@@ -140,7 +190,7 @@ public class JavaASTValidatorRegistry extends AnnotationValidator implements IRe
 			try {
 				if (VALIDATOR_ELT.equals(ce.getName())) {
 					// <validator class="" />
-					validatorsFromClass.add(ce);
+					validatorsFromClass.add(new JavaASTValidatorFactory(ce));
 				} else if (ANNOTATION_VALIDATOR_ELT.equals(ce.getName())) {
 //					   <extension point="org.eclipse.lsp4mp.jdt.core.javaASTValidators">
 //					      <!-- Java validation for the MicroProfile Fault Tolerance annotations -->
@@ -197,14 +247,15 @@ public class JavaASTValidatorRegistry extends AnnotationValidator implements IRe
 
 	public Collection<ASTVisitor> getValidators(JavaDiagnosticsContext context, List<Diagnostic> diagnostics,
 			IProgressMonitor monitor) {
+		loadExtensionJavaASTValidators();
 		List<ASTVisitor> validators = new ArrayList<>();
-		addValidator(new AnnotationRulesJavaASTValidator(getRules()), context, diagnostics, monitor, validators);
-		for (IConfigurationElement ce : validatorsFromClass) {
+		addValidator(new AnnotationRulesJavaASTValidator(this), context, diagnostics, monitor, validators);
+		for (JavaASTValidatorFactory factory : validatorsFromClass) {
 			try {
-				JavaASTValidator validator = (JavaASTValidator) ce.createExecutableExtension(CLASS_ATTR);
+				JavaASTValidator validator = factory.create();
 				addValidator(validator, context, diagnostics, monitor, validators);
 			} catch (CoreException e) {
-				LOGGER.log(Level.SEVERE, "  Error while creating JavaASTValidator " + ce.getAttribute(CLASS_ATTR), e);
+				LOGGER.log(Level.SEVERE, "  Error while creating JavaASTValidator " + factory.getClassName(), e);
 			}
 		}
 		return validators;
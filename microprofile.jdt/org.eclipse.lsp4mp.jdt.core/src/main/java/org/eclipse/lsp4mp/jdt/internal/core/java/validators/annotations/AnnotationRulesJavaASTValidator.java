@@ -13,7 +13,6 @@
 *******************************************************************************/
 package org.eclipse.lsp4mp.jdt.internal.core.java.validators.annotations;
 
-import java.util.Collection;
 import java.util.List;
 import java.util.logging.Level;
 import java.util.logging.Logger;
@@ -23,9 +22,12 @@ import org.eclipse.jdt.core.JavaModelException;
 import org.eclipse.jdt.core.dom.Annotation;
 import org.eclipse.jdt.core.dom.Expression;
 import org.eclipse.jdt.core.dom.InfixExpression;
+import org.eclipse.jdt.core.dom.Name;
 import org.eclipse.jdt.core.dom.NormalAnnotation;
 import org.eclipse.jdt.core.dom.NumberLiteral;
 import org.eclipse.jdt.core.dom.PrefixExpression;
+import org.eclipse.jdt.core.dom.QualifiedName;
+import org.eclipse.jdt.core.dom.SimpleName;
 import org.eclipse.jdt.core.dom.SingleMemberAnnotation;
 import org.eclipse.lsp4j.DiagnosticSeverity;
 import org.eclipse.lsp4jdt.core.java.validators.JavaASTValidator;
@@ -36,6 +38,11 @@ import org.eclipse.lsp4mp.jdt.internal.core.java.validators.JavaASTValidatorRegi
  * JDT Java AST visitor which validate annotation attributes by using annotation
  * rules registered.
  * 
+ * <p>
+ * The rules are retrieved by the name of the annotation (fully qualified name
+ * or simple name) used in the AST instead of checking each registered rule.
+ * </p>
+ * 
  * @author Angelo ZERR
  *
  */
@@ -43,9 +50,9 @@ public class AnnotationRulesJavaASTValidator extends JavaASTValidator {
 
 	private static final Logger LOGGER = Logger.getLogger(AnnotationRulesJavaASTValidator.class.getName());
 
-	private final Collection<AnnotationRule> rules;
+	private final AnnotationValidator rules;
 
-	public AnnotationRulesJavaASTValidator(Collection<AnnotationRule> rules) {
+	public AnnotationRulesJavaASTValidator(AnnotationValidator rules) {
 		this.rules = rules;
 	}
 
@@ -62,25 +69,39 @@ public class AnnotationRulesJavaASTValidator extends JavaASTValidator {
 	}
 
 	private void validateAnnotation(Annotation annotation) {
-		// Loop for rules
-		for (AnnotationRule annotationRule : rules) {
+		Name typeName = annotation.getTypeName();
+		if (typeName.isQualifiedName()) {
+			// ex : @org.eclipse.microprofile.faulttolerance.Retry
+			AnnotationRule annotationRule = rules.getRule(typeName.getFullyQualifiedName());
+			if (annotationRule != null) {
+				validateAnnotation(annotation, annotationRule);
+				return;
+			}
+		}
+		// ex : @Retry
+		String simpleName = typeName.isQualifiedName() ? ((QualifiedName) typeName).getName().getIdentifier()
+				: ((SimpleName) typeName).getIdentifier();
+		// Loop for rules which have the same annotation simple name
+		for (AnnotationRule annotationRule : rules.getRulesBySimpleName(simpleName)) {
 			if (AnnotationUtils.isMatchAnnotation(annotation, annotationRule.getAnnotation())) {
 				// The AST annotation matches a rule
-				List<AnnotationAttributeRule> attributeRules = annotationRule.getRules();
-				// Validate attributes of the AST annotation
-				for (AnnotationAttributeRule attributeRule : attributeRules) {
+				validateAnnotation(annotation, annotationRule);
+			}
+		}
+	}
 
-					try {
-						Expression attributeValueExpr = AnnotationUtils.getAnnotationMemberValueExpression(annotation,
-								attributeRule.getAttribute());
-						if (attributeValueExpr != null) {
-							validateAnnotationAttributeValue(attributeValueExpr, attributeRule);
-						}
-					} catch (JavaModelException e) {
-						LOGGER.log(Level.WARNING, "Exception when trying to validate annotation attribute value", e);
-					}
+	private void validateAnnotation(Annotation annotation, AnnotationRule annotationRule) {
+		List<AnnotationAttributeRule> attributeRules = annotationRule.getRules();
+		// Validate attributes of the AST annotation
+		for (AnnotationAttributeRule attributeRule : attributeRules) {
+			try {
+				Expression attributeValueExpr = AnnotationUtils.getAnnotationMemberValueExpression(annotation,
+						attributeRule.getAttribute());
+				if (attributeValueExpr != null) {
+					validateAnnotationAttributeValue(attributeValueExpr, attributeRule);
 				}
-
+			} catch (JavaModelException e) {
+				LOGGER.log(Level.WARNING, "Exception when trying to validate annotation attribute value", e);
 			}
 		}
 	}
@@ -13,9 +13,12 @@
 *******************************************************************************/
 package org.eclipse.lsp4mp.jdt.internal.core.java.validators.annotations;
 
+import java.util.ArrayList;
 import java.util.Collection;
-import java.util.HashMap;
+import java.util.Collections;
+import java.util.List;
 import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
 
 /**
  * Annotation validator registry which hosts rules for attribute value of
@@ -28,8 +31,11 @@ public class AnnotationValidator {
 
 	private final Map<String /* annotation name */, AnnotationRule> rulesByAnnotation;
 
+	private final Map<String /* annotation simple name */, List<AnnotationRule>> rulesBySimpleName;
+
 	public AnnotationValidator() {
-		this.rulesByAnnotation = new HashMap<>();
+		this.rulesByAnnotation = new ConcurrentHashMap<>();
+		this.rulesBySimpleName = new ConcurrentHashMap<>();
 	}
 
 	/**
@@ -42,6 +48,12 @@ public class AnnotationValidator {
 		AnnotationRule existingRule = this.rulesByAnnotation.get(annotation);
 		if (existingRule == null) {
 			this.rulesByAnnotation.put(annotation, newRule);
+			// Replace the list to never update a list which is used by a validation
+			String simpleName = getSimpleName(annotation);
+			List<AnnotationRule> rules = new ArrayList<>(
+					rulesBySimpleName.getOrDefault(simpleName, Collections.emptyList()));
+			rules.add(newRule);
+			this.rulesBySimpleName.put(simpleName, Collections.unmodifiableList(rules));
 		} else {
 			// Merge rule
 			newRule.getRules().forEach(attributeRule -> {
@@ -91,4 +103,34 @@ public class AnnotationValidator {
 	public Collection<AnnotationRule> getRules() {
 		return rulesByAnnotation.values();
 	}
+
+	/**
+	 * Returns the annotation rule registered for the given fully qualified
+	 * annotation name and null otherwise.
+	 * 
+	 * @param annotationName the fully qualified annotation name (ex :
+	 *                       'org.eclipse.microprofile.faulttolerance.Retry').
+	 * @return the annotation rule registered for the given fully qualified
+	 *         annotation name and null otherwise.
+	 */
+	public AnnotationRule getRule(String annotationName) {
+		return rulesByAnnotation.get(annotationName);
+	}
+
+	/**
+	 * Returns the annotation rules registered for an annotation with the given
+	 * simple name.
+	 * 
+	 * @param simpleName the annotation simple name (ex : 'Retry').
+	 * @return the annotation rules registered for an annotation with the given
+	 *         simple name.
+	 */
+	public List<AnnotationRule> getRulesBySimpleName(String simpleName) {
+		return rulesBySimpleName.getOrDefault(simpleName, Collections.emptyList());
+	}
+
+	private static String getSimpleName(String annotationName) {
+		int index = annotationName.lastIndexOf('.');
+		return index != -1 ? annotationName.substring(index + 1) : annotationName;
+	}
 }
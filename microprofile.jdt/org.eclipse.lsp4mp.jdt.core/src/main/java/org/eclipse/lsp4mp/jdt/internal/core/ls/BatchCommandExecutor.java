@@ -0,0 +1,179 @@
+/*******************************************************************************
+* Copyright (c) 2023 Red Hat Inc. and others.
+*
+* This program and the accompanying materials are made available under the
+* terms of the Eclipse Public License v. 2.0 which is available at
+* http://www.eclipse.org/legal/epl-2.0, or the Apache License, Version 2.0
+* which is available at https://www.apache.org/licenses/LICENSE-2.0.
+*
+* SPDX-License-Identifier: EPL-2.0 OR Apache-2.0
+*
+* Contributors:
+*     Red Hat Inc. - initial API and implementation
+*******************************************************************************/
+package org.eclipse.lsp4mp.jdt.internal.core.ls;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+
+import org.eclipse.core.runtime.IProgressMonitor;
+import org.eclipse.core.runtime.NullProgressMonitor;
+import org.eclipse.core.runtime.OperationCanceledException;
+
+/**
+ * Executor of the batch delegate commands which process the items of a batch
+ * (ex : the Java file URIs) in parallel with a bounded number of threads.
+ *
+ * <p>
+ * The error thrown by the process of an item is logged and the result of the
+ * item is null, so it doesn't fail the other items of the batch. Only the
+ * cancellation of the batch stops the process of all the items.
+ * </p>
+ *
+ */
+public class BatchCommandExecutor {
+
+	private static final Logger LOGGER = Logger.getLogger(BatchCommandExecutor.class.getName());
+
+	private static final BatchCommandExecutor INSTANCE = new BatchCommandExecutor();
+
+	private static final int MAX_THREADS = Math.max(1, Math.min(4, Runtime.getRuntime().availableProcessors() - 1));
+
+	private static final long CANCEL_CHECK_INTERVAL = 100;
+
+	public static BatchCommandExecutor getInstance() {
+		return INSTANCE;
+	}
+
+	/**
+	 * Process of an item of a batch.
+	 *
+	 * @param <T> the item type.
+	 * @param <R> the result type.
+	 */
+	@FunctionalInterface
+	public interface ItemProcessor<T, R> {
+
+		R process(T item, IProgressMonitor monitor) throws Exception;
+	}
+
+	private ExecutorService executor;
+
+	private BatchCommandExecutor() {
+	}
+
+	/**
+	 * Returns the results of the process of the given items, in the order of the
+	 * items. The result of an item whose process has failed is null.
+	 *
+	 * @param <T>       the item type.
+	 * @param <R>       the result type.
+	 * @param items     the items to process.
+	 * @param processor the process of an item.
+	 * @param monitor   the progress monitor.
+	 * @return the results of the process of the given items, in the order of the
+	 *         items.
+	 * @throws Exception if the batch has been cancelled.
+	 */
+	public <T, R> List<R> execute(List<T> items, ItemProcessor<T, R> processor, IProgressMonitor monitor)
+			throws Exception {
+		List<R> results = new ArrayList<>(items.size());
+		if (items.size() == 1) {
+			T item = items.get(0);
+			try {
+				results.add(processor.process(item, monitor));
+			} catch (OperationCanceledException e) {
+				throw e;
+			} catch (Exception e) {
+				logError(item, e);
+				results.add(null);
+			}
+			return results;
+		}
+		// the progress monitor is not thread safe, the items are processed with a
+		// monitor which only checks the cancellation of the given monitor
+		IProgressMonitor itemMonitor = new NullProgressMonitor() {
+
+			@Override
+			public boolean isCanceled() {
+				return monitor.isCanceled();
+			}
+		};
+		ExecutorService executorService = getExecutor();
+		List<Future<R>> futures = new ArrayList<>(items.size());
+		for (T item : items) {
+			futures.add(executorService.submit(() -> {
+				if (itemMonitor.isCanceled()) {
+					throw new OperationCanceledException();
+				}
+				return processor.process(item, itemMonitor);
+			}));
+		}
+		try {
+			for (int i = 0; i < futures.size(); i++) {
+				results.add(waitFor(futures.get(i), items.get(i), monitor));
+			}
+		} finally {
+			for (Future<R> future : futures) {
+				future.cancel(false);
+			}
+		}
+		return results;
+	}
+
+	private static <T, R> R waitFor(Future<R> future, T item, IProgressMonitor monitor) throws Exception {
+		while (true) {
+			if (monitor.isCanceled()) {
+				throw new OperationCanceledException();
+			}
+			try {
+				return future.get(CANCEL_CHECK_INTERVAL, TimeUnit.MILLISECONDS);
+			} catch (TimeoutException e) {
+				// check again the cancellation
+			} catch (ExecutionException e) {
+				Throwable cause = e.getCause();
+				if (cause instanceof OperationCanceledException canceled) {
+					throw canceled;
+				}
+				// the other items are processed
+				logError(item, cause != null ? cause : e);
+				return null;
+			}
+		}
+	}
+
+	private static void logError(Object item, Throwable e) {
+		LOGGER.log(Level.WARNING, String.format("Error while processing '%s' in a batch command", item), e);
+	}
+
+	private synchronized ExecutorService getExecutor() {
+		if (executor == null) {
+			AtomicInteger count = new AtomicInteger();
+			executor = Executors.newFixedThreadPool(MAX_THREADS, r -> {
+				Thread thread = new Thread(r, "LSP4MP batch command " + count.incrementAndGet());
+				thread.setDaemon(true);
+				return thread;
+			});
+		}
+		return executor;
+	}
+
+	/**
+	 * Stop the threads of the executor.
+	 */
+	public synchronized void destroy() {
+		if (executor != null) {
+			executor.shutdownNow();
+			executor = null;
+		}
+	}
+}
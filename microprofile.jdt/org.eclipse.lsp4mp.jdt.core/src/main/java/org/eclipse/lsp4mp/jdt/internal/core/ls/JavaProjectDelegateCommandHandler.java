@@ -17,9 +17,16 @@ import static org.eclipse.lsp4jdt.participants.core.ls.ArgumentUtils.getFirst;
 import static org.eclipse.lsp4jdt.participants.core.ls.ArgumentUtils.getString;
 import static org.eclipse.lsp4jdt.participants.core.ls.ArgumentUtils.getStringList;
 
+import java.net.URI;
+import java.net.URISyntaxException;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
 
+import org.eclipse.core.resources.IFile;
+import org.eclipse.core.resources.ResourcesPlugin;
 import org.eclipse.core.runtime.IProgressMonitor;
 import org.eclipse.lsp4jdt.commons.JavaProjectLabelsParams;
 import org.eclipse.lsp4jdt.core.ProjectLabelManager;
@@ -35,6 +42,7 @@ public class JavaProjectDelegateCommandHandler extends AbstractDelegateCommandHa
 
 	private static final String PROJECT_LABELS_COMMAND_ID = "microprofile/java/projectLabels";
 	private static final String WORKSPACE_LABELS_COMMAND_ID = "microprofile/java/workspaceLabels";
+	private static final String BATCH_PROJECT_LABELS_COMMAND_ID = "microprofile/java/batchProjectLabels";
 
 	public JavaProjectDelegateCommandHandler() {
 	}
@@ -44,6 +52,8 @@ public class JavaProjectDelegateCommandHandler extends AbstractDelegateCommandHa
 		switch (commandId) {
 		case PROJECT_LABELS_COMMAND_ID:
 			return getProjectLabelInfo(arguments, commandId, progress);
+		case BATCH_PROJECT_LABELS_COMMAND_ID:
+			return getBatchProjectLabelInfo(arguments, commandId, progress);
 		case WORKSPACE_LABELS_COMMAND_ID:
 			// not sure using the MPNewPropertiesManagerForJava plugin id is correct?
 			return ProjectLabelManager.getInstance().getProjectLabelInfo(MPNewPropertiesManagerForJava.getInstance().getPluginId());
@@ -71,4 +81,65 @@ public class JavaProjectDelegateCommandHandler extends AbstractDelegateCommandHa
 		params.setTypes(types);
 		return ProjectLabelManager.getInstance().getProjectLabelInfo(params, MPNewPropertiesManagerForJava.getInstance().getPluginId(), JDTUtilsLSImpl.getInstance(), monitor);
 	}
+
+	/**
+	 * Returns the project labels of the given Java files, in the order of the given
+	 * Java file URIs.
+	 *
+	 * <p>
+	 * The Java files are grouped by project and the labels of a project are
+	 * computed once for all its Java files, the projects being processed in
+	 * parallel.
+	 * </p>
+	 *
+	 * @param arguments
+	 * @param commandId
+	 * @param monitor
+	 * @return the project labels of the given Java files.
+	 * @throws Exception
+	 */
+	private static List<Object> getBatchProjectLabelInfo(List<Object> arguments, String commandId,
+			IProgressMonitor monitor) throws Exception {
+		List<String> uris = MicroProfileDelegateCommandHandlerForJava.getBatchUris(arguments, commandId);
+		List<String> types = getStringList(getFirst(arguments), "types");
+		// group the Java files by project, a Java file which doesn't belong to a
+		// project is processed alone
+		Map<String /* project name or file URI */, List<String>> urisByProject = new LinkedHashMap<>();
+		for (String uri : uris) {
+			urisByProject.computeIfAbsent(getProjectName(uri), k -> new ArrayList<>()).add(uri);
+		}
+		List<List<String>> groups = new ArrayList<>(urisByProject.values());
+		List<Object> groupLabels = BatchCommandExecutor.getInstance().<List<String>, Object>execute(groups,
+				(group, itemMonitor) -> {
+					JavaProjectLabelsParams params = new JavaProjectLabelsParams();
+					params.setUri(group.get(0));
+					params.setTypes(types);
+					return ProjectLabelManager.getInstance().getProjectLabelInfo(params,
+							MPNewPropertiesManagerForJava.getInstance().getPluginId(), JDTUtilsLSImpl.getInstance(),
+							itemMonitor);
+				}, monitor);
+		Map<String, Object> labelsByUri = new HashMap<>();
+		for (int i = 0; i < groups.size(); i++) {
+			for (String uri : groups.get(i)) {
+				labelsByUri.put(uri, groupLabels.get(i));
+			}
+		}
+		List<Object> result = new ArrayList<>(uris.size());
+		for (String uri : uris) {
+			result.add(labelsByUri.get(uri));
+		}
+		return result;
+	}
+
+	private static String getProjectName(String uri) {
+		try {
+			IFile[] files = ResourcesPlugin.getWorkspace().getRoot().findFilesForLocationURI(new URI(uri));
+			if (files.length > 0) {
+				return files[0].getProject().getName();
+			}
+		} catch (URISyntaxException e) {
+			// the Java file is processed alone
+		}
+		return uri;
+	}
 }
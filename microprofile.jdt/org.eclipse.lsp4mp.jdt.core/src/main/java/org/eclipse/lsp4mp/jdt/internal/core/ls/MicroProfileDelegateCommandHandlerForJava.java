@@ -22,6 +22,8 @@ import static org.eclipse.lsp4jdt.participants.core.ls.ArgumentUtils.getString;
 import static org.eclipse.lsp4jdt.participants.core.ls.ArgumentUtils.getStringList;
 import static org.eclipse.lsp4jdt.participants.core.ls.ArgumentUtils.getTextDocumentIdentifier;
 
+import java.util.ArrayList;
+import java.util.Collections;
 import java.util.List;
 import java.util.Map;
 
@@ -67,6 +69,7 @@ import org.eclipse.lsp4mp.jdt.core.MPNewPropertiesManagerForJava;
 public class MicroProfileDelegateCommandHandlerForJava extends AbstractDelegateCommandHandler {
 
 	private static final String FILE_INFO_COMMAND_ID = "microprofile/java/fileInfo";
+	private static final String BATCH_FILE_INFO_COMMAND_ID = "microprofile/java/batchFileInfo";
 	private static final String JAVA_CODEACTION_COMMAND_ID = "microprofile/java/codeAction";
 	private static final String JAVA_CODEACTION_RESOLVE_COMMAND_ID = "microprofile/java/codeActionResolve";
 	private static final String JAVA_CODELENS_COMMAND_ID = "microprofile/java/codeLens";
@@ -84,6 +87,8 @@ public class MicroProfileDelegateCommandHandlerForJava extends AbstractDelegateC
 		switch (commandId) {
 			case FILE_INFO_COMMAND_ID:
 				return getFileInfo(arguments, commandId, progress);
+			case BATCH_FILE_INFO_COMMAND_ID:
+				return getBatchFileInfo(arguments, commandId, progress);
 			case JAVA_CODEACTION_COMMAND_ID:
 				return getCodeActionForJava(arguments, commandId, progress);
 			case JAVA_CODEACTION_RESOLVE_COMMAND_ID:
@@ -123,6 +128,51 @@ public class MicroProfileDelegateCommandHandlerForJava extends AbstractDelegateC
 		return MPNewPropertiesManagerForJava.getInstance().fileInfo(params, JDTUtilsLSImpl.getInstance(), monitor);
 	}
 
+	/**
+	 * Returns the file information (package name, etc) for the given Java files,
+	 * in the order of the given Java file URIs.
+	 *
+	 * @param arguments
+	 * @param commandId
+	 * @param monitor
+	 * @return the file information (package name, etc) for the given Java files.
+	 * @throws Exception
+	 */
+	private static List<JavaFileInfo> getBatchFileInfo(List<Object> arguments, String commandId,
+			IProgressMonitor monitor) throws Exception {
+		List<String> uris = getBatchUris(arguments, commandId);
+		return BatchCommandExecutor.getInstance().execute(uris, (uri, itemMonitor) -> {
+			JavaFileInfoParams params = new JavaFileInfoParams();
+			params.setUri(uri);
+			return MPNewPropertiesManagerForJava.getInstance().fileInfo(params, JDTUtilsLSImpl.getInstance(),
+					itemMonitor);
+		}, monitor);
+	}
+
+	/**
+	 * Returns the Java file URIs of the batch parameter from the given arguments
+	 * map.
+	 *
+	 * @param arguments
+	 * @param commandId
+	 *
+	 * @return the Java file URIs of the batch parameter.
+	 */
+	static List<String> getBatchUris(List<Object> arguments, String commandId) {
+		Map<String, Object> obj = getFirst(arguments);
+		if (obj == null) {
+			throw new UnsupportedOperationException(String.format(
+					"Command '%s' must be called with one MicroProfileJavaBatchParams argument!", commandId));
+		}
+		List<String> uris = getStringList(obj, "uris");
+		if (uris == null) {
+			throw new UnsupportedOperationException(String.format(
+					"Command '%s' must be called with required MicroProfileJavaBatchParams.uris (java file URIs)!",
+					commandId));
+		}
+		return uris;
+	}
+
 	/**
 	 * Create the Java file information parameter from the given arguments map.
 	 *
@@ -382,11 +432,28 @@ public class MicroProfileDelegateCommandHandlerForJava extends AbstractDelegateC
 	 * @throws JavaModelException
 	 */
 	private static List<PublishDiagnosticsParams> getDiagnosticsForJava(List<Object> arguments, String commandId,
-			IProgressMonitor monitor) throws JavaModelException {
+			IProgressMonitor monitor) throws Exception {
 		// Create java diagnostics parameter
 		JavaDiagnosticsParams params = createMicroProfileJavaDiagnosticsParams(arguments, commandId);
-		// Return diagnostics from parameter
-		return MPNewPropertiesManagerForJava.getInstance().diagnostics(params, JDTUtilsLSImpl.getInstance(), monitor);
+		if (params.getUris().size() <= 1) {
+			// Return diagnostics from parameter
+			return MPNewPropertiesManagerForJava.getInstance().diagnostics(params, JDTUtilsLSImpl.getInstance(),
+					monitor);
+		}
+		// Validate the Java files in parallel
+		List<List<PublishDiagnosticsParams>> diagnostics = BatchCommandExecutor.getInstance()
+				.execute(params.getUris(), (uri, itemMonitor) -> {
+					JavaDiagnosticsParams uriParams = new JavaDiagnosticsParams(Collections.singletonList(uri));
+					return MPNewPropertiesManagerForJava.getInstance().diagnostics(uriParams,
+							JDTUtilsLSImpl.getInstance(), itemMonitor);
+				}, monitor);
+		List<PublishDiagnosticsParams> result = new ArrayList<>();
+		for (List<PublishDiagnosticsParams> uriDiagnostics : diagnostics) {
+			if (uriDiagnostics != null) {
+				result.addAll(uriDiagnostics);
+			}
+		}
+		return result;
 	}
 
 	/**
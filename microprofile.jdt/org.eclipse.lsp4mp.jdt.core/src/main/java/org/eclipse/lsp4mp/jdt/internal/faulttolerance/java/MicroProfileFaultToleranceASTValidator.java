@@ -98,11 +98,9 @@ public class MicroProfileFaultToleranceASTValidator extends JavaASTValidator {
 	public boolean isAdaptedForDiagnostics(JavaDiagnosticsContext context,
 			IProgressMonitor monitor) throws CoreException {
 		IJavaProject javaProject = context.getJavaProject();
-		boolean adapted = JDTTypeUtils.findType(javaProject,
-				FALLBACK_ANNOTATION) != null
-				|| JDTTypeUtils.findType(javaProject,
-						ASYNCHRONOUS_ANNOTATION) != null
-				|| JDTTypeUtils.findType(javaProject, RETRY_ANNOTATION) != null;
+		boolean adapted = JDTTypeUtils.hasType(javaProject, FALLBACK_ANNOTATION)
+				|| JDTTypeUtils.hasType(javaProject, ASYNCHRONOUS_ANNOTATION)
+				|| JDTTypeUtils.hasType(javaProject, RETRY_ANNOTATION);
 		if (adapted) {
 			addAllowedReturnTypeForAsynchronousAnnotation(javaProject,
 					UNI_TYPE_UTILITY);
@@ -112,7 +110,7 @@ public class MicroProfileFaultToleranceASTValidator extends JavaASTValidator {
 
 	private void addAllowedReturnTypeForAsynchronousAnnotation(
 			IJavaProject javaProject, String returnType) {
-		if (JDTTypeUtils.findType(javaProject, returnType) != null) {
+		if (JDTTypeUtils.hasType(javaProject, returnType)) {
 			allowedReturnTypesForAsynchronousAnnotation.add(returnType);
 		}
 	}
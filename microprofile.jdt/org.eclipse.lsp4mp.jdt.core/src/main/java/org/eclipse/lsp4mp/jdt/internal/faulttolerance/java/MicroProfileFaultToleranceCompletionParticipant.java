@@ -60,7 +60,7 @@ public class MicroProfileFaultToleranceCompletionParticipant implements IJavaCom
 	public boolean isAdaptedForCompletion(JavaCompletionContext context, IProgressMonitor monitor)
 			throws CoreException {
 		IJavaProject javaProject = context.getJavaProject();
-		return JDTTypeUtils.findType(javaProject, FALLBACK_ANNOTATION) != null;
+		return JDTTypeUtils.hasType(javaProject, FALLBACK_ANNOTATION);
 	}
 
 	@Override
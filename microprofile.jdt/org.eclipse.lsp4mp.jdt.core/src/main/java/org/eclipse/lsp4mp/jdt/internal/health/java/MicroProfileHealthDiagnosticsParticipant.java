@@ -76,8 +76,7 @@ public class MicroProfileHealthDiagnosticsParticipant implements IJavaDiagnostic
 		// Collection of diagnostics for MicroProfile Health is done only if
 		// microprofile-health is on the classpath
 		IJavaProject javaProject = context.getJavaProject();
-		boolean yes = JDTTypeUtils.findType(javaProject, HEALTH_CHECK_INTERFACE) != null;
-		return JDTTypeUtils.findType(javaProject, HEALTH_CHECK_INTERFACE) != null;
+		return JDTTypeUtils.hasType(javaProject, HEALTH_CHECK_INTERFACE);
 	}
 
 	@Override
@@ -166,10 +165,10 @@ public class MicroProfileHealthDiagnosticsParticipant implements IJavaDiagnostic
 		List<String> annotations = new ArrayList<>(4);
 		annotations.add("@Liveness");
 		annotations.add("@Readiness");
-		if (JDTTypeUtils.findType(classType.getJavaProject(), STARTUP_ANNOTATION) != null) {
+		if (JDTTypeUtils.hasType(classType.getJavaProject(), STARTUP_ANNOTATION)) {
 			annotations.add("@Startup");
 		}
-		if (JDTTypeUtils.findType(classType.getJavaProject(), HEALTH_ANNOTATION) != null) {
+		if (JDTTypeUtils.hasType(classType.getJavaProject(), HEALTH_ANNOTATION)) {
 			annotations.add("@Health");
 		}
 		int size = annotations.size();
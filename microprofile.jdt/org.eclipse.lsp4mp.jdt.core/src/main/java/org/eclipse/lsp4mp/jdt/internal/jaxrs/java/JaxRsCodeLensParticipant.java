@@ -13,9 +13,6 @@
 *******************************************************************************/
 package org.eclipse.lsp4mp.jdt.internal.jaxrs.java;
 
-import java.io.IOException;
-import java.net.InetSocketAddress;
-import java.net.Socket;
 import java.util.Collections;
 import java.util.List;
 import java.util.logging.Level;
@@ -54,10 +51,6 @@ public class JaxRsCodeLensParticipant implements IJavaCodeLensParticipant {
 
 	private static final Logger LOGGER = Logger.getLogger(JaxRsCodeLensParticipant.class.getName());
 
-	private static final String LOCALHOST = "localhost";
-
-	private static final int PING_TIMEOUT = 2000;
-
 	@Override
 	public boolean isAdaptedForCodeLens(JavaCodeLensContext context, IProgressMonitor monitor) throws CoreException {
 		JavaCodeLensParams params = context.getParams();
@@ -81,8 +74,10 @@ public class JaxRsCodeLensParticipant implements IJavaCodeLensParticipant {
 		JaxRsContext jaxrsContext = JaxRsContext.getJaxRsContext(context);
 		IJDTUtils utils = context.getUtils();
 
+		// Use the availability of the server checked in background to avoid opening a
+		// socket on each code lens request
 		if (context.getParams().isCheckServerAvailable()
-				&& !isServerAvailable(LOCALHOST, jaxrsContext.getServerPort(), PING_TIMEOUT)) {
+				&& !ServerAvailabilityMonitor.getInstance().isServerAvailable(jaxrsContext.getServerPort())) {
 			return Collections.emptyList();
 		}
 
@@ -106,15 +101,6 @@ public class JaxRsCodeLensParticipant implements IJavaCodeLensParticipant {
 				.collect(Collectors.toList());
 	}
 
-	private static boolean isServerAvailable(String host, int port, int timeout) {
-		try (Socket socket = new Socket()) {
-			socket.connect(new InetSocketAddress(host, port), timeout);
-			return true;
-		} catch (IOException e) {
-			return false;
-		}
-	}
-
 	/**
 	 * Returns the provider that can provide JAX-RS method info for the given class,
 	 * or null if no provider can provide info.
@@ -0,0 +1,170 @@
+/*******************************************************************************
+* Copyright (c) 2023 Red Hat Inc. and others.
+*
+* This program and the accompanying materials are made available under the
+* terms of the Eclipse Public License v. 2.0 which is available at
+* http://www.eclipse.org/legal/epl-2.0, or the Apache License, Version 2.0
+* which is available at https://www.apache.org/licenses/LICENSE-2.0.
+*
+* SPDX-License-Identifier: EPL-2.0 OR Apache-2.0
+*
+* Contributors:
+*     Red Hat Inc. - initial API and implementation
+*******************************************************************************/
+package org.eclipse.lsp4mp.jdt.internal.jaxrs.java;
+
+import java.io.IOException;
+import java.net.InetSocketAddress;
+import java.net.Socket;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Monitor of the availability of the servers started on localhost.
+ *
+ * <p>
+ * The JAX-RS URL code lenses are displayed only if the server is available. To
+ * avoid opening a socket on each code lens request, the availability of a
+ * server port is checked in background every refresh interval and the code
+ * lens requests use the last known availability. A port which is not requested
+ * during {@link #IDLE_INTERVALS} refresh intervals is no longer monitored, but
+ * its last known availability is kept until the monitoring starts again.
+ * </p>
+ *
+ * <p>
+ * The refresh interval (in milliseconds) can be configured with the
+ * <code>lsp4mp.server.availability.refreshInterval</code> system property.
+ * </p>
+ *
+ */
+public class ServerAvailabilityMonitor {
+
+	public static final String REFRESH_INTERVAL_PROPERTY = "lsp4mp.server.availability.refreshInterval";
+
+	private static final long DEFAULT_REFRESH_INTERVAL = 2000;
+
+	private static final ServerAvailabilityMonitor INSTANCE = new ServerAvailabilityMonitor();
+
+	private static final String LOCALHOST = "localhost";
+
+	private static final int PING_TIMEOUT = 2000;
+
+	private static final int IDLE_INTERVALS = 30;
+
+	public static ServerAvailabilityMonitor getInstance() {
+		return INSTANCE;
+	}
+
+	/**
+	 * Availability of a port.
+	 */
+	private static class PortStatus {
+
+		private volatile boolean available;
+
+		private volatile long lastRequest;
+
+		private volatile ScheduledFuture<?> future;
+	}
+
+	private final long refreshInterval;
+
+	private final Map<Integer /* port */, PortStatus> ports;
+
+	private ScheduledExecutorService executor;
+
+	private ServerAvailabilityMonitor() {
+		long interval = Long.getLong(REFRESH_INTERVAL_PROPERTY, DEFAULT_REFRESH_INTERVAL);
+		this.refreshInterval = interval > 0 ? interval : DEFAULT_REFRESH_INTERVAL;
+		this.ports = new ConcurrentHashMap<>();
+	}
+
+	/**
+	 * Returns the last known availability of the server started on localhost with
+	 * the given port.
+	 *
+	 * <p>
+	 * This method never opens a socket. When the port is not monitored, the
+	 * monitoring of the port is started (the first check is done immediately in
+	 * background) and the last known availability (false for a port which has
+	 * never been checked) is returned.
+	 * </p>
+	 *
+	 * @param port the server port.
+	 * @return the last known availability of the server started on localhost with
+	 *         the given port.
+	 */
+	public boolean isServerAvailable(int port) {
+		PortStatus status = ports.get(port);
+		if (status == null || status.future == null) {
+			status = startMonitoring(port);
+		}
+		status.lastRequest = System.currentTimeMillis();
+		return status.available;
+	}
+
+	/**
+	 * Returns the interval (in milliseconds) between two checks of the
+	 * availability of a server.
+	 *
+	 * @return the interval (in milliseconds) between two checks of the
+	 *         availability of a server.
+	 */
+	public long getRefreshInterval() {
+		return refreshInterval;
+	}
+
+	private synchronized PortStatus startMonitoring(int port) {
+		PortStatus status = ports.computeIfAbsent(port, k -> new PortStatus());
+		if (status.future != null) {
+			return status;
+		}
+		if (executor == null) {
+			executor = Executors.newSingleThreadScheduledExecutor(r -> {
+				Thread thread = new Thread(r, "LSP4MP server availability monitor");
+				thread.setDaemon(true);
+				return thread;
+			});
+		}
+		status.lastRequest = System.currentTimeMillis();
+		status.future = executor.scheduleWithFixedDelay(() -> refresh(port, status), 0, refreshInterval,
+				TimeUnit.MILLISECONDS);
+		return status;
+	}
+
+	private void refresh(int port, PortStatus status) {
+		if (System.currentTimeMillis() - status.lastRequest > IDLE_INTERVALS * refreshInterval) {
+			// the port is no longer requested, its last known availability is kept
+			synchronized (this) {
+				status.future.cancel(false);
+				status.future = null;
+			}
+			return;
+		}
+		status.available = ping(LOCALHOST, port, PING_TIMEOUT);
+	}
+
+	private static boolean ping(String host, int port, int timeout) {
+		try (Socket socket = new Socket()) {
+			socket.connect(new InetSocketAddress(host, port), timeout);
+			return true;
+		} catch (IOException e) {
+			return false;
+		}
+	}
+
+	/**
+	 * Stop the monitoring of all ports.
+	 */
+	public synchronized void destroy() {
+		if (executor != null) {
+			executor.shutdownNow();
+			executor = null;
+		}
+		ports.clear();
+	}
+}
@@ -44,6 +44,6 @@ public class JBossLogManagerPropertyProvider extends AbstractStaticPropertiesPro
 	protected boolean isAdaptedFor(SearchContext context, IProgressMonitor monitor) {
 		// Check if JBoss LogManager exists in classpath
 		IJavaProject javaProject = context.getJavaProject();
-		return JDTTypeUtils.findType(javaProject, JBOSS_LOGMANAGER_LEVEL_CLASS) != null;
+		return JDTTypeUtils.hasType(javaProject, JBOSS_LOGMANAGER_LEVEL_CLASS);
 	}
 }
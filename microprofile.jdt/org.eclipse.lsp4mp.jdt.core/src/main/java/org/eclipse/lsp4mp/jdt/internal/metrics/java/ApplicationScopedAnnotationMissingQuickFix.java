@@ -108,7 +108,7 @@ public class ApplicationScopedAnnotationMissingQuickFix implements IJavaCodeActi
 
 	private String getAddAnnotation(JavaCodeActionContext context) {
 		for (String annotation : ADD_ANNOTATIONS) {
-			if (JDTTypeUtils.findType(context.getJavaProject(), annotation) != null) {
+			if (JDTTypeUtils.hasType(context.getJavaProject(), annotation)) {
 				return annotation;
 			}
 		}
@@ -61,7 +61,7 @@ public class MicroProfileGenerateOpenAPIOperation implements IJavaCodeActionPart
 	public boolean isAdaptedForCodeAction(JavaCodeActionContext context, IProgressMonitor monitor)
 			throws CoreException {
 		IJavaProject javaProject = context.getJavaProject();
-		return JDTTypeUtils.findType(javaProject, MicroProfileOpenAPIConstants.OPERATION_ANNOTATION) != null;
+		return JDTTypeUtils.hasType(javaProject, MicroProfileOpenAPIConstants.OPERATION_ANNOTATION);
 	}
 
 	@Override
@@ -64,8 +64,8 @@ public class MicroProfileReactiveMessagingASTValidator extends JavaASTValidator
     public boolean isAdaptedForDiagnostics(JavaDiagnosticsContext context,
             IProgressMonitor monitor) throws CoreException {
         IJavaProject javaProject = context.getJavaProject();
-        boolean adapted = JDTTypeUtils.findType(javaProject, INCOMING_ANNOTATION) != null
-                || JDTTypeUtils.findType(javaProject, OUTGOING_ANNOTATION) != null;
+        boolean adapted = JDTTypeUtils.hasType(javaProject, INCOMING_ANNOTATION)
+                || JDTTypeUtils.hasType(javaProject, OUTGOING_ANNOTATION);
         return adapted;
     }
 
@@ -64,7 +64,7 @@ public class MicroProfileRestClientCodeLensParticipant implements IJavaCodeLensP
 		// Collection of URL codeLens is done only if @ResgisterRestClient annotation is
 		// on the classpath
 		IJavaProject javaProject = context.getJavaProject();
-		return JDTTypeUtils.findType(javaProject, REGISTER_REST_CLIENT_ANNOTATION) != null;
+		return JDTTypeUtils.hasType(javaProject, REGISTER_REST_CLIENT_ANNOTATION);
 	}
 
 	@Override
@@ -0,0 +1,328 @@
+/*******************************************************************************
+* Copyright (c) 2023 Red Hat Inc. and others.
+*
+* This program and the accompanying materials are made available under the
+* terms of the Eclipse Public License v. 2.0 which is available at
+* http://www.eclipse.org/legal/epl-2.0, or the Apache License, Version 2.0
+* which is available at https://www.apache.org/licenses/LICENSE-2.0.
+*
+* SPDX-License-Identifier: EPL-2.0 OR Apache-2.0
+*
+* Contributors:
+*     Red Hat Inc. - initial API and implementation
+*******************************************************************************/
+package org.eclipse.lsp4mp.jdt.internal.restclient.java;
+
+import static org.eclipse.lsp4mp.jdt.core.MicroProfileConfigConstants.INJECT_JAKARTA_ANNOTATION;
+import static org.eclipse.lsp4mp.jdt.core.MicroProfileConfigConstants.INJECT_JAVAX_ANNOTATION;
+import static org.eclipse.lsp4mp.jdt.internal.restclient.MicroProfileRestClientConstants.REST_CLIENT_ANNOTATION;
+
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+
+import org.eclipse.core.resources.IFile;
+import org.eclipse.core.resources.IResource;
+import org.eclipse.core.resources.IResourceChangeEvent;
+import org.eclipse.core.resources.IResourceChangeListener;
+import org.eclipse.core.resources.IResourceDelta;
+import org.eclipse.core.resources.IResourceDeltaVisitor;
+import org.eclipse.core.resources.ResourcesPlugin;
+import org.eclipse.core.runtime.CoreException;
+import org.eclipse.core.runtime.IProgressMonitor;
+import org.eclipse.core.runtime.Path;
+import org.eclipse.jdt.core.ICompilationUnit;
+import org.eclipse.jdt.core.IField;
+import org.eclipse.jdt.core.IJavaElement;
+import org.eclipse.jdt.core.IJavaProject;
+import org.eclipse.jdt.core.IType;
+import org.eclipse.jdt.core.JavaCore;
+import org.eclipse.jdt.core.search.IJavaSearchConstants;
+import org.eclipse.jdt.core.search.IJavaSearchScope;
+import org.eclipse.jdt.core.search.SearchEngine;
+import org.eclipse.jdt.core.search.SearchMatch;
+import org.eclipse.jdt.core.search.SearchParticipant;
+import org.eclipse.jdt.core.search.SearchPattern;
+import org.eclipse.jdt.core.search.SearchRequestor;
+import org.eclipse.lsp4jdt.core.utils.AnnotationUtils;
+import org.eclipse.lsp4mp.jdt.core.utils.JDTTypeUtils;
+
+/**
+ * Index of the fields annotated with <code>@Inject</code> and
+ * <code>@RestClient</code> of the Java sources of a Java project, keyed by the
+ * field type.
+ *
+ * <p>
+ * The index of a Java project is built on the first lookup with one search of
+ * the <code>@RestClient</code> annotation references. After that, the
+ * compilation units which are added, changed or removed (tracked with the
+ * resource deltas) are indexed again on the next lookup, instead of searching
+ * the references of a REST client interface on each validation.
+ * </p>
+ *
+ * <p>
+ * The index is built outside of any lock and is swapped once built, so the
+ * resource deltas are never blocked by a search. The index reflects the saved
+ * compilation units, the working copies with unsaved changes are collected on
+ * each lookup.
+ * </p>
+ *
+ */
+public class RestClientInjectionIndex implements IResourceChangeListener, IResourceDeltaVisitor {
+
+	private static final Logger LOGGER = Logger.getLogger(RestClientInjectionIndex.class.getName());
+
+	private static final RestClientInjectionIndex INSTANCE = new RestClientInjectionIndex();
+
+	private static final String JAVA_FILE_EXTENSION = "java";
+
+	private static final String CLASSPATH_FILE = ".classpath";
+
+	public static RestClientInjectionIndex getInstance() {
+		return INSTANCE;
+	}
+
+	/**
+	 * Injection points of the compilation units of a Java project.
+	 */
+	private static class Injections {
+
+		private final Map<String /* compilation unit path */, Map<String /* field type */, Integer>> injectionsByUnit;
+
+		private final Map<String /* field type */, Integer> injections;
+
+		public Injections() {
+			this.injectionsByUnit = new HashMap<>();
+			this.injections = new HashMap<>();
+		}
+
+		public Injections(Injections injections) {
+			this.injectionsByUnit = new HashMap<>(injections.injectionsByUnit);
+			this.injections = new HashMap<>(injections.injections);
+		}
+
+		public void setUnitInjections(String unitPath, Map<String, Integer> unitInjections) {
+			Map<String, Integer> oldInjections = unitInjections.isEmpty() ? injectionsByUnit.remove(unitPath)
+					: injectionsByUnit.put(unitPath, unitInjections);
+			if (oldInjections != null) {
+				oldInjections.forEach((type, count) -> injections.computeIfPresent(type,
+						(k, total) -> total - count > 0 ? total - count : null));
+			}
+			unitInjections.forEach((type, count) -> injections.merge(type, count, Integer::sum));
+		}
+
+		public int getInjectionsCount(String fieldType) {
+			return injections.getOrDefault(fieldType, 0);
+		}
+
+		public int getUnitInjectionsCount(String unitPath, String fieldType) {
+			Map<String, Integer> unitInjections = injectionsByUnit.get(unitPath);
+			return unitInjections != null ? unitInjections.getOrDefault(fieldType, 0) : 0;
+		}
+	}
+
+	/**
+	 * Index of a Java project.
+	 */
+	private static class ProjectIndex {
+
+		private final Set<String /* compilation unit path */> changedUnits;
+
+		private volatile Injections injections;
+
+		public ProjectIndex() {
+			this.changedUnits = ConcurrentHashMap.newKeySet();
+		}
+	}
+
+	private final Map<String /* project name */, ProjectIndex> indexes;
+
+	private RestClientInjectionIndex() {
+		this.indexes = new ConcurrentHashMap<>();
+	}
+
+	/**
+	 * Returns the number of fields of the Java sources of the project of the given
+	 * interface which are annotated with <code>@Inject</code> and
+	 * <code>@RestClient</code> and whose type is the given interface.
+	 *
+	 * @param interfaceType the REST client interface.
+	 * @param monitor       the progress monitor.
+	 * @return the number of fields which inject the given REST client interface.
+	 * @throws CoreException
+	 */
+	public int getInjectionsCount(IType interfaceType, IProgressMonitor monitor) throws CoreException {
+		IJavaProject javaProject = interfaceType.getJavaProject();
+		ProjectIndex index = indexes.computeIfAbsent(javaProject.getElementName(), k -> new ProjectIndex());
+		Injections injections = getInjections(javaProject, index, monitor);
+		String fieldType = interfaceType.getFullyQualifiedName('.');
+		int count = injections.getInjectionsCount(fieldType);
+		// The working copies with unsaved changes are not indexed
+		for (ICompilationUnit workingCopy : JavaCore.getWorkingCopies(null)) {
+			if (javaProject.equals(workingCopy.getJavaProject()) && workingCopy.hasUnsavedChanges()) {
+				count -= injections.getUnitInjectionsCount(workingCopy.getPath().toString(), fieldType);
+				count += collectInjections(workingCopy).getOrDefault(fieldType, 0);
+			}
+		}
+		return count;
+	}
+
+	private static Injections getInjections(IJavaProject javaProject, ProjectIndex index, IProgressMonitor monitor)
+			throws CoreException {
+		Injections current = index.injections;
+		if (current != null && index.changedUnits.isEmpty()) {
+			return current;
+		}
+		Injections injections = current != null ? new Injections(current) : search(javaProject, monitor);
+		// Index again the compilation units which have changed, including the ones
+		// which have changed during the search
+		Set<String> indexedUnits = new HashSet<>();
+		for (String unitPath : index.changedUnits) {
+			index.changedUnits.remove(unitPath);
+			indexedUnits.add(unitPath);
+			IFile file = ResourcesPlugin.getWorkspace().getRoot().getFile(new Path(unitPath));
+			IJavaElement element = file.exists() ? JavaCore.create(file) : null;
+			if (element instanceof ICompilationUnit unit && unit.exists()) {
+				injections.setUnitInjections(unitPath, collectInjections(unit));
+			} else {
+				// the compilation unit has been removed
+				injections.setUnitInjections(unitPath, new HashMap<>());
+			}
+		}
+		synchronized (index) {
+			if (index.injections == current) {
+				index.injections = injections;
+				return injections;
+			}
+		}
+		// The index has been updated by another lookup which has not indexed the
+		// compilation units indexed by this lookup
+		index.changedUnits.addAll(indexedUnits);
+		return injections;
+	}
+
+	private static Injections search(IJavaProject javaProject, IProgressMonitor monitor) throws CoreException {
+		// Search the compilation units which use the @RestClient annotation
+		Set<ICompilationUnit> units = new HashSet<>();
+		SearchPattern pattern = SearchPattern.createPattern(REST_CLIENT_ANNOTATION,
+				IJavaSearchConstants.ANNOTATION_TYPE, IJavaSearchConstants.ANNOTATION_TYPE_REFERENCE,
+				SearchPattern.R_EXACT_MATCH | SearchPattern.R_CASE_SENSITIVE);
+		IJavaSearchScope scope = SearchEngine.createJavaSearchScope(new IJavaProject[] { javaProject },
+				IJavaSearchScope.SOURCES);
+		SearchEngine engine = new SearchEngine();
+		engine.search(pattern, new SearchParticipant[] { SearchEngine.getDefaultSearchParticipant() }, scope,
+				new SearchRequestor() {
+
+					@Override
+					public void acceptSearchMatch(SearchMatch match) throws CoreException {
+						Object o = match.getElement();
+						if (o instanceof IJavaElement element) {
+							ICompilationUnit unit = (ICompilationUnit) element
+									.getAncestor(IJavaElement.COMPILATION_UNIT);
+							if (unit != null) {
+								units.add(unit);
+							}
+						}
+					}
+				}, monitor);
+		Injections injections = new Injections();
+		for (ICompilationUnit unit : units) {
+			injections.setUnitInjections(unit.getPath().toString(), collectInjections(unit));
+		}
+		return injections;
+	}
+
+	private static Map<String, Integer> collectInjections(ICompilationUnit unit) throws CoreException {
+		Map<String, Integer> injections = new HashMap<>();
+		for (IType type : unit.getAllTypes()) {
+			// The fields of a declaration like 'MyService service1, service2;' share the
+			// same source offset, they are counted once as one reference of the type.
+			Set<Integer> declarationOffsets = new HashSet<>();
+			for (IField field : type.getFields()) {
+				boolean hasInjectAnnotation = AnnotationUtils.hasAnnotation(field, INJECT_JAVAX_ANNOTATION)
+						|| AnnotationUtils.hasAnnotation(field, INJECT_JAKARTA_ANNOTATION);
+				if (hasInjectAnnotation && AnnotationUtils.hasAnnotation(field, REST_CLIENT_ANNOTATION)
+						&& declarationOffsets.add(field.getSourceRange().getOffset())) {
+					String fieldTypeName = JDTTypeUtils.getResolvedTypeName(field);
+					if (fieldTypeName != null) {
+						injections.merge(fieldTypeName, 1, Integer::sum);
+					}
+				}
+			}
+		}
+		return injections;
+	}
+
+	@Override
+	public void resourceChanged(IResourceChangeEvent event) {
+		IResourceDelta resourceDelta = event.getDelta();
+		if (resourceDelta == null || indexes.isEmpty()) {
+			return;
+		}
+		try {
+			resourceDelta.accept(this);
+		} catch (CoreException e) {
+			LOGGER.log(Level.SEVERE, "Error while tracking changes of Java files", e);
+		}
+	}
+
+	@Override
+	public boolean visit(IResourceDelta delta) throws CoreException {
+		IResource resource = delta.getResource();
+		if (resource == null) {
+			return false;
+		}
+		switch (resource.getType()) {
+		case IResource.ROOT:
+			return true;
+		case IResource.PROJECT:
+			if (delta.getKind() == IResourceDelta.REMOVED || (delta.getFlags() & IResourceDelta.OPEN) != 0) {
+				indexes.remove(resource.getName());
+				return false;
+			}
+			return indexes.containsKey(resource.getName());
+		case IResource.FOLDER:
+			return true;
+		case IResource.FILE:
+			if (CLASSPATH_FILE.equals(resource.getName()) && resource.getParent().getType() == IResource.PROJECT) {
+				// the source folders can change, the project must be indexed again
+				indexes.remove(resource.getProject().getName());
+			} else if (JAVA_FILE_EXTENSION.equals(resource.getFileExtension()) && isJavaFileChanged(delta)) {
+				ProjectIndex index = indexes.get(resource.getProject().getName());
+				if (index != null) {
+					synchronized (index) {
+						index.changedUnits.add(resource.getFullPath().toString());
+					}
+				}
+			}
+			return false;
+		default:
+			return false;
+		}
+	}
+
+	private static boolean isJavaFileChanged(IResourceDelta delta) {
+		int kind = delta.getKind();
+		return kind == IResourceDelta.ADDED || kind == IResourceDelta.REMOVED
+				|| (kind == IResourceDelta.CHANGED && (delta.getFlags() & IResourceDelta.CONTENT) != 0);
+	}
+
+	/**
+	 * Initialize the index.
+	 */
+	public void initialize() {
+		ResourcesPlugin.getWorkspace().addResourceChangeListener(this, IResourceChangeEvent.POST_CHANGE);
+	}
+
+	/**
+	 * Destroy the index.
+	 */
+	public void destroy() {
+		ResourcesPlugin.getWorkspace().removeResourceChangeListener(this);
+		indexes.clear();
+	}
+}
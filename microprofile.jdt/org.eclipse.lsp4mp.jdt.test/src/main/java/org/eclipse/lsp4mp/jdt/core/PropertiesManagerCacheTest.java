@@ -0,0 +1,106 @@
+/*******************************************************************************
+* Copyright (c) 2023 Red Hat Inc. and others.
+*
+* This program and the accompanying materials are made available under the
+* terms of the Eclipse Public License v. 2.0 which is available at
+* http://www.eclipse.org/legal/epl-2.0, or the Apache License, Version 2.0
+* which is available at https://www.apache.org/licenses/LICENSE-2.0.
+*
+* SPDX-License-Identifier: EPL-2.0 OR Apache-2.0
+*
+* Contributors:
+*     Red Hat Inc. - initial API and implementation
+*******************************************************************************/
+package org.eclipse.lsp4mp.jdt.core;
+
+import static org.eclipse.lsp4mp.jdt.core.MicroProfileAssert.assertHintsDuplicate;
+import static org.eclipse.lsp4mp.jdt.core.MicroProfileAssert.assertPropertiesDuplicate;
+
+import java.util.List;
+import java.util.stream.Collectors;
+
+import org.eclipse.core.runtime.NullProgressMonitor;
+import org.eclipse.jdt.core.IJavaProject;
+import org.eclipse.lsp4jdt.commons.ClasspathKind;
+import org.eclipse.lsp4jdt.commons.DocumentFormat;
+import org.eclipse.lsp4mp.commons.MicroProfileProjectInfo;
+import org.eclipse.lsp4mp.commons.MicroProfilePropertiesScope;
+import org.eclipse.lsp4mp.commons.metadata.ItemHint;
+import org.eclipse.lsp4mp.commons.metadata.ItemMetadata;
+import org.eclipse.lsp4mp.jdt.internal.core.PackageFragmentRootPropertiesCache;
+import org.junit.After;
+import org.junit.Assert;
+import org.junit.Before;
+import org.junit.Test;
+
+/**
+ * Test collection of MicroProfile properties with the properties cached for
+ * the dependency JARs ({@link PackageFragmentRootPropertiesCache}).
+ *
+ */
+public class PropertiesManagerCacheTest extends BasePropertiesManagerTest {
+
+	@Before
+	@After
+	public void clearCache() {
+		PackageFragmentRootPropertiesCache.getInstance().clear();
+	}
+
+	@Test
+	public void cachedScanIsSameAsFullScan() throws Exception {
+		IJavaProject javaProject = loadMavenProject(MicroProfileMavenProjectName.config_quickstart);
+
+		// JARs are scanned
+		MicroProfileProjectInfo info = getMicroProfileProjectInfo(javaProject, ClasspathKind.SRC);
+		// JARs properties are retrieved from the cache
+		MicroProfileProjectInfo cachedInfo = getMicroProfileProjectInfo(javaProject, ClasspathKind.SRC);
+
+		Assert.assertFalse(info.getProperties().isEmpty());
+		Assert.assertEquals(toString(info.getProperties()), toString(cachedInfo.getProperties()));
+		Assert.assertEquals(toHintsString(info.getHints()), toHintsString(cachedInfo.getHints()));
+		assertPropertiesDuplicate(cachedInfo);
+		assertHintsDuplicate(cachedInfo);
+
+		// The cached properties are not shared between the project information
+		ItemMetadata property = info.getProperties().get(info.getProperties().size() - 1);
+		ItemMetadata cachedProperty = cachedInfo.getProperties().get(cachedInfo.getProperties().size() - 1);
+		Assert.assertEquals(property, cachedProperty);
+		Assert.assertNotSame(property, cachedProperty);
+	}
+
+	@Test
+	public void classpathKindsDontShareCache() throws Exception {
+		IJavaProject javaProject = loadMavenProject(MicroProfileMavenProjectName.config_quickstart_test);
+
+		MicroProfileProjectInfo infoFromSrc = getMicroProfileProjectInfo(javaProject, ClasspathKind.SRC);
+		MicroProfileProjectInfo infoFromTest = getMicroProfileProjectInfo(javaProject, ClasspathKind.TEST);
+		MicroProfileProjectInfo cachedInfoFromSrc = getMicroProfileProjectInfo(javaProject, ClasspathKind.SRC);
+		MicroProfileProjectInfo cachedInfoFromTest = getMicroProfileProjectInfo(javaProject, ClasspathKind.TEST);
+
+		Assert.assertNotEquals(infoFromSrc.getProperties().size(), infoFromTest.getProperties().size());
+		Assert.assertEquals(toString(infoFromSrc.getProperties()), toString(cachedInfoFromSrc.getProperties()));
+		Assert.assertEquals(toString(infoFromTest.getProperties()), toString(cachedInfoFromTest.getProperties()));
+	}
+
+	private static MicroProfileProjectInfo getMicroProfileProjectInfo(IJavaProject javaProject,
+			ClasspathKind classpathKind) throws Exception {
+		return PropertiesManager.getInstance().getMicroProfileProjectInfo(javaProject,
+				MicroProfilePropertiesScope.SOURCES_AND_DEPENDENCIES, classpathKind, JDT_UTILS,
+				DocumentFormat.Markdown, new NullProgressMonitor());
+	}
+
+	private static List<String> toString(List<ItemMetadata> properties) {
+		return properties.stream() //
+				.map(p -> p.getName() + "|" + p.getSourceType() + "|" + p.getSourceField() + "|"
+						+ p.getSourceMethod()) //
+				.collect(Collectors.toList());
+	}
+
+	private static List<String> toHintsString(List<ItemHint> hints) {
+		return hints.stream() //
+				.map(h -> h.getName() + "|" + h.getSourceType() + "|" + (h.getValues() != null
+						? h.getValues().stream().map(v -> v.getValue()).collect(Collectors.joining(","))
+						: "")) //
+				.collect(Collectors.toList());
+	}
+}
@@ -14,7 +14,13 @@
 package org.eclipse.lsp4mp.jdt.internal.core;
 
 import java.io.File;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.EnumSet;
+import java.util.HashMap;
 import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
 import java.util.Set;
 
 import org.eclipse.core.resources.IFolder;
@@ -28,6 +34,7 @@ import org.eclipse.jdt.core.IPackageFragment;
 import org.eclipse.jdt.core.IPackageFragmentRoot;
 import org.eclipse.jdt.core.IType;
 import org.eclipse.lsp4mp.commons.MicroProfilePropertiesChangeEvent;
+import org.eclipse.lsp4mp.commons.MicroProfilePropertiesScope;
 import org.eclipse.lsp4mp.jdt.core.IMicroProfilePropertiesChangedListener;
 import org.eclipse.lsp4mp.jdt.core.JavaUtils;
 import org.eclipse.lsp4mp.jdt.core.utils.JDTMicroProfileUtils;
@@ -101,6 +108,31 @@ public class MicroProfilePropertiesListenerManagerTest {
 		cleanWorkinkingDir();
 	}
 
+	@Test
+	public void coalescedEvents() {
+		Map<String, Set<MicroProfilePropertiesScope>> changes = new HashMap<>();
+		// classpath change subsumes sources and config files changes
+		changes.put("project1", EnumSet.of(MicroProfilePropertiesScope.sources,
+				MicroProfilePropertiesScope.dependencies, MicroProfilePropertiesScope.configfiles));
+		changes.put("project2", EnumSet.of(MicroProfilePropertiesScope.sources));
+		changes.put("project3", EnumSet.of(MicroProfilePropertiesScope.sources, MicroProfilePropertiesScope.configfiles));
+
+		List<MicroProfilePropertiesChangeEvent> events = new ArrayList<>(
+				MicroProfilePropertiesListenerManager.createEvents(changes));
+		Assert.assertEquals(3, events.size());
+		assertEvent(events, MicroProfilePropertiesScope.SOURCES_AND_DEPENDENCIES, "project1");
+		assertEvent(events, MicroProfilePropertiesScope.ONLY_SOURCES, "project2", "project3");
+		assertEvent(events, MicroProfilePropertiesScope.ONLY_CONFIG_FILES, "project3");
+	}
+
+	private static void assertEvent(List<MicroProfilePropertiesChangeEvent> events,
+			List<MicroProfilePropertiesScope> expectedType, String... expectedProjectURIs) {
+		MicroProfilePropertiesChangeEvent event = events.stream().filter(e -> expectedType.equals(e.getType()))
+				.findFirst().orElse(null);
+		Assert.assertNotNull(event);
+		Assert.assertEquals(new HashSet<>(Arrays.asList(expectedProjectURIs)), event.getProjectURIs());
+	}
+
 	@Ignore
 	@Test
 	public void classpathChanged() throws Exception {
@@ -0,0 +1,113 @@
+/*******************************************************************************
+* Copyright (c) 2023 Red Hat Inc. and others.
+*
+* This program and the accompanying materials are made available under the
+* terms of the Eclipse Public License v. 2.0 which is available at
+* http://www.eclipse.org/legal/epl-2.0, or the Apache License, Version 2.0
+* which is available at https://www.apache.org/licenses/LICENSE-2.0.
+*
+* SPDX-License-Identifier: EPL-2.0 OR Apache-2.0
+*
+* Contributors:
+*     Red Hat Inc. - initial API and implementation
+*******************************************************************************/
+package org.eclipse.lsp4mp.jdt.internal.core;
+
+import java.io.ByteArrayInputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+
+import org.eclipse.core.resources.IFile;
+import org.eclipse.core.runtime.IPath;
+import org.eclipse.core.runtime.NullProgressMonitor;
+import org.eclipse.core.runtime.Path;
+import org.eclipse.jdt.core.IClasspathEntry;
+import org.eclipse.jdt.core.IJavaProject;
+import org.eclipse.lsp4jdt.core.utils.JDTTypeUtils;
+import org.eclipse.lsp4mp.jdt.core.BasePropertiesManagerTest;
+import org.junit.After;
+import org.junit.Assert;
+import org.junit.Before;
+import org.junit.Test;
+
+/**
+ * Test with {@link TypePresenceCache}.
+ *
+ */
+public class TypePresenceCacheTest extends BasePropertiesManagerTest {
+
+	private static final String NEW_TYPE = "org.acme.config.NewType";
+
+	private static final String NEW_TYPE_FILE = "src/main/java/org/acme/config/NewType.java";
+
+	private static final String GREETING_RESOURCE = "org.acme.config.GreetingResource";
+
+	@Before
+	@After
+	public void clearCache() {
+		TypePresenceCache.getInstance().clear();
+	}
+
+	@Test
+	public void cachedUntilJavaFileAddedOrRemoved() throws Exception {
+		IJavaProject javaProject = loadMavenProject(MicroProfileMavenProjectName.config_quickstart);
+		IFile javaFile = javaProject.getProject().getFile(new Path(NEW_TYPE_FILE));
+		Assert.assertFalse(hasType(javaProject, NEW_TYPE));
+
+		try {
+			// Java file added -> cache cleared
+			javaFile.create(toStream("package org.acme.config;\n\npublic class NewType {\n}\n"), true,
+					new NullProgressMonitor());
+			JobHelpers.waitForJobsToComplete();
+			Assert.assertTrue(hasType(javaProject, NEW_TYPE));
+
+			// Java file content changed -> cache kept, the cached presence is returned
+			javaFile.setContents(toStream("package org.acme.config;\n\npublic class OtherType {\n}\n"), true,
+					false, new NullProgressMonitor());
+			JobHelpers.waitForJobsToComplete();
+			Assert.assertNull(JDTTypeUtils.findType(javaProject, NEW_TYPE));
+			Assert.assertTrue(hasType(javaProject, NEW_TYPE));
+
+			// Java file removed -> cache cleared
+			javaFile.delete(true, new NullProgressMonitor());
+			JobHelpers.waitForJobsToComplete();
+			Assert.assertFalse(hasType(javaProject, NEW_TYPE));
+		} finally {
+			if (javaFile.exists()) {
+				javaFile.delete(true, new NullProgressMonitor());
+			}
+		}
+	}
+
+	@Test
+	public void clearedWhenClasspathChanged() throws Exception {
+		IJavaProject javaProject = loadMavenProject(MicroProfileMavenProjectName.config_quickstart);
+		Assert.assertTrue(hasType(javaProject, GREETING_RESOURCE));
+
+		IClasspathEntry[] classpath = javaProject.getRawClasspath();
+		IPath sourceFolder = javaProject.getProject().getFolder("src/main/java").getFullPath();
+		IClasspathEntry[] classpathWithoutSources = Arrays.stream(classpath) //
+				.filter(entry -> !sourceFolder.equals(entry.getPath())) //
+				.toArray(IClasspathEntry[]::new);
+		Assert.assertNotEquals(classpath.length, classpathWithoutSources.length);
+		try {
+			// Source folder removed from the classpath -> cache cleared
+			javaProject.setRawClasspath(classpathWithoutSources, new NullProgressMonitor());
+			JobHelpers.waitForJobsToComplete();
+			Assert.assertFalse(hasType(javaProject, GREETING_RESOURCE));
+		} finally {
+			javaProject.setRawClasspath(classpath, new NullProgressMonitor());
+			JobHelpers.waitForJobsToComplete();
+		}
+		// Source folder added again -> cache cleared
+		Assert.assertTrue(hasType(javaProject, GREETING_RESOURCE));
+	}
+
+	private static boolean hasType(IJavaProject javaProject, String typeName) {
+		return TypePresenceCache.getInstance().hasType(javaProject, typeName);
+	}
+
+	private static ByteArrayInputStream toStream(String content) {
+		return new ByteArrayInputStream(content.getBytes(StandardCharsets.UTF_8));
+	}
+}
@@ -0,0 +1,115 @@
+/*******************************************************************************
+* Copyright (c) 2023 Red Hat Inc. and others.
+*
+* This program and the accompanying materials are made available under the
+* terms of the Eclipse Public License v. 2.0 which is available at
+* http://www.eclipse.org/legal/epl-2.0, or the Apache License, Version 2.0
+* which is available at https://www.apache.org/licenses/LICENSE-2.0.
+*
+* SPDX-License-Identifier: EPL-2.0 OR Apache-2.0
+*
+* Contributors:
+*     Red Hat Inc. - initial API and implementation
+*******************************************************************************/
+package org.eclipse.lsp4mp.jdt.internal.core.java.validators;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.stream.Collectors;
+
+import org.eclipse.core.resources.IFile;
+import org.eclipse.core.runtime.NullProgressMonitor;
+import org.eclipse.core.runtime.Path;
+import org.eclipse.jdt.core.IJavaProject;
+import org.eclipse.lsp4jdt.commons.DocumentFormat;
+import org.eclipse.lsp4mp.commons.MicroProfileJavaDiagnosticsParams;
+import org.eclipse.lsp4mp.jdt.core.BasePropertiesManagerTest;
+import org.eclipse.lsp4mp.jdt.core.MPNewPropertiesManagerForJava;
+import org.eclipse.lsp4mp.jdt.internal.core.java.validators.annotations.AnnotationAttributeRule;
+import org.eclipse.lsp4mp.jdt.internal.core.java.validators.annotations.AnnotationRule;
+import org.eclipse.lsp4mp.jdt.internal.core.java.validators.annotations.AnnotationValidator;
+import org.junit.Assert;
+import org.junit.Test;
+
+/**
+ * Test with {@link JavaASTValidatorRegistry}.
+ *
+ */
+public class JavaASTValidatorRegistryTest extends BasePropertiesManagerTest {
+
+	private static final String CIRCUIT_BREAKER = "org.eclipse.microprofile.faulttolerance.CircuitBreaker";
+
+	@Test
+	public void ruleByFullyQualifiedName() {
+		JavaASTValidatorRegistry registry = JavaASTValidatorRegistry.getInstance();
+		// load the annotation rules declared with <annotationValidator />
+		registry.getRules();
+
+		AnnotationRule rule = registry.getRule(CIRCUIT_BREAKER);
+		Assert.assertNotNull(rule);
+		Assert.assertEquals("microprofile-faulttolerance", rule.getSource());
+		Assert.assertEquals(Arrays.asList("delay", "requestVolumeThreshold", "failureRatio", "successThreshold"),
+				getAttributes(rule));
+		// the simple name is not a key of the rules by fully qualified name
+		Assert.assertNull(registry.getRule("CircuitBreaker"));
+	}
+
+	@Test
+	public void ruleBySimpleName() {
+		JavaASTValidatorRegistry registry = JavaASTValidatorRegistry.getInstance();
+		registry.getRules();
+
+		List<AnnotationRule> rules = registry.getRulesBySimpleName("CircuitBreaker");
+		Assert.assertEquals(1, rules.size());
+		Assert.assertSame(registry.getRule(CIRCUIT_BREAKER), rules.get(0));
+		Assert.assertTrue(registry.getRulesBySimpleName("Unknown").isEmpty());
+	}
+
+	@Test
+	public void rulesWithSameSimpleName() throws Exception {
+		AnnotationValidator validator = new AnnotationValidator();
+		AnnotationRule retry = createRule("org.eclipse.microprofile.faulttolerance.Retry", "maxRetries");
+		AnnotationRule otherRetry = createRule("org.acme.Retry", "delay");
+		validator.registerRule(retry);
+		validator.registerRule(otherRetry);
+		// merged with the existing rule
+		validator.registerRule(createRule("org.eclipse.microprofile.faulttolerance.Retry", "jitter"));
+
+		Assert.assertSame(retry, validator.getRule("org.eclipse.microprofile.faulttolerance.Retry"));
+		Assert.assertSame(otherRetry, validator.getRule("org.acme.Retry"));
+		Assert.assertEquals(Arrays.asList(retry, otherRetry), validator.getRulesBySimpleName("Retry"));
+		Assert.assertEquals(Arrays.asList("maxRetries", "jitter"), getAttributes(retry));
+	}
+
+	@Test
+	public void validatorInstantiatedPerValidation() throws Exception {
+		IJavaProject javaProject = loadMavenProject(MicroProfileMavenProjectName.config_quickstart);
+		IFile javaFile = javaProject.getProject()
+				.getFile(new Path("src/main/java/org/acme/config/DefaultValueResource.java"));
+		MicroProfileJavaDiagnosticsParams diagnosticsParams = new MicroProfileJavaDiagnosticsParams();
+		diagnosticsParams.setUris(Arrays.asList(javaFile.getLocation().toFile().toURI().toString()));
+		diagnosticsParams.setDocumentFormat(DocumentFormat.Markdown);
+
+		// The validator declared in the plugin.xml of the test bundle is registered
+		// and a new instance is created for each validation
+		int instances = TestJavaASTValidator.getInstancesCount();
+		MPNewPropertiesManagerForJava.getInstance().diagnostics(diagnosticsParams, JDT_UTILS,
+				new NullProgressMonitor());
+		Assert.assertEquals(instances + 1, TestJavaASTValidator.getInstancesCount());
+		MPNewPropertiesManagerForJava.getInstance().diagnostics(diagnosticsParams, JDT_UTILS,
+				new NullProgressMonitor());
+		Assert.assertEquals(instances + 2, TestJavaASTValidator.getInstancesCount());
+	}
+
+	private static AnnotationRule createRule(String annotation, String attribute) {
+		AnnotationRule rule = new AnnotationRule(annotation);
+		rule.addRule(new AnnotationAttributeRule(attribute));
+		return rule;
+	}
+
+	private static List<String> getAttributes(AnnotationRule rule) {
+		return rule.getRules().stream() //
+				.map(AnnotationAttributeRule::getAttribute) //
+				.collect(Collectors.toList());
+	}
+}
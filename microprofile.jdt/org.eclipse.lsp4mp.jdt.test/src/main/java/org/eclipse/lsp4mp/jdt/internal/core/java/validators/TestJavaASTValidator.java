@@ -0,0 +1,49 @@
+/*******************************************************************************
+* Copyright (c) 2023 Red Hat Inc. and others.
+*
+* This program and the accompanying materials are made available under the
+* terms of the Eclipse Public License v. 2.0 which is available at
+* http://www.eclipse.org/legal/epl-2.0, or the Apache License, Version 2.0
+* which is available at https://www.apache.org/licenses/LICENSE-2.0.
+*
+* SPDX-License-Identifier: EPL-2.0 OR Apache-2.0
+*
+* Contributors:
+*     Red Hat Inc. - initial API and implementation
+*******************************************************************************/
+package org.eclipse.lsp4mp.jdt.internal.core.java.validators;
+
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.eclipse.core.runtime.IProgressMonitor;
+import org.eclipse.lsp4jdt.core.java.diagnostics.JavaDiagnosticsContext;
+import org.eclipse.lsp4jdt.core.java.validators.JavaASTValidator;
+
+/**
+ * Test validator declared with {@code <validator class="" />} in the
+ * plugin.xml of the test bundle, which counts its instances and never reports
+ * diagnostics.
+ *
+ */
+public class TestJavaASTValidator extends JavaASTValidator {
+
+	private static final AtomicInteger INSTANCES = new AtomicInteger();
+
+	public TestJavaASTValidator() {
+		INSTANCES.incrementAndGet();
+	}
+
+	@Override
+	public boolean isAdaptedForDiagnostics(JavaDiagnosticsContext context, IProgressMonitor monitor) {
+		return false;
+	}
+
+	/**
+	 * Returns the number of created instances.
+	 *
+	 * @return the number of created instances.
+	 */
+	public static int getInstancesCount() {
+		return INSTANCES.get();
+	}
+}
@@ -0,0 +1,64 @@
+/*******************************************************************************
+* Copyright (c) 2023 Red Hat Inc. and others.
+*
+* This program and the accompanying materials are made available under the
+* terms of the Eclipse Public License v. 2.0 which is available at
+* http://www.eclipse.org/legal/epl-2.0, or the Apache License, Version 2.0
+* which is available at https://www.apache.org/licenses/LICENSE-2.0.
+*
+* SPDX-License-Identifier: EPL-2.0 OR Apache-2.0
+*
+* Contributors:
+*     Red Hat Inc. - initial API and implementation
+*******************************************************************************/
+package org.eclipse.lsp4mp.jdt.internal.core.ls;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+
+import org.eclipse.core.runtime.NullProgressMonitor;
+import org.eclipse.core.runtime.OperationCanceledException;
+import org.junit.Assert;
+import org.junit.Test;
+
+/**
+ * Tests for {@link BatchCommandExecutor}.
+ */
+public class BatchCommandExecutorTest {
+
+	private static final BatchCommandExecutor.ItemProcessor<String, String> PROCESSOR = (item, monitor) -> {
+		if (item.startsWith("fail")) {
+			throw new IllegalStateException("Error with " + item);
+		}
+		return item.toUpperCase();
+	};
+
+	@Test
+	public void resultsInOrder() throws Exception {
+		List<String> results = BatchCommandExecutor.getInstance().execute(Arrays.asList("a", "b", "c", "d", "e"),
+				PROCESSOR, new NullProgressMonitor());
+		Assert.assertEquals(Arrays.asList("A", "B", "C", "D", "E"), results);
+	}
+
+	@Test
+	public void failedItemDoesNotFailTheBatch() throws Exception {
+		List<String> results = BatchCommandExecutor.getInstance().execute(Arrays.asList("a", "fail", "c"),
+				PROCESSOR, new NullProgressMonitor());
+		Assert.assertEquals(Arrays.asList("A", null, "C"), results);
+	}
+
+	@Test
+	public void failedSingleItem() throws Exception {
+		List<String> results = BatchCommandExecutor.getInstance().execute(Collections.singletonList("fail"),
+				PROCESSOR, new NullProgressMonitor());
+		Assert.assertEquals(Collections.singletonList(null), results);
+	}
+
+	@Test(expected = OperationCanceledException.class)
+	public void cancelledBatch() throws Exception {
+		NullProgressMonitor monitor = new NullProgressMonitor();
+		monitor.setCanceled(true);
+		BatchCommandExecutor.getInstance().execute(Arrays.asList("a", "b"), PROCESSOR, monitor);
+	}
+}
@@ -0,0 +1,84 @@
+/*******************************************************************************
+* Copyright (c) 2023 Red Hat Inc. and others.
+*
+* This program and the accompanying materials are made available under the
+* terms of the Eclipse Public License v. 2.0 which is available at
+* http://www.eclipse.org/legal/epl-2.0, or the Apache License, Version 2.0
+* which is available at https://www.apache.org/licenses/LICENSE-2.0.
+*
+* SPDX-License-Identifier: EPL-2.0 OR Apache-2.0
+*
+* Contributors:
+*     Red Hat Inc. - initial API and implementation
+*******************************************************************************/
+package org.eclipse.lsp4mp.jdt.internal.jaxrs.java;
+
+import java.net.ServerSocket;
+
+import org.junit.After;
+import org.junit.Assert;
+import org.junit.Test;
+
+/**
+ * Test with {@link ServerAvailabilityMonitor}.
+ *
+ */
+public class ServerAvailabilityMonitorTest {
+
+	private static final long TIMEOUT = 10000;
+
+	@After
+	public void destroy() {
+		ServerAvailabilityMonitor.getInstance().destroy();
+	}
+
+	@Test
+	public void firstRequestDoesNotWaitForTheCheck() throws Exception {
+		ServerAvailabilityMonitor monitor = ServerAvailabilityMonitor.getInstance();
+		try (ServerSocket server = new ServerSocket(0)) {
+			int port = server.getLocalPort();
+			// the availability is checked in background
+			Assert.assertFalse(monitor.isServerAvailable(port));
+			Assert.assertTrue(waitForAvailability(monitor, port, true));
+		}
+	}
+
+	@Test
+	public void notAvailable() throws Exception {
+		ServerAvailabilityMonitor monitor = ServerAvailabilityMonitor.getInstance();
+		int port;
+		try (ServerSocket server = new ServerSocket(0)) {
+			port = server.getLocalPort();
+		}
+		Assert.assertFalse(monitor.isServerAvailable(port));
+		Thread.sleep(500);
+		Assert.assertFalse(monitor.isServerAvailable(port));
+	}
+
+	@Test
+	public void availabilityIsRefreshed() throws Exception {
+		ServerAvailabilityMonitor monitor = ServerAvailabilityMonitor.getInstance();
+		int port;
+		try (ServerSocket server = new ServerSocket(0)) {
+			port = server.getLocalPort();
+			Assert.assertTrue(waitForAvailability(monitor, port, true));
+		}
+		// The server is stopped, the availability is refreshed in background
+		Assert.assertFalse(waitForAvailability(monitor, port, false));
+	}
+
+	@Test
+	public void defaultRefreshInterval() {
+		Assert.assertEquals(Long.getLong(ServerAvailabilityMonitor.REFRESH_INTERVAL_PROPERTY, 2000),
+				ServerAvailabilityMonitor.getInstance().getRefreshInterval());
+	}
+
+	private static boolean waitForAvailability(ServerAvailabilityMonitor monitor, int port, boolean expected)
+			throws InterruptedException {
+		long start = System.currentTimeMillis();
+		while (monitor.isServerAvailable(port) != expected && System.currentTimeMillis() - start < TIMEOUT) {
+			Thread.sleep(100);
+		}
+		return monitor.isServerAvailable(port);
+	}
+}
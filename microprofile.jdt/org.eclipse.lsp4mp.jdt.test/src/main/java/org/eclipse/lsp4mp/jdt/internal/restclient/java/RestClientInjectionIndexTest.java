@@ -0,0 +1,109 @@
+/*******************************************************************************
+* Copyright (c) 2023 Red Hat Inc. and others.
+*
+* This program and the accompanying materials are made available under the
+* terms of the Eclipse Public License v. 2.0 which is available at
+* http://www.eclipse.org/legal/epl-2.0, or the Apache License, Version 2.0
+* which is available at https://www.apache.org/licenses/LICENSE-2.0.
+*
+* SPDX-License-Identifier: EPL-2.0 OR Apache-2.0
+*
+* Contributors:
+*     Red Hat Inc. - initial API and implementation
+*******************************************************************************/
+package org.eclipse.lsp4mp.jdt.internal.restclient.java;
+
+import java.io.ByteArrayInputStream;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+
+import org.eclipse.core.resources.IFile;
+import org.eclipse.core.runtime.NullProgressMonitor;
+import org.eclipse.core.runtime.Path;
+import org.eclipse.jdt.core.ICompilationUnit;
+import org.eclipse.jdt.core.IJavaProject;
+import org.eclipse.jdt.core.IType;
+import org.eclipse.jdt.core.JavaCore;
+import org.eclipse.lsp4jdt.core.utils.JDTTypeUtils;
+import org.eclipse.lsp4mp.jdt.core.BasePropertiesManagerTest;
+import org.junit.Assert;
+import org.junit.Test;
+
+/**
+ * Test with {@link RestClientInjectionIndex}.
+ *
+ */
+public class RestClientInjectionIndexTest extends BasePropertiesManagerTest {
+
+	private static final String FIELDS_FILE = "src/main/java/org/acme/restclient/Fields.java";
+
+	private static final String INJECTION = "@RestClient\n\tpublic MyService service1, service2;";
+
+	private static final String NO_INJECTION = "public MyService service1, service2;";
+
+	@Test
+	public void injectionsCount() throws Exception {
+		IJavaProject javaProject = loadMavenProject(MicroProfileMavenProjectName.rest_client_quickstart);
+		IType myService = JDTTypeUtils.findType(javaProject, "org.acme.restclient.MyService");
+
+		// 'public MyService service1, service2;' is one reference of MyService
+		Assert.assertEquals(1, getInjectionsCount(myService));
+	}
+
+	@Test
+	public void savedChanges() throws Exception {
+		IJavaProject javaProject = loadMavenProject(MicroProfileMavenProjectName.rest_client_quickstart);
+		IType myService = JDTTypeUtils.findType(javaProject, "org.acme.restclient.MyService");
+		IFile javaFile = javaProject.getProject().getFile(new Path(FIELDS_FILE));
+		String content = getContent(javaFile);
+		Assert.assertEquals(1, getInjectionsCount(myService));
+
+		try {
+			setContent(javaFile, content.replace(INJECTION,
+					INJECTION + "\n\n\t@Inject\n\t@RestClient\n\tpublic MyService service3;"));
+			Assert.assertEquals(2, getInjectionsCount(myService));
+
+			setContent(javaFile, content.replace(INJECTION, NO_INJECTION));
+			Assert.assertEquals(0, getInjectionsCount(myService));
+		} finally {
+			setContent(javaFile, content);
+		}
+		Assert.assertEquals(1, getInjectionsCount(myService));
+	}
+
+	@Test
+	public void unsavedChanges() throws Exception {
+		IJavaProject javaProject = loadMavenProject(MicroProfileMavenProjectName.rest_client_quickstart);
+		IType myService = JDTTypeUtils.findType(javaProject, "org.acme.restclient.MyService");
+		IFile javaFile = javaProject.getProject().getFile(new Path(FIELDS_FILE));
+		String content = getContent(javaFile);
+		Assert.assertEquals(1, getInjectionsCount(myService));
+
+		ICompilationUnit unit = (ICompilationUnit) JavaCore.create(javaFile);
+		unit.becomeWorkingCopy(new NullProgressMonitor());
+		try {
+			// The working copy with unsaved changes is used instead of the index
+			unit.getBuffer().setContents(content.replace(INJECTION, NO_INJECTION));
+			unit.reconcile(ICompilationUnit.NO_AST, false, null, new NullProgressMonitor());
+			Assert.assertEquals(0, getInjectionsCount(myService));
+		} finally {
+			unit.discardWorkingCopy();
+		}
+		Assert.assertEquals(1, getInjectionsCount(myService));
+	}
+
+	private static int getInjectionsCount(IType interfaceType) throws Exception {
+		return RestClientInjectionIndex.getInstance().getInjectionsCount(interfaceType, new NullProgressMonitor());
+	}
+
+	private static String getContent(IFile file) throws Exception {
+		try (InputStream in = file.getContents()) {
+			return new String(in.readAllBytes(), file.getCharset());
+		}
+	}
+
+	private static void setContent(IFile file, String content) throws Exception {
+		file.setContents(new ByteArrayInputStream(content.getBytes(StandardCharsets.UTF_8)), true, false,
+				new NullProgressMonitor());
+	}
+}
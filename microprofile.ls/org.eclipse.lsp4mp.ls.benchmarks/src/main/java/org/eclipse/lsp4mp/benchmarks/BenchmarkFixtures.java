@@ -0,0 +1,85 @@
+/*******************************************************************************
+* Copyright (c) 2023 Red Hat Inc. and others.
+*
+* This program and the accompanying materials are made available under the
+* terms of the Eclipse Public License v. 2.0 which is available at
+* http://www.eclipse.org/legal/epl-2.0, or the Apache License, Version 2.0
+* which is available at https://www.apache.org/licenses/LICENSE-2.0.
+*
+* SPDX-License-Identifier: EPL-2.0 OR Apache-2.0
+*
+* Contributors:
+*     Red Hat Inc. - initial API and implementation
+*******************************************************************************/
+package org.eclipse.lsp4mp.benchmarks;
+
+import java.util.List;
+
+import org.eclipse.lsp4mp.commons.MicroProfileProjectInfo;
+import org.eclipse.lsp4mp.commons.metadata.ItemMetadata;
+import org.eclipse.lsp4mp.services.properties.PropertiesFileAssert;
+
+/**
+ * Fixtures shared by the benchmarks: the all-quarkus project information used
+ * by the tests of the language server and synthetic properties files.
+ *
+ */
+public class BenchmarkFixtures {
+
+	public static final String PROPERTIES_FILE_URI = "application.properties";
+
+	private BenchmarkFixtures() {
+	}
+
+	/**
+	 * Returns the all-quarkus project information.
+	 *
+	 * @return the all-quarkus project information.
+	 */
+	public static MicroProfileProjectInfo getProjectInfo() {
+		return PropertiesFileAssert.getDefaultMicroProfileProjectInfo();
+	}
+
+	/**
+	 * Returns the content of a synthetic properties file with the given number of
+	 * lines.
+	 *
+	 * <p>
+	 * The file mixes comments, properties of the all-quarkus project (prefixed
+	 * with a profile to keep the keys unique), unknown properties and property
+	 * expressions which reference the previous unknown properties.
+	 * </p>
+	 *
+	 * @param lines       the number of lines.
+	 * @param projectInfo the project information which provides the known
+	 *                    properties.
+	 * @return the content of a synthetic properties file with the given number of
+	 *         lines.
+	 */
+	public static String createPropertiesFile(int lines, MicroProfileProjectInfo projectInfo) {
+		List<ItemMetadata> properties = projectInfo.getProperties();
+		StringBuilder content = new StringBuilder(lines * 40);
+		for (int i = 0; i < lines; i++) {
+			switch (i % 10) {
+			case 0:
+				content.append("# Section ").append(i / 10);
+				break;
+			case 1:
+				content.append("app.property.").append(i).append("=value").append(i);
+				break;
+			case 2:
+				content.append("app.expression.").append(i).append("=${app.property.").append(i - 1)
+						.append("}/${app.undefined.").append(i).append(":default}");
+				break;
+			default:
+				ItemMetadata property = properties.get(i % properties.size());
+				content.append("%p").append(i / properties.size()).append('.').append(property.getName())
+						.append("=");
+				String defaultValue = property.getDefaultValue();
+				content.append(defaultValue != null ? defaultValue : "value" + i);
+			}
+			content.append('\n');
+		}
+		return content.toString();
+	}
+}
@@ -0,0 +1,91 @@
+/*******************************************************************************
+* Copyright (c) 2023 Red Hat Inc. and others.
+*
+* This program and the accompanying materials are made available under the
+* terms of the Eclipse Public License v. 2.0 which is available at
+* http://www.eclipse.org/legal/epl-2.0, or the Apache License, Version 2.0
+* which is available at https://www.apache.org/licenses/LICENSE-2.0.
+*
+* SPDX-License-Identifier: EPL-2.0 OR Apache-2.0
+*
+* Contributors:
+*     Red Hat Inc. - initial API and implementation
+*******************************************************************************/
+package org.eclipse.lsp4mp.benchmarks;
+
+import java.util.concurrent.TimeUnit;
+
+import org.eclipse.lsp4j.CompletionCapabilities;
+import org.eclipse.lsp4j.CompletionItemCapabilities;
+import org.eclipse.lsp4j.CompletionList;
+import org.eclipse.lsp4j.Position;
+import org.eclipse.lsp4mp.commons.MicroProfileProjectInfo;
+import org.eclipse.lsp4mp.ls.commons.BadLocationException;
+import org.eclipse.lsp4mp.model.PropertiesModel;
+import org.eclipse.lsp4mp.services.properties.PropertiesFileLanguageService;
+import org.eclipse.lsp4mp.settings.MicroProfileCompletionCapabilities;
+import org.eclipse.lsp4mp.settings.MicroProfileFormattingSettings;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+/**
+ * Benchmark of the property key completion in the middle of a properties file.
+ *
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+public class PropertiesFileCompletionsBenchmark {
+
+	private static final String COMPLETION_LINE = "quarkus.http.";
+
+	@Param({ "1000", "10000", "50000" })
+	private int lines;
+
+	private PropertiesFileLanguageService languageService;
+
+	private MicroProfileProjectInfo projectInfo;
+
+	private MicroProfileCompletionCapabilities completionCapabilities;
+
+	private MicroProfileFormattingSettings formattingSettings;
+
+	private PropertiesModel model;
+
+	private Position position;
+
+	@Setup
+	public void setup() {
+		languageService = new PropertiesFileLanguageService();
+		projectInfo = BenchmarkFixtures.getProjectInfo();
+		completionCapabilities = new MicroProfileCompletionCapabilities();
+		CompletionItemCapabilities completionItemCapabilities = new CompletionItemCapabilities();
+		completionItemCapabilities.setSnippetSupport(true);
+		completionCapabilities.setCapabilities(new CompletionCapabilities(completionItemCapabilities));
+		formattingSettings = new MicroProfileFormattingSettings();
+
+		// insert the line to complete in the middle of the file
+		String content = BenchmarkFixtures.createPropertiesFile(lines, projectInfo);
+		int middle = content.indexOf('\n', content.length() / 2) + 1;
+		content = content.substring(0, middle) + COMPLETION_LINE + "\n" + content.substring(middle);
+		model = PropertiesModel.parse(content, BenchmarkFixtures.PROPERTIES_FILE_URI);
+		try {
+			position = model.positionAt(middle + COMPLETION_LINE.length());
+		} catch (BadLocationException e) {
+			throw new IllegalStateException(e);
+		}
+	}
+
+	@Benchmark
+	public CompletionList doComplete() {
+		return languageService.doComplete(model, position, projectInfo, completionCapabilities, formattingSettings,
+				() -> {
+				});
+	}
+}
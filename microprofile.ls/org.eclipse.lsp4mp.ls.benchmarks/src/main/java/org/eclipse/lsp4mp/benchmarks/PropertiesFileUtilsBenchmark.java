@@ -0,0 +1,65 @@
+/*******************************************************************************
+* Copyright (c) 2023 Red Hat Inc. and others.
+*
+* This program and the accompanying materials are made available under the
+* terms of the Eclipse Public License v. 2.0 which is available at
+* http://www.eclipse.org/legal/epl-2.0, or the Apache License, Version 2.0
+* which is available at https://www.apache.org/licenses/LICENSE-2.0.
+*
+* SPDX-License-Identifier: EPL-2.0 OR Apache-2.0
+*
+* Contributors:
+*     Red Hat Inc. - initial API and implementation
+*******************************************************************************/
+package org.eclipse.lsp4mp.benchmarks;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.eclipse.lsp4mp.commons.MicroProfileProjectInfo;
+import org.eclipse.lsp4mp.commons.metadata.ItemMetadata;
+import org.eclipse.lsp4mp.utils.PropertiesFileUtils;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.infra.Blackhole;
+
+/**
+ * Benchmark of the lookup of the metadata of a property with
+ * {@link PropertiesFileUtils#getProperty(String, MicroProfileProjectInfo)}.
+ *
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+public class PropertiesFileUtilsBenchmark {
+
+	private MicroProfileProjectInfo projectInfo;
+
+	private List<String> propertyNames;
+
+	@Setup
+	public void setup() {
+		projectInfo = BenchmarkFixtures.getProjectInfo();
+		propertyNames = new ArrayList<>();
+		for (ItemMetadata property : projectInfo.getProperties()) {
+			String name = property.getName();
+			// replace the map key placeholder with a key
+			propertyNames.add(name.replace("{*}", "key").replace("[*]", "[0]"));
+			// unknown property
+			propertyNames.add(name + ".unknown");
+		}
+	}
+
+	@Benchmark
+	public void getProperty(Blackhole blackhole) {
+		for (String propertyName : propertyNames) {
+			blackhole.consume(PropertiesFileUtils.getProperty(propertyName, projectInfo));
+		}
+	}
+}
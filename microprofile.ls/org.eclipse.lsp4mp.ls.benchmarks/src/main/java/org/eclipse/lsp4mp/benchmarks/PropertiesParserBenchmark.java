@@ -0,0 +1,51 @@
+/*******************************************************************************
+* Copyright (c) 2023 Red Hat Inc. and others.
+*
+* This program and the accompanying materials are made available under the
+* terms of the Eclipse Public License v. 2.0 which is available at
+* http://www.eclipse.org/legal/epl-2.0, or the Apache License, Version 2.0
+* which is available at https://www.apache.org/licenses/LICENSE-2.0.
+*
+* SPDX-License-Identifier: EPL-2.0 OR Apache-2.0
+*
+* Contributors:
+*     Red Hat Inc. - initial API and implementation
+*******************************************************************************/
+package org.eclipse.lsp4mp.benchmarks;
+
+import java.util.concurrent.TimeUnit;
+
+import org.eclipse.lsp4mp.model.PropertiesModel;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+/**
+ * Benchmark of the parsing of a properties file.
+ *
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+public class PropertiesParserBenchmark {
+
+	@Param({ "1000", "10000", "50000" })
+	private int lines;
+
+	private String content;
+
+	@Setup
+	public void setup() {
+		content = BenchmarkFixtures.createPropertiesFile(lines, BenchmarkFixtures.getProjectInfo());
+	}
+
+	@Benchmark
+	public PropertiesModel parse() {
+		return PropertiesModel.parse(content, BenchmarkFixtures.PROPERTIES_FILE_URI);
+	}
+}
@@ -0,0 +1,74 @@
+/*******************************************************************************
+* Copyright (c) 2023 Red Hat Inc. and others.
+*
+* This program and the accompanying materials are made available under the
+* terms of the Eclipse Public License v. 2.0 which is available at
+* http://www.eclipse.org/legal/epl-2.0, or the Apache License, Version 2.0
+* which is available at https://www.apache.org/licenses/LICENSE-2.0.
+*
+* SPDX-License-Identifier: EPL-2.0 OR Apache-2.0
+*
+* Contributors:
+*     Red Hat Inc. - initial API and implementation
+*******************************************************************************/
+package org.eclipse.lsp4mp.benchmarks;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.eclipse.lsp4mp.commons.utils.PropertyValueExpander;
+import org.eclipse.lsp4mp.model.PropertiesModel;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.infra.Blackhole;
+
+/**
+ * Benchmark of the resolution of property expressions with
+ * {@link PropertyValueExpander}, as it is done for the completion, hover and
+ * inlay hint requests.
+ *
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+public class PropertyValueExpanderBenchmark {
+
+	private static final int RESOLVED_KEYS = 100;
+
+	@Param({ "1000", "10000", "50000" })
+	private int lines;
+
+	private PropertiesModel model;
+
+	private List<String> keys;
+
+	@Setup
+	public void setup() {
+		model = PropertiesModel.parse(
+				BenchmarkFixtures.createPropertiesFile(lines, BenchmarkFixtures.getProjectInfo()),
+				BenchmarkFixtures.PROPERTIES_FILE_URI);
+		// resolve the expressions spread over the whole file
+		keys = new ArrayList<>();
+		// (see BenchmarkFixtures#createPropertiesFile, an expression is declared
+		// every 10 lines)
+		int step = Math.max(1, lines / 10 / RESOLVED_KEYS);
+		for (int i = 0; i * 10 + 2 < lines && keys.size() < RESOLVED_KEYS; i += step) {
+			keys.add("app.expression." + (i * 10 + 2));
+		}
+	}
+
+	@Benchmark
+	public void getValue(Blackhole blackhole) {
+		PropertyValueExpander expander = new PropertyValueExpander(model);
+		for (String key : keys) {
+			blackhole.consume(expander.getValue(key));
+		}
+	}
+}
@@ -0,0 +1,71 @@
+/*******************************************************************************
+* Copyright (c) 2023 Red Hat Inc. and others.
+*
+* This program and the accompanying materials are made available under the
+* terms of the Eclipse Public License v. 2.0 which is available at
+* http://www.eclipse.org/legal/epl-2.0, or the Apache License, Version 2.0
+* which is available at https://www.apache.org/licenses/LICENSE-2.0.
+*
+* SPDX-License-Identifier: EPL-2.0 OR Apache-2.0
+*
+* Contributors:
+*     Red Hat Inc. - initial API and implementation
+*******************************************************************************/
+package org.eclipse.lsp4mp.commons;
+
+import java.util.List;
+
+/**
+ * MicroProfile Java batch parameters used to retrieve in one request the
+ * information (file information, project labels) of several Java files.
+ */
+public class MicroProfileJavaBatchParams {
+
+	private List<String> uris;
+
+	private List<String> types;
+
+	public MicroProfileJavaBatchParams() {
+	}
+
+	public MicroProfileJavaBatchParams(List<String> uris) {
+		this.uris = uris;
+	}
+
+	/**
+	 * Returns the Java file URIs.
+	 *
+	 * @return the Java file URIs.
+	 */
+	public List<String> getUris() {
+		return uris;
+	}
+
+	/**
+	 * Set the Java file URIs.
+	 *
+	 * @param uris the Java file URIs.
+	 */
+	public void setUris(List<String> uris) {
+		this.uris = uris;
+	}
+
+	/**
+	 * Returns the Java types list to check for the project labels.
+	 *
+	 * @return the Java types list to check for the project labels.
+	 */
+	public List<String> getTypes() {
+		return types;
+	}
+
+	/**
+	 * Set the Java types list to check for the project labels.
+	 *
+	 * @param types the Java types list to check for the project labels.
+	 */
+	public void setTypes(List<String> types) {
+		this.types = types;
+	}
+
+}
@@ -30,7 +30,9 @@ public class JSONUtility {
 	private JSONUtility() {
 	}
 
-	private static final Gson LSP4J_GSON = new MessageJsonHandler(new HashMap<>()).getGson();
+	// the strings of the properties and hints (ex : stored on the disk) are shared
+	private static final Gson LSP4J_GSON = new MessageJsonHandler(new HashMap<>(),
+			builder -> builder.registerTypeAdapterFactory(new MetadataTypeAdapterFactory())).getGson();
 
 	private static final Gson EITHER_GSON = new GsonBuilder() //
 			.registerTypeAdapterFactory(new EitherTypeAdapter.Factory()).create();
@@ -0,0 +1,112 @@
+/*******************************************************************************
+* Copyright (c) 2023 Red Hat Inc. and others.
+*
+* This program and the accompanying materials are made available under the
+* terms of the Eclipse Public License v. 2.0 which is available at
+* http://www.eclipse.org/legal/epl-2.0, or the Apache License, Version 2.0
+* which is available at https://www.apache.org/licenses/LICENSE-2.0.
+*
+* SPDX-License-Identifier: EPL-2.0 OR Apache-2.0
+*
+* Contributors:
+*     Red Hat Inc. - initial API and implementation
+*******************************************************************************/
+package org.eclipse.lsp4mp.commons.utils;
+
+import java.io.IOException;
+
+import org.eclipse.lsp4mp.commons.metadata.ItemBase;
+import org.eclipse.lsp4mp.commons.metadata.ItemMetadata;
+import org.eclipse.lsp4mp.commons.metadata.ValueHint;
+
+import com.google.common.collect.Interner;
+import com.google.common.collect.Interners;
+import com.google.gson.Gson;
+import com.google.gson.TypeAdapter;
+import com.google.gson.TypeAdapterFactory;
+import com.google.gson.reflect.TypeToken;
+import com.google.gson.stream.JsonReader;
+import com.google.gson.stream.JsonWriter;
+
+/**
+ * Gson type adapter factory which deserializes the properties and hints
+ * ({@link ItemMetadata}, {@link org.eclipse.lsp4mp.commons.metadata.ItemHint},
+ * {@link ValueHint}) by sharing the strings which are repeated across the
+ * properties and the projects (type, source type, extension name, description,
+ * etc) with a weak {@link Interner}.
+ *
+ * <p>
+ * The property names are not shared since they are unique in a project. The
+ * interner references the strings weakly, a string which is no longer used (ex
+ * : by an evicted project information) is garbage collected.
+ * </p>
+ *
+ */
+public class MetadataTypeAdapterFactory implements TypeAdapterFactory {
+
+	private static final Interner<String> STRINGS = Interners.newWeakInterner();
+
+	private final Interner<String> strings;
+
+	public MetadataTypeAdapterFactory() {
+		this(STRINGS);
+	}
+
+	public MetadataTypeAdapterFactory(Interner<String> strings) {
+		this.strings = strings;
+	}
+
+	@Override
+	public <T> TypeAdapter<T> create(Gson gson, TypeToken<T> type) {
+		Class<? super T> rawType = type.getRawType();
+		if (!ItemBase.class.isAssignableFrom(rawType) && !ValueHint.class.isAssignableFrom(rawType)) {
+			return null;
+		}
+		TypeAdapter<T> delegate = gson.getDelegateAdapter(this, type);
+		return new TypeAdapter<T>() {
+
+			@Override
+			public void write(JsonWriter out, T value) throws IOException {
+				delegate.write(out, value);
+			}
+
+			@Override
+			public T read(JsonReader in) throws IOException {
+				T value = delegate.read(in);
+				if (value instanceof ItemBase) {
+					intern((ItemBase) value);
+				} else if (value instanceof ValueHint) {
+					intern((ValueHint) value);
+				}
+				return value;
+			}
+		};
+	}
+
+	private void intern(ItemBase item) {
+		item.setDescription(intern(item.getDescription()));
+		item.setSourceType(intern(item.getSourceType()));
+		item.setOrigin(intern(item.getOrigin()));
+		if (item instanceof ItemMetadata) {
+			ItemMetadata metadata = (ItemMetadata) item;
+			metadata.setType(intern(metadata.getType()));
+			metadata.setSourceField(intern(metadata.getSourceField()));
+			metadata.setSourceMethod(intern(metadata.getSourceMethod()));
+			metadata.setExtensionName(intern(metadata.getExtensionName()));
+			metadata.setDefaultValue(intern(metadata.getDefaultValue()));
+		}
+	}
+
+	private void intern(ValueHint value) {
+		value.setValue(intern(value.getValue()));
+		value.setDescription(intern(value.getDescription()));
+		value.setSourceType(intern(value.getSourceType()));
+	}
+
+	private String intern(String value) {
+		if (value == null || value.isEmpty()) {
+			return value;
+		}
+		return strings.intern(value);
+	}
+}
@@ -15,12 +15,12 @@ package org.eclipse.lsp4mp.commons.utils;
 
 import java.text.MessageFormat;
 import java.util.ArrayList;
-import java.util.HashMap;
+import java.util.Collection;
 import java.util.HashSet;
 import java.util.List;
 import java.util.Map;
-import java.util.Optional;
 import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.logging.Logger;
 
 import com.google.common.graph.EndpointPair;
@@ -40,6 +40,13 @@ import io.smallrye.common.expression.Expression.Flag;
  * Checks for cycles before attempting expansion, and mitigates OOM due to
  * Billion Laughs by counting the number of variable references.
  *
+ * The resolved values are memoized, so an expander can be shared by all the
+ * requests (hover, inlay hint, etc) which work with the same version of the
+ * properties. When some properties change, {@link #update} creates the
+ * expander of the new version of the properties which reuses the dependency
+ * graph and the resolved values of the properties which are not impacted by
+ * the change.
+ *
  * @author datho7561
  */
 public class PropertyValueExpander {
@@ -52,9 +59,43 @@ public class PropertyValueExpander {
 	private final Map<String, ResolvedPropertyValueInformation> resolved;
 
 	public PropertyValueExpander(IConfigSourcePropertiesProvider properties) {
+		this(properties, new PropertyGraph(properties), new ConcurrentHashMap<>());
+	}
+
+	private PropertyValueExpander(IConfigSourcePropertiesProvider properties, PropertyGraph propertyGraph,
+			Map<String, ResolvedPropertyValueInformation> resolved) {
 		this.properties = properties;
-		this.propertyGraph = new PropertyGraph(properties);
-		this.resolved = new HashMap<>();
+		this.propertyGraph = propertyGraph;
+		this.resolved = resolved;
+	}
+
+	/**
+	 * Returns a new expander for the given properties which are the properties of
+	 * this expander where only the given keys have been added, removed or have a
+	 * new value.
+	 *
+	 * <p>
+	 * Only the dependencies of the given keys are computed again and only the
+	 * resolved values of the given keys and of the keys which depend on them are
+	 * forgotten. This expander is not modified.
+	 * </p>
+	 *
+	 * @param properties  the new properties.
+	 * @param changedKeys the keys which have been added, removed or have a new
+	 *                    value.
+	 * @return a new expander for the given properties.
+	 */
+	public PropertyValueExpander update(IConfigSourcePropertiesProvider properties, Collection<String> changedKeys) {
+		PropertyGraph newGraph = propertyGraph.update(properties, changedKeys);
+		Map<String, ResolvedPropertyValueInformation> newResolved = new ConcurrentHashMap<>(resolved);
+		if (!newResolved.isEmpty()) {
+			// the unchanged keys have the same dependencies in the two graphs, so the keys
+			// which depend on a changed key can be collected with the new graph
+			for (String key : newGraph.getDependentProperties(changedKeys)) {
+				newResolved.remove(key);
+			}
+		}
+		return new PropertyValueExpander(properties, newGraph, newResolved);
 	}
 
 	/**
@@ -135,40 +176,73 @@ public class PropertyValueExpander {
 
 	}
 
+	/**
+	 * Dependency graph of the properties: there is an edge from a key to each key
+	 * referenced in its value, even if the referenced key is not declared, to be
+	 * able to update the graph when the referenced key is declared later.
+	 */
 	private static class PropertyGraph {
 
-		private Graph<String> graph;
-		private Optional<Boolean> acyclic;
+		private final IConfigSourcePropertiesProvider properties;
+		private final Graph<String> graph;
+		private volatile Boolean acyclic;
 
 		PropertyGraph(IConfigSourcePropertiesProvider properties) {
+			this(properties, createGraph(properties));
+		}
+
+		private PropertyGraph(IConfigSourcePropertiesProvider properties, Graph<String> graph) {
+			this.properties = properties;
+			this.graph = graph;
+		}
+
+		private static Graph<String> createGraph(IConfigSourcePropertiesProvider properties) {
 			MutableGraph<String> graph = GraphBuilder.directed().allowsSelfLoops(true).build();
-			acyclic = Optional.empty();
-			// add vertices
 			for (String key : properties.keys()) {
-				graph.addNode((String) key);
+				graph.addNode(key);
+				addReferences(graph, key, properties.getValue(key));
 			}
-			// add edges
-			for (String key : properties.keys()) {
-				String unresolvedValue = properties.getValue(key);
-				if (StringUtils.hasText(unresolvedValue) && unresolvedValue.contains("${")) {
-					Expression expr = Expression.compile(unresolvedValue, Flag.LENIENT_SYNTAX);
-					expr.evaluate((resolver, builder) -> {
-						if (graph.nodes().contains(resolver.getKey())) {
-							graph.putEdge((String) key, resolver.getKey());
+			return graph;
+		}
+
+		private static void addReferences(MutableGraph<String> graph, String key, String unresolvedValue) {
+			if (StringUtils.hasText(unresolvedValue) && unresolvedValue.contains("${")) {
+				Expression expr = Expression.compile(unresolvedValue, Flag.LENIENT_SYNTAX);
+				expr.evaluate((resolver, builder) -> {
+					graph.putEdge(key, resolver.getKey());
+					resolver.expandDefault();
+				});
+			}
+		}
+
+		PropertyGraph update(IConfigSourcePropertiesProvider newProperties, Collection<String> changedKeys) {
+			MutableGraph<String> newGraph = Graphs.copyOf(graph);
+			for (String key : changedKeys) {
+				if (newGraph.nodes().contains(key)) {
+					for (String referenced : new ArrayList<>(newGraph.successors(key))) {
+						newGraph.removeEdge(key, referenced);
+						if (!newProperties.hasKey(referenced) && newGraph.degree(referenced) == 0) {
+							newGraph.removeNode(referenced);
 						}
-						resolver.expandDefault();
-					});
+					}
+				}
+				if (newProperties.hasKey(key)) {
+					newGraph.addNode(key);
+					addReferences(newGraph, key, newProperties.getValue(key));
+				} else if (newGraph.nodes().contains(key) && newGraph.inDegree(key) == 0) {
+					newGraph.removeNode(key);
 				}
 			}
-
-			this.graph = graph;
+			return new PropertyGraph(newProperties, newGraph);
 		}
 
 		boolean isAcyclic() {
-			if (!acyclic.isPresent()) {
-				acyclic = Optional.of(!Graphs.hasCycle(graph));
+			Boolean result = acyclic;
+			if (result == null) {
+				result = !Graphs.hasCycle(graph);
+				acyclic = result;
 			}
-			return acyclic.get();
+			return result;
 		}
 
 		public List<String> getIndependentProperties(String property) {
@@ -179,13 +253,37 @@ public class PropertyValueExpander {
 				reachable.add(reached);
 			}
 			for (String node : graph.nodes()) {
-				if (!reachable.contains(node)) {
+				if (!reachable.contains(node) && properties.hasKey(node)) {
 					unreachable.add(node);
 				}
 			}
 			return unreachable;
 		}
 
+		/**
+		 * Returns the given keys and the keys which depend (directly or indirectly) on
+		 * them.
+		 *
+		 * @param keys the keys.
+		 * @return the given keys and the keys which depend (directly or indirectly) on
+		 *         them.
+		 */
+		Set<String> getDependentProperties(Collection<String> keys) {
+			Set<String> dependents = new HashSet<>(keys);
+			List<String> startNodes = new ArrayList<>(keys.size());
+			for (String key : keys) {
+				if (graph.nodes().contains(key)) {
+					startNodes.add(key);
+				}
+			}
+			if (!startNodes.isEmpty()) {
+				for (String dependent : Traverser.forGraph(graph::predecessors).breadthFirst(startNodes)) {
+					dependents.add(dependent);
+				}
+			}
+			return dependents;
+		}
+
 		private Graph<String> getReversed() {
 			MutableGraph<String> mutableReversed = GraphBuilder.directed().allowsSelfLoops(true).build();
 			for (String node : graph.nodes()) {
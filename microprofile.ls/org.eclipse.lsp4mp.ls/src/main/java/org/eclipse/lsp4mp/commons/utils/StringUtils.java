@@ -50,6 +50,23 @@ public class StringUtils {
 		return (!isEmpty(str) && containsText(str));
 	}
 
+	/**
+	 * Check whether the given {@code CharSequence} contains actual <em>text</em>.
+	 * <p>
+	 * More specifically, this method returns {@code true} if the
+	 * {@code CharSequence} is not {@code null}, its length is greater than 0, and
+	 * it contains at least one non-whitespace character.
+	 * 
+	 * @param str the {@code CharSequence} to check (may be {@code null})
+	 * @return {@code true} if the {@code CharSequence} is not {@code null}, its
+	 *         length is greater than 0, and it does not contain whitespace only
+	 * @see #hasText(String)
+	 * @see Character#isWhitespace
+	 */
+	public static boolean hasText(CharSequence str) {
+		return (str != null && str.length() > 0 && containsText(str));
+	}
+
 	public static boolean isEmpty(String value) {
 		return value == null || value.isEmpty();
 	}
@@ -13,28 +13,49 @@
 *******************************************************************************/
 package org.eclipse.lsp4mp.extensions;
 
+import java.util.AbstractList;
 import java.util.ArrayList;
+import java.util.Collections;
 import java.util.List;
 import java.util.Objects;
+import java.util.RandomAccess;
 import java.util.ServiceLoader;
-import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.atomic.AtomicReference;
 import java.util.function.Function;
 import java.util.stream.Collectors;
 
 import org.eclipse.lsp4j.jsonrpc.CancelChecker;
 import org.eclipse.lsp4mp.commons.MicroProfileProjectInfo;
+import org.eclipse.lsp4mp.commons.metadata.ConfigurationMetadata;
 import org.eclipse.lsp4mp.commons.metadata.ItemBase;
 import org.eclipse.lsp4mp.commons.metadata.ItemHint;
 import org.eclipse.lsp4mp.commons.metadata.ItemMetadata;
 import org.eclipse.lsp4mp.commons.metadata.ValueHint;
 import org.eclipse.lsp4mp.model.PropertiesModel;
+import org.eclipse.lsp4mp.utils.ItemMetadataIndex;
 
 /**
  * Extended MicroProfile Project Information.
  *
+ * <p>
+ * The properties and hints collected from the classpath and the Java sources
+ * of a project can be shared by all properties files of the project: a
+ * {@link #createProjectInfo(MicroProfileProjectInfo) project information} holds
+ * them and each properties file uses a {@link #createView() view} of this
+ * project information. A view shares the snapshot of the project information
+ * and has its own snapshot only when custom properties (computed from the
+ * content of the properties file) are added.
+ * </p>
+ *
  */
 public class ExtendedMicroProfileProjectInfo extends MicroProfileProjectInfo {
 
+	// approximate size (in bytes) of a property / hint with its index entry
+	private static final int ITEM_SIZE = 96;
+
+	// approximate size (in bytes) of a hint value
+	private static final int VALUE_SIZE = 32;
+
 	/**
 	 * Computed metadata build from dynamic properties and a given hint value.
 	 *
@@ -65,46 +86,337 @@ public class ExtendedMicroProfileProjectInfo extends MicroProfileProjectInfo {
 		}
 	}
 
-	private boolean reloadFromSource;
+	/**
+	 * Immutable list of the shared properties followed by the custom properties,
+	 * which doesn't copy the shared properties.
+	 *
+	 */
+	private static class PropertiesList extends AbstractList<ItemMetadata> implements RandomAccess {
+
+		private final List<ItemMetadata> sharedProperties;
 
-	private List<ItemMetadata> dynamicProperties;
+		private final List<ItemMetadata> customProperties;
 
-	private final Function<String, ItemHint> getHint = hint -> getHint(hint);
+		public PropertiesList(List<ItemMetadata> sharedProperties, List<ItemMetadata> customProperties) {
+			this.sharedProperties = sharedProperties;
+			this.customProperties = customProperties;
+		}
+
+		@Override
+		public ItemMetadata get(int index) {
+			int sharedSize = sharedProperties.size();
+			return index < sharedSize ? sharedProperties.get(index) : customProperties.get(index - sharedSize);
+		}
+
+		@Override
+		public int size() {
+			return sharedProperties.size() + customProperties.size();
+		}
+	}
 
-	private final List<ItemMetadataProvider> providers;
+	/**
+	 * Immutable snapshot of the properties and hints of the project.
+	 *
+	 * <p>
+	 * The properties of a snapshot are the shared properties (coming from the
+	 * classpath and the Java sources) followed by the custom properties (computed
+	 * by the {@link ItemMetadataProvider}). An update of the custom properties
+	 * shares the shared properties and their index with the previous snapshot.
+	 * </p>
+	 *
+	 */
+	private static class ProjectInfoSnapshot extends ConfigurationMetadata {
+
+		private final List<ItemMetadata> sharedProperties;
+
+		private final List<ItemMetadata> customProperties;
+
+		private final List<ItemMetadata> dynamicProperties;
+
+		private final int version;
+
+		// shared by the snapshots which have the same shared properties
+		private final AtomicReference<ItemMetadataIndex> sharedPropertiesIndex;
+
+		// shared by the snapshots which have the same properties
+		private final AtomicReference<ItemMetadataIndex> propertiesIndex;
+
+		public ProjectInfoSnapshot(List<ItemMetadata> properties, List<ItemMetadata> dynamicProperties,
+				List<ItemHint> hints, int version) {
+			this(Collections.unmodifiableList(new ArrayList<>(properties)), new AtomicReference<>(),
+					Collections.emptyList(), Collections.unmodifiableList(new ArrayList<>(dynamicProperties)),
+					Collections.unmodifiableList(new ArrayList<>(hints)), version);
+		}
 
-	private boolean updating;
+		private ProjectInfoSnapshot(List<ItemMetadata> sharedProperties,
+				AtomicReference<ItemMetadataIndex> sharedPropertiesIndex, List<ItemMetadata> customProperties,
+				List<ItemMetadata> dynamicProperties, List<ItemHint> hints, int version) {
+			super.setProperties(customProperties.isEmpty() ? sharedProperties
+					: new PropertiesList(sharedProperties, customProperties));
+			super.setHints(hints);
+			this.sharedProperties = sharedProperties;
+			this.sharedPropertiesIndex = sharedPropertiesIndex;
+			this.customProperties = customProperties;
+			this.dynamicProperties = dynamicProperties;
+			this.version = version;
+			this.propertiesIndex = customProperties.isEmpty() ? sharedPropertiesIndex : new AtomicReference<>();
+		}
+
+		private ProjectInfoSnapshot(ProjectInfoSnapshot properties, List<ItemHint> hints) {
+			// the properties are immutable, they are shared with the given snapshot
+			super.setProperties(properties.getProperties());
+			super.setHints(Collections.unmodifiableList(new ArrayList<>(hints)));
+			this.sharedProperties = properties.sharedProperties;
+			this.sharedPropertiesIndex = properties.sharedPropertiesIndex;
+			this.customProperties = properties.customProperties;
+			this.dynamicProperties = properties.dynamicProperties;
+			this.version = properties.version + 1;
+			this.propertiesIndex = properties.propertiesIndex;
+		}
+
+		/**
+		 * Returns a snapshot with the given shared properties and the custom
+		 * properties of this snapshot.
+		 */
+		public ProjectInfoSnapshot withProperties(List<ItemMetadata> properties,
+				List<ItemMetadata> dynamicProperties) {
+			return new ProjectInfoSnapshot(Collections.unmodifiableList(new ArrayList<>(properties)),
+					new AtomicReference<>(), customProperties,
+					Collections.unmodifiableList(new ArrayList<>(dynamicProperties)), getHints(), version + 1);
+		}
+
+		/**
+		 * Returns a snapshot with the shared properties of this snapshot and the given
+		 * custom properties.
+		 */
+		public ProjectInfoSnapshot withCustomProperties(List<ItemMetadata> customProperties) {
+			return new ProjectInfoSnapshot(sharedProperties, sharedPropertiesIndex,
+					Collections.unmodifiableList(new ArrayList<>(customProperties)), dynamicProperties, getHints(),
+					version + 1);
+		}
+
+		public ProjectInfoSnapshot withHints(List<ItemHint> hints) {
+			return new ProjectInfoSnapshot(this, hints);
+		}
+
+		public List<ItemMetadata> getSharedProperties() {
+			return sharedProperties;
+		}
+
+		public List<ItemMetadata> getCustomProperties() {
+			return customProperties;
+		}
+
+		public List<ItemMetadata> getDynamicProperties() {
+			return dynamicProperties;
+		}
+
+		public ItemMetadataIndex getPropertiesIndex() {
+			ItemMetadataIndex index = propertiesIndex.get();
+			if (index == null) {
+				if (customProperties.isEmpty()) {
+					index = new ItemMetadataIndex(sharedProperties, version);
+				} else {
+					// only the custom properties are indexed, the index of the shared properties
+					// is reused
+					index = new ItemMetadataIndex(getSharedPropertiesIndex(), customProperties, version);
+				}
+				if (!propertiesIndex.compareAndSet(null, index)) {
+					index = propertiesIndex.get();
+				}
+			}
+			return index;
+		}
+
+		private ItemMetadataIndex getSharedPropertiesIndex() {
+			ItemMetadataIndex index = sharedPropertiesIndex.get();
+			if (index == null) {
+				index = new ItemMetadataIndex(sharedProperties, version);
+				if (!sharedPropertiesIndex.compareAndSet(null, index)) {
+					index = sharedPropertiesIndex.get();
+				}
+			}
+			return index;
+		}
+	}
+
+	private volatile boolean reloadFromSource;
+
+	private volatile int sourcesVersion;
+
+	private volatile boolean stale;
+
+	// transient since the project information can be created by deserialization
+	private final transient AtomicReference<ProjectInfoSnapshot> snapshot;
+
+	private final transient List<ItemMetadataProvider> providers;
+
+	// the shared project information of a view and null otherwise
+	private final transient ExtendedMicroProfileProjectInfo project;
+
+	// the snapshot of the shared project information used by the view snapshot
+	private transient volatile ProjectInfoSnapshot projectSnapshot;
+
+	// the hints added to the view
+	private final transient List<ItemHint> viewHints;
+
+	private volatile boolean updating;
+
+	// the snapshot used to compute the estimated size
+	private transient volatile ProjectInfoSnapshot sizedSnapshot;
+
+	private transient volatile long estimatedSize;
 
 	public ExtendedMicroProfileProjectInfo(MicroProfileProjectInfo delegate) {
+		this(delegate, true);
+	}
+
+	private ExtendedMicroProfileProjectInfo(MicroProfileProjectInfo delegate, boolean withCustomProperties) {
 		super.setProjectURI(delegate.getProjectURI());
-		// Update hints
-		super.setHints(
-				new CopyOnWriteArrayList<>(delegate.getHints() != null ? delegate.getHints() : new ArrayList<>()));
+		super.setClasspathKind(delegate.getClasspathKind());
+		List<ItemHint> hints = delegate.getHints() != null ? delegate.getHints() : Collections.emptyList();
+		ProjectInfoSnapshot hintsSnapshot = new ProjectInfoSnapshot(Collections.emptyList(),
+				Collections.emptyList(), hints, 0);
 		// Get dynamic and static properties from delegate project info
-		List<ItemMetadata> staticProperties = delegate.getProperties() != null ? delegate.getProperties()
+		List<ItemMetadata> staticProperties = delegate.getProperties() != null
+				? new ArrayList<>(delegate.getProperties())
 				: new ArrayList<>();
 		List<ItemMetadata> dynamicProperties = computeDynamicProperties(staticProperties);
 		staticProperties.removeAll(dynamicProperties);
-		expandProperties(staticProperties, dynamicProperties, getHint);
+		expandProperties(staticProperties, dynamicProperties, hintsSnapshot::getHint);
 
 		// Update dynamic and static properties
-		this.setDynamicProperties(new CopyOnWriteArrayList<ItemMetadata>(dynamicProperties));
-		super.setProperties(new CopyOnWriteArrayList<>(staticProperties));
+		this.snapshot = new AtomicReference<>(hintsSnapshot.withProperties(staticProperties, dynamicProperties));
 		this.reloadFromSource = false;
+		this.project = null;
+		this.viewHints = null;
+		this.providers = new ArrayList<>();
+		if (withCustomProperties) {
+			createProviders();
+		}
+	}
+
+	private ExtendedMicroProfileProjectInfo(ExtendedMicroProfileProjectInfo project) {
+		super.setProjectURI(project.getProjectURI());
+		super.setClasspathKind(project.getClasspathKind());
+		this.project = project;
+		this.projectSnapshot = project.snapshot.get();
+		this.snapshot = new AtomicReference<>(projectSnapshot);
+		this.viewHints = new ArrayList<>();
+		this.providers = new ArrayList<>();
+		createProviders();
+	}
 
+	private void createProviders() {
 		// Initialize custom item metadata provider
-		providers = new ArrayList<>();
 		ServiceLoader<ItemMetadataProviderFactory> factories = ServiceLoader.load(ItemMetadataProviderFactory.class);
 		for (ItemMetadataProviderFactory factory : factories) {
 			providers.add(factory.create(this));
 		}
 	}
 
+	/**
+	 * Returns the project information, without custom properties, which can be
+	 * shared by all properties files of the project with {@link #createView()}.
+	 *
+	 * @param delegate the project information collected from the classpath and
+	 *                 the Java sources.
+	 * @return the project information which can be shared by all properties
+	 *         files of the project.
+	 */
+	public static ExtendedMicroProfileProjectInfo createProjectInfo(MicroProfileProjectInfo delegate) {
+		return new ExtendedMicroProfileProjectInfo(delegate, false);
+	}
+
+	/**
+	 * Returns a new view of this project information for a properties file.
+	 *
+	 * <p>
+	 * The view shares the properties and hints of this project information and
+	 * follows its updates (ex : properties reloaded from the Java sources). The
+	 * custom properties computed from the content of the properties file belong
+	 * to the view.
+	 * </p>
+	 *
+	 * @return a new view of this project information for a properties file.
+	 */
+	public ExtendedMicroProfileProjectInfo createView() {
+		return new ExtendedMicroProfileProjectInfo(project != null ? project : this);
+	}
+
+	/**
+	 * Returns the shared project information of this view and this project
+	 * information if it is not a view.
+	 *
+	 * @return the shared project information of this view and this project
+	 *         information if it is not a view.
+	 */
+	public ExtendedMicroProfileProjectInfo getProjectInfo() {
+		return project != null ? project : this;
+	}
+
+	/**
+	 * Returns the current snapshot, rebased on the snapshot of the shared project
+	 * information if it has been updated since the last call.
+	 *
+	 * @return the current snapshot.
+	 */
+	private ProjectInfoSnapshot getSnapshot() {
+		if (project != null && project.snapshot.get() != projectSnapshot) {
+			rebase();
+		}
+		return snapshot.get();
+	}
+
+	private synchronized void rebase() {
+		ProjectInfoSnapshot current = project.snapshot.get();
+		if (current == projectSnapshot) {
+			return;
+		}
+		projectSnapshot = current;
+		ProjectInfoSnapshot next = current;
+		if (!viewHints.isEmpty()) {
+			List<ItemHint> hints = new ArrayList<>(current.getHints());
+			hints.addAll(viewHints);
+			next = next.withHints(hints);
+		}
+		List<ItemMetadata> customProperties = new ArrayList<>();
+		for (ItemMetadataProvider provider : providers) {
+			List<ItemMetadata> properties = provider.getProperties();
+			if (properties != null) {
+				customProperties.addAll(properties);
+			}
+		}
+		if (!customProperties.isEmpty()) {
+			next = next.withCustomProperties(customProperties);
+		}
+		snapshot.set(next);
+		// the properties coming from Java sources have changed
+		updateCustomProperties(null);
+	}
+
 	/**
 	 * Clear the cache only for MicroProfile properties coming from java sources.
 	 */
 	public void clearPropertiesFromSource() {
-		setReloadFromSource(true);
+		if (project != null) {
+			project.clearPropertiesFromSource();
+			return;
+		}
+		synchronized (this) {
+			sourcesVersion++;
+			setReloadFromSource(true);
+		}
+	}
+
+	/**
+	 * Returns the version of the Java sources which is incremented each time the
+	 * properties coming from Java sources are cleared.
+	 *
+	 * @return the version of the Java sources.
+	 */
+	public int getSourcesVersion() {
+		return project != null ? project.getSourcesVersion() : sourcesVersion;
 	}
 
 	private static List<ItemMetadata> computeDynamicProperties(List<ItemMetadata> properties) {
@@ -117,39 +429,74 @@ public class ExtendedMicroProfileProjectInfo extends MicroProfileProjectInfo {
 	 * @param propertiesFromJavaSource properties to add in the cache.
 	 * @param hintsFromJavaSource      hints to add in the cache.
 	 */
-	public synchronized void updateSourcesProperties(List<ItemMetadata> propertiesFromJavaSource,
+	public void updateSourcesProperties(List<ItemMetadata> propertiesFromJavaSource,
 			List<ItemHint> hintsFromJavaSource) {
+		updateSourcesProperties(propertiesFromJavaSource, hintsFromJavaSource, getSourcesVersion());
+	}
+
+	/**
+	 * Update the new MicroProfile properties in the cache coming java sources
+	 * which have been collected for the given version of the Java sources.
+	 *
+	 * <p>
+	 * When the Java sources have been changed since the given version, the
+	 * properties are updated but they must be reloaded again from the Java
+	 * sources.
+	 * </p>
+	 *
+	 * @param propertiesFromJavaSource properties to add in the cache.
+	 * @param hintsFromJavaSource      hints to add in the cache.
+	 * @param sourcesVersion           the version of the Java sources used to
+	 *                                 collect the properties.
+	 */
+	public void updateSourcesProperties(List<ItemMetadata> propertiesFromJavaSource,
+			List<ItemHint> hintsFromJavaSource, int sourcesVersion) {
+		if (project != null) {
+			// the view is rebased on the next access
+			project.updateSourcesProperties(propertiesFromJavaSource, hintsFromJavaSource, sourcesVersion);
+			return;
+		}
+		synchUpdateSourcesProperties(propertiesFromJavaSource, hintsFromJavaSource, sourcesVersion);
+	}
+
+	private synchronized void synchUpdateSourcesProperties(List<ItemMetadata> propertiesFromJavaSource,
+			List<ItemHint> hintsFromJavaSource, int sourcesVersion) {
+		ProjectInfoSnapshot next = snapshot.get();
 		// remove old hints from Java sources
 		if (hintsFromJavaSource != null) {
-			updateListFromPropertiesSources(getHints(), hintsFromJavaSource);
+			next = next.withHints(updateListFromPropertiesSources(next.getHints(), hintsFromJavaSource));
 		}
 		// remove old properties from Java sources
 		if (propertiesFromJavaSource != null) {
-			List<ItemMetadata> staticProperties = propertiesFromJavaSource;
+			List<ItemMetadata> staticProperties = new ArrayList<>(propertiesFromJavaSource);
 			List<ItemMetadata> dynamicProperties = computeDynamicProperties(staticProperties);
 			staticProperties.removeAll(dynamicProperties);
 
 			// expand properties by using new dynamic properties
-			expandProperties(staticProperties, dynamicProperties, getHint);
+			expandProperties(staticProperties, dynamicProperties, next::getHint);
 			// expand properties by using old dynamic properties (coming from binary
 			// properties)
-			expandProperties(staticProperties, getDynamicProperties(), getHint);
-			updateListFromPropertiesSources(getProperties(), staticProperties);
-			updateListFromPropertiesSources(getDynamicProperties(), dynamicProperties);
+			expandProperties(staticProperties, next.getDynamicProperties(), next::getHint);
+			next = next.withProperties(updateListFromPropertiesSources(next.getSharedProperties(), staticProperties),
+					updateListFromPropertiesSources(next.getDynamicProperties(), dynamicProperties));
 		}
+		snapshot.set(next);
 		// Update custom properties
 		updateCustomProperties(null);
-		setReloadFromSource(false);
+		if (sourcesVersion == this.sourcesVersion) {
+			setReloadFromSource(false);
+		}
 	}
 
-	private static <T extends ItemBase> void updateListFromPropertiesSources(List<T> allProperties,
+	private static <T extends ItemBase> List<T> updateListFromPropertiesSources(List<T> allProperties,
 			List<T> propertiesFromJavaSources) {
-		List<? extends ItemBase> oldPropertiesFromJavaSources = allProperties.stream().filter(h -> {
-			return h == null || !h.isBinary();
-		}).collect(Collectors.toList());
-		allProperties.removeAll(oldPropertiesFromJavaSources);
+		// keep properties which don't come from Java sources
+		List<T> properties = allProperties.stream().filter(h -> {
+			return h != null && h.isBinary();
+		}).collect(Collectors.toCollection(ArrayList::new));
 		// add new properties from Java sources
-		allProperties.addAll(propertiesFromJavaSources);
+		properties.addAll(propertiesFromJavaSources);
+		return properties;
 	}
 
 	private static void expandProperties(List<ItemMetadata> allProperties, List<ItemMetadata> dynamicProperties,
@@ -168,7 +515,95 @@ public class ExtendedMicroProfileProjectInfo extends MicroProfileProjectInfo {
 	}
 
 	public boolean isReloadFromSource() {
-		return reloadFromSource;
+		return project != null ? project.isReloadFromSource() : reloadFromSource;
+	}
+
+	/**
+	 * Returns true if the classpath of the project has changed and the project
+	 * information is being collected again, and false otherwise.
+	 *
+	 * <p>
+	 * A stale project information is still used until it is replaced by the new
+	 * project information.
+	 * </p>
+	 *
+	 * @return true if the classpath of the project has changed and the project
+	 *         information is being collected again, and false otherwise.
+	 */
+	public boolean isStale() {
+		return project != null ? project.isStale() : stale;
+	}
+
+	/**
+	 * Set true if the classpath of the project has changed and the project
+	 * information is being collected again, and false otherwise.
+	 *
+	 * @param stale true if the project information is stale and false otherwise.
+	 */
+	public void setStale(boolean stale) {
+		if (project != null) {
+			project.setStale(stale);
+		} else {
+			this.stale = stale;
+		}
+	}
+
+	/**
+	 * Returns the approximate size (in bytes) of the memory retained by the
+	 * properties and hints of the project information.
+	 *
+	 * <p>
+	 * The size is computed once per snapshot of the project information.
+	 * </p>
+	 *
+	 * @return the approximate size (in bytes) of the memory retained by the
+	 *         properties and hints of the project information.
+	 */
+	public long getEstimatedSize() {
+		if (project != null) {
+			return project.getEstimatedSize();
+		}
+		if (snapshot == null) {
+			return 0;
+		}
+		ProjectInfoSnapshot current = getSnapshot();
+		if (current != sizedSnapshot) {
+			estimatedSize = estimateSize(current);
+			sizedSnapshot = current;
+		}
+		return estimatedSize;
+	}
+
+	private static long estimateSize(ProjectInfoSnapshot snapshot) {
+		long size = 0;
+		for (ItemMetadata property : snapshot.getProperties()) {
+			size += estimateSize(property);
+		}
+		for (ItemMetadata property : snapshot.getDynamicProperties()) {
+			size += estimateSize(property);
+		}
+		for (ItemHint hint : snapshot.getHints()) {
+			size += ITEM_SIZE + sizeOf(hint.getName()) + sizeOf(hint.getDescription()) + sizeOf(hint.getSourceType());
+			if (hint.getValues() != null) {
+				for (ValueHint value : hint.getValues()) {
+					size += VALUE_SIZE + sizeOf(value.getValue()) + sizeOf(value.getDescription())
+							+ sizeOf(value.getSourceType());
+				}
+			}
+		}
+		return size;
+	}
+
+	private static long estimateSize(ItemMetadata property) {
+		return ITEM_SIZE + sizeOf(property.getName()) + sizeOf(property.getDescription())
+				+ sizeOf(property.getType()) + sizeOf(property.getSourceType()) + sizeOf(property.getSourceField())
+				+ sizeOf(property.getSourceMethod()) + sizeOf(property.getDefaultValue())
+				+ sizeOf(property.getExtensionName());
+	}
+
+	private static long sizeOf(String value) {
+		// object header, fields and array of the string
+		return value != null ? 40 + 2L * value.length() : 0;
 	}
 
 	void setReloadFromSource(boolean reloadFromSource) {
@@ -176,11 +611,86 @@ public class ExtendedMicroProfileProjectInfo extends MicroProfileProjectInfo {
 	}
 
 	public List<ItemMetadata> getDynamicProperties() {
-		return dynamicProperties;
+		return snapshot != null ? getSnapshot().getDynamicProperties() : null;
+	}
+
+	/**
+	 * Returns the properties of the current snapshot.
+	 *
+	 * <p>
+	 * The returned list is immutable and is never modified by updates of the
+	 * project information.
+	 * </p>
+	 */
+	@Override
+	public List<ItemMetadata> getProperties() {
+		return snapshot != null ? getSnapshot().getProperties() : super.getProperties();
+	}
+
+	@Override
+	public synchronized void setProperties(List<ItemMetadata> properties) {
+		if (snapshot == null) {
+			super.setProperties(properties);
+			return;
+		}
+		ProjectInfoSnapshot current = getSnapshot();
+		snapshot.set(current.withProperties(properties != null ? properties : Collections.emptyList(),
+				current.getDynamicProperties()));
+	}
+
+	/**
+	 * Returns the hints of the current snapshot.
+	 *
+	 * <p>
+	 * The returned list is immutable and is never modified by updates of the
+	 * project information.
+	 * </p>
+	 */
+	@Override
+	public List<ItemHint> getHints() {
+		return snapshot != null ? getSnapshot().getHints() : super.getHints();
+	}
+
+	@Override
+	public synchronized void setHints(List<ItemHint> hints) {
+		if (snapshot == null) {
+			super.setHints(hints);
+			return;
+		}
+		snapshot.set(getSnapshot().withHints(hints != null ? hints : Collections.emptyList()));
+	}
+
+	/**
+	 * Add the given hint.
+	 *
+	 * @param hint the hint to add.
+	 */
+	public synchronized void addHint(ItemHint hint) {
+		ProjectInfoSnapshot current = getSnapshot();
+		List<ItemHint> hints = new ArrayList<>(current.getHints());
+		hints.add(hint);
+		snapshot.set(current.withHints(hints));
+		if (viewHints != null) {
+			viewHints.add(hint);
+		}
 	}
 
-	void setDynamicProperties(List<ItemMetadata> dynamicProperties) {
-		this.dynamicProperties = dynamicProperties;
+	@Override
+	public ItemHint getHint(String... hint) {
+		return snapshot != null ? getSnapshot().getHint(hint) : super.getHint(hint);
+	}
+
+	/**
+	 * Returns the index of the properties used to retrieve a property by its name.
+	 * 
+	 * <p>
+	 * The index is built once per snapshot of the properties.
+	 * </p>
+	 * 
+	 * @return the index of the properties used to retrieve a property by its name.
+	 */
+	public ItemMetadataIndex getPropertiesIndex() {
+		return getSnapshot().getPropertiesIndex();
 	}
 
 	/**
@@ -190,20 +700,38 @@ public class ExtendedMicroProfileProjectInfo extends MicroProfileProjectInfo {
 	 *                 changes of Java sources.
 	 */
 	public void updateCustomProperties(PropertiesModel document) {
-		if (updating) {
+		if (project != null) {
+			// rebase the view before updating the custom properties
+			getSnapshot();
+		}
+		if (updating || !isUpdateRequired(document)) {
 			return;
 		}
 		synchUpdateCustomProperties(document);
 	}
 
+	private boolean isUpdateRequired(PropertiesModel document) {
+		for (ItemMetadataProvider provider : providers) {
+			if (isUpdateRequired(provider, document)) {
+				return true;
+			}
+		}
+		return false;
+	}
+
+	private static boolean isUpdateRequired(ItemMetadataProvider provider, PropertiesModel document) {
+		// update the provider if update comes from:
+		// - a Java sources changes (document = null)
+		// - a microprofile-config.properties changes (document != null)
+		return (document != null || provider.isAvailable()) && provider.isUpdateRequired(document);
+	}
+
 	private synchronized void synchUpdateCustomProperties(PropertiesModel document) {
 		try {
 			this.updating = true;
+			List<ItemMetadata> customProperties = null;
 			for (ItemMetadataProvider provider : providers) {
-				// update the provider if update comes from:
-				// - a Java sources changes (document = null)
-				// - a microprofile-config.properties changes (document != null)
-				if (document != null || provider.isAvailable()) {
+				if (isUpdateRequired(provider, document)) {
 					List<ItemMetadata> oldProperties = provider.getProperties();
 					if (oldProperties != null) {
 						oldProperties = new ArrayList<>(oldProperties);
@@ -216,15 +744,23 @@ public class ExtendedMicroProfileProjectInfo extends MicroProfileProjectInfo {
 					provider.update(document);
 					List<ItemMetadata> newProperties = provider.getProperties();
 					if (!Objects.deepEquals(oldProperties, newProperties)) {
+						if (customProperties == null) {
+							customProperties = new ArrayList<>(getSnapshot().getCustomProperties());
+						}
 						if (oldProperties != null) {
-							getProperties().removeAll(oldProperties);
+							customProperties.removeAll(oldProperties);
 						}
 						if (newProperties != null) {
-							getProperties().addAll(newProperties);
+							customProperties.addAll(newProperties);
 						}
 					}
 				}
 			}
+			if (customProperties != null) {
+				// publish the new custom properties once for all providers, the shared
+				// properties and their index are reused
+				snapshot.set(getSnapshot().withCustomProperties(customProperties));
+			}
 		} finally {
 			this.updating = false;
 		}
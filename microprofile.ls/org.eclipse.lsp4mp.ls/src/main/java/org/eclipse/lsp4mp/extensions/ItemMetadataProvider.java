@@ -30,6 +30,26 @@ public interface ItemMetadataProvider {
 	 */
 	void update(PropertiesModel document);
 
+	/**
+	 * Returns true if the properties must be updated for the given document and
+	 * false if the properties returned by {@link #getProperties()} are still up to
+	 * date.
+	 *
+	 * <p>
+	 * When false is returned, {@link #update(PropertiesModel)} is not called and
+	 * the properties of the project are not compared with the properties of this
+	 * provider.
+	 * </p>
+	 *
+	 * @param document the properties file document and null if update comes from
+	 *                 changes of Java sources.
+	 * @return true if the properties must be updated for the given document and
+	 *         false otherwise.
+	 */
+	default boolean isUpdateRequired(PropertiesModel document) {
+		return true;
+	}
+
 	List<ItemMetadata> getProperties();
 
 	boolean isAvailable();
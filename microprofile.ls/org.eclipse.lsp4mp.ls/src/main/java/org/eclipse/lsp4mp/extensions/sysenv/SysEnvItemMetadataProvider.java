@@ -14,25 +14,33 @@
 package org.eclipse.lsp4mp.extensions.sysenv;
 
 import java.util.List;
-import java.util.stream.Collectors;
-import java.util.stream.Stream;
 
 import org.eclipse.lsp4mp.commons.metadata.ItemMetadata;
-import org.eclipse.lsp4mp.commons.utils.StringUtils;
 import org.eclipse.lsp4mp.extensions.ExtendedMicroProfileProjectInfo;
 import org.eclipse.lsp4mp.extensions.ItemMetadataProvider;
 import org.eclipse.lsp4mp.model.PropertiesModel;
-import org.eclipse.lsp4mp.utils.EnvUtils;
 
 /**
  * Properties provider for Environment variables and System properties.
+ *
+ * <p>
+ * The collected properties are shared by all providers (see
+ * {@link SysEnvProperties}), a provider requires an update only when the
+ * System properties have changed.
+ * </p>
  */
 public class SysEnvItemMetadataProvider implements ItemMetadataProvider {
 
-	private List<ItemMetadata> sysEnvProperties;
+	private final SysEnvProperties sysEnvProperties;
+
+	private SysEnvProperties.Snapshot snapshot;
 
 	public SysEnvItemMetadataProvider(ExtendedMicroProfileProjectInfo projectInfo) {
+		this(projectInfo, SysEnvProperties.getInstance());
+	}
 
+	SysEnvItemMetadataProvider(ExtendedMicroProfileProjectInfo projectInfo, SysEnvProperties sysEnvProperties) {
+		this.sysEnvProperties = sysEnvProperties;
 	}
 
 	@Override
@@ -41,54 +49,22 @@ public class SysEnvItemMetadataProvider implements ItemMetadataProvider {
 	}
 
 	@Override
-	public void update(PropertiesModel document) {
-		this.sysEnvProperties = collectSysEnvProperties();
+	public boolean isUpdateRequired(PropertiesModel document) {
+		return snapshot != getSnapshot();
 	}
 
 	@Override
-	public List<ItemMetadata> getProperties() {
-		return sysEnvProperties;
+	public void update(PropertiesModel document) {
+		this.snapshot = getSnapshot();
 	}
-	private static List<ItemMetadata> collectSysEnvProperties() {
-		Stream<ItemMetadata> sysProps = System.getProperties().entrySet().stream().map(e -> {
-			String name = e.getKey().toString();
-			String defaultValue = e.getValue() != null ? e.getValue().toString() : null;
-
-			ItemMetadata item = new ItemMetadata();
-			item.setExtensionName("System property");
-			item.setName(name);
-			item.setDefaultValue(defaultValue);
-			item.setType("java.lang.String");
-			item.setOrigin(EnvUtils.SYSTEM_PROPERTIES_ORIGN);
-			return item;
-		});
-
-		Stream<ItemMetadata> envVars = System.getenv().entrySet().stream().map(e -> {
-			String name = e.getKey();
-			// Poor-man obfuscation of env var keys (*_KEY) and secrets (*_SECRET)
-			// Maybe later add configuration for suffixes and/or actual keys to obfuscate
-			String defaultValue = obfuscate(name, e.getValue());
-
-			ItemMetadata item = new ItemMetadata();
-			item.setExtensionName("Environment variable");
-			item.setName(name);
-			item.setDefaultValue(defaultValue);
-			item.setType("java.lang.String");
-			item.setOrigin(EnvUtils.ENVIRONMENT_VARIABLES_ORIGIN);
-			return item;
-		});
-
-		return Stream.concat(sysProps, envVars)//
-				.collect(Collectors.toList());
 
+	@Override
+	public List<ItemMetadata> getProperties() {
+		SysEnvProperties.Snapshot snapshot = this.snapshot;
+		return snapshot != null ? snapshot.getProperties() : null;
 	}
 
-	private static String obfuscate(String key, String value) {
-		if (StringUtils.isEmpty(key)) {
-			return key;
-		}
-		String upKey = key.toUpperCase().replace(".", "_");
-		return upKey.endsWith("_KEY") || upKey.endsWith("_SECRET") || upKey.endsWith("_PASSWORD")
-				|| upKey.endsWith("_TOKEN") ? "*********" : value;
+	private SysEnvProperties.Snapshot getSnapshot() {
+		return sysEnvProperties.getSnapshot(System.currentTimeMillis());
 	}
 }
@@ -0,0 +1,191 @@
+/*******************************************************************************
+* Copyright (c) 2024 Red Hat Inc. and others.
+*
+* This program and the accompanying materials are made available under the
+* terms of the Eclipse Public License v. 2.0 which is available at
+* http://www.eclipse.org/legal/epl-2.0, or the Apache License, Version 2.0
+* which is available at https://www.apache.org/licenses/LICENSE-2.0.
+*
+* SPDX-License-Identifier: EPL-2.0 OR Apache-2.0
+*
+* Contributors:
+*     Red Hat Inc. - initial API and implementation
+*******************************************************************************/
+package org.eclipse.lsp4mp.extensions.sysenv;
+
+import java.util.List;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+import org.eclipse.lsp4mp.commons.metadata.ItemMetadata;
+import org.eclipse.lsp4mp.commons.utils.StringUtils;
+import org.eclipse.lsp4mp.utils.EnvUtils;
+
+/**
+ * Collected System properties and Environment variables.
+ *
+ * <p>
+ * Environment variables cannot change while the process is running, so they
+ * are collected once. System properties are checked at most once per time to
+ * live and are collected again only when their content has changed.
+ * </p>
+ *
+ * <p>
+ * The time to live (in milliseconds) can be configured with the
+ * <code>lsp4mp.sysenv.timeToLive</code> System property (5000 by default).
+ * </p>
+ */
+class SysEnvProperties {
+
+	public static final String TIME_TO_LIVE_PROPERTY = "lsp4mp.sysenv.timeToLive";
+
+	private static final long DEFAULT_TIME_TO_LIVE = 5000;
+
+	private static final SysEnvProperties INSTANCE = new SysEnvProperties(getConfiguredTimeToLive());
+
+	public static SysEnvProperties getInstance() {
+		return INSTANCE;
+	}
+
+	/**
+	 * Snapshot of the System properties and Environment variables.
+	 */
+	static class Snapshot {
+
+		private final List<ItemMetadata> properties;
+
+		private final int systemPropertiesHash;
+
+		private volatile long lastCheck;
+
+		Snapshot(List<ItemMetadata> properties, int systemPropertiesHash, long lastCheck) {
+			this.properties = properties;
+			this.systemPropertiesHash = systemPropertiesHash;
+			this.lastCheck = lastCheck;
+		}
+
+		public List<ItemMetadata> getProperties() {
+			return properties;
+		}
+	}
+
+	private static List<ItemMetadata> envVariables;
+
+	private final long timeToLive;
+
+	private volatile Snapshot currentSnapshot;
+
+	/**
+	 * Create the System properties and Environment variables.
+	 *
+	 * @param timeToLive the time (in milliseconds) during which the System
+	 *                   properties are not checked again and 0 to check them on
+	 *                   each call of {@link #getSnapshot(long)}.
+	 */
+	SysEnvProperties(long timeToLive) {
+		this.timeToLive = timeToLive;
+	}
+
+	/**
+	 * Returns the time (in milliseconds) during which the System properties are
+	 * not checked again.
+	 *
+	 * @return the time (in milliseconds) during which the System properties are
+	 *         not checked again.
+	 */
+	public long getTimeToLive() {
+		return timeToLive;
+	}
+
+	/**
+	 * Returns the time to live defined with the {@link #TIME_TO_LIVE_PROPERTY}
+	 * System property and the default time to live otherwise.
+	 *
+	 * @return the time to live defined with the {@link #TIME_TO_LIVE_PROPERTY}
+	 *         System property and the default time to live otherwise.
+	 */
+	static long getConfiguredTimeToLive() {
+		Long timeToLive = Long.getLong(TIME_TO_LIVE_PROPERTY);
+		return timeToLive != null && timeToLive >= 0 ? timeToLive : DEFAULT_TIME_TO_LIVE;
+	}
+
+	/**
+	 * Returns the snapshot of the System properties and Environment variables.
+	 *
+	 * <p>
+	 * The same snapshot is returned while the System properties have not changed.
+	 * </p>
+	 *
+	 * @param now the current time in milliseconds.
+	 * @return the snapshot of the System properties and Environment variables.
+	 */
+	public Snapshot getSnapshot(long now) {
+		Snapshot snapshot = currentSnapshot;
+		if (snapshot != null && now - snapshot.lastCheck < timeToLive) {
+			return snapshot;
+		}
+		synchronized (this) {
+			snapshot = currentSnapshot;
+			if (snapshot != null && now - snapshot.lastCheck < timeToLive) {
+				return snapshot;
+			}
+			int systemPropertiesHash = System.getProperties().hashCode();
+			if (snapshot != null && snapshot.systemPropertiesHash == systemPropertiesHash) {
+				// System properties have not changed
+				snapshot.lastCheck = now;
+				return snapshot;
+			}
+			snapshot = new Snapshot(collectSysEnvProperties(), systemPropertiesHash, now);
+			currentSnapshot = snapshot;
+			return snapshot;
+		}
+	}
+
+	private static List<ItemMetadata> collectSysEnvProperties() {
+		Stream<ItemMetadata> sysProps = System.getProperties().entrySet().stream().map(e -> {
+			String name = e.getKey().toString();
+			String defaultValue = e.getValue() != null ? e.getValue().toString() : null;
+
+			ItemMetadata item = new ItemMetadata();
+			item.setExtensionName("System property");
+			item.setName(name);
+			item.setDefaultValue(defaultValue);
+			item.setType("java.lang.String");
+			item.setOrigin(EnvUtils.SYSTEM_PROPERTIES_ORIGN);
+			return item;
+		});
+
+		return Stream.concat(sysProps, getEnvVariables().stream())//
+				.collect(Collectors.toList());
+
+	}
+
+	private static synchronized List<ItemMetadata> getEnvVariables() {
+		if (envVariables == null) {
+			envVariables = System.getenv().entrySet().stream().map(e -> {
+				String name = e.getKey();
+				// Poor-man obfuscation of env var keys (*_KEY) and secrets (*_SECRET)
+				// Maybe later add configuration for suffixes and/or actual keys to obfuscate
+				String defaultValue = obfuscate(name, e.getValue());
+
+				ItemMetadata item = new ItemMetadata();
+				item.setExtensionName("Environment variable");
+				item.setName(name);
+				item.setDefaultValue(defaultValue);
+				item.setType("java.lang.String");
+				item.setOrigin(EnvUtils.ENVIRONMENT_VARIABLES_ORIGIN);
+				return item;
+			}).collect(Collectors.toList());
+		}
+		return envVariables;
+	}
+
+	private static String obfuscate(String key, String value) {
+		if (StringUtils.isEmpty(key)) {
+			return key;
+		}
+		String upKey = key.toUpperCase().replace(".", "_");
+		return upKey.endsWith("_KEY") || upKey.endsWith("_SECRET") || upKey.endsWith("_PASSWORD")
+				|| upKey.endsWith("_TOKEN") ? "*********" : value;
+	}
+}
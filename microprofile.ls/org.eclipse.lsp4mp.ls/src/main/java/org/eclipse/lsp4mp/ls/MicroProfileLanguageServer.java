@@ -37,6 +37,7 @@ import org.eclipse.lsp4jdt.commons.JavaFileInfo;
 import org.eclipse.lsp4jdt.commons.JavaFileInfoParams;
 import org.eclipse.lsp4jdt.commons.JavaProjectLabelsParams;
 import org.eclipse.lsp4jdt.commons.ProjectLabelInfoEntry;
+import org.eclipse.lsp4mp.commons.MicroProfileJavaBatchParams;
 import org.eclipse.lsp4mp.commons.MicroProfileProjectInfoParams;
 import org.eclipse.lsp4mp.commons.MicroProfilePropertiesChangeEvent;
 import org.eclipse.lsp4mp.ls.api.MicroProfileJavaFileInfoProvider;
@@ -51,10 +52,12 @@ import org.eclipse.lsp4mp.services.properties.PropertiesFileLanguageService;
 import org.eclipse.lsp4mp.settings.AllMicroProfileSettings;
 import org.eclipse.lsp4mp.settings.InitializationOptionsSettings;
 import org.eclipse.lsp4mp.settings.MicroProfileCodeLensSettings;
+import org.eclipse.lsp4mp.settings.MicroProfileCompletionSettings;
 import org.eclipse.lsp4mp.settings.MicroProfileExtensionSettings;
 import org.eclipse.lsp4mp.settings.MicroProfileFormattingSettings;
 import org.eclipse.lsp4mp.settings.MicroProfileGeneralClientSettings;
 import org.eclipse.lsp4mp.settings.MicroProfileInlayHintSettings;
+import org.eclipse.lsp4mp.settings.MicroProfileProjectInfoCacheSettings;
 import org.eclipse.lsp4mp.settings.MicroProfileSymbolSettings;
 import org.eclipse.lsp4mp.settings.MicroProfileValidationSettings;
 import org.eclipse.lsp4mp.settings.SharedSettings;
@@ -163,6 +166,14 @@ public class MicroProfileLanguageServer implements LanguageServer, ProcessLangua
 			if (newInlayHint != null) {
 				textDocumentService.updateInlayHintSettings(newInlayHint);
 			}
+			MicroProfileCompletionSettings newCompletion = clientSettings.getCompletion();
+			if (newCompletion != null) {
+				textDocumentService.updateCompletionSettings(newCompletion);
+			}
+			MicroProfileProjectInfoCacheSettings newProjectInfoCache = clientSettings.getProjectInfoCache();
+			if (newProjectInfoCache != null) {
+				textDocumentService.updateProjectInfoCacheSettings(newProjectInfoCache);
+			}
 		}
 	}
 
@@ -239,6 +250,12 @@ public class MicroProfileLanguageServer implements LanguageServer, ProcessLangua
 		return getLanguageClient().getJavaProjectLabels(javaParams);
 	}
 
+	@Override
+	public CompletableFuture<List<ProjectLabelInfoEntry>> getBatchJavaProjectLabels(
+			MicroProfileJavaBatchParams javaParams) {
+		return getLanguageClient().getBatchJavaProjectLabels(javaParams);
+	}
+
 	@Override
 	public CompletableFuture<List<ProjectLabelInfoEntry>> getAllJavaProjectLabels() {
 		return getLanguageClient().getAllJavaProjectLabels();
@@ -248,4 +265,9 @@ public class MicroProfileLanguageServer implements LanguageServer, ProcessLangua
 	public CompletableFuture<JavaFileInfo> getJavaFileInfo(JavaFileInfoParams javaParams) {
 		return getLanguageClient().getJavaFileInfo(javaParams);
 	}
+
+	@Override
+	public CompletableFuture<List<JavaFileInfo>> getBatchJavaFileInfo(MicroProfileJavaBatchParams javaParams) {
+		return getLanguageClient().getBatchJavaFileInfo(javaParams);
+	}
 }
@@ -25,6 +25,7 @@ import org.eclipse.lsp4j.jsonrpc.MessageConsumer;
 import org.eclipse.lsp4j.launch.LSPLauncher.Builder;
 import org.eclipse.lsp4j.services.LanguageClient;
 import org.eclipse.lsp4j.services.LanguageServer;
+import org.eclipse.lsp4mp.commons.utils.MetadataTypeAdapterFactory;
 import org.eclipse.lsp4mp.ls.api.MicroProfileLanguageClientAPI;
 import org.eclipse.lsp4mp.ls.commons.ParentProcessWatcher;
 
@@ -83,6 +84,10 @@ public class MicroProfileServerLauncher {
 				// MicroProfile
 				// language
 				// client
-				.setInput(in).setOutput(out).setExecutorService(executorService).wrapMessages(wrapper).create();
+				.setInput(in).setOutput(out).setExecutorService(executorService).wrapMessages(wrapper)
+				// share the strings of the properties and hints collected by the JDT LS
+				// extension
+				.configureGson(builder -> builder.registerTypeAdapterFactory(new MetadataTypeAdapterFactory()))
+				.create();
 	}
 }
@@ -62,8 +62,10 @@ import org.eclipse.lsp4mp.ls.java.JavaTextDocuments;
 import org.eclipse.lsp4mp.ls.properties.PropertiesFileTextDocumentService;
 import org.eclipse.lsp4mp.services.properties.CompletionData;
 import org.eclipse.lsp4mp.settings.MicroProfileCodeLensSettings;
+import org.eclipse.lsp4mp.settings.MicroProfileCompletionSettings;
 import org.eclipse.lsp4mp.settings.MicroProfileFormattingSettings;
 import org.eclipse.lsp4mp.settings.MicroProfileInlayHintSettings;
+import org.eclipse.lsp4mp.settings.MicroProfileProjectInfoCacheSettings;
 import org.eclipse.lsp4mp.settings.MicroProfileSymbolSettings;
 import org.eclipse.lsp4mp.settings.MicroProfileValidationSettings;
 import org.eclipse.lsp4mp.settings.SharedSettings;
@@ -288,6 +290,14 @@ public class MicroProfileTextDocumentService implements TextDocumentService {
 		applicationPropertiesTextDocumentService.updateInlayHintSettings(newInlayHint);
 	}
 
+	public void updateCompletionSettings(MicroProfileCompletionSettings newCompletion) {
+		applicationPropertiesTextDocumentService.updateCompletionSettings(newCompletion);
+	}
+
+	public void updateProjectInfoCacheSettings(MicroProfileProjectInfoCacheSettings newProjectInfoCache) {
+		applicationPropertiesTextDocumentService.updateProjectInfoCacheSettings(newProjectInfoCache);
+	}
+
 	private TextDocumentService getTextDocumentService(TextDocumentIdentifier document) {
 		String fileExtension = getFileExtension(document);
 		return fileExtension != null ? textDocumentServicesMap.get(fileExtension) : null;
@@ -13,11 +13,14 @@
 *******************************************************************************/
 package org.eclipse.lsp4mp.ls.api;
 
+import java.util.List;
 import java.util.concurrent.CompletableFuture;
+import java.util.stream.Collectors;
 
 import org.eclipse.lsp4j.jsonrpc.services.JsonRequest;
 import org.eclipse.lsp4jdt.commons.JavaFileInfo;
 import org.eclipse.lsp4jdt.commons.JavaFileInfoParams;
+import org.eclipse.lsp4mp.commons.MicroProfileJavaBatchParams;
 
 /**
  * MicroProfile Java file information provider.
@@ -30,4 +33,29 @@ public interface MicroProfileJavaFileInfoProvider {
 	@JsonRequest("microprofile/java/fileInfo")
 	CompletableFuture<JavaFileInfo> getJavaFileInfo(JavaFileInfoParams javaParams);
 
+	/**
+	 * Returns the file information of the given Java files, in the order of the
+	 * Java file URIs.
+	 *
+	 * <p>
+	 * The default implementation sends one file information request per Java
+	 * file.
+	 * </p>
+	 *
+	 * @param javaParams the Java file URIs.
+	 * @return the file information of the given Java files.
+	 */
+	@JsonRequest("microprofile/java/batchFileInfo")
+	default CompletableFuture<List<JavaFileInfo>> getBatchJavaFileInfo(MicroProfileJavaBatchParams javaParams) {
+		List<CompletableFuture<JavaFileInfo>> futures = javaParams.getUris().stream() //
+				.map(uri -> {
+					JavaFileInfoParams params = new JavaFileInfoParams();
+					params.setUri(uri);
+					return getJavaFileInfo(params);
+				}) //
+				.collect(Collectors.toList());
+		return CompletableFuture.allOf(futures.toArray(new CompletableFuture[futures.size()])) //
+				.thenApply(v -> futures.stream().map(CompletableFuture::join).collect(Collectors.toList()));
+	}
+
 }
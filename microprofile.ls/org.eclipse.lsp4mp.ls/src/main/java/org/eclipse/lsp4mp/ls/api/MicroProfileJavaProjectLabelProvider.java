@@ -15,10 +15,12 @@ package org.eclipse.lsp4mp.ls.api;
 
 import java.util.List;
 import java.util.concurrent.CompletableFuture;
+import java.util.stream.Collectors;
 
 import org.eclipse.lsp4j.jsonrpc.services.JsonRequest;
 import org.eclipse.lsp4jdt.commons.JavaProjectLabelsParams;
 import org.eclipse.lsp4jdt.commons.ProjectLabelInfoEntry;
+import org.eclipse.lsp4mp.commons.MicroProfileJavaBatchParams;
 
 /**
  * MicroProfile Java project labels provider.
@@ -31,6 +33,32 @@ public interface MicroProfileJavaProjectLabelProvider {
 	@JsonRequest("microprofile/java/projectLabels")
 	CompletableFuture<ProjectLabelInfoEntry> getJavaProjectLabels(JavaProjectLabelsParams javaParams);
 
+	/**
+	 * Returns the project labels of the given Java files, in the order of the Java
+	 * file URIs.
+	 *
+	 * <p>
+	 * The default implementation sends one project labels request per Java file.
+	 * </p>
+	 *
+	 * @param javaParams the Java file URIs and the Java types to check.
+	 * @return the project labels of the given Java files.
+	 */
+	@JsonRequest("microprofile/java/batchProjectLabels")
+	default CompletableFuture<List<ProjectLabelInfoEntry>> getBatchJavaProjectLabels(
+			MicroProfileJavaBatchParams javaParams) {
+		List<CompletableFuture<ProjectLabelInfoEntry>> futures = javaParams.getUris().stream() //
+				.map(uri -> {
+					JavaProjectLabelsParams params = new JavaProjectLabelsParams();
+					params.setUri(uri);
+					params.setTypes(javaParams.getTypes());
+					return getJavaProjectLabels(params);
+				}) //
+				.collect(Collectors.toList());
+		return CompletableFuture.allOf(futures.toArray(new CompletableFuture[futures.size()])) //
+				.thenApply(v -> futures.stream().map(CompletableFuture::join).collect(Collectors.toList()));
+	}
+
 	@JsonRequest("microprofile/java/workspaceLabels")
 	CompletableFuture<List<ProjectLabelInfoEntry>> getAllJavaProjectLabels();
 
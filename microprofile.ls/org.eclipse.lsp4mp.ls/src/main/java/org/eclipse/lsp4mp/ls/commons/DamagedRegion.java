@@ -0,0 +1,132 @@
+/*******************************************************************************
+* Copyright (c) 2023 Red Hat Inc. and others.
+*
+* This program and the accompanying materials are made available under the
+* terms of the Eclipse Public License v. 2.0 which is available at
+* http://www.eclipse.org/legal/epl-2.0, or the Apache License, Version 2.0
+* which is available at https://www.apache.org/licenses/LICENSE-2.0.
+*
+* SPDX-License-Identifier: EPL-2.0 OR Apache-2.0
+*
+* Contributors:
+*     Red Hat Inc. - initial API and implementation
+*******************************************************************************/
+package org.eclipse.lsp4mp.ls.commons;
+
+/**
+ * The region of a text document which has been modified since a given text
+ * version.
+ *
+ * <p>
+ * The region is expressed with offsets of the current text: the text before
+ * {@link #getStart()} is unchanged, the text after {@link #getEnd()} is
+ * unchanged but shifted by {@link #getDelta()} characters.
+ * </p>
+ *
+ */
+public class DamagedRegion {
+
+	private int start;
+
+	private int end;
+
+	private int delta;
+
+	/**
+	 * Create an empty damaged region.
+	 */
+	public DamagedRegion() {
+		this.start = -1;
+		this.end = -1;
+		this.delta = 0;
+	}
+
+	/**
+	 * Create a copy of the given damaged region.
+	 *
+	 * @param region the damaged region to copy.
+	 */
+	public DamagedRegion(DamagedRegion region) {
+		this.start = region.start;
+		this.end = region.end;
+		this.delta = region.delta;
+	}
+
+	/**
+	 * Expand the region with the replacement of <code>length</code> characters
+	 * from the given <code>offset</code> of the current text by a text of
+	 * <code>newLength</code> characters.
+	 *
+	 * @param offset    the offset of the replacement in the current text.
+	 * @param length    the length of the replaced text.
+	 * @param newLength the length of the new text.
+	 */
+	public void replace(int offset, int length, int newLength) {
+		int diff = newLength - length;
+		if (isEmpty()) {
+			start = offset;
+			end = offset + newLength;
+		} else {
+			start = Math.min(start, offset);
+			end = Math.max(end, offset + length) + diff;
+		}
+		delta += diff;
+	}
+
+	/**
+	 * Expand the region with the given region which has been computed after this
+	 * region.
+	 *
+	 * @param region the region to merge.
+	 */
+	public void merge(DamagedRegion region) {
+		if (region.isEmpty()) {
+			return;
+		}
+		int length = region.end - region.delta - region.start;
+		replace(region.start, length, region.end - region.start);
+	}
+
+	/**
+	 * Returns true if the text has not been modified and false otherwise.
+	 *
+	 * @return true if the text has not been modified and false otherwise.
+	 */
+	public boolean isEmpty() {
+		return start == -1;
+	}
+
+	/**
+	 * Returns the start offset (inclusive) of the region in the current text.
+	 *
+	 * @return the start offset (inclusive) of the region in the current text.
+	 */
+	public int getStart() {
+		return start;
+	}
+
+	/**
+	 * Returns the end offset (exclusive) of the region in the current text.
+	 *
+	 * @return the end offset (exclusive) of the region in the current text.
+	 */
+	public int getEnd() {
+		return end;
+	}
+
+	/**
+	 * Returns the difference between the length of the current text and the
+	 * length of the original text.
+	 *
+	 * @return the difference between the length of the current text and the
+	 *         length of the original text.
+	 */
+	public int getDelta() {
+		return delta;
+	}
+
+	@Override
+	public String toString() {
+		return "[" + start + ", " + end + "] delta=" + delta;
+	}
+}
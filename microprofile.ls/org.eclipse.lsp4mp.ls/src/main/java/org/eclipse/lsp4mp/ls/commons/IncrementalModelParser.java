@@ -0,0 +1,44 @@
+/*******************************************************************************
+* Copyright (c) 2023 Red Hat Inc. and others.
+*
+* This program and the accompanying materials are made available under the
+* terms of the Eclipse Public License v. 2.0 which is available at
+* http://www.eclipse.org/legal/epl-2.0, or the Apache License, Version 2.0
+* which is available at https://www.apache.org/licenses/LICENSE-2.0.
+*
+* SPDX-License-Identifier: EPL-2.0 OR Apache-2.0
+*
+* Contributors:
+*     Red Hat Inc. - initial API and implementation
+*******************************************************************************/
+package org.eclipse.lsp4mp.ls.commons;
+
+import org.eclipse.lsp4j.jsonrpc.CancelChecker;
+
+/**
+ * Parser which updates a model from a previous model and the region of the
+ * text document which has been modified since this previous model was parsed.
+ *
+ * @param <T> the model type (ex : DOM Document)
+ */
+@FunctionalInterface
+public interface IncrementalModelParser<T> {
+
+	/**
+	 * Returns the model of the given document updated from the given previous
+	 * model.
+	 *
+	 * <p>
+	 * The previous model must not be modified since it can still be used by other
+	 * threads.
+	 * </p>
+	 *
+	 * @param previousModel the model parsed for a previous version of the text.
+	 * @param region        the region modified since the previous model was parsed.
+	 * @param document      the text document.
+	 * @param cancelChecker the cancel checker.
+	 * @return the model of the given document updated from the given previous
+	 *         model.
+	 */
+	T parse(T previousModel, DamagedRegion region, TextDocument document, CancelChecker cancelChecker);
+}
@@ -33,16 +33,35 @@ public class ModelTextDocument<T> extends TextDocument {
 
 	private final BiFunction<TextDocument, CancelChecker, T> parse;
 
+	private final IncrementalModelParser<T> incrementalParse;
+
+	private final Object modelLock = new Object();
+
 	private T model;
 
+	// the last parsed model and the region modified since this model, used to
+	// update the model incrementally
+	private T previousModel;
+
+	private DamagedRegion damagedRegion;
+
+	private volatile long lastAccessTime = System.currentTimeMillis();
+
 	public ModelTextDocument(TextDocumentItem document, BiFunction<TextDocument, CancelChecker, T> parse) {
+		this(document, parse, null);
+	}
+
+	public ModelTextDocument(TextDocumentItem document, BiFunction<TextDocument, CancelChecker, T> parse,
+			IncrementalModelParser<T> incrementalParse) {
 		super(document);
 		this.parse = parse;
+		this.incrementalParse = incrementalParse;
 	}
 
 	public ModelTextDocument(String text, String uri, BiFunction<TextDocument, CancelChecker, T> parse) {
 		super(text, uri);
 		this.parse = parse;
+		this.incrementalParse = null;
 	}
 
 	public T getExistingModel() {
@@ -50,6 +69,7 @@ public class ModelTextDocument<T> extends TextDocument {
 	}
 
 	public T getModel() {
+		lastAccessTime = System.currentTimeMillis();
 		if (model == null) {
 			return getSynchronizedModel();
 		}
@@ -74,8 +94,23 @@ public class ModelTextDocument<T> extends TextDocument {
 			// Stop of parse process can be done when completable future is canceled or when
 			// version of document changes
 			CancelChecker cancelChecker = new TextDocumentVersionChecker(this, version);
+			T previousModel = null;
+			DamagedRegion region = null;
+			synchronized (modelLock) {
+				if (this.previousModel != null && this.damagedRegion != null) {
+					previousModel = this.previousModel;
+					region = new DamagedRegion(this.damagedRegion);
+				}
+			}
 			// parse the model
-			model = parse.apply(this, cancelChecker);
+			T newModel = previousModel != null ? incrementalParse.parse(previousModel, region, this, cancelChecker)
+					: parse.apply(this, cancelChecker);
+			synchronized (modelLock) {
+				if (version == super.getVersion()) {
+					model = newModel;
+				}
+			}
+			return newModel;
 		} catch (CancellationException e) {
 			LOGGER.fine("Stop parsing parsing of model with version '" + version + "' in "
 					+ (System.currentTimeMillis() - start) + "ms");
@@ -84,28 +119,79 @@ public class ModelTextDocument<T> extends TextDocument {
 			LOGGER.fine("End parse of model with version '" + version + "' in " + (System.currentTimeMillis() - start)
 					+ "ms");
 		}
-		return model;
+	}
+
+	/**
+	 * Returns the last time (in milliseconds) when the model has been requested.
+	 *
+	 * @return the last time (in milliseconds) when the model has been requested.
+	 */
+	public long getLastAccessTime() {
+		return lastAccessTime;
+	}
+
+	/**
+	 * Release the parsed model to free the memory. The model will be parsed again
+	 * the next time it is requested.
+	 */
+	public void releaseModel() {
+		synchronized (modelLock) {
+			model = null;
+			previousModel = null;
+			damagedRegion = null;
+		}
 	}
 
 	@Override
 	public void setText(String text) {
-		super.setText(text);
-		// text changed, mark the model as dirty
-		cancelModel();
+		synchronized (modelLock) {
+			super.setText(text);
+			// text changed, mark the model as dirty
+			cancelModel(null);
+		}
+	}
+
+	@Override
+	protected void setText(Rope text, DamagedRegion region) {
+		synchronized (modelLock) {
+			// the text and the damaged region must be updated together to parse the
+			// model incrementally
+			super.setText(text, region);
+			// text changed, mark the model as dirty
+			cancelModel(region);
+		}
 	}
 
 	@Override
 	public void setVersion(int version) {
 		super.setVersion(version);
 		// version changed, mark the model as dirty
-		cancelModel();
+		cancelModel(new DamagedRegion());
 	}
 
 	/**
 	 * Mark the model as dirty
+	 *
+	 * @param region the region of the text which has been modified and null if
+	 *               the whole text has been replaced.
 	 */
-	private void cancelModel() {
-		model = null;
+	private void cancelModel(DamagedRegion region) {
+		synchronized (modelLock) {
+			if (incrementalParse != null && region != null) {
+				if (model != null) {
+					// keep the current model to update it incrementally with the next parse
+					previousModel = model;
+					damagedRegion = new DamagedRegion();
+				}
+				if (damagedRegion != null) {
+					damagedRegion.merge(region);
+				}
+			} else {
+				previousModel = null;
+				damagedRegion = null;
+			}
+			model = null;
+		}
 	}
 
 }
\ No newline at end of file
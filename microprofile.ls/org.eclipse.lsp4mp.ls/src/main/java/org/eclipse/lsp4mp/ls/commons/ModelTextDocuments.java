@@ -34,17 +34,48 @@ public class ModelTextDocuments<T> extends TextDocuments<ModelTextDocument<T>> {
 
 	private final BiFunction<TextDocument, CancelChecker, T> parse;
 
+	private final IncrementalModelParser<T> incrementalParse;
+
 	public ModelTextDocuments(BiFunction<TextDocument, CancelChecker, T> parse) {
+		this(parse, null);
+	}
+
+	/**
+	 * Create the cache of text documents.
+	 *
+	 * @param parse            the function used to parse the whole model.
+	 * @param incrementalParse the function used to update the model from the
+	 *                         previous model when the document is updated
+	 *                         incrementally and null otherwise.
+	 */
+	public ModelTextDocuments(BiFunction<TextDocument, CancelChecker, T> parse,
+			IncrementalModelParser<T> incrementalParse) {
 		this.parse = parse;
+		this.incrementalParse = incrementalParse;
 	}
 
 	@Override
 	public ModelTextDocument<T> createDocument(TextDocumentItem document) {
-		ModelTextDocument<T> doc = new ModelTextDocument<T>(document, parse);
+		ModelTextDocument<T> doc = new ModelTextDocument<T>(document, parse, incrementalParse);
 		doc.setIncremental(isIncremental());
 		return doc;
 	}
 
+	/**
+	 * Release the parsed model of the opened documents whose model has not been
+	 * requested since the given idle time.
+	 *
+	 * @param now      the current time in milliseconds.
+	 * @param idleTime the idle time in milliseconds.
+	 */
+	public void releaseIdleModels(long now, long idleTime) {
+		for (ModelTextDocument<T> document : all()) {
+			if (document.getExistingModel() != null && now - document.getLastAccessTime() > idleTime) {
+				document.releaseModel();
+			}
+		}
+	}
+
 	/**
 	 * Returns the model of the given text document Uri and null otherwise.
 	 *
@@ -0,0 +1,369 @@
+/*******************************************************************************
+* Copyright (c) 2023 Red Hat Inc. and others.
+*
+* This program and the accompanying materials are made available under the
+* terms of the Eclipse Public License v. 2.0 which is available at
+* http://www.eclipse.org/legal/epl-2.0, or the Apache License, Version 2.0
+* which is available at https://www.apache.org/licenses/LICENSE-2.0.
+*
+* SPDX-License-Identifier: EPL-2.0 OR Apache-2.0
+*
+* Contributors:
+*     Red Hat Inc. - initial API and implementation
+*******************************************************************************/
+package org.eclipse.lsp4mp.ls.commons;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Immutable text stored in a balanced tree of text chunks.
+ *
+ * <p>
+ * Replacing a part of the rope creates a new rope which shares the unchanged
+ * chunks with the original rope, so the cost of an edit depends on the size of
+ * the edit and not on the size of the text. A rope can be used as an immutable
+ * snapshot of a text document.
+ * </p>
+ *
+ */
+public final class Rope implements CharSequence {
+
+	// max length of the chunks created from a text
+	private static final int MAX_LEAF_LENGTH = 1024;
+
+	// adjacent chunks are merged when their total length is lower than this length
+	private static final int MERGE_LEAF_LENGTH = 256;
+
+	// the tree is rebalanced when it is deeper than this depth
+	private static final int MAX_DEPTH = 48;
+
+	public static final Rope EMPTY = new Rope(new Leaf(""));
+
+	private static abstract class Node {
+
+		protected final int length;
+
+		protected final int depth;
+
+		Node(int length, int depth) {
+			this.length = length;
+			this.depth = depth;
+		}
+
+		abstract void appendTo(StringBuilder builder, int start, int end);
+
+		abstract void collectLeaves(List<Leaf> leaves);
+	}
+
+	private static class Leaf extends Node {
+
+		private final String text;
+
+		Leaf(String text) {
+			super(text.length(), 0);
+			this.text = text;
+		}
+
+		@Override
+		void appendTo(StringBuilder builder, int start, int end) {
+			builder.append(text, start, end);
+		}
+
+		@Override
+		void collectLeaves(List<Leaf> leaves) {
+			if (length > 0) {
+				leaves.add(this);
+			}
+		}
+	}
+
+	private static class Concat extends Node {
+
+		private final Node left;
+
+		private final Node right;
+
+		Concat(Node left, Node right) {
+			super(left.length + right.length, Math.max(left.depth, right.depth) + 1);
+			this.left = left;
+			this.right = right;
+		}
+
+		@Override
+		void appendTo(StringBuilder builder, int start, int end) {
+			if (start < left.length) {
+				left.appendTo(builder, start, Math.min(end, left.length));
+			}
+			if (end > left.length) {
+				right.appendTo(builder, Math.max(start - left.length, 0), end - left.length);
+			}
+		}
+
+		@Override
+		void collectLeaves(List<Leaf> leaves) {
+			left.collectLeaves(leaves);
+			right.collectLeaves(leaves);
+		}
+	}
+
+	/**
+	 * A view of a rope which keeps the last accessed leaf with its start offset,
+	 * to read the text sequentially without walking the tree for each character.
+	 *
+	 * <p>
+	 * A cursor is not thread safe, it must be used for a single scan of the text.
+	 * </p>
+	 */
+	private static class Cursor implements CharSequence {
+
+		private final Rope rope;
+
+		private int leafStart;
+
+		private Leaf leaf;
+
+		Cursor(Rope rope) {
+			this.rope = rope;
+		}
+
+		@Override
+		public int length() {
+			return rope.length();
+		}
+
+		@Override
+		public char charAt(int index) {
+			Leaf leaf = this.leaf;
+			if (leaf == null || index < leafStart || index >= leafStart + leaf.length) {
+				if (index < 0 || index >= rope.length()) {
+					throw new IndexOutOfBoundsException("Index " + index + " in a text of length " + rope.length());
+				}
+				Node node = rope.root;
+				int start = 0;
+				while (node instanceof Concat) {
+					Concat concat = (Concat) node;
+					if (index - start < concat.left.length) {
+						node = concat.left;
+					} else {
+						start += concat.left.length;
+						node = concat.right;
+					}
+				}
+				leaf = (Leaf) node;
+				this.leaf = leaf;
+				this.leafStart = start;
+			}
+			return leaf.text.charAt(index - leafStart);
+		}
+
+		@Override
+		public CharSequence subSequence(int start, int end) {
+			return rope.subSequence(start, end);
+		}
+
+		@Override
+		public String toString() {
+			return rope.toString();
+		}
+	}
+
+	private final Node root;
+
+	private volatile String text;
+
+	private Rope(Node root) {
+		this.root = root;
+	}
+
+	/**
+	 * Returns a rope which contains the given text.
+	 *
+	 * @param text the text.
+	 * @return a rope which contains the given text.
+	 */
+	public static Rope of(String text) {
+		Rope rope = new Rope(create(text, 0, text.length()));
+		rope.text = text;
+		return rope;
+	}
+
+	/**
+	 * Returns a new rope where the <code>length</code> characters from the given
+	 * <code>offset</code> are replaced by the given text.
+	 *
+	 * @param offset the offset of the replaced text.
+	 * @param length the length of the replaced text.
+	 * @param text   the new text.
+	 * @return a new rope where the <code>length</code> characters from the given
+	 *         <code>offset</code> are replaced by the given text.
+	 */
+	public Rope replace(int offset, int length, String text) {
+		if (offset < 0 || length < 0 || offset + length > root.length) {
+			throw new IndexOutOfBoundsException(
+					"Replace [" + offset + ", " + (offset + length) + "] in a text of length " + root.length);
+		}
+		Node before = sub(root, 0, offset);
+		Node after = sub(root, offset + length, root.length);
+		return new Rope(concat(concat(before, create(text, 0, text.length())), after));
+	}
+
+	@Override
+	public int length() {
+		return root.length;
+	}
+
+	/**
+	 * Returns the character at the given index.
+	 *
+	 * <p>
+	 * The tree is walked for each call when the whole text has not been built, use
+	 * {@link #cursor()} to read the text sequentially.
+	 * </p>
+	 */
+	@Override
+	public char charAt(int index) {
+		String text = this.text;
+		if (text != null) {
+			return text.charAt(index);
+		}
+		return new Cursor(this).charAt(index);
+	}
+
+	/**
+	 * Returns a view of this rope to read the text sequentially (ex : to parse
+	 * it). The view is not thread safe and must be used by a single scan.
+	 *
+	 * @return a view of this rope to read the text sequentially.
+	 */
+	public CharSequence cursor() {
+		String text = this.text;
+		return text != null ? text : new Cursor(this);
+	}
+
+	/**
+	 * Returns a view of the given text to read it sequentially: a cursor if the
+	 * text is a rope and the text itself otherwise.
+	 *
+	 * @param text the text.
+	 * @return a view of the given text to read it sequentially.
+	 */
+	public static CharSequence cursor(CharSequence text) {
+		return text instanceof Rope ? ((Rope) text).cursor() : text;
+	}
+
+	/**
+	 * Returns the text from the <code>start</code> offset (inclusive) to the
+	 * <code>end</code> offset (exclusive).
+	 *
+	 * @param start the start offset.
+	 * @param end   the end offset.
+	 * @return the text from the <code>start</code> offset (inclusive) to the
+	 *         <code>end</code> offset (exclusive).
+	 */
+	public String substring(int start, int end) {
+		if (start < 0 || end > root.length || start > end) {
+			throw new IndexOutOfBoundsException(
+					"Substring [" + start + ", " + end + "] in a text of length " + root.length);
+		}
+		String text = this.text;
+		if (text != null) {
+			return text.substring(start, end);
+		}
+		StringBuilder builder = new StringBuilder(end - start);
+		root.appendTo(builder, start, end);
+		return builder.toString();
+	}
+
+	@Override
+	public CharSequence subSequence(int start, int end) {
+		return substring(start, end);
+	}
+
+	/**
+	 * Returns the whole text of the rope. The text is computed once and cached.
+	 *
+	 * @return the whole text of the rope.
+	 */
+	@Override
+	public String toString() {
+		String text = this.text;
+		if (text == null) {
+			StringBuilder builder = new StringBuilder(root.length);
+			root.appendTo(builder, 0, root.length);
+			text = builder.toString();
+			this.text = text;
+		}
+		return text;
+	}
+
+	private static Node create(String text, int start, int end) {
+		int length = end - start;
+		if (length <= MAX_LEAF_LENGTH) {
+			return new Leaf(start == 0 && end == text.length() ? text : text.substring(start, end));
+		}
+		int middle = start + length / 2;
+		return new Concat(create(text, start, middle), create(text, middle, end));
+	}
+
+	private static Node sub(Node node, int start, int end) {
+		if (start == 0 && end == node.length) {
+			return node;
+		}
+		if (start >= end) {
+			return EMPTY.root;
+		}
+		if (node instanceof Leaf) {
+			return new Leaf(((Leaf) node).text.substring(start, end));
+		}
+		Concat concat = (Concat) node;
+		int leftLength = concat.left.length;
+		if (end <= leftLength) {
+			return sub(concat.left, start, end);
+		}
+		if (start >= leftLength) {
+			return sub(concat.right, start - leftLength, end - leftLength);
+		}
+		return concat(sub(concat.left, start, leftLength), sub(concat.right, 0, end - leftLength));
+	}
+
+	private static Node concat(Node left, Node right) {
+		if (left.length == 0) {
+			return right;
+		}
+		if (right.length == 0) {
+			return left;
+		}
+		if (right instanceof Leaf) {
+			if (left instanceof Leaf && left.length + right.length <= MERGE_LEAF_LENGTH) {
+				return new Leaf(((Leaf) left).text + ((Leaf) right).text);
+			}
+			if (left instanceof Concat) {
+				// merge small chunks created by typing
+				Concat concat = (Concat) left;
+				if (concat.right instanceof Leaf && concat.right.length + right.length <= MERGE_LEAF_LENGTH) {
+					return concat(concat.left, new Leaf(((Leaf) concat.right).text + ((Leaf) right).text));
+				}
+			}
+		}
+		Node result = new Concat(left, right);
+		if (result.depth > MAX_DEPTH) {
+			result = rebalance(result);
+		}
+		return result;
+	}
+
+	private static Node rebalance(Node node) {
+		List<Leaf> leaves = new ArrayList<>();
+		node.collectLeaves(leaves);
+		return balance(leaves, 0, leaves.size());
+	}
+
+	private static Node balance(List<Leaf> leaves, int start, int end) {
+		if (end - start == 1) {
+			return leaves.get(start);
+		}
+		int middle = (start + end) >>> 1;
+		return new Concat(balance(leaves, start, middle), balance(leaves, middle, end));
+	}
+}
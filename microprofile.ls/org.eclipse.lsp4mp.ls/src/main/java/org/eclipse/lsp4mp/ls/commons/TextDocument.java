@@ -40,6 +40,8 @@ public class TextDocument extends TextDocumentItem {
 
 	private boolean incremental;
 
+	private volatile Rope content;
+
 	public TextDocument(TextDocumentItem document) {
 		this(document.getText(), document.getUri());
 		super.setVersion(document.getVersion());
@@ -48,7 +50,31 @@ public class TextDocument extends TextDocumentItem {
 
 	public TextDocument(String text, String uri) {
 		super.setUri(uri);
-		super.setText(text);
+		this.content = Rope.of(text);
+	}
+
+	@Override
+	public String getText() {
+		return content.toString();
+	}
+
+	@Override
+	public void setText(String text) {
+		this.content = Rope.of(text);
+	}
+
+	/**
+	 * Returns an immutable snapshot of the current text of the document.
+	 *
+	 * <p>
+	 * Contrary to {@link #getText()}, the snapshot doesn't build the whole text
+	 * after an incremental update.
+	 * </p>
+	 *
+	 * @return an immutable snapshot of the current text of the document.
+	 */
+	public Rope getTextSnapshot() {
+		return content;
 	}
 
 	public void setIncremental(boolean incremental) {
@@ -82,8 +108,7 @@ public class TextDocument extends TextDocumentItem {
 	public String lineText(int lineNumber) throws BadLocationException {
 		ILineTracker lineTracker = getLineTracker();
 		Line line = lineTracker.getLineInformation(lineNumber);
-		String text = super.getText();
-		return text.substring(line.offset, line.offset + line.length);
+		return content.substring(line.offset, line.offset + line.length);
 	}
 
 	public String lineDelimiter(int lineNumber) throws BadLocationException {
@@ -105,8 +130,7 @@ public class TextDocument extends TextDocumentItem {
 			Position pos = positionAt(textOffset);
 			ILineTracker lineTracker = getLineTracker();
 			Line line = lineTracker.getLineInformation(pos.getLine());
-			String text = super.getText();
-			String lineText = text.substring(line.offset, textOffset);
+			String lineText = content.substring(line.offset, textOffset);
 			int position = lineText.length();
 			Matcher m = wordDefinition.matcher(lineText);
 			int currentPosition = 0;
@@ -139,10 +163,21 @@ public class TextDocument extends TextDocumentItem {
 			return lineTracker;
 		}
 		ILineTracker lineTracker = isIncremental() ? new TreeLineTracker(new ListLineTracker()) : new ListLineTracker();
-		lineTracker.set(super.getText());
+		// the lines are computed from the rope without building the whole text
+		lineTracker.set(content.cursor());
 		return lineTracker;
 	}
 
+	/**
+	 * Update the text of the document after an incremental update.
+	 *
+	 * @param text   the new text.
+	 * @param region the region which has been modified by the incremental update.
+	 */
+	protected void setText(Rope text, DamagedRegion region) {
+		this.content = text;
+	}
+
 	/**
 	 * Update text of the document by using the changes and according the
 	 * incremental support.
@@ -158,8 +193,10 @@ public class TextDocument extends TextDocumentItem {
 			try {
 				long start = System.currentTimeMillis();
 				synchronized (lock) {
-					// Initialize buffer and line tracker from the current text document
-					StringBuilder buffer = new StringBuilder(getText());
+					// Initialize buffer and line tracker from the current text document, the
+					// rope is updated without copying the whole text
+					Rope buffer = content;
+					DamagedRegion region = new DamagedRegion();
 
 					// Loop for each changes and update the buffer
 					for (int i = 0; i < changes.size(); i++) {
@@ -177,11 +214,12 @@ public class TextDocument extends TextDocumentItem {
 						}
 						String text = changeEvent.getText();
 						int startOffset = offsetAt(range.getStart());
-						buffer.replace(startOffset, startOffset + length, text);
+						buffer = buffer.replace(startOffset, length, text);
 						lineTracker.replace(startOffset, length, text);
+						region.replace(startOffset, length, text.length());
 					}
 					// Update the new text content from the updated buffer
-					setText(buffer.toString());
+					setText(buffer, region);
 				}
 				LOGGER.fine("Text document content updated in " + (System.currentTimeMillis() - start) + "ms");
 			} catch (BadLocationException e) {
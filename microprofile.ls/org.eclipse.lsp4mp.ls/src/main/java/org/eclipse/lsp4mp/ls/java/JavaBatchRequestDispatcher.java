@@ -0,0 +1,196 @@
+/*******************************************************************************
+* Copyright (c) 2023 Red Hat Inc. and others.
+*
+* This program and the accompanying materials are made available under the
+* terms of the Eclipse Public License v. 2.0 which is available at
+* http://www.eclipse.org/legal/epl-2.0, or the Apache License, Version 2.0
+* which is available at https://www.apache.org/licenses/LICENSE-2.0.
+*
+* SPDX-License-Identifier: EPL-2.0 OR Apache-2.0
+*
+* Contributors:
+*     Red Hat Inc. - initial API and implementation
+*******************************************************************************/
+package org.eclipse.lsp4mp.ls.java;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Function;
+
+import org.eclipse.lsp4j.jsonrpc.ResponseErrorException;
+import org.eclipse.lsp4j.jsonrpc.messages.ResponseErrorCode;
+
+/**
+ * Dispatcher of the requests sent to the JDT LS extension for a Java file URI
+ * (file information, project labels) which groups the requests in batches.
+ *
+ * <p>
+ * While less than a max number of requests are pending, a request is sent
+ * immediately. The requests which are done when the max number of pending
+ * requests is reached are queued and sent with one batch request as soon as
+ * one of the pending requests completes. When a lot of Java files are opened
+ * (ex : when the editor restores its opened files), the JDT LS extension
+ * receives a few batch requests instead of one request per Java file, and a
+ * slow request doesn't delay the requests of the other Java files.
+ * </p>
+ *
+ * <p>
+ * If the client doesn't support the batch request, the queued requests are sent
+ * one by one.
+ * </p>
+ *
+ * @param <R> the result type.
+ */
+class JavaBatchRequestDispatcher<R> {
+
+	private static final int DEFAULT_MAX_PENDING_REQUESTS = 4;
+
+	private final Function<String, CompletableFuture<R>> request;
+
+	private final Function<List<String>, CompletableFuture<List<R>>> batchRequest;
+
+	private final Map<String /* Java file URI */, CompletableFuture<R>> queue;
+
+	private final int maxPendingRequests;
+
+	private int pendingRequests;
+
+	private volatile boolean batchSupported;
+
+	/**
+	 * Create the dispatcher.
+	 *
+	 * @param request      the request for one Java file URI.
+	 * @param batchRequest the request for several Java file URIs which returns the
+	 *                     results in the order of the URIs.
+	 */
+	public JavaBatchRequestDispatcher(Function<String, CompletableFuture<R>> request,
+			Function<List<String>, CompletableFuture<List<R>>> batchRequest) {
+		this(request, batchRequest, DEFAULT_MAX_PENDING_REQUESTS);
+	}
+
+	/**
+	 * Create the dispatcher.
+	 *
+	 * @param request            the request for one Java file URI.
+	 * @param batchRequest       the request for several Java file URIs which
+	 *                           returns the results in the order of the URIs.
+	 * @param maxPendingRequests the max number of requests (single or batch)
+	 *                           sent at the same time.
+	 */
+	JavaBatchRequestDispatcher(Function<String, CompletableFuture<R>> request,
+			Function<List<String>, CompletableFuture<List<R>>> batchRequest, int maxPendingRequests) {
+		this.request = request;
+		this.maxPendingRequests = Math.max(1, maxPendingRequests);
+		this.batchRequest = batchRequest;
+		this.queue = new LinkedHashMap<>();
+		this.batchSupported = true;
+	}
+
+	/**
+	 * Returns the result of the request for the given Java file URI.
+	 *
+	 * @param uri the Java file URI.
+	 * @return the result of the request for the given Java file URI.
+	 */
+	public CompletableFuture<R> request(String uri) {
+		synchronized (queue) {
+			if (pendingRequests >= maxPendingRequests) {
+				// too many requests are pending, the request will be sent in the next batch
+				CompletableFuture<R> queued = queue.get(uri);
+				if (queued == null || queued.isDone()) {
+					// the queued request could have been cancelled by a caller
+					queued = new CompletableFuture<>();
+					queue.put(uri, queued);
+				}
+				return queued;
+			}
+			pendingRequests++;
+		}
+		CompletableFuture<R> result = new CompletableFuture<>();
+		send(Collections.singletonMap(uri, result));
+		return result;
+	}
+
+	private void send(Map<String, CompletableFuture<R>> requests) {
+		if (requests.size() == 1 || !batchSupported) {
+			sendOneByOne(requests);
+			return;
+		}
+		List<String> uris = new ArrayList<>(requests.keySet());
+		call(batchRequest, uris).whenComplete((results, ex) -> {
+			if (ex != null) {
+				if (isMethodNotFound(ex)) {
+					// the client doesn't support the batch request
+					batchSupported = false;
+					sendOneByOne(requests);
+					return;
+				}
+				requests.values().forEach(future -> future.completeExceptionally(ex));
+			} else {
+				for (int i = 0; i < uris.size(); i++) {
+					R result = results != null && i < results.size() ? results.get(i) : null;
+					requests.get(uris.get(i)).complete(result);
+				}
+			}
+			sendQueue();
+		});
+	}
+
+	private void sendOneByOne(Map<String, CompletableFuture<R>> requests) {
+		AtomicInteger remaining = new AtomicInteger(requests.size());
+		requests.forEach((uri, future) -> {
+			call(request, uri).whenComplete((result, ex) -> {
+				if (ex != null) {
+					future.completeExceptionally(ex);
+				} else {
+					future.complete(result);
+				}
+				if (remaining.decrementAndGet() == 0) {
+					sendQueue();
+				}
+			});
+		});
+	}
+
+	private void sendQueue() {
+		Map<String, CompletableFuture<R>> requests = new LinkedHashMap<>();
+		synchronized (queue) {
+			// the requests cancelled while they were queued are not sent
+			queue.forEach((uri, future) -> {
+				if (!future.isDone()) {
+					requests.put(uri, future);
+				}
+			});
+			queue.clear();
+			if (requests.isEmpty()) {
+				pendingRequests--;
+				return;
+			}
+		}
+		send(requests);
+	}
+
+	private static <T, V> CompletableFuture<V> call(Function<T, CompletableFuture<V>> function, T arg) {
+		try {
+			CompletableFuture<V> future = function.apply(arg);
+			return future != null ? future : CompletableFuture.completedFuture(null);
+		} catch (Exception e) {
+			CompletableFuture<V> future = new CompletableFuture<>();
+			future.completeExceptionally(e);
+			return future;
+		}
+	}
+
+	private static boolean isMethodNotFound(Throwable ex) {
+		Throwable cause = ex instanceof CompletionException && ex.getCause() != null ? ex.getCause() : ex;
+		return cause instanceof ResponseErrorException && ((ResponseErrorException) cause).getResponseError()
+				.getCode() == ResponseErrorCode.MethodNotFound.getValue();
+	}
+}
@@ -16,6 +16,8 @@ package org.eclipse.lsp4mp.ls.java;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collections;
+import java.util.HashSet;
+import java.util.Iterator;
 import java.util.List;
 import java.util.Set;
 import java.util.concurrent.CompletableFuture;
@@ -108,7 +110,9 @@ public class JavaFileTextDocumentService extends AbstractTextDocumentService {
 
 	@Override
 	public void didOpen(DidOpenTextDocumentParams params) {
-		validate(documents.onDidOpenTextDocument(params), false);
+		JavaTextDocument document = documents.onDidOpenTextDocument(params);
+		document.saved();
+		validate(document, false);
 	}
 
 	@Override
@@ -127,8 +131,74 @@ public class JavaFileTextDocumentService extends AbstractTextDocumentService {
 
 	@Override
 	public void didSave(DidSaveTextDocumentParams params) {
-		// validate all opened java files which belong to a MicroProfile project
-		triggerValidationForAll(null);
+		JavaTextDocument savedDocument = documents.get(params.getTextDocument().getUri());
+		if (savedDocument == null) {
+			// validate all opened java files which belong to a MicroProfile project
+			triggerValidationForAll(null);
+			return;
+		}
+		// validate only the saved Java file and the opened Java files whose
+		// diagnostics can depend on the saved Java file
+		List<JavaTextDocument> dependents = getDependentDocuments(savedDocument);
+		savedDocument.saved();
+		triggerValidationFor(dependents.stream() //
+				.map(TextDocument::getUri) //
+				.collect(Collectors.toList()));
+	}
+
+	/**
+	 * Returns the given saved Java file and the opened Java files which can be
+	 * impacted by the save of the given Java file:
+	 *
+	 * <ul>
+	 * <li>the Java files which reference (directly or through other opened Java
+	 * files) a type declared in the saved Java file.</li>
+	 * <li>the Java files which declare a type referenced by the saved Java
+	 * file.</li>
+	 * </ul>
+	 *
+	 * <p>
+	 * The types declared and referenced by the saved Java file are collected from
+	 * its current text and from its text of the previous save, to revalidate the
+	 * Java files which depended on a type that has been removed or renamed.
+	 * </p>
+	 *
+	 * @param savedDocument the saved Java file.
+	 * @return the opened Java files which can be impacted by the save of the given
+	 *         Java file.
+	 */
+	private List<JavaTextDocument> getDependentDocuments(JavaTextDocument savedDocument) {
+		JavaValidationDependencies savedDependencies = savedDocument.getValidationDependenciesSinceLastSave();
+		List<JavaTextDocument> dependents = new ArrayList<>();
+		dependents.add(savedDocument);
+		List<JavaTextDocument> others = new ArrayList<>();
+		for (JavaTextDocument document : documents.all()) {
+			if (document == savedDocument) {
+				continue;
+			}
+			if (savedDependencies.isReferencing(document.getValidationDependencies().getDeclaredTypes())) {
+				dependents.add(document);
+			} else {
+				others.add(document);
+			}
+		}
+		// collect the Java files which reference a type of the saved Java file or of
+		// a Java file which references it
+		Set<String> changedTypes = new HashSet<>(savedDependencies.getDeclaredTypes());
+		boolean added = !changedTypes.isEmpty();
+		while (added) {
+			added = false;
+			for (Iterator<JavaTextDocument> iterator = others.iterator(); iterator.hasNext();) {
+				JavaTextDocument document = iterator.next();
+				JavaValidationDependencies dependencies = document.getValidationDependencies();
+				if (dependencies.isReferencing(changedTypes)) {
+					dependents.add(document);
+					iterator.remove();
+					added |= changedTypes.addAll(dependencies.getDeclaredTypes());
+				}
+			}
+		}
+		return dependents;
 	}
 
 	// ------------------------------ Completion ------------------------------
@@ -393,11 +463,20 @@ public class JavaFileTextDocumentService extends AbstractTextDocumentService {
 	}
 
 	public void propertiesChanged(MicroProfilePropertiesChangeEvent event) {
-		if (documents.propertiesChanged(event) || MicroProfilePropertiesScope.isOnlyConfigFiles(event.getType())) {
-			// Classpath changed or some properties config files (ex :
-			// microprofile-config.properties) has been
-			// saved, revalidate all opened java files.
+		if (documents.propertiesChanged(event)) {
+			// Classpath changed, revalidate all opened java files.
 			triggerValidationForAll(null);
+		} else if (MicroProfilePropertiesScope.isOnlyConfigFiles(event.getType())) {
+			// Some properties config files (ex : microprofile-config.properties) has been
+			// saved, revalidate the opened java files of the impacted projects (the
+			// diagnostics participants which use the config properties are registered on
+			// the JDT LS side, so any Java file can depend on them).
+			Set<String> projectURIs = event.getProjectURIs();
+			triggerValidationFor(documents.all().stream() //
+					.filter(document -> projectURIs == null || document.getProjectURI() == null
+							|| projectURIs.contains(document.getProjectURI())) //
+					.map(TextDocument::getUri) //
+					.collect(Collectors.toList()));
 		}
 	}
 
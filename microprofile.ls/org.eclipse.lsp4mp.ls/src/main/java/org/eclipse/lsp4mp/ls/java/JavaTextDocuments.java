@@ -31,6 +31,7 @@ import org.eclipse.lsp4j.jsonrpc.CompletableFutures.FutureCancelChecker;
 import org.eclipse.lsp4jdt.commons.JavaFileInfo;
 import org.eclipse.lsp4jdt.commons.JavaFileInfoParams;
 import org.eclipse.lsp4jdt.commons.JavaProjectLabelsParams;
+import org.eclipse.lsp4mp.commons.MicroProfileJavaBatchParams;
 import org.eclipse.lsp4mp.commons.MicroProfilePropertiesChangeEvent;
 import org.eclipse.lsp4mp.commons.MicroProfilePropertiesScope;
 import org.eclipse.lsp4jdt.commons.ProjectLabelInfoEntry;
@@ -62,6 +63,10 @@ public class JavaTextDocuments extends TextDocuments<JavaTextDocument> {
 
 	private final MicroProfileJavaFileInfoProvider fileInfoProvider;
 
+	private final JavaBatchRequestDispatcher<ProjectLabelInfoEntry> projectInfoDispatcher;
+
+	private final JavaBatchRequestDispatcher<JavaFileInfo> fileInfoDispatcher;
+
 	private JavaTextDocumentSnippetRegistry snippetRegistry;
 
 	private boolean hasLoadedAllProjects = false;
@@ -78,6 +83,10 @@ public class JavaTextDocuments extends TextDocuments<JavaTextDocument> {
 
 		private CompletableFuture<JavaFileInfo> fileInfoFuture;
 
+		private volatile JavaValidationDependencies validationDependencies;
+
+		private volatile JavaValidationDependencies savedDependencies;
+
 		public JavaTextDocument(TextDocumentItem document) {
 			super(document);
 			collectFileInfo();
@@ -90,9 +99,7 @@ public class JavaTextDocuments extends TextDocuments<JavaTextDocument> {
 			if (fileInfoProvider != null) {
 				if (fileInfoFuture == null || fileInfoFuture.isCancelled()
 						|| fileInfoFuture.isCompletedExceptionally()) {
-					JavaFileInfoParams params = new JavaFileInfoParams();
-					params.setUri(super.getUri());
-					fileInfoFuture = fileInfoProvider.getJavaFileInfo(params);
+					fileInfoFuture = fileInfoDispatcher.request(super.getUri());
 				}
 				JavaFileInfo fileInfo = fileInfoFuture.getNow(null);
 				if (fileInfo != null) {
@@ -120,6 +127,43 @@ public class JavaTextDocuments extends TextDocuments<JavaTextDocument> {
 			this.projectURI = projectURI;
 		}
 
+		/**
+		 * Returns the inputs of the Java diagnostics of the current text of the Java
+		 * file.
+		 *
+		 * @return the inputs of the Java diagnostics of the current text of the Java
+		 *         file.
+		 */
+		JavaValidationDependencies getValidationDependencies() {
+			CharSequence text = getTextSnapshot();
+			JavaValidationDependencies dependencies = validationDependencies;
+			if (dependencies == null || !dependencies.isCollectedFrom(text)) {
+				dependencies = new JavaValidationDependencies(text);
+				validationDependencies = dependencies;
+			}
+			return dependencies;
+		}
+
+		/**
+		 * Returns the inputs of the Java diagnostics of the current text of the Java
+		 * file united with those of the text of the last save (ex : a type which has
+		 * been removed since the last save).
+		 *
+		 * @return the inputs of the Java diagnostics of the current text of the Java
+		 *         file united with those of the text of the last save.
+		 */
+		JavaValidationDependencies getValidationDependenciesSinceLastSave() {
+			return getValidationDependencies().union(savedDependencies);
+		}
+
+		/**
+		 * Notify that the current text of the Java file has been saved (or opened)
+		 * and that the Java files which depend on it have been validated.
+		 */
+		void saved() {
+			savedDependencies = getValidationDependencies();
+		}
+
 		/**
 		 * Execute the given code only if the Java file belongs to a MicroProfile
 		 * without waiting for the load of project information.
@@ -199,6 +243,21 @@ public class JavaTextDocuments extends TextDocuments<JavaTextDocument> {
 			MicroProfileJavaFileInfoProvider fileInfoProvider) {
 		this.projectInfoProvider = projectInfoProvider;
 		this.fileInfoProvider = fileInfoProvider;
+		this.projectInfoDispatcher = new JavaBatchRequestDispatcher<>(uri -> {
+			JavaProjectLabelsParams params = new JavaProjectLabelsParams();
+			params.setUri(uri);
+			params.setTypes(getSnippetRegistry().getTypes());
+			return projectInfoProvider.getJavaProjectLabels(params);
+		}, uris -> {
+			MicroProfileJavaBatchParams params = new MicroProfileJavaBatchParams(uris);
+			params.setTypes(getSnippetRegistry().getTypes());
+			return projectInfoProvider.getBatchJavaProjectLabels(params);
+		});
+		this.fileInfoDispatcher = new JavaBatchRequestDispatcher<>(uri -> {
+			JavaFileInfoParams params = new JavaFileInfoParams();
+			params.setUri(uri);
+			return fileInfoProvider.getJavaFileInfo(params);
+		}, uris -> fileInfoProvider.getBatchJavaFileInfo(new MicroProfileJavaBatchParams(uris)));
 		this.documentCache = new ConcurrentHashMap<>();
 		this.projectCache = new ConcurrentHashMap<>();
 	}
@@ -261,12 +320,8 @@ public class JavaTextDocuments extends TextDocuments<JavaTextDocument> {
 //>>>>>>> CommonJDTOnlyPOC
 				}
 				// not found in the cache, load the project info from the JDT LS Extension
-				//MicroProfileJavaProjectLabelsParams params = new MicroProfileJavaProjectLabelsParams();
-				JavaProjectLabelsParams params = new JavaProjectLabelsParams();
-				params.setUri(documentURI);
-				params.setTypes(getSnippetRegistry().getTypes());
-				final CompletableFuture<ProjectLabelInfoEntry> future = projectInfoProvider
-						.getJavaProjectLabels(params);
+				// (grouped in batch with the other pending project info requests)
+				final CompletableFuture<ProjectLabelInfoEntry> future = projectInfoDispatcher.request(documentURI);
 				future.thenApply(entry -> {
 					if (entry != null) {
 						// project info with labels are get from the JDT LS
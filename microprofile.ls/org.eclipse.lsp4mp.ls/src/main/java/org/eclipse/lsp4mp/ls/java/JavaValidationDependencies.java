@@ -0,0 +1,167 @@
+/*******************************************************************************
+* Copyright (c) 2023 Red Hat Inc. and others.
+*
+* This program and the accompanying materials are made available under the
+* terms of the Eclipse Public License v. 2.0 which is available at
+* http://www.eclipse.org/legal/epl-2.0, or the Apache License, Version 2.0
+* which is available at https://www.apache.org/licenses/LICENSE-2.0.
+*
+* SPDX-License-Identifier: EPL-2.0 OR Apache-2.0
+*
+* Contributors:
+*     Red Hat Inc. - initial API and implementation
+*******************************************************************************/
+package org.eclipse.lsp4mp.ls.java;
+
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.Set;
+
+import org.eclipse.lsp4mp.ls.commons.Rope;
+
+/**
+ * The inputs of the Java diagnostics of an opened Java file, collected from
+ * its text: the names of the types (classes, interfaces, annotations, etc)
+ * declared in the Java file and the identifiers used in the Java file.
+ *
+ * <p>
+ * The Java diagnostics of a Java file depend on the types that it references
+ * (ex : the REST client interface of an injected field), on the Java files
+ * which reference its types (ex : the injections of a REST client interface)
+ * and on the properties of the config files.
+ * </p>
+ *
+ * <p>
+ * The identifiers are collected without parsing the Java code, so the
+ * dependencies are conservative: every identifier of the text is collected,
+ * including the identifiers of comments and strings. A type is seen as
+ * referenced when its simple name appears in the text, for instance in a
+ * single type import (ex : 'import org.acme.MyService;'), in a declaration or
+ * in a fully qualified name written in a string or an annotation value (ex :
+ * '"org.acme.MyService"'). A type which is used without its simple name
+ * appearing in the text (ex : the type of a local variable declared with
+ * 'var') is not seen.
+ * </p>
+ *
+ */
+class JavaValidationDependencies {
+
+	private static final Set<String> TYPE_DECLARATION_KEYWORDS = new HashSet<>(
+			Arrays.asList("class", "interface", "enum", "record"));
+
+	private final CharSequence text;
+
+	private final Set<String> declaredTypes;
+
+	private final Set<String> identifiers;
+
+	/**
+	 * Collect the dependencies from the given Java text.
+	 *
+	 * @param text the Java text.
+	 */
+	public JavaValidationDependencies(CharSequence text) {
+		this.text = text;
+		this.declaredTypes = new HashSet<>();
+		this.identifiers = new HashSet<>();
+		collect(Rope.cursor(text));
+	}
+
+	private JavaValidationDependencies(CharSequence text, Set<String> declaredTypes, Set<String> identifiers) {
+		this.text = text;
+		this.declaredTypes = declaredTypes;
+		this.identifiers = identifiers;
+	}
+
+	private void collect(CharSequence text) {
+		boolean typeDeclaration = false;
+		int length = text.length();
+		int i = 0;
+		while (i < length) {
+			char c = text.charAt(i);
+			if (Character.isJavaIdentifierStart(c)) {
+				int start = i;
+				i++;
+				while (i < length && Character.isJavaIdentifierPart(text.charAt(i))) {
+					i++;
+				}
+				String identifier = text.subSequence(start, i).toString();
+				if (typeDeclaration) {
+					declaredTypes.add(identifier);
+				}
+				typeDeclaration = TYPE_DECLARATION_KEYWORDS.contains(identifier);
+				identifiers.add(identifier);
+			} else {
+				if (Character.isDigit(c)) {
+					// skip the number literal
+					while (i < length && Character.isJavaIdentifierPart(text.charAt(i))) {
+						i++;
+					}
+					typeDeclaration = false;
+				} else {
+					if (!Character.isWhitespace(c)) {
+						typeDeclaration = false;
+					}
+					i++;
+				}
+			}
+		}
+	}
+
+	/**
+	 * Returns true if these dependencies have been collected from the given text
+	 * and false otherwise.
+	 *
+	 * @param text the Java text.
+	 * @return true if these dependencies have been collected from the given text
+	 *         and false otherwise.
+	 */
+	public boolean isCollectedFrom(CharSequence text) {
+		return this.text == text;
+	}
+
+	/**
+	 * Returns the simple names of the types declared in the Java file.
+	 *
+	 * @return the simple names of the types declared in the Java file.
+	 */
+	public Set<String> getDeclaredTypes() {
+		return declaredTypes;
+	}
+
+	/**
+	 * Returns true if the Java file uses one of the given type simple names and
+	 * false otherwise.
+	 *
+	 * @param typeNames the type simple names.
+	 * @return true if the Java file uses one of the given type simple names and
+	 *         false otherwise.
+	 */
+	public boolean isReferencing(Collection<String> typeNames) {
+		for (String typeName : typeNames) {
+			if (identifiers.contains(typeName)) {
+				return true;
+			}
+		}
+		return false;
+	}
+
+	/**
+	 * Returns the union of these dependencies and the given dependencies (ex : the
+	 * dependencies of the current text and of the previous text of a Java file).
+	 *
+	 * @param other the other dependencies.
+	 * @return the union of these dependencies and the given dependencies.
+	 */
+	public JavaValidationDependencies union(JavaValidationDependencies other) {
+		if (other == null || other == this) {
+			return this;
+		}
+		Set<String> declaredTypes = new HashSet<>(this.declaredTypes);
+		declaredTypes.addAll(other.declaredTypes);
+		Set<String> identifiers = new HashSet<>(this.identifiers);
+		identifiers.addAll(other.identifiers);
+		return new JavaValidationDependencies(text, declaredTypes, identifiers);
+	}
+}
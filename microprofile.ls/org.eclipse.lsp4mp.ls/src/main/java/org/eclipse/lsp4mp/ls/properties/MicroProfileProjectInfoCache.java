@@ -13,27 +13,68 @@
 *******************************************************************************/
 package org.eclipse.lsp4mp.ls.properties;
 
+import java.net.URI;
+import java.net.URISyntaxException;
+import java.nio.file.FileSystemNotFoundException;
+import java.nio.file.Paths;
+import java.util.ArrayList;
 import java.util.Collection;
 import java.util.Collections;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.IdentityHashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
 import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Consumer;
+import java.util.function.LongConsumer;
 import java.util.logging.Level;
 import java.util.logging.Logger;
 import java.util.stream.Collectors;
 
+import org.eclipse.lsp4jdt.commons.ClasspathKind;
 import org.eclipse.lsp4mp.commons.MicroProfileProjectInfo;
 import org.eclipse.lsp4mp.commons.MicroProfileProjectInfoParams;
 import org.eclipse.lsp4mp.commons.MicroProfilePropertiesChangeEvent;
 import org.eclipse.lsp4mp.commons.MicroProfilePropertiesScope;
 import org.eclipse.lsp4mp.extensions.ExtendedMicroProfileProjectInfo;
 import org.eclipse.lsp4mp.ls.api.MicroProfileProjectInfoProvider;
+import org.eclipse.lsp4mp.settings.MicroProfileProjectInfoCacheSettings;
 
 /**
  * MicroProfile project information cache.
  * 
+ * <p>
+ * The properties and hints collected from the classpath and the Java sources
+ * are cached per project URI and classpath kind (the properties files of
+ * src/main/resources and src/test/resources don't see the same classpath) and
+ * are shared by the properties files of the same folder and its sub folders
+ * (application.properties, application-{profile}.properties,
+ * META-INF/microprofile-config.properties). Each properties file uses a view of
+ * the project information which only holds the custom properties computed from
+ * its content.
+ * </p>
+ * 
+ * <p>
+ * When the classpath of a project changes, the project information is marked
+ * as stale and is still used while the project information is collected again
+ * in background. When the new project information is collected, it replaces
+ * the stale project information for all the properties files of the project
+ * which are validated again.
+ * </p>
+ * 
+ * <p>
+ * The project information of the closed properties files is evicted when it
+ * has not been used since the idle timeout, or when the approximate memory
+ * retained by the project information exceeds the max memory (the least
+ * recently used first). An evicted project information is loaded again (from
+ * the disk cache if it is enabled) the next time it is requested.
+ * </p>
+ * 
  * @author Angelo ZERR
  *
  */
@@ -41,13 +82,112 @@ class MicroProfileProjectInfoCache {
 
 	private static final Logger LOGGER = Logger.getLogger(MicroProfileProjectInfoCache.class.getName());
 
+	private static final long EVICTION_INTERVAL_MS = TimeUnit.MINUTES.toMillis(1);
+
+	/**
+	 * The properties files which use a project information.
+	 */
+	private static class ProjectUsage {
+
+		private final ExtendedMicroProfileProjectInfo project;
+
+		private final Map<String /* application.properties URI */, CompletableFuture<MicroProfileProjectInfo>> documents;
+
+		private long accessTime;
+
+		private boolean opened;
+
+		public ProjectUsage(ExtendedMicroProfileProjectInfo project) {
+			this.project = project;
+			this.documents = new HashMap<>();
+		}
+
+		public void add(String documentURI, CompletableFuture<MicroProfileProjectInfo> future, long accessTime,
+				boolean opened) {
+			documents.put(documentURI, future);
+			this.accessTime = Math.max(this.accessTime, accessTime);
+			this.opened |= opened;
+		}
+	}
+
 	private final Map<String /* application.properties URI */, CompletableFuture<MicroProfileProjectInfo>> cache;
 
+	private final Map<String /* project URI + classpath kind */, ExtendedMicroProfileProjectInfo> projects;
+
+	private final Map<String /* project URI + classpath kind */, MicroProfileProjectInfoParams> projectParams;
+
+	private final Map<String /* project URI + classpath kind */, CompletableFuture<MicroProfileProjectInfo>> rescans;
+
+	private final Map<String /* project URI + classpath kind */, CompletableFuture<ExtendedMicroProfileProjectInfo>> sourceReloads;
+
+	private final Map<String /* application.properties URI */, CompletableFuture<MicroProfileProjectInfo>> documentReloads;
+
 	private final MicroProfileProjectInfoProvider provider;
 
+	private final MicroProfileProjectInfoDiskCache diskCache;
+
+	private final Consumer<String> projectInfoReplaced;
+
+	private final LongConsumer entriesEvicted;
+
+	private final MicroProfileProjectInfoCacheSettings settings;
+
+	private final Set<String /* application.properties URI */> openedDocuments;
+
+	private final Map<String /* application.properties URI */, Long> accessTimes;
+
+	private volatile long lastEvictionTime;
+
 	public MicroProfileProjectInfoCache(MicroProfileProjectInfoProvider provider) {
+		this(provider, null, null);
+	}
+
+	public MicroProfileProjectInfoCache(MicroProfileProjectInfoProvider provider,
+			MicroProfileProjectInfoDiskCache diskCache, Consumer<String> projectInfoReplaced) {
+		this(provider, diskCache, new MicroProfileProjectInfoCacheSettings(), projectInfoReplaced);
+	}
+
+	public MicroProfileProjectInfoCache(MicroProfileProjectInfoProvider provider,
+			MicroProfileProjectInfoDiskCache diskCache, MicroProfileProjectInfoCacheSettings settings,
+			Consumer<String> projectInfoReplaced) {
+		this(provider, diskCache, settings, projectInfoReplaced, null);
+	}
+
+	/**
+	 * MicroProfile project information cache constructor.
+	 * 
+	 * @param provider            the project information provider.
+	 * @param diskCache           the disk cache used to get the project
+	 *                            information after a restart of the language
+	 *                            server and null otherwise.
+	 * @param settings            the project information cache settings (max
+	 *                            memory, idle timeout).
+	 * @param projectInfoReplaced the consumer called with the
+	 *                            application.properties URI when its project
+	 *                            information (loaded from the disk or stale) has
+	 *                            been replaced or evicted and the properties file
+	 *                            must be validated again.
+	 * @param entriesEvicted      the consumer called with the current time after
+	 *                            the idle entries have been evicted, to release
+	 *                            the other resources of the idle properties files
+	 *                            (ex : the parsed models) and null otherwise.
+	 */
+	public MicroProfileProjectInfoCache(MicroProfileProjectInfoProvider provider,
+			MicroProfileProjectInfoDiskCache diskCache, MicroProfileProjectInfoCacheSettings settings,
+			Consumer<String> projectInfoReplaced, LongConsumer entriesEvicted) {
 		this.provider = provider;
+		this.diskCache = diskCache;
+		this.settings = settings;
+		this.projectInfoReplaced = projectInfoReplaced;
+		this.entriesEvicted = entriesEvicted;
 		this.cache = new ConcurrentHashMap<>();
+		this.projects = new ConcurrentHashMap<>();
+		this.projectParams = new ConcurrentHashMap<>();
+		this.rescans = new ConcurrentHashMap<>();
+		this.sourceReloads = new ConcurrentHashMap<>();
+		this.documentReloads = new ConcurrentHashMap<>();
+		this.openedDocuments = ConcurrentHashMap.newKeySet();
+		this.accessTimes = new ConcurrentHashMap<>();
 	}
 
 	/**
@@ -68,15 +208,50 @@ class MicroProfileProjectInfoCache {
 	}
 
 	CompletableFuture<MicroProfileProjectInfo> getProjectInfoFromCache(MicroProfileProjectInfoParams params) {
+		return getProjectInfoFromCache(params, System.currentTimeMillis());
+	}
+
+	CompletableFuture<MicroProfileProjectInfo> getProjectInfoFromCache(MicroProfileProjectInfoParams params,
+			long now) {
+		accessTimes.put(params.getUri(), now);
+		if (now - lastEvictionTime >= EVICTION_INTERVAL_MS) {
+			evictEntries(now);
+		}
 		// Search future which load project info in cache
 		CompletableFuture<MicroProfileProjectInfo> projectInfo = cache.get(params.getUri());
 		if (projectInfo == null || projectInfo.isCancelled() || projectInfo.isCompletedExceptionally()) {
+			ExtendedMicroProfileProjectInfo project = findProject(params.getUri());
+			if (project != null) {
+				// the project information has been loaded for another properties file of the
+				// project, share it.
+				CompletableFuture<MicroProfileProjectInfo> future = CompletableFuture
+						.completedFuture(project.createView());
+				cache.put(params.getUri(), future);
+				return future;
+			}
 			// not found in the cache, load the project info from the JDT LS Extension
 			params.setScopes(MicroProfilePropertiesScope.SOURCES_AND_DEPENDENCIES);
-			CompletableFuture<MicroProfileProjectInfo> future = provider.getProjectInfo(params). //
-					thenApply(info -> new ExtendedMicroProfileProjectInfo(info));
+			MicroProfileProjectInfo storedInfo = loadFromDisk(params.getUri());
+			if (storedInfo != null) {
+				// the project information stored on the disk is returned immediately and it
+				// is revalidated in background.
+				CompletableFuture<MicroProfileProjectInfo> future = CompletableFuture
+						.completedFuture(registerProject(storedInfo, params).createView());
+				cache.put(params.getUri(), future);
+				revalidate(params, future);
+				evictEntries(now);
+				return future;
+			}
+			CompletableFuture<MicroProfileProjectInfo> scan = provider.getProjectInfo(params);
+			CompletableFuture<MicroProfileProjectInfo> future = scan. //
+					thenApply(info -> registerProject(info, params).createView());
 			// cache the future.
 			cache.put(params.getUri(), future);
+			if (isDiskCacheEnabled()) {
+				scan.thenAcceptAsync(info -> diskCache.save(Collections.singletonList(params.getUri()), info));
+			}
+			// a new project information could exceed the max memory
+			future.thenRun(() -> evictEntries(System.currentTimeMillis()));
 			return future;
 		}
 		if (!projectInfo.isDone()) {
@@ -84,32 +259,419 @@ class MicroProfileProjectInfoCache {
 		}
 
 		ExtendedMicroProfileProjectInfo wrapper = getProjectInfoWrapper(projectInfo);
-		if (wrapper.isReloadFromSource()) {
+		if (wrapper.isReloadFromSource() && !wrapper.isStale()) {
 			// There are some java sources changed, get the MicroProfile properties from
 			// java
-			// sources.
-			params.setScopes(MicroProfilePropertiesScope.ONLY_SOURCES);
-			return provider.getProjectInfo(params). //
-					exceptionally(ex -> {
-						LOGGER.log(Level.WARNING, String.format(
-								"Error while getting MicroProfileProjectInfo (sources) for '%s'", params.getUri()), ex);
-						return MicroProfileProjectInfo.EMPTY_PROJECT_INFO;
-					}). //
-					thenApply(info ->
-					// then update the cache with the new properties
-					{
-						wrapper.updateSourcesProperties(info.getProperties(), info.getHints());
-						return wrapper;
-					});
+			// sources (when the project information is stale, the Java sources are
+			// collected with the classpath).
+			return reloadFromSources(params, wrapper);
 		}
 
 		// Returns the cached project info
 		return projectInfo;
 	}
 
+	/**
+	 * Notify that the given properties file has been opened.
+	 * 
+	 * <p>
+	 * The project information of an opened properties file is never evicted.
+	 * </p>
+	 *
+	 * @param documentURI the properties file URI.
+	 */
+	public void documentOpened(String documentURI) {
+		openedDocuments.add(documentURI);
+		accessTimes.put(documentURI, System.currentTimeMillis());
+	}
+
+	/**
+	 * Notify that the given properties file has been closed.
+	 *
+	 * @param documentURI the properties file URI.
+	 */
+	public void documentClosed(String documentURI) {
+		long now = System.currentTimeMillis();
+		openedDocuments.remove(documentURI);
+		// the idle timeout starts when the properties file is closed
+		accessTimes.put(documentURI, now);
+		evictEntries(now);
+	}
+
+	/**
+	 * Evict the project information of the closed properties files which have not
+	 * been used since the idle timeout and the least recently used project
+	 * information of the closed properties files while the memory retained by the
+	 * project information exceeds the max memory.
+	 *
+	 * @param now the current time in milliseconds.
+	 */
+	void evictEntries(long now) {
+		evictProjectInfos(now);
+		if (entriesEvicted != null) {
+			entriesEvicted.accept(now);
+		}
+	}
+
+	private void evictProjectInfos(long now) {
+		synchronized (accessTimes) {
+			lastEvictionTime = now;
+			long idleTimeout = TimeUnit.MINUTES.toMillis(settings.getIdleTimeout());
+			Map<ExtendedMicroProfileProjectInfo, ProjectUsage> usages = new IdentityHashMap<>();
+			Set<ExtendedMicroProfileProjectInfo> idleProjects = Collections.newSetFromMap(new IdentityHashMap<>());
+			for (Map.Entry<String, CompletableFuture<MicroProfileProjectInfo>> entry : cache.entrySet()) {
+				ExtendedMicroProfileProjectInfo view = getProjectInfoWrapper(entry.getValue());
+				if (view == null) {
+					// the project information is being loaded
+					continue;
+				}
+				String documentURI = entry.getKey();
+				boolean opened = openedDocuments.contains(documentURI);
+				long accessTime = accessTimes.getOrDefault(documentURI, now);
+				if (!opened && idleTimeout > 0 && now - accessTime > idleTimeout) {
+					evictDocument(documentURI, entry.getValue());
+					idleProjects.add(view.getProjectInfo());
+				} else {
+					usages.computeIfAbsent(view.getProjectInfo(), ProjectUsage::new).add(documentURI,
+							entry.getValue(), accessTime, opened);
+				}
+			}
+			// evict the project information which are no longer used
+			idleProjects.stream().filter(project -> !usages.containsKey(project)).forEach(this::evictProject);
+
+			long maxMemory = settings.getMaxMemory() * 1024L * 1024L;
+			if (maxMemory <= 0) {
+				return;
+			}
+			long size = usages.keySet().stream().mapToLong(ExtendedMicroProfileProjectInfo::getEstimatedSize).sum();
+			if (size <= maxMemory) {
+				return;
+			}
+			List<ProjectUsage> leastRecentlyUsed = usages.values().stream().filter(usage -> !usage.opened)
+					.sorted(Comparator.comparingLong(usage -> usage.accessTime)).collect(Collectors.toList());
+			for (ProjectUsage usage : leastRecentlyUsed) {
+				if (size <= maxMemory) {
+					break;
+				}
+				usage.documents.forEach(this::evictDocument);
+				evictProject(usage.project);
+				size -= usage.project.getEstimatedSize();
+			}
+		}
+	}
+
+	private void evictDocument(String documentURI, CompletableFuture<MicroProfileProjectInfo> future) {
+		if (cache.remove(documentURI, future)) {
+			accessTimes.remove(documentURI);
+			documentReloads.remove(documentURI);
+		}
+	}
+
+	private void evictProject(ExtendedMicroProfileProjectInfo project) {
+		String projectKey = getProjectKey(project);
+		if (projects.remove(projectKey, project)) {
+			projectParams.remove(projectKey);
+			sourceReloads.remove(projectKey);
+			// the pending rescan is ignored
+			rescans.remove(projectKey);
+		}
+	}
+
+	/**
+	 * Returns the key of the given project information in the loaded projects.
+	 *
+	 * @param info the project information.
+	 * @return the key of the given project information in the loaded projects.
+	 */
+	private static String getProjectKey(MicroProfileProjectInfo info) {
+		return info.getProjectURI() + "#" + info.getClasspathKind();
+	}
+
+	/**
+	 * Returns the shared project information for the given project information
+	 * collected from the classpath and the Java sources.
+	 *
+	 * @param info   the project information collected from the classpath and the
+	 *               Java sources.
+	 * @param params the parameters used to collect the project information.
+	 * @return the shared project information for the given project information.
+	 */
+	private ExtendedMicroProfileProjectInfo registerProject(MicroProfileProjectInfo info,
+			MicroProfileProjectInfoParams params) {
+		ExtendedMicroProfileProjectInfo project = ExtendedMicroProfileProjectInfo.createProjectInfo(info);
+		String projectURI = info.getProjectURI();
+		if (projectURI == null || projectURI.isEmpty() || info.getClasspathKind() == ClasspathKind.NONE) {
+			// the properties file doesn't belong to a Java project or to its classpath,
+			// the project information can't be shared
+			return project;
+		}
+		String projectKey = getProjectKey(info);
+		// a properties file of the project could have been loaded in the same time
+		ExtendedMicroProfileProjectInfo existingProject = projects.putIfAbsent(projectKey, project);
+		if (existingProject != null) {
+			return existingProject;
+		}
+		// keep the parameters to collect again the project information when the
+		// classpath changes
+		MicroProfileProjectInfoParams scanParams = new MicroProfileProjectInfoParams(params.getUri());
+		scanParams.setDocumentFormat(params.getDocumentFormat());
+		scanParams.setScopes(MicroProfilePropertiesScope.SOURCES_AND_DEPENDENCIES);
+		projectParams.put(projectKey, scanParams);
+		return project;
+	}
+
+	/**
+	 * Replace the given loaded project information with the given new project
+	 * information in the loaded projects.
+	 *
+	 * @param oldProject the loaded project information to replace.
+	 * @param newProject the new project information.
+	 * @return true if the project information has been replaced and false if it
+	 *         has been evicted or replaced by another project information.
+	 */
+	private boolean replaceLoadedProject(ExtendedMicroProfileProjectInfo oldProject,
+			ExtendedMicroProfileProjectInfo newProject) {
+		String projectKey = getProjectKey(oldProject);
+		String newProjectKey = getProjectKey(newProject);
+		if (newProjectKey.equals(projectKey)) {
+			return projects.replace(projectKey, oldProject, newProject);
+		}
+		// the classpath kind has changed
+		if (!projects.remove(projectKey, oldProject)) {
+			return false;
+		}
+		MicroProfileProjectInfoParams params = projectParams.remove(projectKey);
+		if (params != null && newProject.getClasspathKind() != ClasspathKind.NONE
+				&& projects.putIfAbsent(newProjectKey, newProject) == null) {
+			projectParams.put(newProjectKey, params);
+		}
+		return true;
+	}
+
+	/**
+	 * Replace the given project information with the given new project
+	 * information for all the properties files which use it.
+	 *
+	 * @param oldProject the project information to replace.
+	 * @param newProject the new project information.
+	 * @return the URIs of the properties files whose project information has
+	 *         been replaced.
+	 */
+	private List<String> replaceProject(ExtendedMicroProfileProjectInfo oldProject,
+			ExtendedMicroProfileProjectInfo newProject) {
+		List<String> replaced = new ArrayList<>();
+		for (Map.Entry<String, CompletableFuture<MicroProfileProjectInfo>> entry : cache.entrySet()) {
+			ExtendedMicroProfileProjectInfo view = getProjectInfoWrapper(entry.getValue());
+			if (view != null && view.getProjectInfo() == oldProject && cache.replace(entry.getKey(), entry.getValue(),
+					CompletableFuture.completedFuture(newProject.createView()))) {
+				replaced.add(entry.getKey());
+			}
+		}
+		return replaced;
+	}
+
+	/**
+	 * Returns the loaded project information which can be shared with the given
+	 * properties file and null otherwise.
+	 *
+	 * <p>
+	 * The classpath kind of a properties file (src/main/resources,
+	 * src/test/resources) is known only when its project information has been
+	 * collected. A loaded project information is shared with the properties files
+	 * of the same folder (or its sub folders) of a properties file which uses it,
+	 * since they belong to the same source folder.
+	 * </p>
+	 *
+	 * @param documentURI the properties file URI.
+	 * @return the loaded project information which can be shared with the given
+	 *         properties file and null otherwise.
+	 */
+	private ExtendedMicroProfileProjectInfo findProject(String documentURI) {
+		if (projects.isEmpty()) {
+			return null;
+		}
+		String documentPath = getPath(documentURI);
+		ExtendedMicroProfileProjectInfo project = null;
+		String projectFolder = null;
+		for (Map.Entry<String, CompletableFuture<MicroProfileProjectInfo>> entry : cache.entrySet()) {
+			ExtendedMicroProfileProjectInfo view = getProjectInfoWrapper(entry.getValue());
+			if (view == null) {
+				continue;
+			}
+			ExtendedMicroProfileProjectInfo candidate = view.getProjectInfo();
+			String projectPath = candidate.getProjectURI();
+			if (projectPath == null || projects.get(getProjectKey(candidate)) != candidate
+					|| !isInFolder(documentPath, projectPath)) {
+				continue;
+			}
+			String folder = getFolder(getPath(entry.getKey()));
+			if (folder == null || !isInFolder(documentPath, folder)) {
+				continue;
+			}
+			// the longest project path wins for nested projects, then the nearest folder
+			if (project == null || projectPath.length() > project.getProjectURI().length()
+					|| (projectPath.length() == project.getProjectURI().length()
+							&& folder.length() > projectFolder.length())) {
+				project = candidate;
+				projectFolder = folder;
+			}
+		}
+		return project;
+	}
+
+	private static boolean isInFolder(String documentPath, String folderPath) {
+		if (!documentPath.startsWith(folderPath) || documentPath.length() == folderPath.length()) {
+			return false;
+		}
+		char separator = documentPath.charAt(folderPath.length());
+		return separator == '/' || separator == '\\';
+	}
+
+	private static String getFolder(String documentPath) {
+		int index = Math.max(documentPath.lastIndexOf('/'), documentPath.lastIndexOf('\\'));
+		return index > 0 ? documentPath.substring(0, index) : null;
+	}
+
+	private static String getPath(String documentURI) {
+		if (documentURI.startsWith("file:")) {
+			try {
+				return Paths.get(new URI(documentURI)).toString();
+			} catch (URISyntaxException | IllegalArgumentException | FileSystemNotFoundException e) {
+				// use the URI
+			}
+		}
+		return documentURI;
+	}
+
+	/**
+	 * Returns as promise the given project information updated with the
+	 * MicroProfile properties collected from the Java sources.
+	 *
+	 * <p>
+	 * The requests done while a reload is pending share the pending reload, and
+	 * the properties files of a same project share the scan of the Java sources
+	 * and the update of the project information.
+	 * </p>
+	 *
+	 * @param params  the project information parameters.
+	 * @param wrapper the project information to update.
+	 * @return as promise the given project information updated with the
+	 *         MicroProfile properties collected from the Java sources.
+	 */
+	private CompletableFuture<MicroProfileProjectInfo> reloadFromSources(MicroProfileProjectInfoParams params,
+			ExtendedMicroProfileProjectInfo wrapper) {
+		String documentURI = params.getUri();
+		CompletableFuture<MicroProfileProjectInfo> reload = documentReloads.get(documentURI);
+		if (reload != null) {
+			return reload;
+		}
+		synchronized (documentReloads) {
+			reload = documentReloads.get(documentURI);
+			if (reload != null) {
+				return reload;
+			}
+			ExtendedMicroProfileProjectInfo project = wrapper.getProjectInfo();
+			// the Java sources are collected with the classpath kind of the properties
+			// file, only the properties files which share the project information share
+			// the scan
+			String projectKey = getProjectKey(project);
+			String reloadKey = projects.get(projectKey) == project ? projectKey : documentURI;
+			CompletableFuture<ExtendedMicroProfileProjectInfo> sourceReload = sourceReloads.get(reloadKey);
+			if (sourceReload == null) {
+				int sourcesVersion = project.getSourcesVersion();
+				params.setScopes(MicroProfilePropertiesScope.ONLY_SOURCES);
+				CompletableFuture<ExtendedMicroProfileProjectInfo> newSourceReload = provider.getProjectInfo(params). //
+						exceptionally(ex -> {
+							LOGGER.log(Level.WARNING,
+									String.format("Error while getting MicroProfileProjectInfo (sources) for '%s'",
+											documentURI),
+									ex);
+							return MicroProfileProjectInfo.EMPTY_PROJECT_INFO;
+						}). //
+						thenApply(info ->
+						// then update the cache with the new properties
+						{
+							project.updateSourcesProperties(info.getProperties(), info.getHints(), sourcesVersion);
+							return project;
+						});
+				sourceReloads.put(reloadKey, newSourceReload);
+				newSourceReload.whenComplete((info, ex) -> sourceReloads.remove(reloadKey, newSourceReload));
+				sourceReload = newSourceReload;
+			}
+			CompletableFuture<MicroProfileProjectInfo> newReload = sourceReload.thenApply(info -> wrapper);
+			documentReloads.put(documentURI, newReload);
+			newReload.whenComplete((info, ex) -> documentReloads.remove(documentURI, newReload));
+			return newReload;
+		}
+	}
+
+	private boolean isDiskCacheEnabled() {
+		return diskCache != null && diskCache.isEnabled();
+	}
+
+	private MicroProfileProjectInfo loadFromDisk(String documentURI) {
+		return isDiskCacheEnabled() ? diskCache.load(documentURI) : null;
+	}
+
+	/**
+	 * Load the project information from the JDT LS extension and replace the
+	 * given project information loaded from the disk if they are different.
+	 * 
+	 * <p>
+	 * The project information is replaced for all the properties files of the
+	 * project which share the project information loaded from the disk.
+	 * </p>
+	 * 
+	 * @param params     the project information parameters.
+	 * @param storedInfo the future of the project information loaded from the
+	 *                   disk.
+	 */
+	private void revalidate(MicroProfileProjectInfoParams params,
+			CompletableFuture<MicroProfileProjectInfo> storedInfo) {
+		String documentURI = params.getUri();
+		ExtendedMicroProfileProjectInfo storedProject = getProjectInfoWrapper(storedInfo).getProjectInfo();
+		provider.getProjectInfo(params). //
+				thenAcceptAsync(info -> {
+					if (isRescanned(storedProject)) {
+						// the classpath has changed since the scan has been started, the rescan
+						// replaces the stored project information
+						return;
+					}
+					if (!diskCache.save(Collections.singletonList(documentURI), info)) {
+						// the stored project information is up to date
+						return;
+					}
+					ExtendedMicroProfileProjectInfo project = ExtendedMicroProfileProjectInfo.createProjectInfo(info);
+					List<String> replaced;
+					synchronized (projects) {
+						if (isRescanned(storedProject) || (projects.containsValue(storedProject)
+								&& !replaceLoadedProject(storedProject, project))) {
+							// the project information has been evicted or is being collected again
+							return;
+						}
+						replaced = replaceProject(storedProject, project);
+					}
+					if (projectInfoReplaced != null) {
+						replaced.forEach(projectInfoReplaced);
+					}
+				}). //
+				exceptionally(ex -> {
+					LOGGER.log(Level.WARNING, String.format(
+							"Error while revalidating MicroProfileProjectInfo (classpath) for '%s'", documentURI), ex);
+					return null;
+				});
+	}
+
+	private boolean isRescanned(ExtendedMicroProfileProjectInfo project) {
+		return project.isStale() || rescans.containsKey(getProjectKey(project));
+	}
+
 	private static ExtendedMicroProfileProjectInfo getProjectInfoWrapper(
 			CompletableFuture<MicroProfileProjectInfo> future) {
-		return future != null ? (ExtendedMicroProfileProjectInfo) future.getNow(null) : null;
+		if (future == null || future.isCompletedExceptionally()) {
+			return null;
+		}
+		return (ExtendedMicroProfileProjectInfo) future.getNow(null);
 	}
 
 	public Collection<String> propertiesChanged(MicroProfilePropertiesChangeEvent event) {
@@ -132,21 +694,126 @@ class MicroProfileProjectInfoCache {
 
 	private Collection<String> classpathChanged(Set<String> projectURIs) {
 		List<String> applicationPropertiesURIs = getApplicationPropertiesURIs(projectURIs);
-		applicationPropertiesURIs.forEach(cache::remove);
-		return applicationPropertiesURIs;
+		Map<String, ExtendedMicroProfileProjectInfo> staleProjects = new HashMap<>();
+		Map<String, MicroProfileProjectInfoParams> rescanParams = new HashMap<>();
+		synchronized (projects) {
+			// a pending revalidation of a project information loaded from the disk must
+			// not replace the stale project information
+			for (Map.Entry<String, ExtendedMicroProfileProjectInfo> entry : projects.entrySet()) {
+				String projectKey = entry.getKey();
+				ExtendedMicroProfileProjectInfo project = entry.getValue();
+				if (!projectURIs.contains(project.getProjectURI())) {
+					continue;
+				}
+				MicroProfileProjectInfoParams params = projectParams.get(projectKey);
+				if (params != null) {
+					// the project information is used while it is collected again
+					project.setStale(true);
+					staleProjects.put(projectKey, project);
+					rescanParams.put(projectKey, params);
+				} else {
+					projects.remove(projectKey, project);
+				}
+			}
+		}
+		List<String> evictedURIs = new ArrayList<>();
+		for (String uri : applicationPropertiesURIs) {
+			ExtendedMicroProfileProjectInfo info = getProjectInfoWrapper(cache.get(uri));
+			if (info == null || staleProjects.get(getProjectKey(info)) != info.getProjectInfo()) {
+				cache.remove(uri);
+				evictedURIs.add(uri);
+			}
+		}
+		evictSourceReloads(projectURIs, applicationPropertiesURIs);
+		staleProjects.forEach((projectKey, project) -> rescan(projectKey, project, rescanParams.get(projectKey)));
+		// the properties files which use a stale project information are validated
+		// when the new project information is collected
+		return evictedURIs;
+	}
+
+	/**
+	 * Collect again in background the project information of the given project
+	 * and replace the given stale project information with it.
+	 *
+	 * @param projectKey   the key of the project information.
+	 * @param staleProject the stale project information.
+	 * @param params       the parameters used to collect the project information.
+	 */
+	private void rescan(String projectKey, ExtendedMicroProfileProjectInfo staleProject,
+			MicroProfileProjectInfoParams params) {
+		int sourcesVersion = staleProject.getSourcesVersion();
+		CompletableFuture<MicroProfileProjectInfo> scan = provider.getProjectInfo(params);
+		rescans.put(projectKey, scan);
+		scan.whenComplete((info, ex) -> {
+			if (!rescans.remove(projectKey, scan)) {
+				// the classpath has changed again, the newer scan replaces the project
+				// information
+				return;
+			}
+			if (ex != null) {
+				LOGGER.log(Level.WARNING, String.format(
+						"Error while getting MicroProfileProjectInfo (classpath) for '%s'", params.getUri()), ex);
+				// evict the stale project information, the next request (the validation of
+				// the properties files) will collect it again
+				if (projects.remove(projectKey, staleProject)) {
+					projectParams.remove(projectKey);
+					List<String> evicted = new ArrayList<>();
+					for (Map.Entry<String, CompletableFuture<MicroProfileProjectInfo>> entry : cache.entrySet()) {
+						ExtendedMicroProfileProjectInfo view = getProjectInfoWrapper(entry.getValue());
+						if (view != null && view.getProjectInfo() == staleProject
+								&& cache.remove(entry.getKey(), entry.getValue())) {
+							evicted.add(entry.getKey());
+						}
+					}
+					if (projectInfoReplaced != null) {
+						evicted.forEach(projectInfoReplaced);
+					}
+				}
+				return;
+			}
+			ExtendedMicroProfileProjectInfo project = ExtendedMicroProfileProjectInfo.createProjectInfo(info);
+			if (staleProject.getSourcesVersion() != sourcesVersion) {
+				// some Java sources have been changed during the scan
+				project.clearPropertiesFromSource();
+			}
+			if (!replaceLoadedProject(staleProject, project)) {
+				return;
+			}
+			List<String> replaced = replaceProject(staleProject, project);
+			if (isDiskCacheEnabled()) {
+				// the project information is stored once for all the properties files which
+				// use it
+				CompletableFuture.runAsync(() -> diskCache.save(replaced, info));
+			}
+			if (projectInfoReplaced != null) {
+				replaced.forEach(projectInfoReplaced);
+			}
+		});
 	}
 
 	private Collection<String> javaSourceChanged(Set<String> projectURIs) {
 		List<String> applicationPropertiesURIs = getApplicationPropertiesURIs(projectURIs);
+		Set<ExtendedMicroProfileProjectInfo> changedProjects = new HashSet<>();
 		for (String uri : applicationPropertiesURIs) {
 			ExtendedMicroProfileProjectInfo info = getProjectInfoWrapper(cache.get(uri));
-			if (info != null) {
+			if (info != null && changedProjects.add(info.getProjectInfo())) {
 				info.clearPropertiesFromSource();
 			}
 		}
+		// the pending reloads have been started before the change of the Java
+		// sources, the next request must start a new reload
+		evictSourceReloads(projectURIs, applicationPropertiesURIs);
 		return applicationPropertiesURIs;
 	}
 
+	private void evictSourceReloads(Set<String> projectURIs, List<String> applicationPropertiesURIs) {
+		synchronized (documentReloads) {
+			applicationPropertiesURIs.forEach(documentReloads::remove);
+			sourceReloads.keySet().removeIf(reloadKey -> applicationPropertiesURIs.contains(reloadKey)
+					|| projectURIs.stream().anyMatch(projectURI -> reloadKey.startsWith(projectURI + "#")));
+		}
+	}
+
 	/**
 	 * Returns the application.propeties URIs which belongs to the given project
 	 * URIs.
@@ -0,0 +1,315 @@
+/*******************************************************************************
+* Copyright (c) 2023 Red Hat Inc. and others.
+*
+* This program and the accompanying materials are made available under the
+* terms of the Eclipse Public License v. 2.0 which is available at
+* http://www.eclipse.org/legal/epl-2.0, or the Apache License, Version 2.0
+* which is available at https://www.apache.org/licenses/LICENSE-2.0.
+*
+* SPDX-License-Identifier: EPL-2.0 OR Apache-2.0
+*
+* Contributors:
+*     Red Hat Inc. - initial API and implementation
+*******************************************************************************/
+package org.eclipse.lsp4mp.ls.properties;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.Collection;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+import java.util.zip.GZIPInputStream;
+import java.util.zip.GZIPOutputStream;
+
+import org.eclipse.lsp4jdt.commons.ClasspathKind;
+import org.eclipse.lsp4mp.commons.MicroProfileProjectInfo;
+import org.eclipse.lsp4mp.commons.utils.JSONUtility;
+import org.eclipse.lsp4mp.settings.MicroProfileProjectInfoCacheSettings;
+
+import com.google.gson.Gson;
+import com.google.gson.JsonParseException;
+
+/**
+ * Disk cache for MicroProfile project information used to avoid waiting for
+ * the JDT LS extension scan after a restart of the language server.
+ *
+ * <p>
+ * The project information is stored once per project URI and classpath kind in
+ * a GZIP-compressed JSON file, and each application.properties URI is linked to
+ * the project information that it uses with a small JSON file. The project
+ * information file is written again only when its content changes (the
+ * content of the stored file is compared with the content of the new project
+ * information).
+ * </p>
+ *
+ */
+class MicroProfileProjectInfoDiskCache {
+
+	private static final Logger LOGGER = Logger.getLogger(MicroProfileProjectInfoDiskCache.class.getName());
+
+	// increment this version when the format of the stored project information
+	// changes
+	private static final int FORMAT_VERSION = 2;
+
+	private static final String PROJECT_FILE_EXTENSION = ".json.gz";
+
+	private static final String DOCUMENT_FILE_EXTENSION = ".link.json";
+
+	/**
+	 * Project information stored on the disk.
+	 */
+	private static class StoredProjectInfo {
+
+		private int version;
+
+		private String projectKey;
+
+		private MicroProfileProjectInfo projectInfo;
+	}
+
+	/**
+	 * Link between an application.properties and its project information stored
+	 * on the disk.
+	 */
+	private static class StoredDocument {
+
+		private int version;
+
+		private String documentURI;
+
+		private String projectKey;
+	}
+
+	private final MicroProfileProjectInfoCacheSettings settings;
+
+	private final Map<String /* project URI + classpath kind */, String /* hash of the stored content */> contentHashes;
+
+	private final Map<String /* application.properties URI */, String /* project URI + classpath kind */> documentProjects;
+
+	public MicroProfileProjectInfoDiskCache(MicroProfileProjectInfoCacheSettings settings) {
+		this.settings = settings;
+		this.contentHashes = new ConcurrentHashMap<>();
+		this.documentProjects = new ConcurrentHashMap<>();
+	}
+
+	/**
+	 * Returns true if the project information are stored on the disk and false
+	 * otherwise.
+	 *
+	 * @return true if the project information are stored on the disk and false
+	 *         otherwise.
+	 */
+	public boolean isEnabled() {
+		return settings.isEnabled();
+	}
+
+	/**
+	 * Returns the project information stored for the given application.properties
+	 * URI and null otherwise.
+	 *
+	 * @param documentURI the application.properties URI.
+	 * @return the project information stored for the given application.properties
+	 *         URI and null otherwise.
+	 */
+	public MicroProfileProjectInfo load(String documentURI) {
+		if (!isEnabled()) {
+			return null;
+		}
+		String projectKey = documentProjects.get(documentURI);
+		if (projectKey == null) {
+			StoredDocument document = read(getDocumentFile(documentURI), StoredDocument.class, false, documentURI);
+			if (document == null || document.version != FORMAT_VERSION || !documentURI.equals(document.documentURI)
+					|| document.projectKey == null) {
+				return null;
+			}
+			projectKey = document.projectKey;
+			documentProjects.put(documentURI, projectKey);
+		}
+		Path file = getProjectFile(projectKey);
+		String content = readContent(file, true, documentURI);
+		if (content == null) {
+			return null;
+		}
+		try {
+			StoredProjectInfo stored = getGson().fromJson(content, StoredProjectInfo.class);
+			if (stored == null || stored.version != FORMAT_VERSION || !projectKey.equals(stored.projectKey)
+					|| stored.projectInfo == null) {
+				return null;
+			}
+			contentHashes.put(projectKey, getHash(content));
+			return stored.projectInfo;
+		} catch (JsonParseException e) {
+			LOGGER.log(Level.WARNING,
+					String.format("Error while loading MicroProfileProjectInfo from '%s' for '%s'", file, documentURI),
+					e);
+			delete(file);
+			return null;
+		}
+	}
+
+	/**
+	 * Store the given project information for the given application.properties
+	 * URIs.
+	 *
+	 * <p>
+	 * The project information is written once for all the given
+	 * application.properties URIs and only if its content has changed.
+	 * </p>
+	 *
+	 * @param documentURIs the URIs of the application.properties which use the
+	 *                     project information.
+	 * @param projectInfo  the project information.
+	 * @return true if the given project information is different from the
+	 *         project information which was stored and false otherwise.
+	 */
+	public boolean save(Collection<String> documentURIs, MicroProfileProjectInfo projectInfo) {
+		String projectKey = getProjectKey(projectInfo);
+		if (!isEnabled() || projectKey == null) {
+			// the project information of a properties file which doesn't belong to a
+			// Java project (or to its classpath) is not stored
+			return true;
+		}
+		for (String documentURI : documentURIs) {
+			if (!projectKey.equals(documentProjects.put(documentURI, projectKey))) {
+				StoredDocument document = new StoredDocument();
+				document.version = FORMAT_VERSION;
+				document.documentURI = documentURI;
+				document.projectKey = projectKey;
+				write(getDocumentFile(documentURI), getGson().toJson(document), false, documentURI);
+			}
+		}
+		return saveProjectInfo(projectKey, projectInfo);
+	}
+
+	private synchronized boolean saveProjectInfo(String projectKey, MicroProfileProjectInfo projectInfo) {
+		StoredProjectInfo stored = new StoredProjectInfo();
+		stored.version = FORMAT_VERSION;
+		stored.projectKey = projectKey;
+		stored.projectInfo = projectInfo;
+		String content = getGson().toJson(stored);
+		String hash = getHash(content);
+		if (hash.equals(contentHashes.get(projectKey))) {
+			// same project information, the stored file is up to date
+			return false;
+		}
+		if (write(getProjectFile(projectKey), content, true, projectKey)) {
+			contentHashes.put(projectKey, hash);
+		}
+		return true;
+	}
+
+	/**
+	 * Returns the key of the given project information on the disk and null if
+	 * the project information is not stored.
+	 *
+	 * @param info the project information.
+	 * @return the key of the given project information on the disk and null if
+	 *         the project information is not stored.
+	 */
+	private static String getProjectKey(MicroProfileProjectInfo info) {
+		String projectURI = info.getProjectURI();
+		if (projectURI == null || projectURI.isEmpty() || info.getClasspathKind() == ClasspathKind.NONE) {
+			return null;
+		}
+		return projectURI + "#" + info.getClasspathKind();
+	}
+
+	private Path getProjectFile(String projectKey) {
+		return Paths.get(settings.getDirectory()).resolve(getHash(projectKey) + PROJECT_FILE_EXTENSION);
+	}
+
+	private Path getDocumentFile(String documentURI) {
+		return Paths.get(settings.getDirectory()).resolve(getHash(documentURI) + DOCUMENT_FILE_EXTENSION);
+	}
+
+	private static <T> T read(Path file, Class<T> type, boolean compressed, String uri) {
+		String content = readContent(file, compressed, uri);
+		if (content == null) {
+			return null;
+		}
+		try {
+			return getGson().fromJson(content, type);
+		} catch (JsonParseException e) {
+			LOGGER.log(Level.WARNING, String.format("Error while reading '%s' for '%s'", file, uri), e);
+			delete(file);
+			return null;
+		}
+	}
+
+	private static String readContent(Path file, boolean compressed, String uri) {
+		if (!Files.isRegularFile(file)) {
+			return null;
+		}
+		try (InputStream in = compressed ? new GZIPInputStream(Files.newInputStream(file))
+				: Files.newInputStream(file)) {
+			ByteArrayOutputStream content = new ByteArrayOutputStream();
+			byte[] buffer = new byte[8192];
+			int read;
+			while ((read = in.read(buffer)) != -1) {
+				content.write(buffer, 0, read);
+			}
+			return new String(content.toByteArray(), StandardCharsets.UTF_8);
+		} catch (IOException e) {
+			LOGGER.log(Level.WARNING, String.format("Error while reading '%s' for '%s'", file, uri), e);
+			delete(file);
+			return null;
+		}
+	}
+
+	private static boolean write(Path file, String content, boolean compressed, String uri) {
+		Path tempFile = file.resolveSibling(file.getFileName() + ".tmp");
+		try {
+			Files.createDirectories(file.getParent());
+			try (OutputStream out = compressed ? new GZIPOutputStream(Files.newOutputStream(tempFile))
+					: Files.newOutputStream(tempFile)) {
+				out.write(content.getBytes(StandardCharsets.UTF_8));
+			}
+			// replace the file at once to never read a partially written file
+			Files.move(tempFile, file, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+			return true;
+		} catch (IOException e) {
+			LOGGER.log(Level.WARNING, String.format("Error while writing '%s' for '%s'", file, uri), e);
+			delete(tempFile);
+			return false;
+		}
+	}
+
+	private static void delete(Path file) {
+		try {
+			Files.deleteIfExists(file);
+		} catch (IOException e) {
+			LOGGER.log(Level.WARNING, String.format("Error while deleting '%s'", file), e);
+		}
+	}
+
+	private static String getHash(String content) {
+		try {
+			MessageDigest digest = MessageDigest.getInstance("SHA-1");
+			byte[] hash = digest.digest(content.getBytes(StandardCharsets.UTF_8));
+			StringBuilder hex = new StringBuilder(hash.length * 2);
+			for (byte b : hash) {
+				hex.append(Character.forDigit((b >> 4) & 0xF, 16));
+				hex.append(Character.forDigit(b & 0xF, 16));
+			}
+			return hex.toString();
+		} catch (NoSuchAlgorithmException e) {
+			// SHA-1 is available in all Java platforms
+			throw new IllegalStateException(e);
+		}
+	}
+
+	private static Gson getGson() {
+		return JSONUtility.getLsp4jGson();
+	}
+}
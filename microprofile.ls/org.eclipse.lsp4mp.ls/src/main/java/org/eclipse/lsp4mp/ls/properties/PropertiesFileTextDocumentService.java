@@ -19,6 +19,7 @@ import java.util.Collections;
 import java.util.List;
 import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.CompletionStage;
+import java.util.concurrent.TimeUnit;
 import java.util.function.BiFunction;
 import java.util.stream.Collectors;
 
@@ -65,8 +66,10 @@ import org.eclipse.lsp4mp.ls.commons.ValidatorDelayer;
 import org.eclipse.lsp4mp.model.PropertiesModel;
 import org.eclipse.lsp4mp.services.properties.CompletionData;
 import org.eclipse.lsp4mp.services.properties.PropertiesFileLanguageService;
+import org.eclipse.lsp4mp.settings.MicroProfileCompletionSettings;
 import org.eclipse.lsp4mp.settings.MicroProfileFormattingSettings;
 import org.eclipse.lsp4mp.settings.MicroProfileInlayHintSettings;
+import org.eclipse.lsp4mp.settings.MicroProfileProjectInfoCacheSettings;
 import org.eclipse.lsp4mp.settings.MicroProfileSymbolSettings;
 import org.eclipse.lsp4mp.settings.MicroProfileValidationSettings;
 import org.eclipse.lsp4mp.settings.SharedSettings;
@@ -96,6 +99,8 @@ public class PropertiesFileTextDocumentService extends AbstractTextDocumentServi
 		super(microprofileLanguageServer, sharedSettings);
 		this.documents = new ModelTextDocuments<PropertiesModel>((document, cancelChecker) -> {
 			return PropertiesModel.parse(document, cancelChecker);
+		}, (previousModel, region, document, cancelChecker) -> {
+			return PropertiesModel.parse(previousModel, region, document, cancelChecker);
 		});
 		this.validatorDelayer = new ValidatorDelayer<ModelTextDocument<PropertiesModel>>((document) -> {
 			triggerValidationFor(document);
@@ -105,6 +110,7 @@ public class PropertiesFileTextDocumentService extends AbstractTextDocumentServi
 	@Override
 	public void didOpen(DidOpenTextDocumentParams params) {
 		ModelTextDocument<PropertiesModel> document = documents.onDidOpenTextDocument(params);
+		getProjectInfoCache().documentOpened(document.getUri());
 		validate(document, false);
 	}
 
@@ -119,6 +125,7 @@ public class PropertiesFileTextDocumentService extends AbstractTextDocumentServi
 		documents.onDidCloseTextDocument(params);
 		String uri = params.getTextDocument().getUri();
 		validatorDelayer.cleanPendingValidation(uri);
+		getProjectInfoCache().documentClosed(uri);
 		microprofileLanguageServer.getLanguageClient()
 				.publishDiagnostics(new PublishDiagnosticsParams(uri, new ArrayList<Diagnostic>()));
 	}
@@ -143,8 +150,8 @@ public class PropertiesFileTextDocumentService extends AbstractTextDocumentServi
 			// then return completion by using the MicroProfile project information and the
 			// Properties model document
 			CompletionList list = getPropertiesFileLanguageService().doComplete(document, params.getPosition(),
-					projectInfo, sharedSettings.getCompletionCapabilities(), sharedSettings.getFormattingSettings(),
-					cancelChecker);
+					projectInfo, sharedSettings.getCompletionCapabilities(), sharedSettings.getCompletionSettings(),
+					sharedSettings.getFormattingSettings(), cancelChecker);
 			return Either.forRight(list);
 		});
 	}
@@ -412,6 +419,17 @@ public class PropertiesFileTextDocumentService extends AbstractTextDocumentServi
 		sharedSettings.getInlayHintSettings().setEnabled(newInlayHint.isEnabled());
 	}
 
+	public void updateCompletionSettings(MicroProfileCompletionSettings newCompletion) {
+		sharedSettings.getCompletionSettings().setMaxItems(newCompletion.getMaxItems());
+	}
+
+	public void updateProjectInfoCacheSettings(MicroProfileProjectInfoCacheSettings newProjectInfoCache) {
+		MicroProfileProjectInfoCacheSettings projectInfoCacheSettings = sharedSettings.getProjectInfoCacheSettings();
+		projectInfoCacheSettings.setDirectory(newProjectInfoCache.getDirectory());
+		projectInfoCacheSettings.setMaxMemory(newProjectInfoCache.getMaxMemory());
+		projectInfoCacheSettings.setIdleTimeout(newProjectInfoCache.getIdleTimeout());
+	}
+
 	/**
 	 * Updates MicroProfile formatting settings configured from the client.
 	 *
@@ -437,7 +455,23 @@ public class PropertiesFileTextDocumentService extends AbstractTextDocumentServi
 		if (projectInfoCache != null) {
 			return;
 		}
-		projectInfoCache = new MicroProfileProjectInfoCache(microprofileLanguageServer.getLanguageClient());
+		projectInfoCache = new MicroProfileProjectInfoCache(microprofileLanguageServer.getLanguageClient(),
+				new MicroProfileProjectInfoDiskCache(sharedSettings.getProjectInfoCacheSettings()),
+				sharedSettings.getProjectInfoCacheSettings(), uri -> {
+					// the project information loaded from the disk has been replaced by the
+					// project information coming from the JDT LS extension
+					ModelTextDocument<PropertiesModel> document = getDocument(uri);
+					if (document != null) {
+						triggerValidationFor(document);
+					}
+				}, now -> {
+					int idleTimeout = sharedSettings.getProjectInfoCacheSettings().getIdleTimeout();
+					if (idleTimeout > 0) {
+						// the properties files which are opened but not used don't need to keep
+						// their parsed model
+						documents.releaseIdleModels(now, TimeUnit.MINUTES.toMillis(idleTimeout));
+					}
+				});
 	}
 
 	public CompletableFuture<JsonSchemaForProjectInfo> getJsonSchemaForProjectInfo(
@@ -11,12 +11,12 @@
 * Contributors:
 *     Red Hat Inc. - initial API and implementation
 *******************************************************************************/
-package org.eclipse.lsp4mp.services.properties;
+package org.eclipse.lsp4mp.model;
 
+import java.util.HashMap;
 import java.util.List;
-import java.util.Objects;
+import java.util.Map;
 import java.util.Set;
-import java.util.stream.Collectors;
 
 import org.eclipse.lsp4mp.commons.metadata.ItemMetadata;
 import org.eclipse.lsp4mp.commons.utils.IConfigSourcePropertiesProvider;
@@ -29,7 +29,9 @@ import org.eclipse.lsp4mp.commons.utils.StringUtils;
  */
 class PropertiesInfoPropertiesProvider implements IConfigSourcePropertiesProvider {
 
-	List<ItemMetadata> properties;
+	private final List<ItemMetadata> properties;
+
+	private Map<String /* property name */, String /* default value */> defaultValues;
 
 	public PropertiesInfoPropertiesProvider(List<ItemMetadata> properties) {
 		this.properties = properties;
@@ -37,11 +39,7 @@ class PropertiesInfoPropertiesProvider implements IConfigSourcePropertiesProvide
 
 	@Override
 	public Set<String> keys() {
-		return properties.stream() //
-				.filter(item -> StringUtils.hasText(item.getDefaultValue()))
-				.map(item -> item.getName()) //
-				.filter(Objects::nonNull) //
-				.collect(Collectors.toSet());
+		return getDefaultValues().keySet();
 	}
 
 	@Override
@@ -49,12 +47,7 @@ class PropertiesInfoPropertiesProvider implements IConfigSourcePropertiesProvide
 		if (key == null) {
 			return false;
 		}
-		for (ItemMetadata item : properties) {
-			if (key.equals(item.getName()) && StringUtils.hasText(item.getDefaultValue())) {
-				return true;
-			}
-		}
-		return false;
+		return getDefaultValues().containsKey(key);
 	}
 
 	@Override
@@ -62,12 +55,22 @@ class PropertiesInfoPropertiesProvider implements IConfigSourcePropertiesProvide
 		if (key == null) {
 			return null;
 		}
-		for (ItemMetadata item : properties) {
-			if (key.equals(item.getName()) && StringUtils.hasText(item.getDefaultValue())) {
-				return item.getDefaultValue();
+		return getDefaultValues().get(key);
+	}
+
+	private synchronized Map<String, String> getDefaultValues() {
+		if (defaultValues == null) {
+			Map<String, String> values = new HashMap<>();
+			if (properties != null) {
+				for (ItemMetadata item : properties) {
+					if (item.getName() != null && StringUtils.hasText(item.getDefaultValue())) {
+						values.putIfAbsent(item.getName(), item.getDefaultValue());
+					}
+				}
 			}
+			defaultValues = values;
 		}
-		return null;
+		return defaultValues;
 	}
 
-}
\ No newline at end of file
+}
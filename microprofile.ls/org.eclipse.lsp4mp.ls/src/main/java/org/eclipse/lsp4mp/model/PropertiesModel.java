@@ -13,20 +13,27 @@
 *******************************************************************************/
 package org.eclipse.lsp4mp.model;
 
+import java.util.Collections;
+import java.util.HashMap;
 import java.util.HashSet;
 import java.util.List;
+import java.util.Map;
+import java.util.Objects;
 import java.util.Set;
 
 import org.eclipse.lsp4j.Position;
 import org.eclipse.lsp4j.jsonrpc.CancelChecker;
+import org.eclipse.lsp4mp.commons.metadata.ItemMetadata;
+import org.eclipse.lsp4mp.commons.utils.ConfigSourcePropertiesProviderUtils;
 import org.eclipse.lsp4mp.commons.utils.IConfigSourcePropertiesProvider;
+import org.eclipse.lsp4mp.commons.utils.PropertyValueExpander;
 import org.eclipse.lsp4mp.commons.utils.StringUtils;
 import org.eclipse.lsp4mp.ls.commons.BadLocationException;
+import org.eclipse.lsp4mp.ls.commons.DamagedRegion;
+import org.eclipse.lsp4mp.ls.commons.Rope;
 import org.eclipse.lsp4mp.ls.commons.TextDocument;
-import org.eclipse.lsp4mp.model.parser.ErrorEvent;
 import org.eclipse.lsp4mp.model.parser.ErrorHandler;
 import org.eclipse.lsp4mp.model.parser.ParseContext;
-import org.eclipse.lsp4mp.model.parser.ParseException;
 import org.eclipse.lsp4mp.model.parser.PropertiesHandler;
 import org.eclipse.lsp4mp.model.parser.PropertiesParser;
 
@@ -39,6 +46,13 @@ import org.eclipse.lsp4mp.model.parser.PropertiesParser;
  */
 public class PropertiesModel extends Node implements IConfigSourcePropertiesProvider {
 
+	/**
+	 * The error handler used by the full and the incremental parse: the model is
+	 * built for an invalid text too, the syntax errors are reported by the
+	 * validator.
+	 */
+	private static final ErrorHandler ERROR_HANDLER = ErrorHandler.IGNORING;
+
 	/**
 	 * This handler catch each properties events (start/end property, etc) to build
 	 * a DOM properties model which maintains offset locations.
@@ -160,13 +174,25 @@ public class PropertiesModel extends Node implements IConfigSourcePropertiesProv
 	}
 
 	private final TextDocument document;
+	private final Rope text;
+	private final PropertiesModelNodes nodes;
 	private CancelChecker cancelChecker;
-	private transient Set<String> keys;
+	private transient volatile Map<String /* key */, String /* value */> values;
+
+	// expander of the property values and the properties of the project used to
+	// create it
+	private PropertyValueExpander expander;
+	private List<ItemMetadata> expanderProperties;
+	private Map<String, String> expanderValues;
 
 	PropertiesModel(TextDocument document, CancelChecker cancelChecker) {
 		this.document = document;
+		// the model uses the text which has been parsed even if the document is
+		// updated after
+		this.text = document.getTextSnapshot();
+		this.nodes = new PropertiesModelNodes(this);
 		this.cancelChecker = cancelChecker;
-		this.keys = null;
+		this.values = null;
 	}
 
 	@Override
@@ -208,16 +234,207 @@ public class PropertiesModel extends Node implements IConfigSourcePropertiesProv
 	public static PropertiesModel parse(TextDocument document, CancelChecker cancelChecker) {
 		PropertiesModel model = new PropertiesModel(document, cancelChecker);
 		PropertiesParser parser = new PropertiesParser();
-		parser.parse(document.getText(), new PropertiesModelHandler(model), new ErrorHandler() {
+		parser.parse(model.text.cursor(), new PropertiesModelHandler(model), ERROR_HANDLER, cancelChecker);
+		return model;
+	}
 
-			@Override
-			public void error(ParseContext context, ErrorEvent errorEvent) throws ParseException {
+	/**
+	 * Returns the properties model from the text of the given document by
+	 * updating the given previous model.
+	 *
+	 * <p>
+	 * Only the lines of the damaged region (extended to the start of the property
+	 * which contains it) are parsed: the parse stops at the first line after the
+	 * damaged region where a property starts in both the previous and the new
+	 * text. The nodes before and after the parsed lines are reused from the
+	 * previous model with their offset delta and are copied lazily, the first time
+	 * they are accessed (see {@link PropertiesModelNodes}).
+	 * </p>
+	 *
+	 * <p>
+	 * The previous model is not modified, it can still be used by other threads.
+	 * </p>
+	 *
+	 * @param previousModel the model parsed for a previous version of the text.
+	 * @param region        the region modified since the previous model was
+	 *                      parsed.
+	 * @param document      the text document
+	 * @param cancelChecker the cancel checker.
+	 * @return the properties model from the text of the given document.
+	 */
+	public static PropertiesModel parse(PropertiesModel previousModel, DamagedRegion region, TextDocument document,
+			CancelChecker cancelChecker) {
+		PropertiesModelNodes previousNodes = previousModel.nodes;
+		PropertiesModel model = new PropertiesModel(document, cancelChecker);
+		model.inheritPropertyValueExpander(previousModel);
+		CharSequence text = model.text.cursor();
+		if (region.isEmpty()) {
+			// only the version of the document has changed
+			model.setStart(0);
+			model.setEnd(text.length());
+			model.nodes.reuse(previousNodes, 0, previousNodes.size(), 0);
+			return model;
+		}
+		int damageStart = region.getStart();
+		int damageEnd = region.getEnd();
+		int delta = region.getDelta();
+
+		// Nodes which end before the line of the damaged region are kept as is.
+		// The parse restarts at the start of the line of the first node which
+		// is not kept to parse the whole property which could be modified.
+		int restart = getLineStart(text, damageStart);
+		int prefixSize = 0;
+		while (prefixSize < previousNodes.size()) {
+			int childEnd = previousNodes.getEnd(prefixSize);
+			if (childEnd == -1 || childEnd >= restart) {
+				int childStart = previousNodes.getStart(prefixSize);
+				if (childStart < restart) {
+					restart = getLineStart(text, childStart);
+				}
+				break;
+			}
+			prefixSize++;
+		}
+		model.nodes.reuse(previousNodes, 0, prefixSize, 0);
 
+		// Parse the damaged lines and stop as soon as a line after the damaged region
+		// starts a new property in both the previous and the new text.
+		int[] suffixStart = new int[] { previousNodes.size() };
+		PropertiesParser parser = new PropertiesParser();
+		int stopOffset = parser.parse(text, restart, lineStart -> {
+			// the new line character must be after the damaged region to be sure that
+			// the line start is the same in the previous text
+			if (lineStart - 1 < damageEnd) {
+				return false;
+			}
+			int previousLineStart = lineStart - delta;
+			int index = findFirstNodeAfter(previousNodes, previousLineStart);
+			if (!isPropertyStartLine(previousNodes, index, previousLineStart)) {
+				return false;
 			}
-		}, cancelChecker);
+			suffixStart[0] = index;
+			return true;
+		}, new PropertiesModelHandler(model), ERROR_HANDLER, cancelChecker);
+
+		if (stopOffset != -1) {
+			// reuse the nodes after the damaged lines
+			model.nodes.reuse(previousNodes, suffixStart[0], previousNodes.size(), delta);
+			model.setEnd(text.length());
+		}
 		return model;
 	}
 
+	/**
+	 * Returns the offset of the start of the line which contains the given offset.
+	 *
+	 * @param text   the text.
+	 * @param offset the offset.
+	 * @return the offset of the start of the line which contains the given offset.
+	 */
+	private static int getLineStart(CharSequence text, int offset) {
+		int i = Math.min(offset, text.length()) - 1;
+		while (i >= 0) {
+			char c = text.charAt(i);
+			if (c == '\n' || c == '\r') {
+				break;
+			}
+			i--;
+		}
+		return i + 1;
+	}
+
+	/**
+	 * Returns the index of the first node which starts at or after the given
+	 * offset.
+	 */
+	private static int findFirstNodeAfter(PropertiesModelNodes nodes, int offset) {
+		int low = 0;
+		int high = nodes.size();
+		while (low < high) {
+			int mid = (low + high) >>> 1;
+			if (nodes.getStart(mid) < offset) {
+				low = mid + 1;
+			} else {
+				high = mid;
+			}
+		}
+		return low;
+	}
+
+	/**
+	 * Returns true if the given line start offset is not a continuation of a
+	 * property in the previous model and false otherwise.
+	 */
+	private static boolean isPropertyStartLine(PropertiesModelNodes nodes, int index, int lineStart) {
+		// comments which are between the lines of a multiline property are stored
+		// after the property, search the last property before the line.
+		for (int i = index - 1; i >= 0; i--) {
+			if (nodes.getNodeType(i) == NodeType.PROPERTY) {
+				int end = nodes.getEnd(i);
+				return end != -1 && end < lineStart;
+			}
+		}
+		return true;
+	}
+
+	private static void copyNodes(List<Node> nodes, int from, int to, int delta, Node parent) {
+		for (int i = from; i < to; i++) {
+			parent.addNode(copyNode(nodes.get(i), delta));
+		}
+	}
+
+	/**
+	 * Returns a copy of the given node (with its children) with offsets shifted by
+	 * the given delta.
+	 */
+	static Node copyNode(Node node, int delta) {
+		Node copy = null;
+		switch (node.getNodeType()) {
+		case PROPERTY:
+			Property property = (Property) node;
+			Property propertyCopy = new Property();
+			if (property.getKey() != null) {
+				propertyCopy.setKey((PropertyKey) copyNode(property.getKey(), delta));
+			}
+			if (property.getDelimiterAssign() != null) {
+				propertyCopy.setDelimiterAssign(copyNode(property.getDelimiterAssign(), delta));
+			}
+			if (property.getValue() != null) {
+				propertyCopy.setValue((PropertyValue) copyNode(property.getValue(), delta));
+			}
+			copy = propertyCopy;
+			break;
+		case PROPERTY_KEY:
+			copy = new PropertyKey();
+			break;
+		case ASSIGN:
+			copy = new Assign();
+			break;
+		case PROPERTY_VALUE:
+			copy = new PropertyValue();
+			copyNodes(node.getChildren(), 0, node.getChildren().size(), delta, copy);
+			break;
+		case PROPERTY_VALUE_LITERAL:
+			copy = new PropertyValueLiteral();
+			break;
+		case PROPERTY_VALUE_EXPRESSION:
+			copy = new PropertyValueExpression();
+			break;
+		case COMMENTS:
+			copy = new Comments();
+			break;
+		default:
+			throw new IllegalArgumentException("Unexpected node type " + node.getNodeType());
+		}
+		copy.setStart(shift(node.getStart(), delta));
+		copy.setEnd(shift(node.getEnd(), delta));
+		return copy;
+	}
+
+	static int shift(int offset, int delta) {
+		return offset != -1 ? offset + delta : -1;
+	}
+
 	/**
 	 * Returns the text from the <code>start</code> offset (inclusive) to the
 	 * <code>end</code> offset (exclusive).
@@ -231,12 +448,12 @@ public class PropertiesModel extends Node implements IConfigSourcePropertiesProv
 	 *         <code>end</code> offset (exclusive).
 	 */
 	public String getText(int start, int end, boolean skipMultiLine) {
-		String text = document.getText();
 		if (!skipMultiLine) {
 			cancelChecker.checkCanceled();
 			return text.substring(start, end);
 		}
 		
+		CharSequence text = this.text.cursor();
 		StringBuilder sb = new StringBuilder();
 		int i = start;
 		boolean trimLeading = false;
@@ -283,9 +500,33 @@ public class PropertiesModel extends Node implements IConfigSourcePropertiesProv
 		return document;
 	}
 
+	@Override
+	public List<Node> getChildren() {
+		return nodes;
+	}
+
+	@Override
+	void addNode(Node node) {
+		nodes.add(node);
+	}
+
 	@Override
 	public String getText() {
-		return document.getText();
+		return text.toString();
+	}
+
+	/**
+	 * Returns the text which has been parsed to build this model.
+	 *
+	 * <p>
+	 * Contrary to {@link #getText()}, the returned text doesn't build the whole
+	 * text of the document when it has been updated incrementally.
+	 * </p>
+	 *
+	 * @return the text which has been parsed to build this model.
+	 */
+	public CharSequence getTextSnapshot() {
+		return text;
 	}
 
 	public String getDocumentURI() {
@@ -298,31 +539,12 @@ public class PropertiesModel extends Node implements IConfigSourcePropertiesProv
 
 	@Override
 	public Set<String> keys() {
-		if (keys != null) {
-			return keys;
-		}
-
-		keys = new HashSet<>();
-
-		for (Node child : getChildren()) {
-			if (child.getNodeType() == NodeType.PROPERTY) {
-				Property property = (Property) child;
-				PropertyValue valueNode = property.getValue();
-				if (valueNode != null && StringUtils.hasText(valueNode.getText(true))) {
-					String key = property.getPropertyNameWithProfile();
-					if (StringUtils.hasText(key)) {
-						keys.add(key);
-					}
-				}
-			}
-		}
-
-		return keys;
+		return getValues().keySet();
 	}
 
 	@Override
 	public boolean hasKey(String key) {
-		return keys().contains(key);
+		return getValues().containsKey(key);
 	}
 
 	@Override
@@ -330,20 +552,108 @@ public class PropertiesModel extends Node implements IConfigSourcePropertiesProv
 		if (key == null) {
 			return null;
 		}
+		return getValues().get(key);
+	}
+
+	/**
+	 * Returns the values of the properties which have a non empty value, keyed by
+	 * the property name with profile (the first property wins when a property is
+	 * declared several times).
+	 *
+	 * @return the values of the properties which have a non empty value.
+	 */
+	private Map<String, String> getValues() {
+		Map<String, String> result = values;
+		if (result != null) {
+			return result;
+		}
+		result = new HashMap<>();
 		for (Node child : getChildren()) {
 			if (child.getNodeType() == NodeType.PROPERTY) {
 				Property property = (Property) child;
-				PropertyKey keyNode = property.getKey();
-				if (key.equals(keyNode.getPropertyNameWithProfile())) {
-					PropertyValue valueNode = property.getValue();
-					if (valueNode != null && StringUtils.hasText(valueNode.getText(true))) {
-						return valueNode.getText(true);
+				PropertyValue valueNode = property.getValue();
+				if (valueNode != null) {
+					String value = valueNode.getText(true);
+					if (StringUtils.hasText(value)) {
+						String key = property.getPropertyNameWithProfile();
+						if (StringUtils.hasText(key)) {
+							result.putIfAbsent(key, value);
+						}
 					}
 				}
+			}
+		}
+		result = Collections.unmodifiableMap(result);
+		values = result;
+		return result;
+	}
+
+	/**
+	 * Returns the expander of the property values of this model which uses the
+	 * default values of the given properties of the project for the properties
+	 * which are not declared in this model.
+	 *
+	 * <p>
+	 * The expander (with its dependency graph and its resolved values) is created
+	 * once per version of the model and project properties, and is shared by the
+	 * hover and the inlay hints. When the model has been parsed incrementally,
+	 * the expander is created by updating the expander of the previous version
+	 * with the properties which have changed.
+	 * </p>
+	 *
+	 * @param properties the properties of the project.
+	 * @return the expander of the property values of this model.
+	 */
+	public synchronized PropertyValueExpander getPropertyValueExpander(List<ItemMetadata> properties) {
+		if (expander != null && expanderProperties == properties && expanderValues == null) {
+			return expander;
+		}
+		IConfigSourcePropertiesProvider provider = ConfigSourcePropertiesProviderUtils.layer(this,
+				new PropertiesInfoPropertiesProvider(properties));
+		if (expander != null && expanderProperties == properties && expanderValues != null) {
+			// update the expander inherited from the previous version of the model
+			expander = expander.update(provider, getChangedKeys(expanderValues, getValues()));
+		} else {
+			expander = new PropertyValueExpander(provider);
+		}
+		expanderProperties = properties;
+		expanderValues = null;
+		return expander;
+	}
 
+	/**
+	 * Inherit the expander of the given previous version of this model, which will
+	 * be updated on the first call of {@link #getPropertyValueExpander(List)}.
+	 *
+	 * @param previousModel the previous version of this model.
+	 */
+	private void inheritPropertyValueExpander(PropertiesModel previousModel) {
+		synchronized (previousModel) {
+			if (previousModel.expander == null) {
+				return;
+			}
+			this.expander = previousModel.expander;
+			this.expanderProperties = previousModel.expanderProperties;
+			// the expander of the previous model could be itself inherited and not yet
+			// updated
+			this.expanderValues = previousModel.expanderValues != null ? previousModel.expanderValues
+					: previousModel.getValues();
+		}
+	}
+
+	private static Set<String> getChangedKeys(Map<String, String> oldValues, Map<String, String> newValues) {
+		Set<String> changedKeys = new HashSet<>();
+		for (Map.Entry<String, String> entry : oldValues.entrySet()) {
+			if (!Objects.equals(entry.getValue(), newValues.get(entry.getKey()))) {
+				changedKeys.add(entry.getKey());
+			}
+		}
+		for (String key : newValues.keySet()) {
+			if (!oldValues.containsKey(key)) {
+				changedKeys.add(key);
 			}
 		}
-		return null;
+		return changedKeys;
 	}
 
 }
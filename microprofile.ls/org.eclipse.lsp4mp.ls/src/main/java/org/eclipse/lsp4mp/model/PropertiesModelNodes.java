@@ -0,0 +1,158 @@
+/*******************************************************************************
+* Copyright (c) 2023 Red Hat Inc. and others.
+*
+* This program and the accompanying materials are made available under the
+* terms of the Eclipse Public License v. 2.0 which is available at
+* http://www.eclipse.org/legal/epl-2.0, or the Apache License, Version 2.0
+* which is available at https://www.apache.org/licenses/LICENSE-2.0.
+*
+* SPDX-License-Identifier: EPL-2.0 OR Apache-2.0
+*
+* Contributors:
+*     Red Hat Inc. - initial API and implementation
+*******************************************************************************/
+package org.eclipse.lsp4mp.model;
+
+import java.util.AbstractList;
+import java.util.Arrays;
+import java.util.RandomAccess;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+
+import org.eclipse.lsp4mp.model.Node.NodeType;
+
+/**
+ * The nodes (properties and comments) of a {@link PropertiesModel}.
+ *
+ * <p>
+ * When a model is parsed incrementally, the nodes which are not parsed again
+ * are reused from the previous model without being copied: the list stores the
+ * node of the previous model with the offset delta to apply. The node is copied
+ * (with the shifted offsets and this model as parent) the first time it is
+ * returned by {@link #get(int)}, so the nodes of the previous model (which can
+ * still be used by other threads) are never modified.
+ * </p>
+ *
+ */
+class PropertiesModelNodes extends AbstractList<Node> implements RandomAccess {
+
+	private final PropertiesModel owner;
+
+	private AtomicReferenceArray<Node> nodes;
+
+	private int[] deltas;
+
+	private int size;
+
+	PropertiesModelNodes(PropertiesModel owner) {
+		this.owner = owner;
+		this.nodes = new AtomicReferenceArray<>(16);
+		this.deltas = new int[16];
+	}
+
+	@Override
+	public Node get(int index) {
+		checkIndex(index);
+		Node node = nodes.get(index);
+		if (node.parent == owner) {
+			return node;
+		}
+		// the node is reused from a previous model, copy it with the shifted offsets
+		Node copy = PropertiesModel.copyNode(node, deltas[index]);
+		copy.parent = owner;
+		return nodes.compareAndSet(index, node, copy) ? copy : nodes.get(index);
+	}
+
+	@Override
+	public int size() {
+		return size;
+	}
+
+	@Override
+	public boolean add(Node node) {
+		node.parent = owner;
+		ensureCapacity(size + 1);
+		append(node, 0);
+		return true;
+	}
+
+	/**
+	 * Reuse the nodes of the given previous model nodes from the index
+	 * <code>from</code> (inclusive) to the index <code>to</code> (exclusive) with
+	 * offsets shifted by the given delta, without copying them.
+	 *
+	 * @param previousNodes the nodes of the previous model.
+	 * @param from          the index of the first node to reuse.
+	 * @param to            the index after the last node to reuse.
+	 * @param delta         the offset delta.
+	 */
+	void reuse(PropertiesModelNodes previousNodes, int from, int to, int delta) {
+		ensureCapacity(size + to - from);
+		for (int i = from; i < to; i++) {
+			Node node = previousNodes.nodes.get(i);
+			// a node which is not owned by the previous model is itself reused
+			int previousDelta = node.parent == previousNodes.owner ? 0 : previousNodes.deltas[i];
+			append(node, previousDelta + delta);
+		}
+	}
+
+	/**
+	 * Returns the start offset of the node at the given index without copying it.
+	 *
+	 * @param index the node index.
+	 * @return the start offset of the node at the given index.
+	 */
+	int getStart(int index) {
+		checkIndex(index);
+		Node node = nodes.get(index);
+		return node.parent == owner ? node.getStart() : PropertiesModel.shift(node.getStart(), deltas[index]);
+	}
+
+	/**
+	 * Returns the end offset of the node at the given index without copying it.
+	 *
+	 * @param index the node index.
+	 * @return the end offset of the node at the given index.
+	 */
+	int getEnd(int index) {
+		checkIndex(index);
+		Node node = nodes.get(index);
+		return node.parent == owner ? node.getEnd() : PropertiesModel.shift(node.getEnd(), deltas[index]);
+	}
+
+	/**
+	 * Returns the type of the node at the given index without copying it.
+	 *
+	 * @param index the node index.
+	 * @return the type of the node at the given index.
+	 */
+	NodeType getNodeType(int index) {
+		checkIndex(index);
+		return nodes.get(index).getNodeType();
+	}
+
+	private void append(Node node, int delta) {
+		nodes.set(size, node);
+		deltas[size] = delta;
+		size++;
+		modCount++;
+	}
+
+	private void ensureCapacity(int capacity) {
+		if (capacity <= deltas.length) {
+			return;
+		}
+		int newCapacity = Math.max(capacity, deltas.length * 2);
+		AtomicReferenceArray<Node> newNodes = new AtomicReferenceArray<>(newCapacity);
+		for (int i = 0; i < size; i++) {
+			newNodes.set(i, nodes.get(i));
+		}
+		nodes = newNodes;
+		deltas = Arrays.copyOf(deltas, newCapacity);
+	}
+
+	private void checkIndex(int index) {
+		if (index < 0 || index >= size) {
+			throw new IndexOutOfBoundsException("Index: " + index + ", Size: " + size);
+		}
+	}
+}
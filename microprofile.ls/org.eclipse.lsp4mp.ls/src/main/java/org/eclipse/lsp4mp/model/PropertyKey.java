@@ -13,6 +13,8 @@
 *******************************************************************************/
 package org.eclipse.lsp4mp.model;
 
+import org.eclipse.lsp4mp.ls.commons.Rope;
+
 /**
  * The property key node
  *
@@ -39,8 +41,7 @@ public class PropertyKey extends Node {
 	public String getProfile() {
 		int profileEndOffset = getEndProfileOffset();
 		if (profileEndOffset != -1) {
-			String fulltext = getOwnerModel().getText();
-			return fulltext.substring(getStart() + 1, profileEndOffset);
+			return getOwnerModel().getTextSnapshot().subSequence(getStart() + 1, profileEndOffset).toString();
 		}
 		return null;
 	}
@@ -119,7 +120,7 @@ public class PropertyKey extends Node {
 		if (start == -1 || end == -1) {
 			return -1;
 		}
-		String fulltext = getOwnerModel().getText();
+		CharSequence fulltext = Rope.cursor(getOwnerModel().getTextSnapshot());
 		if (start >= fulltext.length()) {
 			return -1;
 		}
@@ -13,6 +13,8 @@
  *******************************************************************************/
 package org.eclipse.lsp4mp.model;
 
+import org.eclipse.lsp4mp.ls.commons.Rope;
+
 /**
  * Represents a portion of the property value that refers to the value of
  * another property.
@@ -87,7 +89,7 @@ public class PropertyValueExpression extends BasePropertyValue {
 		if (end == -1) {
 			return false;
 		}
-		return super.getOwnerModel().getText().charAt(end - 1) == '}';
+		return super.getOwnerModel().getTextSnapshot().charAt(end - 1) == '}';
 	}
 
 	/**
@@ -209,7 +211,7 @@ public class PropertyValueExpression extends BasePropertyValue {
 		}
 		boolean nameParsing = true;
 		referenceNameStartOffset = start + 2;
-		String text = super.getOwnerModel().getText();
+		CharSequence text = Rope.cursor(super.getOwnerModel().getTextSnapshot());
 		for (int i = referenceNameStartOffset; i < end; i++) {
 			char c = text.charAt(i);
 			switch (c) {
@@ -16,6 +16,8 @@
  */
 package org.eclipse.lsp4mp.model.parser;
 
+import java.util.function.IntPredicate;
+
 import org.eclipse.lsp4j.jsonrpc.CancelChecker;
 import org.eclipse.lsp4mp.model.parser.ErrorEvent.ErrorType;
 
@@ -36,7 +38,7 @@ public class PropertiesParser implements ParseContext {
 	private ErrorHandler errorHandler;
 	private ParseState parseState;
 	private CancelChecker cancelChecker;
-	private String text;
+	private CharSequence text;
 	private int bufferOffset;
 	private int index;
 	private int line;
@@ -65,34 +67,72 @@ public class PropertiesParser implements ParseContext {
 	 *                        react on some {@link ErrorEvent} by throwing
 	 *                        {@code ParseException}s for them
 	 */
-	public void parse(String text, PropertiesHandler handler, ErrorHandler errorHandler, CancelChecker cancelChecker) {
+	public void parse(CharSequence text, PropertiesHandler handler, ErrorHandler errorHandler, CancelChecker cancelChecker) {
+		parse(text, 0, null, handler, errorHandler, cancelChecker);
+	}
+
+	/**
+	 * Reads the input from the {@code start} offset, which must be the start of a
+	 * line which is not a continuation of a property, and transforms it into a
+	 * sequence of parse events which are sent to the given
+	 * {@link PropertiesHandler}.
+	 *
+	 * <p>
+	 * The parse stops at the start of the first line (after the first one) which
+	 * is not a continuation of a property and whose offset is accepted by the
+	 * given {@code stopAtLine} predicate. In this case,
+	 * {@link PropertiesHandler#endDocument(ParseContext)} is not called. The line
+	 * numbers of the parse locations are relative to the {@code start} offset.
+	 * </p>
+	 *
+	 * @param text          the text to parse.
+	 * @param start         the offset where the parse starts.
+	 * @param stopAtLine    the predicate which accepts the line start offsets
+	 *                      where the parse can stop and null to parse the whole
+	 *                      text.
+	 * @param handler       the handler to send the parse events to
+	 * @param errorHandler  an {@link ErrorHandler} to notify on parse errors
+	 * @param cancelChecker the cancel checker.
+	 * @return the offset where the parse stopped and -1 if the end of the text
+	 *         has been reached.
+	 */
+	public int parse(CharSequence text, int start, IntPredicate stopAtLine, PropertiesHandler handler,
+			ErrorHandler errorHandler, CancelChecker cancelChecker) {
 		this.handler = handler;
 		this.errorHandler = errorHandler;
 		this.parseState = ParseState.Property;
 		this.cancelChecker = cancelChecker;
 		bufferOffset = 0;
-		index = 0;
+		index = start;
 		line = 1;
-		lineOffset = 0;
+		lineOffset = start;
 		current = 0;
 		last = -1;
 
 		this.text = text;
-		readLines();
+		int stopOffset = readLines(stopAtLine);
+		if (stopOffset != -1) {
+			return stopOffset;
+		}
 		if (!isEndOfText()) {
 			Location location = getLocation();
 			ErrorEvent e = new ErrorEvent(location, location, "Found unexpected character; expected end of input",
 					ErrorType.EXPECTED_END_OF_INPUT);
 			errorHandler.error(this, e);
 		}
+		return -1;
 	}
 
-	private void readLines() {
+	private int readLines(IntPredicate stopAtLine) {
 		handler.startDocument(this);
 		int currentLine = 0;
 		do {
 			read();
 			if (currentLine != line) {
+				if (currentLine != 0 && stopAtLine != null && parseState == ParseState.Property
+						&& stopAtLine.test(getLocationOffset())) {
+					return getLocationOffset();
+				}
 				currentLine = line;
 				readLine();
 			}
@@ -116,6 +156,7 @@ public class PropertiesParser implements ParseContext {
 			handler.endProperty(this);
 		}
 		handler.endDocument(this);
+		return -1;
 	}
 
 	private void readLine() {
@@ -38,6 +38,7 @@ import org.eclipse.lsp4mp.commons.metadata.ConverterKind;
 import org.eclipse.lsp4mp.commons.metadata.ItemMetadata;
 import org.eclipse.lsp4mp.commons.metadata.ValueHint;
 import org.eclipse.lsp4mp.commons.utils.StringUtils;
+import org.eclipse.lsp4mp.extensions.ExtendedMicroProfileProjectInfo;
 import org.eclipse.lsp4mp.ls.commons.BadLocationException;
 import org.eclipse.lsp4mp.ls.commons.CodeActionFactory;
 import org.eclipse.lsp4mp.ls.commons.TextDocument;
@@ -124,21 +125,18 @@ class PropertiesFileCodeActions {
 			// Get property name by using the diagnostic range
 			PropertyKey propertyKey = (PropertyKey) document.findNodeAt(diagnostic.getRange().getStart());
 			String propertyName = propertyKey.getPropertyName();
-			// Loop for each metadata property
-			for (ItemMetadata metaProperty : projectInfo.getProperties()) {
+			// Loop for each similar metadata property
+			for (ItemMetadata metaProperty : getSimilarProperties(propertyName, projectInfo)) {
 				String name = metaProperty.getName();
 				if (PropertiesFileUtils.isMappedProperty(name)) {
 					// FIXME: support mapped property
 				} else {
-					// Check if the property name is similar to the metadata name
-					if (isSimilar(metaProperty.getName(), propertyName)) {
-						Range range = PositionUtils.createRange(propertyKey);
-						CodeAction replaceAction = CodeActionFactory.replace(
-								MessageFormat.format(UNKNOWN_PROPERTY_SIMILAR_TEXT_SUGGESTION, name),
-								MicroProfileCodeActionId.UnknownPropertySimilarTextSuggestion, range, name,
-								document.getDocument(), diagnostic);
-						codeActions.add(replaceAction);
-					}
+					Range range = PositionUtils.createRange(propertyKey);
+					CodeAction replaceAction = CodeActionFactory.replace(
+							MessageFormat.format(UNKNOWN_PROPERTY_SIMILAR_TEXT_SUGGESTION, name),
+							MicroProfileCodeActionId.UnknownPropertySimilarTextSuggestion, range, name,
+							document.getDocument(), diagnostic);
+					codeActions.add(replaceAction);
 				}
 			}
 
@@ -150,6 +148,26 @@ class PropertiesFileCodeActions {
 		}
 	}
 
+	/**
+	 * Returns the properties whose name is similar to the given property name.
+	 *
+	 * @param propertyName the property name.
+	 * @param projectInfo  the MicroProfile project info
+	 * @return the properties whose name is similar to the given property name.
+	 */
+	private static List<ItemMetadata> getSimilarProperties(String propertyName,
+			MicroProfileProjectInfo projectInfo) {
+		if (projectInfo instanceof ExtendedMicroProfileProjectInfo) {
+			// Use the index built once per snapshot of the properties
+			return ((ExtendedMicroProfileProjectInfo) projectInfo).getPropertiesIndex()
+					.getSimilarProperties(propertyName, MAX_DISTANCE_DIFF_RATIO);
+		}
+		return projectInfo.getProperties().stream() //
+				.filter(property -> property != null && property.getName() != null
+						&& isSimilar(property.getName(), propertyName)) //
+				.collect(Collectors.toList());
+	}
+
 	/**
 	 * Create code action for suggesting similar known enum values for unknown enum
 	 * values. If no enum values are similar, code actions are created for each
@@ -290,7 +308,7 @@ class PropertiesFileCodeActions {
 
 			StringBuilder stringToInsert = new StringBuilder();
 
-			if (StringUtils.hasText(textDocument.getText())) {
+			if (StringUtils.hasText(textDocument.getTextSnapshot().cursor())) {
 				stringToInsert.append(lineDelimiter);
 			}
 
@@ -349,7 +367,7 @@ class PropertiesFileCodeActions {
 	 * @throws BadLocationException
 	 */
 	private Position getPositionForRequiredCodeAction(TextDocument textDocument) throws BadLocationException {
-		String textDocumentText = textDocument.getText();
+		CharSequence textDocumentText = textDocument.getTextSnapshot().cursor();
 
 		if (!StringUtils.hasText(textDocumentText)) {
 			return new Position(0, 0);
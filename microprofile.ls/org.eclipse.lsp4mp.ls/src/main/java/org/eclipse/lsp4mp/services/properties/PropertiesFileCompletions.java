@@ -13,6 +13,7 @@
 *******************************************************************************/
 package org.eclipse.lsp4mp.services.properties;
 
+import java.util.ArrayList;
 import java.util.Collection;
 import java.util.Collections;
 import java.util.HashSet;
@@ -41,6 +42,7 @@ import org.eclipse.lsp4mp.commons.metadata.ItemMetadata;
 import org.eclipse.lsp4mp.commons.metadata.ValueHint;
 import org.eclipse.lsp4mp.commons.utils.PropertyValueExpander;
 import org.eclipse.lsp4mp.commons.utils.StringUtils;
+import org.eclipse.lsp4mp.extensions.ExtendedMicroProfileProjectInfo;
 import org.eclipse.lsp4mp.ls.commons.BadLocationException;
 import org.eclipse.lsp4mp.ls.commons.SnippetsBuilder;
 import org.eclipse.lsp4mp.ls.commons.TextDocument;
@@ -54,10 +56,12 @@ import org.eclipse.lsp4mp.model.Property;
 import org.eclipse.lsp4mp.model.PropertyKey;
 import org.eclipse.lsp4mp.model.PropertyValueExpression;
 import org.eclipse.lsp4mp.settings.MicroProfileCompletionCapabilities;
+import org.eclipse.lsp4mp.settings.MicroProfileCompletionSettings;
 import org.eclipse.lsp4mp.settings.MicroProfileFormattingSettings;
 import org.eclipse.lsp4mp.snippets.LanguageId;
 import org.eclipse.lsp4mp.snippets.SnippetContextForProperties;
 import org.eclipse.lsp4mp.utils.DocumentationUtils;
+import org.eclipse.lsp4mp.utils.ItemMetadataIndex;
 import org.eclipse.lsp4mp.utils.PropertiesFileUtils;
 import org.eclipse.lsp4mp.utils.PropertiesFileUtils.FormattedPropertyResult;
 
@@ -79,12 +83,15 @@ class PropertiesFileCompletions {
 	 * @param position               the position where completion was triggered
 	 * @param projectInfo            the MicroProfile project information
 	 * @param completionCapabilities the completion capabilities
+	 * @param completionSettings     the completion settings
+	 * @param formattingSettings     the formatting settings
 	 * @param cancelChecker          the cancel checker
 	 * @return completion list for the given position
 	 */
 	public CompletionList doComplete(PropertiesModel document, Position position, MicroProfileProjectInfo projectInfo,
 			MicroProfileCompletionCapabilities completionCapabilities,
-			MicroProfileFormattingSettings formattingSettings, CancelChecker cancelChecker) {
+			MicroProfileCompletionSettings completionSettings, MicroProfileFormattingSettings formattingSettings,
+			CancelChecker cancelChecker) {
 		CompletionList list = new CompletionList();
 		int offset = -1;
 		Node node = null;
@@ -128,7 +135,7 @@ class PropertiesFileCompletions {
 			} else {
 				// completion on property key if on the left side of =
 				collectPropertyKeySuggestions(offset, node, document, projectInfo, completionCapabilities,
-						formattingSettings, list);
+						completionSettings, formattingSettings, list);
 			}
 			break;
 		case PROPERTY_VALUE:
@@ -141,7 +148,7 @@ class PropertiesFileCompletions {
 		default:
 			// completion on property key
 			collectPropertyKeySuggestions(offset, node, document, projectInfo, completionCapabilities,
-					formattingSettings, list);
+					completionSettings, formattingSettings, list);
 			// Collect completion items with snippet
 			collectSnippetSuggestions(offset, node, document, projectInfo, completionCapabilities, getSnippetRegistry(),
 					list);
@@ -179,12 +186,14 @@ class PropertiesFileCompletions {
 	 * @param node                   the property key node
 	 * @param projectInfo            the MicroProfile project information
 	 * @param completionCapabilities the completion capabilities
+	 * @param completionSettings     the completion settings
 	 * @param formattingSettings     the formatting settings
 	 * @param list                   the completion list to fill
 	 */
 	private static void collectPropertyKeySuggestions(int offset, Node node, PropertiesModel model,
 			MicroProfileProjectInfo projectInfo, MicroProfileCompletionCapabilities completionCapabilities,
-			MicroProfileFormattingSettings formattingSettings, CompletionList list) {
+			MicroProfileCompletionSettings completionSettings, MicroProfileFormattingSettings formattingSettings,
+			CompletionList list) {
 		boolean snippetsSupported = completionCapabilities.isCompletionSnippetsSupported();
 		boolean markdownSupported = completionCapabilities.isDocumentationFormatSupported(MarkupKind.MARKDOWN);
 		boolean completionResolveDocumentationSupported = completionCapabilities
@@ -219,19 +228,31 @@ class PropertiesFileCompletions {
 			propertyValue = ((Assign) node).getProperty().getPropertyValue();
 		}
 
-		// Completion on MicroProfile properties
-		for (ItemMetadata property : projectInfo.getProperties()) {
-			if (property == null) {
-				continue;
-			}
+		final String currentProfile = profile;
+		Predicate<ItemMetadata> isCandidate = property -> {
 			String propertyName = property.getName();
-			if (profile != null) {
-				propertyName = "%" + profile + "." + propertyName;
+			if (currentProfile != null) {
+				propertyName = "%" + currentProfile + "." + propertyName;
 			}
-			if (existingProperties.contains(propertyName) && node.getNodeType() == NodeType.PROPERTY_KEY
-					&& !((PropertyKey) node).getPropertyNameWithProfile().equals(propertyName)) {
-				// don't add completion items for properties that already exist
-				// unless current node has a key equal to current property name
+			// don't add completion items for properties that already exist
+			// unless current node has a key equal to current property name
+			return !(existingProperties.contains(propertyName) && node.getNodeType() == NodeType.PROPERTY_KEY
+					&& !((PropertyKey) node).getPropertyNameWithProfile().equals(propertyName));
+		};
+
+		Collection<ItemMetadata> properties = projectInfo.getProperties();
+		if (completionSettings.isMaxItemsEnabled()) {
+			// Only the first properties which start with the typed property name are
+			// returned, the client must ask the completion again while the user types
+			String prefix = getPropertyKeyPrefix(offset, node, model);
+			properties = getPropertiesStartingWith(prefix, projectInfo, isCandidate,
+					completionSettings.getMaxItems());
+			list.setIsIncomplete(true);
+		}
+
+		// Completion on MicroProfile properties
+		for (ItemMetadata property : properties) {
+			if (property == null || !isCandidate.test(property)) {
 				continue;
 			}
 
@@ -305,6 +326,68 @@ class PropertiesFileCompletions {
 		}
 	}
 
+	/**
+	 * Returns the property name (without the profile) typed before the given
+	 * offset and an empty string otherwise.
+	 *
+	 * @param offset the offset where completion was invoked
+	 * @param node   the node where completion was invoked
+	 * @param model  the properties model
+	 * @return the property name (without the profile) typed before the given
+	 *         offset and an empty string otherwise.
+	 */
+	private static String getPropertyKeyPrefix(int offset, Node node, PropertiesModel model) {
+		if (node == null || node.getNodeType() != NodeType.PROPERTY_KEY) {
+			return "";
+		}
+		PropertyKey key = (PropertyKey) node;
+		int start = key.getStart();
+		String profile = key.getProfile();
+		if (profile != null) {
+			// skip '%' + profile + '.'
+			start += profile.length() + 2;
+		}
+		int end = key.getEnd() != -1 ? Math.min(offset, key.getEnd()) : offset;
+		if (start == -1 || start >= end) {
+			return "";
+		}
+		return model.getText(start, end, true);
+	}
+
+	/**
+	 * Returns the first <code>maxItems</code> properties which start with the
+	 * given prefix and are accepted by the given filter.
+	 *
+	 * @param prefix      the typed property name.
+	 * @param projectInfo the MicroProfile project information
+	 * @param filter      the properties filter.
+	 * @param maxItems    the max number of properties to return.
+	 * @return the first <code>maxItems</code> properties which start with the
+	 *         given prefix and are accepted by the given filter.
+	 */
+	private static Collection<ItemMetadata> getPropertiesStartingWith(String prefix,
+			MicroProfileProjectInfo projectInfo, Predicate<ItemMetadata> filter, int maxItems) {
+		List<ItemMetadata> properties = new ArrayList<>();
+		Predicate<ItemMetadata> collector = property -> {
+			if (filter.test(property)) {
+				properties.add(property);
+			}
+			return properties.size() < maxItems;
+		};
+		if (projectInfo instanceof ExtendedMicroProfileProjectInfo) {
+			((ExtendedMicroProfileProjectInfo) projectInfo).getPropertiesIndex().collectPropertiesStartingWith(prefix,
+					collector);
+		} else {
+			for (ItemMetadata property : projectInfo.getProperties()) {
+				if (property != null && property.getName() != null
+						&& ItemMetadataIndex.startsWith(property.getName(), prefix) && !collector.test(property)) {
+					break;
+				}
+			}
+		}
+		return properties;
+	}
+
 	/**
 	 * Collect Quarkus profiles
 	 *
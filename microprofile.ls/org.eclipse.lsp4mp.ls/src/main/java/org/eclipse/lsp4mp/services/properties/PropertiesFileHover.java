@@ -30,8 +30,6 @@ import org.eclipse.lsp4mp.commons.metadata.ConfigurationMetadata;
 import org.eclipse.lsp4mp.commons.metadata.ItemHint;
 import org.eclipse.lsp4mp.commons.metadata.ItemMetadata;
 import org.eclipse.lsp4mp.commons.metadata.ValueHint;
-import org.eclipse.lsp4mp.commons.utils.ConfigSourcePropertiesProviderUtils;
-import org.eclipse.lsp4mp.commons.utils.IConfigSourcePropertiesProvider;
 import org.eclipse.lsp4mp.commons.utils.PropertyValueExpander;
 import org.eclipse.lsp4mp.commons.utils.StringUtils;
 import org.eclipse.lsp4mp.ls.api.MicroProfilePropertyDocumentationProvider;
@@ -163,9 +161,7 @@ class PropertiesFileHover {
 		String propertyName = key.getPropertyName();
 
 		PropertiesModel model = key.getOwnerModel();
-		IConfigSourcePropertiesProvider propertiesProvider = ConfigSourcePropertiesProviderUtils.layer(model,
-				new PropertiesInfoPropertiesProvider(projectInfo.getProperties()));
-		PropertyValueExpander expander = new PropertyValueExpander(propertiesProvider);
+		PropertyValueExpander expander = model.getPropertyValueExpander(projectInfo.getProperties());
 		cancelChecker.checkCanceled();
 
 		String propertyValue = expander.getValue(key.getPropertyNameWithProfile());
@@ -272,9 +268,7 @@ class PropertiesFileHover {
 		}
 
 		PropertiesModel model = node.getOwnerModel();
-		IConfigSourcePropertiesProvider propertiesProvider = ConfigSourcePropertiesProviderUtils.layer(model,
-				new PropertiesInfoPropertiesProvider(projectInfo.getProperties()));
-		PropertyValueExpander expander = new PropertyValueExpander(propertiesProvider);
+		PropertyValueExpander expander = model.getPropertyValueExpander(projectInfo.getProperties());
 		cancelChecker.checkCanceled();
 
 		String resolvedValue = expander.getValue(referencedProp);
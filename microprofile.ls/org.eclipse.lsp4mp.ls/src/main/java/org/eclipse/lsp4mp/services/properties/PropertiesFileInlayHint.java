@@ -25,8 +25,6 @@ import org.eclipse.lsp4j.Range;
 import org.eclipse.lsp4j.jsonrpc.CancelChecker;
 import org.eclipse.lsp4mp.commons.MicroProfileProjectInfo;
 import org.eclipse.lsp4mp.commons.metadata.ItemMetadata;
-import org.eclipse.lsp4mp.commons.utils.ConfigSourcePropertiesProviderUtils;
-import org.eclipse.lsp4mp.commons.utils.IConfigSourcePropertiesProvider;
 import org.eclipse.lsp4mp.commons.utils.PropertyValueExpander;
 import org.eclipse.lsp4mp.ls.commons.BadLocationException;
 import org.eclipse.lsp4mp.model.Node;
@@ -68,6 +66,7 @@ class PropertiesFileInlayHint {
 		List<ItemMetadata> metadatas = projectInfo != null && projectInfo.getProperties() != null
 				? projectInfo.getProperties()
 				: Collections.emptyList();
+		PropertyValueExpander expander = null;
 		List<InlayHint> hints = new ArrayList<>();
 		List<Node> children = document.getChildren();
 		for (Node child : children) {
@@ -78,9 +77,9 @@ class PropertiesFileInlayHint {
 				if (valueNode != null && valueNode.hasExpression()) {
 					// The current property has a value with expression:
 					// ex : server.url=https://${host}:${port:8080}/${endpoint}
-					IConfigSourcePropertiesProvider propertiesProvider = ConfigSourcePropertiesProviderUtils
-							.layer(document, new PropertiesInfoPropertiesProvider(metadatas));
-					PropertyValueExpander expander = new PropertyValueExpander(propertiesProvider);
+					if (expander == null) {
+						expander = document.getPropertyValueExpander(metadatas);
+					}
 					String resolved = expander.getValue(property.getKey().getPropertyNameWithProfile());
 					if (resolved != null) {
 						try {
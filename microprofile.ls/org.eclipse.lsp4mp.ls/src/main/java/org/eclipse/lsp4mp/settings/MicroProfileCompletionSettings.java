@@ -0,0 +1,62 @@
+/*******************************************************************************
+* Copyright (c) 2023 Red Hat Inc. and others.
+*
+* This program and the accompanying materials are made available under the
+* terms of the Eclipse Public License v. 2.0 which is available at
+* http://www.eclipse.org/legal/epl-2.0, or the Apache License, Version 2.0
+* which is available at https://www.apache.org/licenses/LICENSE-2.0.
+*
+* SPDX-License-Identifier: EPL-2.0 OR Apache-2.0
+*
+* Contributors:
+*     Red Hat Inc. - initial API and implementation
+*******************************************************************************/
+package org.eclipse.lsp4mp.settings;
+
+/**
+ * MicroProfile completion settings.
+ *
+ */
+public class MicroProfileCompletionSettings {
+
+	private int maxItems;
+
+	/**
+	 * Returns the max number of property keys returned by a completion request
+	 * and 0 (or a negative value) if all property keys must be returned.
+	 *
+	 * <p>
+	 * When this number is set, the property keys are filtered with the property
+	 * key which has been typed and the completion list is marked as incomplete,
+	 * so the client requests the completion again while the user types.
+	 * </p>
+	 *
+	 * @return the max number of property keys returned by a completion request
+	 *         and 0 (or a negative value) if all property keys must be returned.
+	 */
+	public int getMaxItems() {
+		return maxItems;
+	}
+
+	/**
+	 * Set the max number of property keys returned by a completion request.
+	 *
+	 * @param maxItems the max number of property keys returned by a completion
+	 *                 request and 0 (or a negative value) if all property keys
+	 *                 must be returned.
+	 */
+	public void setMaxItems(int maxItems) {
+		this.maxItems = maxItems;
+	}
+
+	/**
+	 * Returns true if the property keys completion is limited and false
+	 * otherwise.
+	 *
+	 * @return true if the property keys completion is limited and false
+	 *         otherwise.
+	 */
+	public boolean isMaxItemsEnabled() {
+		return maxItems > 0;
+	}
+}
@@ -42,6 +42,10 @@ public class MicroProfileGeneralClientSettings {
 
 	private MicroProfileInlayHintSettings inlayHint;
 
+	private MicroProfileCompletionSettings completion;
+
+	private MicroProfileProjectInfoCacheSettings projectInfoCache;
+
 	/**
 	 * Returns the symbols settings.
 	 *
@@ -122,6 +126,42 @@ public class MicroProfileGeneralClientSettings {
 		this.inlayHint = inlayHint;
 	}
 
+	/**
+	 * Returns the completion settings.
+	 *
+	 * @return the completion settings.
+	 */
+	public MicroProfileCompletionSettings getCompletion() {
+		return completion;
+	}
+
+	/**
+	 * Sets the completion settings.
+	 *
+	 * @param completion the completion settings.
+	 */
+	public void setCompletion(MicroProfileCompletionSettings completion) {
+		this.completion = completion;
+	}
+
+	/**
+	 * Returns the project information cache settings.
+	 *
+	 * @return the project information cache settings.
+	 */
+	public MicroProfileProjectInfoCacheSettings getProjectInfoCache() {
+		return projectInfoCache;
+	}
+
+	/**
+	 * Sets the project information cache settings.
+	 *
+	 * @param projectInfoCache the project information cache settings.
+	 */
+	public void setProjectInfoCache(MicroProfileProjectInfoCacheSettings projectInfoCache) {
+		this.projectInfoCache = projectInfoCache;
+	}
+
 	/**
 	 * Returns the general settings from the given initialization options
 	 *
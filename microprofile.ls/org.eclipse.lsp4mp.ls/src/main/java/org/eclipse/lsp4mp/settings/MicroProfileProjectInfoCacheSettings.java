@@ -0,0 +1,116 @@
+/*******************************************************************************
+* Copyright (c) 2023 Red Hat Inc. and others.
+*
+* This program and the accompanying materials are made available under the
+* terms of the Eclipse Public License v. 2.0 which is available at
+* http://www.eclipse.org/legal/epl-2.0, or the Apache License, Version 2.0
+* which is available at https://www.apache.org/licenses/LICENSE-2.0.
+*
+* SPDX-License-Identifier: EPL-2.0 OR Apache-2.0
+*
+* Contributors:
+*     Red Hat Inc. - initial API and implementation
+*******************************************************************************/
+package org.eclipse.lsp4mp.settings;
+
+import org.eclipse.lsp4mp.commons.utils.StringUtils;
+
+/**
+ * MicroProfile project information cache settings.
+ *
+ */
+public class MicroProfileProjectInfoCacheSettings {
+
+	private static final int DEFAULT_MAX_MEMORY = 256;
+
+	private static final int DEFAULT_IDLE_TIMEOUT = 30;
+
+	private String directory;
+
+	private Integer maxMemory;
+
+	private Integer idleTimeout;
+
+	/**
+	 * Returns the directory where the MicroProfile project information are stored
+	 * to be reused after a restart of the language server and null if the project
+	 * information must not be stored on the disk.
+	 *
+	 * @return the directory where the MicroProfile project information are stored
+	 *         to be reused after a restart of the language server and null if the
+	 *         project information must not be stored on the disk.
+	 */
+	public String getDirectory() {
+		return directory;
+	}
+
+	/**
+	 * Set the directory where the MicroProfile project information are stored.
+	 *
+	 * @param directory the directory where the MicroProfile project information
+	 *                  are stored and null if the project information must not be
+	 *                  stored on the disk.
+	 */
+	public void setDirectory(String directory) {
+		this.directory = directory;
+	}
+
+	/**
+	 * Returns true if the MicroProfile project information are stored on the disk
+	 * and false otherwise.
+	 *
+	 * @return true if the MicroProfile project information are stored on the disk
+	 *         and false otherwise.
+	 */
+	public boolean isEnabled() {
+		return !StringUtils.isEmpty(directory);
+	}
+
+	/**
+	 * Returns the approximate memory (in megabytes) that the project information
+	 * of the properties files which are not opened can retain before the least
+	 * recently used are evicted and a value less than or equal to 0 if the memory
+	 * is not bounded.
+	 *
+	 * @return the approximate memory (in megabytes) that the project information
+	 *         can retain and a value less than or equal to 0 if the memory is not
+	 *         bounded.
+	 */
+	public int getMaxMemory() {
+		return maxMemory != null ? maxMemory : DEFAULT_MAX_MEMORY;
+	}
+
+	/**
+	 * Set the approximate memory (in megabytes) that the project information can
+	 * retain.
+	 *
+	 * @param maxMemory the approximate memory (in megabytes) and null to use the
+	 *                  default value.
+	 */
+	public void setMaxMemory(Integer maxMemory) {
+		this.maxMemory = maxMemory;
+	}
+
+	/**
+	 * Returns the time (in minutes) after which the project information of a
+	 * closed properties file which has not been used is evicted and a value less
+	 * than or equal to 0 if it is never evicted.
+	 *
+	 * @return the time (in minutes) after which the project information of a
+	 *         closed properties file which has not been used is evicted and a
+	 *         value less than or equal to 0 if it is never evicted.
+	 */
+	public int getIdleTimeout() {
+		return idleTimeout != null ? idleTimeout : DEFAULT_IDLE_TIMEOUT;
+	}
+
+	/**
+	 * Set the time (in minutes) after which the project information of a closed
+	 * properties file which has not been used is evicted.
+	 *
+	 * @param idleTimeout the time (in minutes) and null to use the default value.
+	 */
+	public void setIdleTimeout(Integer idleTimeout) {
+		this.idleTimeout = idleTimeout;
+	}
+}
@@ -29,6 +29,8 @@ public class SharedSettings {
 	private final MicroProfileCommandCapabilities commandCapabilities;
 	private final MicroProfileCodeLensSettings codeLensSettings;
 	private final MicroProfileInlayHintSettings inlayHintSettings;
+	private final MicroProfileCompletionSettings completionSettings;
+	private final MicroProfileProjectInfoCacheSettings projectInfoCacheSettings;
 
 	public SharedSettings() {
 		this.completionCapabilities = new MicroProfileCompletionCapabilities();
@@ -39,6 +41,8 @@ public class SharedSettings {
 		this.commandCapabilities = new MicroProfileCommandCapabilities();
 		this.codeLensSettings = new MicroProfileCodeLensSettings();
 		this.inlayHintSettings = new MicroProfileInlayHintSettings();
+		this.completionSettings = new MicroProfileCompletionSettings();
+		this.projectInfoCacheSettings = new MicroProfileProjectInfoCacheSettings();
 	}
 
 	/**
@@ -113,4 +117,22 @@ public class SharedSettings {
 		return inlayHintSettings;
 	}
 
+	/**
+	 * Returns the completion settings.
+	 *
+	 * @return the completion settings.
+	 */
+	public MicroProfileCompletionSettings getCompletionSettings() {
+		return completionSettings;
+	}
+
+	/**
+	 * Returns the project information cache settings.
+	 *
+	 * @return the project information cache settings.
+	 */
+	public MicroProfileProjectInfoCacheSettings getProjectInfoCacheSettings() {
+		return projectInfoCacheSettings;
+	}
+
 }
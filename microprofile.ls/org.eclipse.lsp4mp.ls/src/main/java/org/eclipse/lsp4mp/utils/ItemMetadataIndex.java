@@ -0,0 +1,528 @@
+/*******************************************************************************
+* Copyright (c) 2023 Red Hat Inc. and others.
+*
+* This program and the accompanying materials are made available under the
+* terms of the Eclipse Public License v. 2.0 which is available at
+* http://www.eclipse.org/legal/epl-2.0, or the Apache License, Version 2.0
+* which is available at https://www.apache.org/licenses/LICENSE-2.0.
+*
+* SPDX-License-Identifier: EPL-2.0 OR Apache-2.0
+*
+* Contributors:
+*     Red Hat Inc. - initial API and implementation
+*******************************************************************************/
+package org.eclipse.lsp4mp.utils;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Predicate;
+
+import org.eclipse.lsp4mp.commons.metadata.ItemMetadata;
+
+/**
+ * Index of {@link ItemMetadata} used to retrieve a property from a property
+ * name without scanning the whole list of properties.
+ *
+ * <p>
+ * The index is composed of:
+ * </p>
+ *
+ * <ul>
+ * <li>a hash map for properties which have a simple name (ex :
+ * 'quarkus.http.port').</li>
+ * <li>a segment trie for properties which have a key map (ex :
+ * 'quarkus.datasource.{*}.jdbc.url') or an index array (ex :
+ * 'quarkus.http.cors.origins[*]').</li>
+ * </ul>
+ *
+ * <p>
+ * When several properties match a given name, the first one from the indexed
+ * list wins, like a linear scan of the list would do.
+ * </p>
+ *
+ * <p>
+ * The index also provides the properties whose name starts with a given prefix
+ * (used by the completion) with an array of properties sorted by name which is
+ * computed on the first prefix search.
+ * </p>
+ *
+ * <p>
+ * The index also provides the properties whose name is similar to a given
+ * name (used by the 'Did you mean' code action) with a BK-tree which is
+ * computed on the first similarity search.
+ * </p>
+ *
+ * <p>
+ * An index can be built on top of a base index for properties which are added
+ * after the properties of the base index (ex : the custom properties of a
+ * properties file added to the properties of the project): the base index is
+ * shared and only the added properties are indexed.
+ * </p>
+ *
+ */
+public class ItemMetadataIndex {
+
+	private static final String KEY_MAP = "{*}";
+
+	private static final String INDEX_ARRAY = "[*]";
+
+	private static final Comparator<ItemMetadata> NAME_COMPARATOR = (p1, p2) -> String.CASE_INSENSITIVE_ORDER
+			.compare(p1.getName(), p2.getName());
+
+	/**
+	 * Indexed property with its position in the original list of properties.
+	 */
+	private static class Entry {
+
+		private final int position;
+
+		private final ItemMetadata property;
+
+		public Entry(int position, ItemMetadata property) {
+			this.position = position;
+			this.property = property;
+		}
+	}
+
+	/**
+	 * Trie node which matches one segment of a property name.
+	 */
+	private static class SegmentNode {
+
+		private Map<String, SegmentNode> literals;
+
+		private Map<String, SegmentNode> wildcards;
+
+		private Entry entry;
+
+		public SegmentNode getOrCreateLiteral(String segment) {
+			if (literals == null) {
+				literals = new HashMap<>();
+			}
+			return literals.computeIfAbsent(segment, k -> new SegmentNode());
+		}
+
+		public SegmentNode getOrCreateWildcard(String prefix) {
+			if (wildcards == null) {
+				wildcards = new HashMap<>();
+			}
+			return wildcards.computeIfAbsent(prefix, k -> new SegmentNode());
+		}
+	}
+
+	private static final ItemMetadata[] EMPTY = new ItemMetadata[0];
+
+	private final ItemMetadataIndex base;
+
+	private final int version;
+
+	private final Map<String, Entry> exactNames;
+
+	private final SegmentNode root;
+
+	private final List<Entry> unindexedPatterns;
+
+	private final List<ItemMetadata> properties;
+
+	private volatile ItemMetadata[] sortedProperties;
+
+	private volatile List<ItemMetadata> wildcardProperties;
+
+	private volatile SimilarNameIndex similarNames;
+
+	/**
+	 * Create the index for the given properties.
+	 *
+	 * @param properties the properties to index.
+	 * @param version    the version of the properties list used to know if the
+	 *                   index is up to date.
+	 */
+	public ItemMetadataIndex(Collection<ItemMetadata> properties, int version) {
+		this(null, properties, version);
+	}
+
+	/**
+	 * Create the index for the given properties which are added after the
+	 * properties of the given base index.
+	 *
+	 * @param base       the base index which is shared and null if there is no
+	 *                   base index. The base index must not have a base index.
+	 * @param properties the properties to index.
+	 * @param version    the version of the properties list used to know if the
+	 *                   index is up to date.
+	 */
+	public ItemMetadataIndex(ItemMetadataIndex base, Collection<ItemMetadata> properties, int version) {
+		if (base != null && base.base != null) {
+			throw new IllegalArgumentException("The base index must not have a base index");
+		}
+		this.base = base;
+		this.version = version;
+		this.exactNames = new HashMap<>(properties.size());
+		this.root = new SegmentNode();
+		this.unindexedPatterns = new ArrayList<>();
+		this.properties = new ArrayList<>(properties.size());
+		int position = 0;
+		for (ItemMetadata property : properties) {
+			if (property != null && property.getName() != null) {
+				addProperty(new Entry(position, property));
+				this.properties.add(property);
+			}
+			position++;
+		}
+	}
+
+	private void addProperty(Entry entry) {
+		String name = entry.property.getName();
+		if (!PropertiesFileUtils.isMappedProperty(name) && !PropertiesFileUtils.isIndexArrayProperty(name)) {
+			exactNames.putIfAbsent(name, entry);
+			return;
+		}
+		List<String> segments = getPatternSegments(name);
+		if (segments == null) {
+			// The pattern cannot be split in segments (ex: quoted segment which contains
+			// dots), the property will be matched with a linear scan.
+			unindexedPatterns.add(entry);
+			return;
+		}
+		SegmentNode node = root;
+		for (String segment : segments) {
+			if (KEY_MAP.equals(segment)) {
+				node = node.getOrCreateWildcard("");
+			} else if (segment.endsWith(KEY_MAP) || segment.endsWith(INDEX_ARRAY)) {
+				node = node.getOrCreateWildcard(segment.substring(0, segment.length() - 3));
+			} else {
+				node = node.getOrCreateLiteral(segment);
+			}
+		}
+		if (node.entry == null) {
+			node.entry = entry;
+		}
+	}
+
+	/**
+	 * Returns the version of the properties list which was used to build this
+	 * index.
+	 *
+	 * @return the version of the properties list which was used to build this
+	 *         index.
+	 */
+	public int getVersion() {
+		return version;
+	}
+
+	/**
+	 * Returns the first property which matches the given property name and null
+	 * otherwise.
+	 *
+	 * @param propertyName the property name (ex :
+	 *                     'quarkus.datasource.users.jdbc.url').
+	 * @return the first property which matches the given property name and null
+	 *         otherwise.
+	 */
+	public ItemMetadata getProperty(String propertyName) {
+		if (base != null) {
+			// the properties of the base index come first
+			ItemMetadata property = base.getProperty(propertyName);
+			if (property != null) {
+				return property;
+			}
+		}
+		Entry result = exactNames.get(propertyName);
+		if (root.literals != null || root.wildcards != null) {
+			List<String> segments = getPropertySegments(propertyName);
+			if (segments != null) {
+				result = min(result, find(root, segments, 0));
+			}
+		}
+		for (Entry entry : unindexedPatterns) {
+			if (result != null && result.position < entry.position) {
+				break;
+			}
+			if (PropertiesFileUtils.match(propertyName, entry.property.getName())) {
+				result = entry;
+				break;
+			}
+		}
+		return result != null ? result.property : null;
+	}
+
+	/**
+	 * Collect the properties whose name starts with the given prefix (ignoring the
+	 * case), sorted by name.
+	 *
+	 * <p>
+	 * For a property which contains a key map or an index array (ex :
+	 * 'quarkus.datasource.{*}.jdbc.url'), a prefix which continues after the text
+	 * before the first wildcard (ex : 'quarkus.datasource.users.j') matches too.
+	 * </p>
+	 *
+	 * @param prefix    the prefix of the property name.
+	 * @param collector the collector which returns false to stop the search.
+	 */
+	public void collectPropertiesStartingWith(String prefix, Predicate<ItemMetadata> collector) {
+		ItemMetadata[] sortedProperties = getSortedProperties();
+		ItemMetadata[] baseSortedProperties = base != null ? base.getSortedProperties() : EMPTY;
+		// merge the sorted properties of this index and of the base index
+		int i = lowerBound(sortedProperties, prefix);
+		int j = lowerBound(baseSortedProperties, prefix);
+		while (true) {
+			boolean match = i < sortedProperties.length && startsWithIgnoreCase(sortedProperties[i], prefix);
+			boolean baseMatch = j < baseSortedProperties.length
+					&& startsWithIgnoreCase(baseSortedProperties[j], prefix);
+			if (!match && !baseMatch) {
+				break;
+			}
+			ItemMetadata property;
+			if (baseMatch && (!match || NAME_COMPARATOR.compare(baseSortedProperties[j], sortedProperties[i]) <= 0)) {
+				property = baseSortedProperties[j++];
+			} else {
+				property = sortedProperties[i++];
+			}
+			if (!collector.test(property)) {
+				return;
+			}
+		}
+		if (base != null && !base.collectWildcardPropertiesStartingWith(prefix, collector)) {
+			return;
+		}
+		collectWildcardPropertiesStartingWith(prefix, collector);
+	}
+
+	private boolean collectWildcardPropertiesStartingWith(String prefix, Predicate<ItemMetadata> collector) {
+		for (ItemMetadata property : wildcardProperties) {
+			String name = property.getName();
+			if (name.regionMatches(true, 0, prefix, 0, prefix.length())) {
+				// the property has been collected with the sorted properties (ex : prefix
+				// 'quarkus.datasource.{')
+				continue;
+			}
+			int wildcardIndex = getWildcardIndex(name);
+			if (prefix.length() > wildcardIndex && prefix.regionMatches(true, 0, name, 0, wildcardIndex)) {
+				if (!collector.test(property)) {
+					return false;
+				}
+			}
+		}
+		return true;
+	}
+
+	private static int lowerBound(ItemMetadata[] sortedProperties, String prefix) {
+		int low = 0;
+		int high = sortedProperties.length;
+		while (low < high) {
+			int mid = (low + high) >>> 1;
+			if (String.CASE_INSENSITIVE_ORDER.compare(sortedProperties[mid].getName(), prefix) < 0) {
+				low = mid + 1;
+			} else {
+				high = mid;
+			}
+		}
+		return low;
+	}
+
+	private static boolean startsWithIgnoreCase(ItemMetadata property, String prefix) {
+		return property.getName().regionMatches(true, 0, prefix, 0, prefix.length());
+	}
+
+	/**
+	 * Returns true if the given property name starts with the given prefix with
+	 * the same rules than {@link #collectPropertiesStartingWith(String, Predicate)}
+	 * and false otherwise.
+	 *
+	 * @param propertyName the property name.
+	 * @param prefix       the prefix.
+	 * @return true if the given property name starts with the given prefix and
+	 *         false otherwise.
+	 */
+	public static boolean startsWith(String propertyName, String prefix) {
+		if (propertyName.regionMatches(true, 0, prefix, 0, prefix.length())) {
+			return true;
+		}
+		int wildcardIndex = getWildcardIndex(propertyName);
+		return wildcardIndex != -1 && prefix.length() > wildcardIndex
+				&& prefix.regionMatches(true, 0, propertyName, 0, wildcardIndex);
+	}
+
+	/**
+	 * Returns the properties whose name is similar to the given property name, in
+	 * the order of the indexed list.
+	 *
+	 * <p>
+	 * A property is similar when the Levenshtein distance between its name and the
+	 * given property name is less than or equal to
+	 * <code>maxDistanceRatio</code> * length of its name.
+	 * </p>
+	 *
+	 * @param propertyName     the property name.
+	 * @param maxDistanceRatio the ratio of the length of a property name used to
+	 *                         compute the maximum accepted distance.
+	 * @return the properties whose name is similar to the given property name, in
+	 *         the order of the indexed list.
+	 */
+	public List<ItemMetadata> getSimilarProperties(String propertyName, float maxDistanceRatio) {
+		SimilarNameIndex similarNames = this.similarNames;
+		if (similarNames == null) {
+			List<String> names = new ArrayList<>(properties.size());
+			for (ItemMetadata property : properties) {
+				names.add(property.getName());
+			}
+			similarNames = new SimilarNameIndex(names);
+			this.similarNames = similarNames;
+		}
+		// the properties of the base index come first
+		List<ItemMetadata> similarProperties = base != null
+				? base.getSimilarProperties(propertyName, maxDistanceRatio)
+				: new ArrayList<>();
+		for (int position : similarNames.getSimilarNames(propertyName, maxDistanceRatio)) {
+			similarProperties.add(properties.get(position));
+		}
+		return similarProperties;
+	}
+
+	private ItemMetadata[] getSortedProperties() {
+		ItemMetadata[] sortedProperties = this.sortedProperties;
+		if (sortedProperties == null) {
+			List<ItemMetadata> wildcardProperties = new ArrayList<>();
+			for (ItemMetadata property : properties) {
+				if (getWildcardIndex(property.getName()) != -1) {
+					wildcardProperties.add(property);
+				}
+			}
+			sortedProperties = properties.toArray(new ItemMetadata[properties.size()]);
+			Arrays.sort(sortedProperties, NAME_COMPARATOR);
+			wildcardProperties.sort(NAME_COMPARATOR);
+			// wildcard properties must be visible before the sorted properties
+			this.wildcardProperties = wildcardProperties;
+			this.sortedProperties = sortedProperties;
+		}
+		return sortedProperties;
+	}
+
+	private static int getWildcardIndex(String name) {
+		int keyMapIndex = name.indexOf(KEY_MAP);
+		int indexArrayIndex = name.indexOf(INDEX_ARRAY);
+		if (keyMapIndex == -1) {
+			return indexArrayIndex;
+		}
+		return indexArrayIndex == -1 ? keyMapIndex : Math.min(keyMapIndex, indexArrayIndex);
+	}
+
+	private static Entry find(SegmentNode node, List<String> segments, int index) {
+		if (index == segments.size()) {
+			return node.entry;
+		}
+		String segment = segments.get(index);
+		Entry result = null;
+		if (node.literals != null) {
+			SegmentNode child = node.literals.get(segment);
+			if (child != null) {
+				result = find(child, segments, index + 1);
+			}
+		}
+		if (node.wildcards != null) {
+			for (Map.Entry<String, SegmentNode> wildcard : node.wildcards.entrySet()) {
+				String prefix = wildcard.getKey();
+				if (segment.length() > prefix.length() && segment.startsWith(prefix)) {
+					result = min(result, find(wildcard.getValue(), segments, index + 1));
+				}
+			}
+		}
+		return result;
+	}
+
+	private static Entry min(Entry e1, Entry e2) {
+		if (e1 == null) {
+			return e2;
+		}
+		if (e2 == null) {
+			return e1;
+		}
+		return e1.position <= e2.position ? e1 : e2;
+	}
+
+	/**
+	 * Returns the segments of the given property name pattern (ex :
+	 * 'quarkus.datasource.{*}.jdbc.url') and null if the pattern cannot be indexed.
+	 *
+	 * @param pattern the property name pattern.
+	 * @return the segments of the given property name pattern and null if the
+	 *         pattern cannot be indexed.
+	 */
+	private static List<String> getPatternSegments(String pattern) {
+		if (pattern.indexOf('"') != -1 || pattern.indexOf('\\') != -1) {
+			return null;
+		}
+		List<String> segments = new ArrayList<>();
+		int start = 0;
+		while (start <= pattern.length()) {
+			int end = pattern.indexOf('.', start);
+			if (end == -1) {
+				end = pattern.length();
+			}
+			String segment = pattern.substring(start, end);
+			if (segment.isEmpty()) {
+				return null;
+			}
+			// A wildcard is only supported at the end of the segment
+			int keyMapIndex = segment.indexOf(KEY_MAP);
+			int indexArrayIndex = segment.indexOf(INDEX_ARRAY);
+			int wildcardIndex = keyMapIndex != -1 ? keyMapIndex : indexArrayIndex;
+			if (wildcardIndex != -1 && (wildcardIndex != segment.length() - 3
+					|| (keyMapIndex != -1 && indexArrayIndex != -1))) {
+				return null;
+			}
+			segments.add(segment);
+			start = end + 1;
+		}
+		return segments;
+	}
+
+	/**
+	 * Returns the segments of the given property name (ex :
+	 * 'quarkus.log.category."org.acme".level') and null if the property name is
+	 * malformed.
+	 *
+	 * <p>
+	 * A segment ends with a dot which is not escaped, a segment which starts with a
+	 * quote ends with the next quote.
+	 * </p>
+	 *
+	 * @param propertyName the property name.
+	 * @return the segments of the given property name and null if the property
+	 *         name is malformed.
+	 */
+	private static List<String> getPropertySegments(String propertyName) {
+		List<String> segments = new ArrayList<>();
+		int length = propertyName.length();
+		int start = 0;
+		while (start <= length) {
+			int end = start;
+			if (end < length && propertyName.charAt(end) == '"') {
+				end = propertyName.indexOf('"', end + 1);
+				if (end == -1) {
+					return null;
+				}
+				end++;
+				if (end < length && propertyName.charAt(end) != '.') {
+					return null;
+				}
+			} else {
+				while (end < length
+						&& (propertyName.charAt(end) != '.' || (end > 0 && propertyName.charAt(end - 1) == '\\'))) {
+					end++;
+				}
+			}
+			if (end == start) {
+				return null;
+			}
+			segments.add(propertyName.substring(start, end));
+			start = end + 1;
+		}
+		return segments;
+	}
+}
@@ -29,6 +29,7 @@ import org.eclipse.lsp4mp.commons.metadata.ValueProvider;
 import org.eclipse.lsp4mp.commons.metadata.ValueProvider.ValueProviderDefaultName;
 import org.eclipse.lsp4mp.commons.metadata.ValueProviderParameter;
 import org.eclipse.lsp4mp.commons.utils.StringUtils;
+import org.eclipse.lsp4mp.extensions.ExtendedMicroProfileProjectInfo;
 import org.eclipse.lsp4mp.ls.commons.SnippetsBuilder;
 import org.eclipse.lsp4mp.model.PropertiesModel;
 import org.eclipse.lsp4mp.services.properties.QuarkusModel;
@@ -185,10 +186,18 @@ public class PropertiesFileUtils {
 			return null;
 		}
 		Collection<ItemMetadata> properties = info.getProperties();
-		for (ItemMetadata property : properties) {
-			if (property != null && match(propertyName, property.getName())) {
+		if (info instanceof ExtendedMicroProfileProjectInfo) {
+			ItemMetadata property = ((ExtendedMicroProfileProjectInfo) info).getPropertiesIndex()
+					.getProperty(propertyName);
+			if (property != null) {
 				return property;
 			}
+		} else {
+			for (ItemMetadata property : properties) {
+				if (property != null && match(propertyName, property.getName())) {
+					return property;
+				}
+			}
 		}
 		if (EnvUtils.isWindows && System.getenv(propertyName) != null) {
 			// Here we are on Windows OS and the property name is an Environment variable
@@ -223,7 +232,7 @@ public class PropertiesFileUtils {
 	 * @return true if the given property name matches the given pattern and false
 	 *         otherwise.
 	 */
-	private static boolean match(String propertyName, String pattern) {
+	static boolean match(String propertyName, String pattern) {
 		int i2 = 0;
 		int len = Math.max(propertyName.length(), pattern.length());
 		for (int i1 = 0; i1 < len; i1++) {
@@ -0,0 +1,181 @@
+/*******************************************************************************
+* Copyright (c) 2023 Red Hat Inc. and others.
+*
+* This program and the accompanying materials are made available under the
+* terms of the Eclipse Public License v. 2.0 which is available at
+* http://www.eclipse.org/legal/epl-2.0, or the Apache License, Version 2.0
+* which is available at https://www.apache.org/licenses/LICENSE-2.0.
+*
+* SPDX-License-Identifier: EPL-2.0 OR Apache-2.0
+*
+* Contributors:
+*     Red Hat Inc. - initial API and implementation
+*******************************************************************************/
+package org.eclipse.lsp4mp.utils;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+
+/**
+ * Index of names used to retrieve the names which are similar (with the
+ * Levenshtein distance) to a given name without computing the distance with
+ * each indexed name.
+ *
+ * <p>
+ * A name is similar to a given name when the Levenshtein distance between the
+ * two names is less than or equal to <code>maxDistanceRatio</code> * length of
+ * the indexed name. As the accepted distance depends on the length of the
+ * indexed name, the names are grouped by length and each group is indexed with
+ * a BK-tree (Burkhard-Keller tree) which is queried with the accepted distance
+ * of the group. Only the groups whose length is close enough to the length of
+ * the given name are queried.
+ * </p>
+ *
+ */
+class SimilarNameIndex {
+
+	/**
+	 * BK-tree node which holds the positions of a name in the indexed list.
+	 */
+	private static class Node {
+
+		private final String name;
+
+		private final List<Integer> positions;
+
+		private Node[] children;
+
+		public Node(String name, int position) {
+			this.name = name;
+			this.positions = new ArrayList<>(1);
+			this.positions.add(position);
+		}
+
+		public void add(String name, int position) {
+			Node node = this;
+			while (true) {
+				int distance = distance(node.name, name);
+				if (distance == 0) {
+					node.positions.add(position);
+					return;
+				}
+				if (node.children == null) {
+					// names of a group have the same length, so the distance cannot be greater
+					// than this length
+					node.children = new Node[node.name.length() + 1];
+				}
+				Node child = node.children[distance];
+				if (child == null) {
+					node.children[distance] = new Node(name, position);
+					return;
+				}
+				node = child;
+			}
+		}
+
+		public void collect(String name, int maxDistance, List<Integer> positions) {
+			int distance = distance(this.name, name);
+			if (distance <= maxDistance) {
+				positions.addAll(this.positions);
+			}
+			if (children != null) {
+				// triangle inequality: only children whose distance to this node is in
+				// [distance - maxDistance, distance + maxDistance] can match
+				int start = Math.max(1, distance - maxDistance);
+				int end = Math.min(children.length - 1, distance + maxDistance);
+				for (int i = start; i <= end; i++) {
+					Node child = children[i];
+					if (child != null) {
+						child.collect(name, maxDistance, positions);
+					}
+				}
+			}
+		}
+	}
+
+	private final Map<Integer /* name length */, Node> groups;
+
+	/**
+	 * Create the index for the given names.
+	 *
+	 * @param names the names to index.
+	 */
+	public SimilarNameIndex(List<String> names) {
+		this.groups = new TreeMap<>();
+		int position = 0;
+		for (String name : names) {
+			Node root = groups.get(name.length());
+			if (root == null) {
+				groups.put(name.length(), new Node(name, position));
+			} else {
+				root.add(name, position);
+			}
+			position++;
+		}
+	}
+
+	/**
+	 * Returns the positions (sorted in ascending order) of the indexed names which
+	 * are similar to the given name.
+	 *
+	 * @param name             the name.
+	 * @param maxDistanceRatio the ratio of the length of an indexed name used to
+	 *                         compute the maximum accepted distance.
+	 * @return the positions (sorted in ascending order) of the indexed names which
+	 *         are similar to the given name.
+	 */
+	public List<Integer> getSimilarNames(String name, float maxDistanceRatio) {
+		List<Integer> positions = new ArrayList<>();
+		for (Map.Entry<Integer, Node> group : groups.entrySet()) {
+			int length = group.getKey();
+			int maxDistance = getMaxDistance(length, maxDistanceRatio);
+			// the distance is at least the difference of the lengths
+			if (Math.abs(length - name.length()) <= maxDistance) {
+				group.getValue().collect(name, maxDistance, positions);
+			}
+		}
+		positions.sort(null);
+		return positions;
+	}
+
+	private static int getMaxDistance(int length, float maxDistanceRatio) {
+		return Math.round(maxDistanceRatio * length);
+	}
+
+	/**
+	 * Returns the Levenshtein distance between the two given names.
+	 *
+	 * @param left  the first name.
+	 * @param right the second name.
+	 * @return the Levenshtein distance between the two given names.
+	 */
+	private static int distance(String left, String right) {
+		int n = left.length();
+		int m = right.length();
+		if (n == 0) {
+			return m;
+		}
+		if (m == 0) {
+			return n;
+		}
+		int[] previous = new int[m + 1];
+		int[] current = new int[m + 1];
+		for (int j = 0; j <= m; j++) {
+			previous[j] = j;
+		}
+		for (int i = 1; i <= n; i++) {
+			char c = left.charAt(i - 1);
+			current[0] = i;
+			for (int j = 1; j <= m; j++) {
+				int cost = c == right.charAt(j - 1) ? 0 : 1;
+				current[j] = Math.min(Math.min(current[j - 1] + 1, previous[j] + 1), previous[j - 1] + cost);
+			}
+			int[] tmp = previous;
+			previous = current;
+			current = tmp;
+		}
+		return previous[m];
+	}
+}
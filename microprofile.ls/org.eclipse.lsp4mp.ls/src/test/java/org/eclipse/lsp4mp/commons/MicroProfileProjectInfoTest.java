@@ -15,9 +15,15 @@ import static org.eclipse.lsp4mp.utils.PropertiesFileUtils.formatPropertyForMark
 import static org.junit.Assert.assertEquals;
 import static org.junit.Assert.assertNotNull;
 import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertSame;
 
+import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.Collection;
+import java.util.List;
 
+import org.eclipse.lsp4mp.commons.metadata.ConverterKind;
+import org.eclipse.lsp4mp.commons.metadata.ItemHint;
 import org.eclipse.lsp4mp.commons.metadata.ValueHint;
 import org.eclipse.lsp4mp.model.PropertiesModel;
 import org.eclipse.lsp4mp.model.Property;
@@ -198,6 +204,65 @@ public class MicroProfileProjectInfoTest {
 		assertEquals("OFF", levels.iterator().next().getValue());
 	}
 
+	@Test
+	public void getHintAfterHintsUpdate() {
+		MicroProfileProjectInfo info = new MicroProfileProjectInfo();
+		info.setHints(new ArrayList<>());
+		info.getHints().add(createHint("a"));
+		assertNotNull(info.getHint("a"));
+		assertNull(info.getHint("b"));
+
+		info.getHints().add(createHint("b"));
+		assertNotNull(info.getHint("b"));
+
+		info.getHints().set(0, createHint("c"));
+		info.hintsChanged();
+		assertNull(info.getHint("a"));
+		assertEquals("c", info.getHint("a", "c").getName());
+
+		// the list given to setHints is updated without changing its size
+		List<ItemHint> hints = new ArrayList<>();
+		hints.add(createHint("d"));
+		info.setHints(hints);
+		assertSame(hints, info.getHints());
+		assertNotNull(info.getHint("d"));
+		hints.set(0, createHint("e"));
+		info.hintsChanged();
+		assertNull(info.getHint("d"));
+		assertNotNull(info.getHint("e"));
+	}
+
+	@Test
+	public void getHintValueWithConverter() {
+		ItemHint hint = createHint("a");
+		hint.getValues().add(createValue("FOO_BAR"));
+		hint.getValues().add(createValue("foo-bar"));
+		hint.getValues().add(createValue("OTHER"));
+
+		assertEquals("FOO_BAR", hint.getValue("FOO_BAR", null).getValue());
+		assertEquals("foo-bar", hint.getValue("foo-bar", Arrays.asList(ConverterKind.VERBATIM)).getValue());
+		assertEquals("FOO_BAR", hint.getValue("foo-bar", Arrays.asList(ConverterKind.KEBAB_CASE)).getValue());
+		assertEquals("FOO_BAR",
+				hint.getValue("foo-bar", Arrays.asList(ConverterKind.VERBATIM, ConverterKind.KEBAB_CASE)).getValue());
+		assertNull(hint.getValue("foo", Arrays.asList(ConverterKind.KEBAB_CASE)));
+
+		hint.getValues().add(createValue("NEW_VALUE"));
+		assertEquals("NEW_VALUE", hint.getValue("new-value", Arrays.asList(ConverterKind.KEBAB_CASE)).getValue());
+	}
+
+	private static ItemHint createHint(String name) {
+		ItemHint hint = new ItemHint();
+		hint.setName(name);
+		hint.setValues(new ArrayList<>());
+		return hint;
+	}
+
+	private static ValueHint createValue(String value) {
+		ValueHint valueHint = new ValueHint();
+		valueHint.setValue(value);
+		return valueHint;
+	}
+
 	private static PropertyInfo getProperty(String text, MicroProfileProjectInfo info) {
 		PropertiesModel model = PropertiesModel.parse(text, "application.properties", () -> {});
 		PropertyKey key = (PropertyKey) ((Property) model.getChildren().get(0)).getKey();
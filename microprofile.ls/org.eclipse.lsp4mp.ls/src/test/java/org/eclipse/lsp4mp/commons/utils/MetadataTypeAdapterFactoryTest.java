@@ -0,0 +1,71 @@
+/*******************************************************************************
+* Copyright (c) 2023 Red Hat Inc. and others.
+*
+* This program and the accompanying materials are made available under the
+* terms of the Eclipse Public License v. 2.0 which is available at
+* http://www.eclipse.org/legal/epl-2.0, or the Apache License, Version 2.0
+* which is available at https://www.apache.org/licenses/LICENSE-2.0.
+*
+* SPDX-License-Identifier: EPL-2.0 OR Apache-2.0
+*
+* Contributors:
+*     Red Hat Inc. - initial API and implementation
+*******************************************************************************/
+package org.eclipse.lsp4mp.commons.utils;
+
+import org.eclipse.lsp4mp.commons.MicroProfileProjectInfo;
+import org.eclipse.lsp4mp.commons.metadata.ItemHint;
+import org.eclipse.lsp4mp.commons.metadata.ItemMetadata;
+import org.junit.Assert;
+import org.junit.Test;
+
+import com.google.common.collect.Interners;
+import com.google.gson.Gson;
+import com.google.gson.GsonBuilder;
+
+/**
+ * Test with {@link MetadataTypeAdapterFactory}.
+ *
+ */
+public class MetadataTypeAdapterFactoryTest {
+
+	private static final String PROJECT_INFO = "{\"projectURI\":\"project1\",\"properties\":[" + //
+			"{\"name\":\"quarkus.http.port\",\"type\":\"int\",\"sourceType\":\"io.quarkus.vertx.http.runtime.HttpConfiguration\",\"extensionName\":\"quarkus-vertx-http\",\"description\":\"The HTTP port\"},"
+			+ //
+			"{\"name\":\"quarkus.http.ssl-port\",\"type\":\"int\",\"sourceType\":\"io.quarkus.vertx.http.runtime.HttpConfiguration\",\"extensionName\":\"quarkus-vertx-http\",\"description\":\"The HTTPS port\"}"
+			+ //
+			"],\"hints\":[{\"name\":\"java.lang.Boolean\",\"values\":[{\"value\":\"true\"},{\"value\":\"false\"}]}]}";
+
+	@Test
+	public void repeatedStringsAreShared() {
+		Gson gson = new GsonBuilder().registerTypeAdapterFactory(new MetadataTypeAdapterFactory(Interners.newWeakInterner()))
+				.create();
+		MicroProfileProjectInfo info1 = gson.fromJson(PROJECT_INFO, MicroProfileProjectInfo.class);
+		MicroProfileProjectInfo info2 = gson.fromJson(PROJECT_INFO, MicroProfileProjectInfo.class);
+
+		ItemMetadata port = info1.getProperties().get(0);
+		ItemMetadata sslPort = info1.getProperties().get(1);
+		Assert.assertEquals("io.quarkus.vertx.http.runtime.HttpConfiguration", port.getSourceType());
+		Assert.assertSame(port.getType(), sslPort.getType());
+		Assert.assertSame(port.getSourceType(), sslPort.getSourceType());
+		Assert.assertSame(port.getExtensionName(), sslPort.getExtensionName());
+
+		// shared across projects
+		ItemMetadata otherPort = info2.getProperties().get(0);
+		Assert.assertSame(port.getDescription(), otherPort.getDescription());
+		ItemHint hint = info1.getHints().get(0);
+		ItemHint otherHint = info2.getHints().get(0);
+		Assert.assertSame(hint.getValues().get(0).getValue(), otherHint.getValues().get(0).getValue());
+		Assert.assertEquals("false", otherHint.getValues().get(1).getValue());
+	}
+
+	@Test
+	public void lsp4jGsonSharesStrings() {
+		MicroProfileProjectInfo info1 = JSONUtility.getLsp4jGson().fromJson(PROJECT_INFO,
+				MicroProfileProjectInfo.class);
+		MicroProfileProjectInfo info2 = JSONUtility.getLsp4jGson().fromJson(PROJECT_INFO,
+				MicroProfileProjectInfo.class);
+		Assert.assertSame(info1.getProperties().get(0).getSourceType(),
+				info2.getProperties().get(1).getSourceType());
+	}
+}
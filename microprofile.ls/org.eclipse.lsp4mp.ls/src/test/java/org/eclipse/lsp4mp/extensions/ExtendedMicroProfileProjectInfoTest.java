@@ -11,6 +11,7 @@ package org.eclipse.lsp4mp.extensions;
 
 import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.List;
 
 import org.eclipse.lsp4mp.commons.MicroProfileProjectInfo;
 import org.eclipse.lsp4mp.commons.metadata.ItemHint;
@@ -120,6 +121,78 @@ public class ExtendedMicroProfileProjectInfoTest {
 
 	}
 
+	@Test
+	public void snapshotNotModifiedByUpdate() {
+		MicroProfileProjectInfo info = new MicroProfileProjectInfo();
+		info.setProperties(new ArrayList<>());
+		info.setHints(new ArrayList<>());
+
+		ItemMetadata p = new ItemMetadata();
+		p.setName("quarkus.cache.caffeine.${quarkus.cache.name}.initial-capacity");
+		p.setSource(Boolean.FALSE);
+		info.getProperties().add(p);
+
+		ExtendedMicroProfileProjectInfo wrapper = new ExtendedMicroProfileProjectInfo(info);
+		List<ItemMetadata> properties = wrapper.getProperties();
+		int size = properties.size();
+
+		// Update with 1 hint
+		ItemHint hint = new ItemHint();
+		hint.setName("${quarkus.cache.name}");
+		hint.setValues(new ArrayList<>());
+		hint.setSource(Boolean.TRUE);
+		ValueHint value = new ValueHint();
+		value.setValue("A");
+		hint.getValues().add(value);
+		wrapper.updateSourcesProperties(new ArrayList<>(), Arrays.asList(hint));
+
+		// the properties got before the update are not modified
+		Assert.assertEquals(size, properties.size());
+		Assert.assertNotSame(properties, wrapper.getProperties());
+		assertPropertyExist("quarkus.cache.caffeine.A.initial-capacity", wrapper);
+		Assert.assertSame(hint, wrapper.getHint("${quarkus.cache.name}"));
+	}
+
+	@Test
+	public void viewsShareProjectInfo() {
+		MicroProfileProjectInfo info = new MicroProfileProjectInfo();
+		info.setProperties(new ArrayList<>());
+		info.setHints(new ArrayList<>());
+
+		ItemMetadata p = new ItemMetadata();
+		p.setName("quarkus.cache.caffeine.${quarkus.cache.name}.initial-capacity");
+		p.setSource(Boolean.FALSE);
+		info.getProperties().add(p);
+
+		ExtendedMicroProfileProjectInfo project = ExtendedMicroProfileProjectInfo.createProjectInfo(info);
+		ExtendedMicroProfileProjectInfo view1 = project.createView();
+		ExtendedMicroProfileProjectInfo view2 = project.createView();
+		Assert.assertSame(project, view1.getProjectInfo());
+		Assert.assertSame(project, view2.getProjectInfo());
+
+		// Update the Java sources from a view: the project and all views are updated
+		ItemHint hint = new ItemHint();
+		hint.setName("${quarkus.cache.name}");
+		hint.setValues(new ArrayList<>());
+		hint.setSource(Boolean.TRUE);
+		ValueHint value = new ValueHint();
+		value.setValue("A");
+		hint.getValues().add(value);
+		view1.clearPropertiesFromSource();
+		Assert.assertTrue(view2.isReloadFromSource());
+		view1.updateSourcesProperties(new ArrayList<>(), Arrays.asList(hint));
+		Assert.assertFalse(view2.isReloadFromSource());
+
+		// the project has no custom properties, the views have their custom
+		// properties (System properties and Environment variables)
+		Assert.assertEquals(1, project.getProperties().size());
+		Assert.assertEquals(1 + PropertiesFileAssert.SYS_ENV_PROPERTIES_NUMBER, view1.getProperties().size());
+		Assert.assertEquals(1 + PropertiesFileAssert.SYS_ENV_PROPERTIES_NUMBER, view2.getProperties().size());
+		assertPropertyExist("quarkus.cache.caffeine.A.initial-capacity", view1);
+		assertPropertyExist("quarkus.cache.caffeine.A.initial-capacity", view2);
+		Assert.assertSame(hint, view2.getHint("${quarkus.cache.name}"));
+	}
+
 	private void assertPropertyExist(String propertyName, ExtendedMicroProfileProjectInfo wrapper) {
 		Assert.assertTrue(wrapper.getProperties().stream().anyMatch(p -> propertyName.equals(p.getName())));
 	}
@@ -0,0 +1,114 @@
+/*******************************************************************************
+* Copyright (c) 2024 Red Hat Inc. and others.
+* All rights reserved. This program and the accompanying materials
+* which accompanies this distribution, and is available at
+* http://www.eclipse.org/legal/epl-v20.html
+*
+* Contributors:
+*     Red Hat Inc. - initial API and implementation
+*******************************************************************************/
+
+package org.eclipse.lsp4mp.extensions.sysenv;
+
+import java.util.List;
+
+import org.eclipse.lsp4mp.commons.metadata.ItemMetadata;
+import org.junit.After;
+import org.junit.Assert;
+import org.junit.Test;
+
+/**
+ * Test with System/Environment variables collected by
+ * {@link SysEnvItemMetadataProvider}.
+ *
+ */
+public class SysEnvItemMetadataProviderTest {
+
+	private static final String PROPERTY_NAME = "lsp4mp.sysenv.test";
+
+	@After
+	public void tearDown() {
+		System.clearProperty(PROPERTY_NAME);
+		System.clearProperty(SysEnvProperties.TIME_TO_LIVE_PROPERTY);
+	}
+
+	@Test
+	public void propertiesAreNotCollectedAgain() {
+		SysEnvItemMetadataProvider provider = new SysEnvItemMetadataProvider(null);
+		Assert.assertTrue(provider.isUpdateRequired(null));
+		provider.update(null);
+		List<ItemMetadata> properties = provider.getProperties();
+		Assert.assertNotNull(properties);
+
+		Assert.assertFalse(provider.isUpdateRequired(null));
+		SysEnvItemMetadataProvider other = new SysEnvItemMetadataProvider(null);
+		other.update(null);
+		Assert.assertSame(properties, other.getProperties());
+	}
+
+	@Test
+	public void systemPropertiesAreCheckedAfterTimeToLive() {
+		SysEnvProperties sysEnvProperties = new SysEnvProperties(5000);
+		long now = System.currentTimeMillis();
+		SysEnvProperties.Snapshot snapshot = sysEnvProperties.getSnapshot(now);
+		Assert.assertFalse(hasProperty(snapshot.getProperties(), PROPERTY_NAME));
+
+		System.setProperty(PROPERTY_NAME, "foo");
+		Assert.assertSame(snapshot, sysEnvProperties.getSnapshot(now + 4999));
+		SysEnvProperties.Snapshot newSnapshot = sysEnvProperties.getSnapshot(now + 5000);
+		Assert.assertNotSame(snapshot, newSnapshot);
+		Assert.assertTrue(hasProperty(newSnapshot.getProperties(), PROPERTY_NAME));
+
+		// System properties have not changed
+		Assert.assertSame(newSnapshot, sysEnvProperties.getSnapshot(now + 10000));
+	}
+
+	@Test
+	public void systemPropertiesChange() {
+		SysEnvItemMetadataProvider provider = new SysEnvItemMetadataProvider(null, new SysEnvProperties(0));
+		provider.update(null);
+		Assert.assertFalse(provider.isUpdateRequired(null));
+
+		System.setProperty(PROPERTY_NAME, "foo");
+		Assert.assertTrue(provider.isUpdateRequired(null));
+		provider.update(null);
+		Assert.assertTrue(hasProperty(provider.getProperties(), PROPERTY_NAME));
+	}
+
+	@Test
+	public void configuredTimeToLive() {
+		Assert.assertEquals(5000, SysEnvProperties.getConfiguredTimeToLive());
+
+		System.setProperty(SysEnvProperties.TIME_TO_LIVE_PROPERTY, "100");
+		Assert.assertEquals(100, SysEnvProperties.getConfiguredTimeToLive());
+
+		// 0 checks the System properties on each call
+		System.setProperty(SysEnvProperties.TIME_TO_LIVE_PROPERTY, "0");
+		Assert.assertEquals(0, SysEnvProperties.getConfiguredTimeToLive());
+
+		// Invalid values fall back to the default time to live
+		System.setProperty(SysEnvProperties.TIME_TO_LIVE_PROPERTY, "-1");
+		Assert.assertEquals(5000, SysEnvProperties.getConfiguredTimeToLive());
+		System.setProperty(SysEnvProperties.TIME_TO_LIVE_PROPERTY, "foo");
+		Assert.assertEquals(5000, SysEnvProperties.getConfiguredTimeToLive());
+	}
+
+	@Test
+	public void configuredTimeToLiveIsUsed() {
+		System.setProperty(SysEnvProperties.TIME_TO_LIVE_PROPERTY, "0");
+		SysEnvProperties sysEnvProperties = new SysEnvProperties(SysEnvProperties.getConfiguredTimeToLive());
+		Assert.assertEquals(0, sysEnvProperties.getTimeToLive());
+		long now = System.currentTimeMillis();
+		SysEnvProperties.Snapshot snapshot = sysEnvProperties.getSnapshot(now);
+
+		// System properties are checked on each call
+		System.setProperty(PROPERTY_NAME, "foo");
+		SysEnvProperties.Snapshot newSnapshot = sysEnvProperties.getSnapshot(now);
+		Assert.assertNotSame(snapshot, newSnapshot);
+		Assert.assertTrue(hasProperty(newSnapshot.getProperties(), PROPERTY_NAME));
+	}
+
+	private static boolean hasProperty(List<ItemMetadata> properties, String name) {
+		return properties.stream().anyMatch(item -> name.equals(item.getName()));
+	}
+}
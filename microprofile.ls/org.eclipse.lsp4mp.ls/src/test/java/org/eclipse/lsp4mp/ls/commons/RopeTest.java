@@ -0,0 +1,100 @@
+/*******************************************************************************
+* Copyright (c) 2023 Red Hat Inc. and others.
+*
+* This program and the accompanying materials are made available under the
+* terms of the Eclipse Public License v. 2.0 which is available at
+* http://www.eclipse.org/legal/epl-2.0, or the Apache License, Version 2.0
+* which is available at https://www.apache.org/licenses/LICENSE-2.0.
+*
+* SPDX-License-Identifier: EPL-2.0 OR Apache-2.0
+*
+* Contributors:
+*     Red Hat Inc. - initial API and implementation
+*******************************************************************************/
+package org.eclipse.lsp4mp.ls.commons;
+
+import java.util.Random;
+
+import org.junit.Assert;
+import org.junit.Test;
+
+/**
+ * Tests for {@link Rope}.
+ *
+ */
+public class RopeTest {
+
+	@Test
+	public void replace() {
+		Rope rope = Rope.of("a = b");
+		Rope updated = rope.replace(4, 1, "value");
+		Assert.assertEquals("a = value", updated.toString());
+		Assert.assertEquals("value", updated.substring(4, 9));
+		Assert.assertEquals('v', updated.charAt(4));
+		// the original rope is not modified
+		Assert.assertEquals("a = b", rope.toString());
+	}
+
+	@Test
+	public void randomEdits() {
+		Random random = new Random(0);
+		StringBuilder expected = new StringBuilder();
+		for (int i = 0; i < 5000; i++) {
+			expected.append((char) ('a' + random.nextInt(26)));
+		}
+		Rope rope = Rope.of(expected.toString());
+		for (int i = 0; i < 5000; i++) {
+			int offset = random.nextInt(expected.length() + 1);
+			int length = random.nextInt(Math.min(10, expected.length() - offset) + 1);
+			String text = i % 2 == 0 ? "x" : "yz\n";
+			expected.replace(offset, offset + length, text);
+			rope = rope.replace(offset, length, text);
+			Assert.assertEquals(expected.length(), rope.length());
+			int index = random.nextInt(expected.length());
+			Assert.assertEquals(expected.charAt(index), rope.charAt(index));
+		}
+		int start = expected.length() / 3;
+		Assert.assertEquals(expected.substring(start, start * 2), rope.substring(start, start * 2));
+		Assert.assertEquals(expected.toString(), rope.toString());
+	}
+
+	@Test
+	public void cursor() {
+		Random random = new Random(0);
+		StringBuilder expected = new StringBuilder();
+		for (int i = 0; i < 5000; i++) {
+			expected.append((char) ('a' + random.nextInt(26)));
+		}
+		Rope rope = Rope.of(expected.toString());
+		for (int i = 0; i < 100; i++) {
+			int offset = random.nextInt(expected.length());
+			expected.replace(offset, offset, "x\n");
+			rope = rope.replace(offset, 0, "x\n");
+		}
+		// the cursor reads the text forwards and backwards without building it
+		CharSequence cursor = rope.cursor();
+		Assert.assertNotSame(rope.toString(), cursor);
+		for (int i = 0; i < expected.length(); i++) {
+			Assert.assertEquals(expected.charAt(i), cursor.charAt(i));
+		}
+		for (int i = expected.length() - 1; i >= 0; i--) {
+			Assert.assertEquals(expected.charAt(i), cursor.charAt(i));
+		}
+		Assert.assertEquals(expected.substring(10, 20), cursor.subSequence(10, 20).toString());
+
+		// the whole text is used once it has been built
+		Assert.assertEquals(expected.toString(), rope.toString());
+		Assert.assertSame(rope.toString(), rope.cursor());
+		Assert.assertSame(expected, Rope.cursor(expected));
+	}
+
+	@Test(expected = IndexOutOfBoundsException.class)
+	public void cursorOutOfBounds() {
+		Rope.of("abc").replace(1, 1, "").cursor().charAt(2);
+	}
+
+	@Test(expected = IndexOutOfBoundsException.class)
+	public void replaceOutOfBounds() {
+		Rope.of("abc").replace(2, 2, "");
+	}
+}
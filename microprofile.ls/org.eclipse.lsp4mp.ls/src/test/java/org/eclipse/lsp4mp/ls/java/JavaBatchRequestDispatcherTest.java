@@ -0,0 +1,143 @@
+/*******************************************************************************
+* Copyright (c) 2023 Red Hat Inc. and others.
+*
+* This program and the accompanying materials are made available under the
+* terms of the Eclipse Public License v. 2.0 which is available at
+* http://www.eclipse.org/legal/epl-2.0, or the Apache License, Version 2.0
+* which is available at https://www.apache.org/licenses/LICENSE-2.0.
+*
+* SPDX-License-Identifier: EPL-2.0 OR Apache-2.0
+*
+* Contributors:
+*     Red Hat Inc. - initial API and implementation
+*******************************************************************************/
+package org.eclipse.lsp4mp.ls.java;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.stream.Collectors;
+
+import org.eclipse.lsp4j.jsonrpc.ResponseErrorException;
+import org.eclipse.lsp4j.jsonrpc.messages.ResponseError;
+import org.eclipse.lsp4j.jsonrpc.messages.ResponseErrorCode;
+import org.junit.Assert;
+import org.junit.Test;
+
+/**
+ * Test with {@link JavaBatchRequestDispatcher}.
+ *
+ */
+public class JavaBatchRequestDispatcherTest {
+
+	@Test
+	public void requestsQueuedDuringPendingRequestAreBatched() {
+		List<String> requests = new ArrayList<>();
+		List<List<String>> batchRequests = new ArrayList<>();
+		CompletableFuture<String> firstResult = new CompletableFuture<>();
+		JavaBatchRequestDispatcher<String> dispatcher = new JavaBatchRequestDispatcher<>(uri -> {
+			requests.add(uri);
+			return firstResult;
+		}, uris -> {
+			batchRequests.add(uris);
+			return CompletableFuture
+					.completedFuture(uris.stream().map(uri -> "info-" + uri).collect(Collectors.toList()));
+		}, 1);
+
+		CompletableFuture<String> a = dispatcher.request("a");
+		CompletableFuture<String> b = dispatcher.request("b");
+		CompletableFuture<String> c = dispatcher.request("c");
+		CompletableFuture<String> b2 = dispatcher.request("b");
+
+		// 'a' is sent immediately, 'b' and 'c' wait for the response of 'a'
+		Assert.assertEquals(Arrays.asList("a"), requests);
+		Assert.assertTrue(batchRequests.isEmpty());
+		Assert.assertSame(b, b2);
+
+		firstResult.complete("info-a");
+		Assert.assertEquals("info-a", a.getNow(null));
+		Assert.assertEquals(Arrays.asList(Arrays.asList("b", "c")), batchRequests);
+		Assert.assertEquals("info-b", b.getNow(null));
+		Assert.assertEquals("info-c", c.getNow(null));
+	}
+
+	@Test
+	public void fallbackWhenBatchIsNotSupported() {
+		List<String> requests = new ArrayList<>();
+		List<List<String>> batchRequests = new ArrayList<>();
+		CompletableFuture<String> firstResult = new CompletableFuture<>();
+		JavaBatchRequestDispatcher<String> dispatcher = new JavaBatchRequestDispatcher<>(uri -> {
+			requests.add(uri);
+			return "a".equals(uri) ? firstResult : CompletableFuture.completedFuture("info-" + uri);
+		}, uris -> {
+			batchRequests.add(uris);
+			CompletableFuture<List<String>> result = new CompletableFuture<>();
+			result.completeExceptionally(new ResponseErrorException(
+					new ResponseError(ResponseErrorCode.MethodNotFound, "Unsupported request method", null)));
+			return result;
+		}, 1);
+
+		dispatcher.request("a");
+		CompletableFuture<String> b = dispatcher.request("b");
+		CompletableFuture<String> c = dispatcher.request("c");
+		firstResult.complete("info-a");
+
+		Assert.assertEquals(1, batchRequests.size());
+		Assert.assertEquals(Arrays.asList("a", "b", "c"), requests);
+		Assert.assertEquals("info-b", b.getNow(null));
+		Assert.assertEquals("info-c", c.getNow(null));
+	}
+
+	@Test
+	public void slowRequestDoesNotDelayOtherRequests() {
+		List<String> requests = new ArrayList<>();
+		List<List<String>> batchRequests = new ArrayList<>();
+		CompletableFuture<String> slowResult = new CompletableFuture<>();
+		JavaBatchRequestDispatcher<String> dispatcher = new JavaBatchRequestDispatcher<>(uri -> {
+			requests.add(uri);
+			return "a".equals(uri) ? slowResult : CompletableFuture.completedFuture("info-" + uri);
+		}, uris -> {
+			batchRequests.add(uris);
+			return CompletableFuture
+					.completedFuture(uris.stream().map(uri -> "info-" + uri).collect(Collectors.toList()));
+		}, 2);
+
+		CompletableFuture<String> a = dispatcher.request("a");
+		CompletableFuture<String> b = dispatcher.request("b");
+		CompletableFuture<String> c = dispatcher.request("c");
+
+		// 'b' and 'c' don't wait for the response of 'a'
+		Assert.assertEquals(Arrays.asList("a", "b", "c"), requests);
+		Assert.assertTrue(batchRequests.isEmpty());
+		Assert.assertFalse(a.isDone());
+		Assert.assertEquals("info-b", b.getNow(null));
+		Assert.assertEquals("info-c", c.getNow(null));
+	}
+
+	@Test
+	public void cancelledQueuedRequestIsReplaced() {
+		List<List<String>> batchRequests = new ArrayList<>();
+		CompletableFuture<String> firstResult = new CompletableFuture<>();
+		JavaBatchRequestDispatcher<String> dispatcher = new JavaBatchRequestDispatcher<>(uri -> {
+			return "a".equals(uri) ? firstResult : CompletableFuture.completedFuture("info-" + uri);
+		}, uris -> {
+			batchRequests.add(uris);
+			return CompletableFuture
+					.completedFuture(uris.stream().map(uri -> "info-" + uri).collect(Collectors.toList()));
+		}, 1);
+
+		dispatcher.request("a");
+		CompletableFuture<String> b = dispatcher.request("b");
+		CompletableFuture<String> c = dispatcher.request("c");
+		b.cancel(true);
+		c.cancel(true);
+		CompletableFuture<String> b2 = dispatcher.request("b");
+		Assert.assertNotSame(b, b2);
+
+		// the cancelled request of 'c' is not sent
+		firstResult.complete("info-a");
+		Assert.assertEquals("info-b", b2.getNow(null));
+		Assert.assertTrue(batchRequests.isEmpty());
+	}
+}
@@ -0,0 +1,73 @@
+/*******************************************************************************
+* Copyright (c) 2023 Red Hat Inc. and others.
+*
+* This program and the accompanying materials are made available under the
+* terms of the Eclipse Public License v. 2.0 which is available at
+* http://www.eclipse.org/legal/epl-2.0, or the Apache License, Version 2.0
+* which is available at https://www.apache.org/licenses/LICENSE-2.0.
+*
+* SPDX-License-Identifier: EPL-2.0 OR Apache-2.0
+*
+* Contributors:
+*     Red Hat Inc. - initial API and implementation
+*******************************************************************************/
+package org.eclipse.lsp4mp.ls.java;
+
+import java.util.Arrays;
+import java.util.HashSet;
+
+import org.junit.Assert;
+import org.junit.Test;
+
+/**
+ * Test for the inputs of the Java diagnostics collected from a Java text.
+ *
+ */
+public class JavaValidationDependenciesTest {
+
+	@Test
+	public void declaredTypes() {
+		JavaValidationDependencies dependencies = new JavaValidationDependencies("package org.acme;\n" + //
+				"\n" + //
+				"@Path(\"/hello\")\n" + //
+				"public class GreetingResource implements Api {\n" + //
+				"	static final Class<?> TYPE = String.class;\n" + //
+				"	interface Inner {}\n" + //
+				"	@interface Marker {}\n" + //
+				"	enum Kind { A, B }\n" + //
+				"}");
+		Assert.assertEquals(new HashSet<>(Arrays.asList("GreetingResource", "Inner", "Marker", "Kind")),
+				dependencies.getDeclaredTypes());
+	}
+
+	@Test
+	public void referencedTypes() {
+		JavaValidationDependencies dependencies = new JavaValidationDependencies("package org.acme;\n" + //
+				"\n" + //
+				"import org.acme.client.CountriesService;\n" + //
+				"\n" + //
+				"public class CountriesResource {\n" + //
+				"	@Inject\n" + //
+				"	@RestClient\n" + //
+				"	CountriesService countriesService;\n" + //
+				"	int size = 10;\n" + //
+				"}");
+		Assert.assertTrue(dependencies.isReferencing(Arrays.asList("CountriesService")));
+		Assert.assertTrue(dependencies.isReferencing(Arrays.asList("Other", "RestClient")));
+		Assert.assertFalse(dependencies.isReferencing(Arrays.asList("Countries")));
+	}
+
+	@Test
+	public void unionWithPreviousText() {
+		JavaValidationDependencies previous = new JavaValidationDependencies("public class Greeting {\n" + //
+				"	CountriesService service;\n" + //
+				"}");
+		JavaValidationDependencies current = new JavaValidationDependencies("public class Hello {\n" + //
+				"}");
+		JavaValidationDependencies union = current.union(previous);
+		Assert.assertEquals(new HashSet<>(Arrays.asList("Hello", "Greeting")), union.getDeclaredTypes());
+		Assert.assertTrue(union.isReferencing(Arrays.asList("CountriesService")));
+		Assert.assertFalse(current.isReferencing(Arrays.asList("CountriesService")));
+		Assert.assertSame(current, current.union(null));
+	}
+}
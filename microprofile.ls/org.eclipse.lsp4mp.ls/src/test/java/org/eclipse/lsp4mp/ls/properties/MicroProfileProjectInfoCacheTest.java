@@ -11,18 +11,29 @@ package org.eclipse.lsp4mp.ls.properties;
 
 import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.Collections;
 import java.util.HashSet;
+import java.util.List;
 import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CopyOnWriteArrayList;
 import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
 import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.Collectors;
 
+import org.eclipse.lsp4jdt.commons.ClasspathKind;
 import org.eclipse.lsp4mp.commons.MicroProfileProjectInfo;
 import org.eclipse.lsp4mp.commons.MicroProfileProjectInfoParams;
 import org.eclipse.lsp4mp.commons.MicroProfilePropertiesChangeEvent;
 import org.eclipse.lsp4mp.commons.MicroProfilePropertiesScope;
+import org.eclipse.lsp4mp.commons.metadata.ItemMetadata;
+import org.eclipse.lsp4mp.extensions.ExtendedMicroProfileProjectInfo;
 import org.eclipse.lsp4mp.ls.api.MicroProfileProjectInfoProvider;
+import org.eclipse.lsp4mp.settings.MicroProfileProjectInfoCacheSettings;
 import org.junit.Assert;
+import org.junit.Rule;
 import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
 
 /**
  * Test for cache of {@link MicroProfileProjectInfo}
@@ -32,6 +43,9 @@ import org.junit.Test;
  */
 public class MicroProfileProjectInfoCacheTest {
 
+	@Rule
+	public TemporaryFolder tempFolder = new TemporaryFolder();
+
 	private static final String PROJECT1 = "project1";
 	private static final String PROJECT1_APPLICATION_PROPERTIES = PROJECT1 + "/application.properties";
 
@@ -121,21 +135,490 @@ public class MicroProfileProjectInfoCacheTest {
 		Assert.assertEquals("Number of call of getProjectInfo in same time with 2 completion requests", 1,
 				tracker.getInstanceCount());
 
-		// Properties changed -> a new getProjectInfo instance should be get
+		// Properties changed -> the stale project info is returned while a new
+		// getProjectInfo instance is get in background
 		MicroProfilePropertiesChangeEvent event = new MicroProfilePropertiesChangeEvent();
 		event.setProjectURIs(new HashSet<String>(Arrays.asList(PROJECT1)));
 		event.setType(MicroProfilePropertiesScope.SOURCES_AND_DEPENDENCIES);
-		cache.propertiesChanged(event);
+		Assert.assertTrue("No validation before the new project info is collected",
+				cache.propertiesChanged(event).isEmpty());
+
+		CompletableFuture<MicroProfileProjectInfo> staleRequest = cache.getProjectInfoFromCache(params);
+		Assert.assertTrue("Same futures for getProjectInfo while the project info is collected again",
+				request1 == staleRequest);
+		Assert.assertTrue("Stale project info while the project info is collected again",
+				((ExtendedMicroProfileProjectInfo) staleRequest.get()).isStale());
 
 		CompletableFuture<MicroProfileProjectInfo> request4 = cache.getProjectInfoFromCache(params);
+		long start = System.currentTimeMillis();
+		while (request4 == request1 && System.currentTimeMillis() - start < 5000) {
+			Thread.sleep(10);
+			request4 = cache.getProjectInfoFromCache(params);
+		}
 
 		Assert.assertFalse("Different futures for getProjectInfo after propertiesChanged", request1 == request4);
 		Assert.assertFalse("Different instance of getProjectInfo after propertiesChanged",
 				request1.get() == request4.get());
+		Assert.assertFalse("New project info is not stale", ((ExtendedMicroProfileProjectInfo) request4.get()).isStale());
 		Assert.assertEquals("Number of call of getProjectInfo after propertiesChanged", 2, tracker.getInstanceCount());
 
 	}
 
+	@Test
+	public void getProjectInfoFromDisk() throws Exception {
+		MicroProfileProjectInfoCacheSettings settings = new MicroProfileProjectInfoCacheSettings();
+		settings.setDirectory(tempFolder.getRoot().getAbsolutePath());
+
+		// First start of the language server: the project information is loaded from
+		// the provider and stored on the disk
+		CompletableFuture<MicroProfileProjectInfo> scan = CompletableFuture
+				.completedFuture(createProjectInfo("quarkus.http.port"));
+		MicroProfileProjectInfoCache cache = new MicroProfileProjectInfoCache(params -> scan,
+				new MicroProfileProjectInfoDiskCache(settings), null);
+		MicroProfileProjectInfoParams params = new MicroProfileProjectInfoParams(PROJECT1_APPLICATION_PROPERTIES);
+		Assert.assertEquals(1, cache.getProjectInfoFromCache(params).get().getProperties().size());
+		waitForFiles(1);
+
+		// Restart of the language server: the stored project information is returned
+		// before the end of the scan
+		CompletableFuture<MicroProfileProjectInfo> newScan = new CompletableFuture<>();
+		List<String> replaced = new CopyOnWriteArrayList<>();
+		cache = new MicroProfileProjectInfoCache(p -> newScan, new MicroProfileProjectInfoDiskCache(settings),
+				replaced::add);
+		CompletableFuture<MicroProfileProjectInfo> request1 = cache.getProjectInfoFromCache(params);
+		Assert.assertTrue(request1.isDone());
+		Assert.assertEquals("quarkus.http.port", request1.get().getProperties().get(0).getName());
+
+		// The scan returns a different project information which replaces the stored
+		// project information
+		newScan.complete(createProjectInfo("quarkus.http.host"));
+		long start = System.currentTimeMillis();
+		while (replaced.isEmpty() && System.currentTimeMillis() - start < 5000) {
+			Thread.sleep(10);
+		}
+		Assert.assertEquals(Arrays.asList(PROJECT1_APPLICATION_PROPERTIES), replaced);
+		CompletableFuture<MicroProfileProjectInfo> request2 = cache.getProjectInfoFromCache(params);
+		Assert.assertNotSame(request1, request2);
+		Assert.assertEquals("quarkus.http.host", request2.get().getProperties().get(0).getName());
+		Assert.assertEquals("quarkus.http.host", new MicroProfileProjectInfoDiskCache(settings)
+				.load(PROJECT1_APPLICATION_PROPERTIES).getProperties().get(0).getName());
+	}
+
+	@Test
+	public void diskCacheStoresProjectInfoOncePerProject() throws Exception {
+		MicroProfileProjectInfoCacheSettings settings = new MicroProfileProjectInfoCacheSettings();
+		settings.setDirectory(tempFolder.getRoot().getAbsolutePath());
+		String devPropertiesURI = PROJECT1 + "/application-dev.properties";
+		String testPropertiesURI = PROJECT1 + "/src/test/resources/application.properties";
+
+		// The properties files of the project share the stored project information
+		MicroProfileProjectInfoDiskCache diskCache = new MicroProfileProjectInfoDiskCache(settings);
+		MicroProfileProjectInfo info = createProjectInfo("quarkus.http.port");
+		info.setClasspathKind(ClasspathKind.SRC);
+		Assert.assertTrue(diskCache.save(Arrays.asList(PROJECT1_APPLICATION_PROPERTIES, devPropertiesURI), info));
+		Assert.assertEquals(1, tempFolder.getRoot().list((dir, name) -> name.endsWith(".json.gz")).length);
+		// Same project information, the file is not written again
+		Assert.assertFalse(diskCache.save(Arrays.asList(PROJECT1_APPLICATION_PROPERTIES), info));
+
+		// The test classpath is stored in its own file
+		MicroProfileProjectInfo testInfo = createProjectInfo("quarkus.http.test-port");
+		testInfo.setClasspathKind(ClasspathKind.TEST);
+		Assert.assertTrue(diskCache.save(Arrays.asList(testPropertiesURI), testInfo));
+		Assert.assertEquals(2, tempFolder.getRoot().list((dir, name) -> name.endsWith(".json.gz")).length);
+
+		// Restart of the language server
+		diskCache = new MicroProfileProjectInfoDiskCache(settings);
+		Assert.assertEquals("quarkus.http.port",
+				diskCache.load(PROJECT1_APPLICATION_PROPERTIES).getProperties().get(0).getName());
+		Assert.assertEquals("quarkus.http.port", diskCache.load(devPropertiesURI).getProperties().get(0).getName());
+		Assert.assertEquals("quarkus.http.test-port",
+				diskCache.load(testPropertiesURI).getProperties().get(0).getName());
+		Assert.assertNull(diskCache.load(PROJECT1 + "/other.properties"));
+		// The loaded project information is up to date
+		Assert.assertFalse(diskCache.save(Arrays.asList(devPropertiesURI), info));
+		info.getProperties().get(0).setName("quarkus.http.host");
+		Assert.assertTrue(diskCache.save(Arrays.asList(devPropertiesURI), info));
+	}
+
+	@Test
+	public void revalidationDoesNotReplaceRescannedProjectInfo() throws Exception {
+		MicroProfileProjectInfoCacheSettings settings = new MicroProfileProjectInfoCacheSettings();
+		settings.setDirectory(tempFolder.getRoot().getAbsolutePath());
+		MicroProfileProjectInfoParams params = new MicroProfileProjectInfoParams(PROJECT1_APPLICATION_PROPERTIES);
+		MicroProfileProjectInfoCache cache = new MicroProfileProjectInfoCache(
+				p -> CompletableFuture.completedFuture(createProjectInfo("quarkus.http.port")),
+				new MicroProfileProjectInfoDiskCache(settings), null);
+		cache.getProjectInfoFromCache(params).get();
+		waitForFiles(1);
+
+		// Restart of the language server: the stored project information is
+		// revalidated, and the classpath changes before the end of the revalidation
+		List<CompletableFuture<MicroProfileProjectInfo>> scans = new CopyOnWriteArrayList<>();
+		List<String> replaced = new CopyOnWriteArrayList<>();
+		cache = new MicroProfileProjectInfoCache(p -> {
+			CompletableFuture<MicroProfileProjectInfo> scan = new CompletableFuture<>();
+			scans.add(scan);
+			return scan;
+		}, new MicroProfileProjectInfoDiskCache(settings), replaced::add);
+		CompletableFuture<MicroProfileProjectInfo> storedInfo = cache.getProjectInfoFromCache(params);
+		MicroProfilePropertiesChangeEvent event = new MicroProfilePropertiesChangeEvent();
+		event.setProjectURIs(new HashSet<String>(Arrays.asList(PROJECT1)));
+		event.setType(MicroProfilePropertiesScope.SOURCES_AND_DEPENDENCIES);
+		cache.propertiesChanged(event);
+		Assert.assertEquals(2, scans.size());
+
+		// The revalidation started before the classpath change is ignored
+		scans.get(0).complete(createProjectInfo("quarkus.http.host"));
+		long start = System.currentTimeMillis();
+		while (replaced.isEmpty() && System.currentTimeMillis() - start < 500) {
+			Thread.sleep(10);
+		}
+		Assert.assertTrue(replaced.isEmpty());
+		Assert.assertSame(storedInfo, cache.getProjectInfoFromCache(params));
+
+		// The rescan replaces the stale project information
+		scans.get(1).complete(createProjectInfo("quarkus.http.ssl-port"));
+		Assert.assertEquals(Arrays.asList(PROJECT1_APPLICATION_PROPERTIES), replaced);
+		ExtendedMicroProfileProjectInfo info = (ExtendedMicroProfileProjectInfo) cache
+				.getProjectInfoFromCache(params).get();
+		Assert.assertFalse(info.isStale());
+		Assert.assertEquals("quarkus.http.ssl-port", info.getProperties().get(0).getName());
+	}
+
+	@Test
+	public void failedRescanValidatesPropertiesFilesAgain() throws Exception {
+		List<CompletableFuture<MicroProfileProjectInfo>> scans = new CopyOnWriteArrayList<>();
+		List<String> replaced = new CopyOnWriteArrayList<>();
+		MicroProfileProjectInfoCache cache = new MicroProfileProjectInfoCache(p -> {
+			CompletableFuture<MicroProfileProjectInfo> scan = new CompletableFuture<>();
+			scans.add(scan);
+			return scan;
+		}, null, replaced::add);
+		MicroProfileProjectInfoParams params = new MicroProfileProjectInfoParams(PROJECT1_APPLICATION_PROPERTIES);
+		CompletableFuture<MicroProfileProjectInfo> request1 = cache.getProjectInfoFromCache(params);
+		scans.get(0).complete(createProjectInfo("quarkus.http.port"));
+
+		MicroProfilePropertiesChangeEvent event = new MicroProfilePropertiesChangeEvent();
+		event.setProjectURIs(new HashSet<String>(Arrays.asList(PROJECT1)));
+		event.setType(MicroProfilePropertiesScope.SOURCES_AND_DEPENDENCIES);
+		cache.propertiesChanged(event);
+		scans.get(1).completeExceptionally(new UnsupportedOperationException());
+
+		// the properties file must be validated again, which collects the project
+		// information again
+		Assert.assertEquals(Arrays.asList(PROJECT1_APPLICATION_PROPERTIES), replaced);
+		Assert.assertNotSame(request1, cache.getProjectInfoFromCache(params));
+		Assert.assertEquals(3, scans.size());
+	}
+
+	@Test
+	public void reloadFromSourcesIsShared() throws Exception {
+		List<MicroProfileProjectInfoParams> requests = new CopyOnWriteArrayList<>();
+		List<CompletableFuture<MicroProfileProjectInfo>> sourceScans = new CopyOnWriteArrayList<>();
+		MicroProfileProjectInfoCache cache = new MicroProfileProjectInfoCache(p -> {
+			requests.add(p);
+			if (p.getScopes() == MicroProfilePropertiesScope.ONLY_SOURCES) {
+				CompletableFuture<MicroProfileProjectInfo> scan = new CompletableFuture<>();
+				sourceScans.add(scan);
+				return scan;
+			}
+			return CompletableFuture.completedFuture(createProjectInfo("quarkus.http.port"));
+		});
+		MicroProfileProjectInfoParams params = new MicroProfileProjectInfoParams(PROJECT1_APPLICATION_PROPERTIES);
+		ExtendedMicroProfileProjectInfo info = (ExtendedMicroProfileProjectInfo) cache
+				.getProjectInfoFromCache(params).get();
+
+		// A Java file has been saved
+		MicroProfilePropertiesChangeEvent event = new MicroProfilePropertiesChangeEvent();
+		event.setProjectURIs(new HashSet<String>(Arrays.asList(PROJECT1)));
+		event.setType(MicroProfilePropertiesScope.ONLY_SOURCES);
+		cache.propertiesChanged(event);
+
+		// The requests done while the Java sources are scanned share the scan
+		CompletableFuture<MicroProfileProjectInfo> request1 = cache.getProjectInfoFromCache(params);
+		CompletableFuture<MicroProfileProjectInfo> request2 = cache.getProjectInfoFromCache(params);
+		Assert.assertSame(request1, request2);
+		Assert.assertEquals(1, sourceScans.size());
+
+		// A Java file is saved again during the scan: the result of the scan is
+		// applied but the properties must be reloaded again
+		cache.propertiesChanged(event);
+		sourceScans.get(0).complete(createProjectInfo("greeting.message"));
+		Assert.assertSame(info, request1.get());
+		Assert.assertTrue(info.isReloadFromSource());
+
+		CompletableFuture<MicroProfileProjectInfo> request3 = cache.getProjectInfoFromCache(params);
+		Assert.assertNotSame(request1, request3);
+		Assert.assertEquals(2, sourceScans.size());
+		sourceScans.get(1).complete(createProjectInfo("greeting.name"));
+		Assert.assertSame(info, request3.get());
+		Assert.assertFalse(info.isReloadFromSource());
+
+		// The properties are up to date, the cached project information is returned
+		Assert.assertSame(info, cache.getProjectInfoFromCache(params).get());
+		Assert.assertEquals(3, requests.size());
+	}
+
+	@Test
+	public void reloadFromSourcesIsSharedPerClasspathKind() throws Exception {
+		List<MicroProfileProjectInfoParams> sourceScans = new CopyOnWriteArrayList<>();
+		MicroProfileProjectInfoCache cache = new MicroProfileProjectInfoCache(p -> {
+			boolean test = p.getUri().contains("/src/test/");
+			MicroProfileProjectInfo info;
+			if (p.getScopes() == MicroProfilePropertiesScope.ONLY_SOURCES) {
+				sourceScans.add(p);
+				info = createProjectInfo(test ? "greeting.test" : "greeting.message");
+			} else {
+				info = createProjectInfo("quarkus.http.port");
+			}
+			info.setClasspathKind(test ? ClasspathKind.TEST : ClasspathKind.SRC);
+			return CompletableFuture.completedFuture(info);
+		});
+		MicroProfileProjectInfoParams srcParams = new MicroProfileProjectInfoParams(
+				PROJECT1 + "/src/main/resources/application.properties");
+		MicroProfileProjectInfoParams testParams = new MicroProfileProjectInfoParams(
+				PROJECT1 + "/src/test/resources/application.properties");
+		cache.getProjectInfoFromCache(srcParams).get();
+		cache.getProjectInfoFromCache(testParams).get();
+
+		// A Java file has been saved
+		MicroProfilePropertiesChangeEvent event = new MicroProfilePropertiesChangeEvent();
+		event.setProjectURIs(new HashSet<String>(Arrays.asList(PROJECT1)));
+		event.setType(MicroProfilePropertiesScope.ONLY_SOURCES);
+		cache.propertiesChanged(event);
+
+		// The Java sources are scanned with the classpath kind of each properties file
+		MicroProfileProjectInfo srcInfo = cache.getProjectInfoFromCache(srcParams).get();
+		MicroProfileProjectInfo testInfo = cache.getProjectInfoFromCache(testParams).get();
+		Assert.assertEquals(Arrays.asList(srcParams.getUri(), testParams.getUri()),
+				sourceScans.stream().map(MicroProfileProjectInfoParams::getUri).collect(Collectors.toList()));
+		Assert.assertTrue(srcInfo.getProperties().stream().anyMatch(p -> "greeting.message".equals(p.getName())));
+		Assert.assertFalse(srcInfo.getProperties().stream().anyMatch(p -> "greeting.test".equals(p.getName())));
+		Assert.assertTrue(testInfo.getProperties().stream().anyMatch(p -> "greeting.test".equals(p.getName())));
+	}
+
+	@Test
+	public void projectInfoSharedByPropertiesFilesOfProject() throws Exception {
+		List<MicroProfileProjectInfoParams> requests = new CopyOnWriteArrayList<>();
+		MicroProfileProjectInfoProvider provider = p -> {
+			requests.add(p);
+			MicroProfileProjectInfo info = createProjectInfo(
+					p.getScopes() == MicroProfilePropertiesScope.ONLY_SOURCES ? "greeting.message"
+							: "quarkus.http.port");
+			info.setProjectURI(p.getUri().substring(0, p.getUri().indexOf('/')));
+			return CompletableFuture.completedFuture(info);
+		};
+		List<String> replaced = new CopyOnWriteArrayList<>();
+		MicroProfileProjectInfoCache cache = new MicroProfileProjectInfoCache(provider, null, replaced::add);
+		MicroProfileProjectInfoParams params = new MicroProfileProjectInfoParams(PROJECT1_APPLICATION_PROPERTIES);
+		MicroProfileProjectInfoParams profileParams = new MicroProfileProjectInfoParams(
+				PROJECT1 + "/application-dev.properties");
+		MicroProfileProjectInfoParams mpConfigParams = new MicroProfileProjectInfoParams(
+				PROJECT1 + "/META-INF/microprofile-config.properties");
+		MicroProfileProjectInfoParams otherProjectParams = new MicroProfileProjectInfoParams(
+				PROJECT1 + "-other/application.properties");
+
+		// The classpath of the project is scanned once for all its properties files
+		ExtendedMicroProfileProjectInfo info = (ExtendedMicroProfileProjectInfo) cache
+				.getProjectInfoFromCache(params).get();
+		ExtendedMicroProfileProjectInfo profileInfo = (ExtendedMicroProfileProjectInfo) cache
+				.getProjectInfoFromCache(profileParams).get();
+		ExtendedMicroProfileProjectInfo mpConfigInfo = (ExtendedMicroProfileProjectInfo) cache
+				.getProjectInfoFromCache(mpConfigParams).get();
+		Assert.assertEquals(1, requests.size());
+		Assert.assertNotSame(info, profileInfo);
+		Assert.assertSame(info.getProjectInfo(), profileInfo.getProjectInfo());
+		Assert.assertSame(info.getProjectInfo(), mpConfigInfo.getProjectInfo());
+		Assert.assertEquals("quarkus.http.port", profileInfo.getProperties().get(0).getName());
+
+		// A file which doesn't belong to the project
+		cache.getProjectInfoFromCache(otherProjectParams).get();
+		Assert.assertEquals(2, requests.size());
+
+		// The Java sources are scanned once for all properties files of the project
+		MicroProfilePropertiesChangeEvent event = new MicroProfilePropertiesChangeEvent();
+		event.setProjectURIs(new HashSet<String>(Arrays.asList(PROJECT1)));
+		event.setType(MicroProfilePropertiesScope.ONLY_SOURCES);
+		cache.propertiesChanged(event);
+		Assert.assertTrue(profileInfo.isReloadFromSource());
+		Assert.assertSame(info, cache.getProjectInfoFromCache(params).get());
+		Assert.assertSame(profileInfo, cache.getProjectInfoFromCache(profileParams).get());
+		Assert.assertEquals(3, requests.size());
+		Assert.assertTrue(profileInfo.getProperties().stream().anyMatch(p -> "greeting.message".equals(p.getName())));
+
+		// Classpath changed: the project is scanned again and replaced for all its
+		// properties files which are validated again
+		event.setType(MicroProfilePropertiesScope.SOURCES_AND_DEPENDENCIES);
+		Assert.assertTrue(cache.propertiesChanged(event).isEmpty());
+		Assert.assertEquals(new HashSet<>(Arrays.asList(params.getUri(), profileParams.getUri(), mpConfigParams.getUri())),
+				new HashSet<>(replaced));
+		ExtendedMicroProfileProjectInfo newProfileInfo = (ExtendedMicroProfileProjectInfo) cache
+				.getProjectInfoFromCache(profileParams).get();
+		Assert.assertNotSame(profileInfo.getProjectInfo(), newProfileInfo.getProjectInfo());
+		Assert.assertSame(newProfileInfo.getProjectInfo(),
+				((ExtendedMicroProfileProjectInfo) cache.getProjectInfoFromCache(params).get()).getProjectInfo());
+		Assert.assertEquals(4, requests.size());
+	}
+
+	@Test
+	public void projectInfoSharedByPropertiesFilesOfSameClasspathKind() throws Exception {
+		List<String> requests = new CopyOnWriteArrayList<>();
+		MicroProfileProjectInfoProvider provider = p -> {
+			requests.add(p.getUri());
+			ClasspathKind classpathKind = p.getUri().contains("/src/main/") ? ClasspathKind.SRC
+					: p.getUri().contains("/src/test/") ? ClasspathKind.TEST : ClasspathKind.NONE;
+			MicroProfileProjectInfo info = createProjectInfo(
+					classpathKind == ClasspathKind.TEST ? "quarkus.test.port" : "quarkus.http.port");
+			info.setClasspathKind(classpathKind);
+			if (classpathKind == ClasspathKind.NONE) {
+				info.getProperties().clear();
+			}
+			return CompletableFuture.completedFuture(info);
+		};
+		MicroProfileProjectInfoCache cache = new MicroProfileProjectInfoCache(provider);
+		MicroProfileProjectInfoParams noneParams = new MicroProfileProjectInfoParams(
+				PROJECT1 + "/application.properties");
+		MicroProfileProjectInfoParams srcParams = new MicroProfileProjectInfoParams(
+				PROJECT1 + "/src/main/resources/application.properties");
+		MicroProfileProjectInfoParams srcProfileParams = new MicroProfileProjectInfoParams(
+				PROJECT1 + "/src/main/resources/application-dev.properties");
+		MicroProfileProjectInfoParams testParams = new MicroProfileProjectInfoParams(
+				PROJECT1 + "/src/test/resources/application.properties");
+		MicroProfileProjectInfoParams testMpConfigParams = new MicroProfileProjectInfoParams(
+				PROJECT1 + "/src/test/resources/META-INF/microprofile-config.properties");
+
+		// A properties file which doesn't belong to the classpath is not shared
+		Assert.assertTrue(cache.getProjectInfoFromCache(noneParams).get().getProperties().isEmpty());
+		ExtendedMicroProfileProjectInfo srcInfo = (ExtendedMicroProfileProjectInfo) cache
+				.getProjectInfoFromCache(srcParams).get();
+		Assert.assertEquals("quarkus.http.port", srcInfo.getProperties().get(0).getName());
+		Assert.assertEquals(2, requests.size());
+
+		// The test properties file has its own project information
+		ExtendedMicroProfileProjectInfo testInfo = (ExtendedMicroProfileProjectInfo) cache
+				.getProjectInfoFromCache(testParams).get();
+		Assert.assertEquals(3, requests.size());
+		Assert.assertNotSame(srcInfo.getProjectInfo(), testInfo.getProjectInfo());
+		Assert.assertEquals("quarkus.test.port", testInfo.getProperties().get(0).getName());
+
+		// The properties files of the same source folder share the project information
+		ExtendedMicroProfileProjectInfo srcProfileInfo = (ExtendedMicroProfileProjectInfo) cache
+				.getProjectInfoFromCache(srcProfileParams).get();
+		ExtendedMicroProfileProjectInfo testMpConfigInfo = (ExtendedMicroProfileProjectInfo) cache
+				.getProjectInfoFromCache(testMpConfigParams).get();
+		Assert.assertEquals(3, requests.size());
+		Assert.assertSame(srcInfo.getProjectInfo(), srcProfileInfo.getProjectInfo());
+		Assert.assertSame(testInfo.getProjectInfo(), testMpConfigInfo.getProjectInfo());
+		Assert.assertEquals(ClasspathKind.TEST, testMpConfigInfo.getClasspathKind());
+	}
+
+	@Test
+	public void projectInfoOfIdleClosedPropertiesFileIsEvicted() throws Exception {
+		List<String> requests = new CopyOnWriteArrayList<>();
+		MicroProfileProjectInfoCacheSettings settings = new MicroProfileProjectInfoCacheSettings();
+		settings.setIdleTimeout(1);
+		MicroProfileProjectInfoCache cache = new MicroProfileProjectInfoCache(
+				createProjectInfoProvider(requests, 0), null, settings, null);
+		MicroProfileProjectInfoParams openedParams = new MicroProfileProjectInfoParams("project1/application.properties");
+		MicroProfileProjectInfoParams closedParams = new MicroProfileProjectInfoParams("project2/application.properties");
+
+		cache.documentOpened(openedParams.getUri());
+		CompletableFuture<MicroProfileProjectInfo> opened = cache.getProjectInfoFromCache(openedParams);
+		CompletableFuture<MicroProfileProjectInfo> closed = cache.getProjectInfoFromCache(closedParams);
+		Assert.assertEquals(2, requests.size());
+
+		// Not idle
+		cache.evictEntries(System.currentTimeMillis());
+		Assert.assertSame(closed, cache.getProjectInfoFromCache(closedParams));
+
+		// Idle: only the project information of the closed properties file is evicted
+		cache.evictEntries(System.currentTimeMillis() + TimeUnit.MINUTES.toMillis(2));
+		Assert.assertSame(opened, cache.getProjectInfoFromCache(openedParams));
+		Assert.assertNotSame(closed, cache.getProjectInfoFromCache(closedParams));
+		Assert.assertEquals(3, requests.size());
+	}
+
+	@Test
+	public void idleEntriesAreReleasedWhenProjectInfoIsAccessed() throws Exception {
+		List<Long> evictions = new CopyOnWriteArrayList<>();
+		MicroProfileProjectInfoCache cache = new MicroProfileProjectInfoCache(
+				createProjectInfoProvider(new CopyOnWriteArrayList<>(), 0), null,
+				new MicroProfileProjectInfoCacheSettings(), null, evictions::add);
+		MicroProfileProjectInfoParams params = new MicroProfileProjectInfoParams("project1/application.properties");
+
+		long now = System.currentTimeMillis();
+		cache.getProjectInfoFromCache(params, now);
+		evictions.clear();
+
+		// the eviction is throttled
+		cache.getProjectInfoFromCache(params, now + 1);
+		Assert.assertTrue(evictions.isEmpty());
+
+		long later = now + TimeUnit.MINUTES.toMillis(2);
+		cache.getProjectInfoFromCache(params, later);
+		Assert.assertEquals(Arrays.asList(later), evictions);
+	}
+
+	@Test
+	public void leastRecentlyUsedProjectInfoIsEvicted() throws Exception {
+		List<String> requests = new CopyOnWriteArrayList<>();
+		MicroProfileProjectInfoCacheSettings settings = new MicroProfileProjectInfoCacheSettings();
+		settings.setMaxMemory(1);
+		// each project information retains ~0.4 MB
+		MicroProfileProjectInfoCache cache = new MicroProfileProjectInfoCache(
+				createProjectInfoProvider(requests, 200_000), null, settings, null);
+		MicroProfileProjectInfoParams params1 = new MicroProfileProjectInfoParams("project1/application.properties");
+		MicroProfileProjectInfoParams params2 = new MicroProfileProjectInfoParams("project2/application.properties");
+		MicroProfileProjectInfoParams params3 = new MicroProfileProjectInfoParams("project3/application.properties");
+
+		long now = System.currentTimeMillis();
+		cache.documentOpened(params1.getUri());
+		CompletableFuture<MicroProfileProjectInfo> info1 = cache.getProjectInfoFromCache(params1, now);
+		CompletableFuture<MicroProfileProjectInfo> info2 = cache.getProjectInfoFromCache(params2, now + 1);
+		// project3 exceeds the max memory, project2 is the least recently used project
+		// information of a closed properties file
+		CompletableFuture<MicroProfileProjectInfo> info3 = cache.getProjectInfoFromCache(params3, now + 2);
+		cache.evictEntries(now + 2);
+		Assert.assertEquals(3, requests.size());
+
+		Assert.assertSame(info1, cache.getProjectInfoFromCache(params1, now + 3));
+		Assert.assertSame(info3, cache.getProjectInfoFromCache(params3, now + 3));
+		Assert.assertEquals(3, requests.size());
+		Assert.assertNotSame(info2, cache.getProjectInfoFromCache(params2, now + 3));
+		Assert.assertEquals(Arrays.asList(params1.getUri(), params2.getUri(), params3.getUri(), params2.getUri()),
+				requests);
+	}
+
+	private static MicroProfileProjectInfoProvider createProjectInfoProvider(List<String> requests,
+			int descriptionLength) {
+		return params -> {
+			requests.add(params.getUri());
+			MicroProfileProjectInfo info = createProjectInfo("quarkus.http.port");
+			info.setProjectURI(params.getUri().substring(0, params.getUri().indexOf('/')));
+			info.getProperties().get(0).setDescription(String.join("", Collections.nCopies(descriptionLength, "a")));
+			return CompletableFuture.completedFuture(info);
+		};
+	}
+
+	private void waitForFiles(int expected) throws InterruptedException {
+		long start = System.currentTimeMillis();
+		while (tempFolder.getRoot().list((dir, name) -> name.endsWith(".json.gz")).length < expected
+				&& System.currentTimeMillis() - start < 5000) {
+			Thread.sleep(10);
+		}
+	}
+
+	private static MicroProfileProjectInfo createProjectInfo(String propertyName) {
+		MicroProfileProjectInfo info = new MicroProfileProjectInfo();
+		info.setProjectURI(PROJECT1);
+		info.setProperties(new ArrayList<>());
+		info.setHints(new ArrayList<>());
+		ItemMetadata property = new ItemMetadata();
+		property.setName(propertyName);
+		info.getProperties().add(property);
+		return info;
+	}
+
 	@Test
 	public void getProjectInfoCacheProviderException() throws InterruptedException, ExecutionException {
 		MicroProfileProjectInfoProvider provider = new MicroProfileProjectInfoProviderThrowException();
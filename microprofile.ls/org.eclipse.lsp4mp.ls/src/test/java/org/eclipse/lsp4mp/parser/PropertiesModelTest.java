@@ -9,6 +9,17 @@
 *******************************************************************************/
 package org.eclipse.lsp4mp.parser;
 
+import java.util.Arrays;
+import java.util.List;
+import java.util.Random;
+
+import org.eclipse.lsp4j.Range;
+import org.eclipse.lsp4j.TextDocumentContentChangeEvent;
+import org.eclipse.lsp4j.TextDocumentItem;
+import org.eclipse.lsp4mp.commons.metadata.ItemMetadata;
+import org.eclipse.lsp4mp.commons.utils.PropertyValueExpander;
+import org.eclipse.lsp4mp.ls.commons.BadLocationException;
+import org.eclipse.lsp4mp.ls.commons.ModelTextDocument;
 import org.eclipse.lsp4mp.model.Node;
 import org.eclipse.lsp4mp.model.Node.NodeType;
 import org.eclipse.lsp4mp.model.PropertiesModel;
@@ -512,6 +523,190 @@ public class PropertiesModelTest {
 
 	}
 
+	@Test
+	public void incrementalParseUpdateValue() throws BadLocationException {
+		ModelTextDocument<PropertiesModel> document = createIncrementalDocument("# comment\n" + //
+				"a = b\n" + //
+				"c = d");
+		assertIncrementalUpdate(document, 14, 1, "bbb");
+		assertIncrementalUpdate(document, 18, 0, "\\\n e");
+		assertIncrementalUpdate(document, 0, 0, "x=${y}\n");
+	}
+
+	@Test
+	public void incrementalParseMultiLine() throws BadLocationException {
+		ModelTextDocument<PropertiesModel> document = createIncrementalDocument("a = b\\\n" + //
+				"# not a comment\n" + //
+				" c\n" + //
+				"d = e\\\n" + //
+				"f\n" + //
+				"g");
+		// break the continuation of the first property
+		assertIncrementalUpdate(document, 5, 1, "");
+		// restore the continuation of the first property
+		assertIncrementalUpdate(document, 5, 0, "\\");
+		// join the last properties
+		assertIncrementalUpdate(document, document.getText().length() - 2, 1, "\\");
+		// remove the first line
+		assertIncrementalUpdate(document, 0, 7, "");
+	}
+
+	@Test
+	public void incrementalParseRandomEdits() throws BadLocationException {
+		String[] fragments = { "a", "b.c", "=", ":", " ", "\n", "\r\n", "\\", "#", "${", "}", "%dev.", "x y" };
+		Random random = new Random(0);
+		ModelTextDocument<PropertiesModel> document = createIncrementalDocument("a=b\nc=${d}\n# e\nf=g\\\n h\n");
+		for (int i = 0; i < 2000; i++) {
+			int length = document.getText().length();
+			int offset = length > 0 ? random.nextInt(length + 1) : 0;
+			int removed = offset < length ? random.nextInt(Math.min(4, length - offset) + 1) : 0;
+			StringBuilder inserted = new StringBuilder();
+			int count = random.nextInt(3);
+			for (int j = 0; j < count; j++) {
+				inserted.append(fragments[random.nextInt(fragments.length)]);
+			}
+			assertIncrementalUpdate(document, offset, removed, inserted.toString());
+		}
+	}
+
+	@Test
+	public void incrementalParseDoesNotModifyPreviousModel() throws BadLocationException {
+		ModelTextDocument<PropertiesModel> document = createIncrementalDocument("a = b\n" + //
+				"c = d\n" + //
+				"e = f");
+		PropertiesModel previousModel = document.getModel();
+		Node previousLast = previousModel.getChildren().get(2);
+
+		// shifted nodes after the damaged lines
+		assertIncrementalUpdate(document, 10, 1, "xyz");
+		PropertiesModel model = document.getModel();
+		Node last = model.getChildren().get(2);
+		Assert.assertNotSame(previousLast, last);
+		Assert.assertSame(model, last.getOwnerModel());
+		Assert.assertEquals(14, last.getStart());
+		Assert.assertEquals("f", ((Property) last).getPropertyValue());
+
+		// the previous model is not modified, its nodes still use its text and its
+		// cancel checker
+		Assert.assertSame(previousModel, previousLast.getOwnerModel());
+		Assert.assertEquals(12, previousLast.getStart());
+		Assert.assertEquals(16, ((Property) previousLast).getValue().getStart());
+		for (Node child : previousModel.getChildren()) {
+			Assert.assertSame(previousModel, child.getOwnerModel());
+		}
+	}
+
+	@Test
+	public void incrementalParseWithUnusedModels() throws BadLocationException {
+		String[] fragments = { "a", "b.c", "=", " ", "\n", "\\", "#", "${", "}" };
+		Random random = new Random(0);
+		ModelTextDocument<PropertiesModel> document = createIncrementalDocument("a=b\nc=${d}\n# e\nf=g\\\n h\n");
+		for (int i = 0; i < 200; i++) {
+			// the nodes of the intermediate models are never accessed
+			for (int j = 0; j < 5; j++) {
+				int length = document.getText().length();
+				int offset = length > 0 ? random.nextInt(length + 1) : 0;
+				int removed = offset < length ? random.nextInt(Math.min(4, length - offset) + 1) : 0;
+				Range range = new Range(document.positionAt(offset), document.positionAt(offset + removed));
+				document.setVersion(document.getVersion() + 1);
+				document.update(Arrays.asList(new TextDocumentContentChangeEvent(range, removed,
+						fragments[random.nextInt(fragments.length)])));
+				document.getModel();
+			}
+			assertIncrementalUpdate(document, 0, 0, "");
+		}
+	}
+
+	@Test
+	public void incrementalPropertyValueExpander() throws BadLocationException {
+		String[] fragments = { "a", "b", "c", "=", "\n", "${", "}", "${a}", "${b:x}", "${c}", "#", "%dev." };
+		ItemMetadata defaultC = new ItemMetadata();
+		defaultC.setName("c");
+		defaultC.setDefaultValue("default");
+		List<ItemMetadata> properties = Arrays.asList(defaultC);
+		Random random = new Random(0);
+		ModelTextDocument<PropertiesModel> document = createIncrementalDocument("a=${b}\nb=${c}/x\nd=${a}${b}\n");
+		document.getModel().getPropertyValueExpander(properties).getValue("d");
+		for (int i = 0; i < 1000; i++) {
+			int length = document.getText().length();
+			int offset = length > 0 ? random.nextInt(length + 1) : 0;
+			int removed = offset < length ? random.nextInt(Math.min(4, length - offset) + 1) : 0;
+			String inserted = fragments[random.nextInt(fragments.length)];
+			Range range = new Range(document.positionAt(offset), document.positionAt(offset + removed));
+			document.setVersion(document.getVersion() + 1);
+			document.update(Arrays.asList(new TextDocumentContentChangeEvent(range, removed, inserted)));
+			if (i % 3 == 0) {
+				// some versions of the model don't use the expander
+				continue;
+			}
+			PropertiesModel expected = PropertiesModel.parse(document.getText(), document.getUri());
+			PropertyValueExpander expectedExpander = expected.getPropertyValueExpander(properties);
+			PropertyValueExpander actualExpander = document.getModel().getPropertyValueExpander(properties);
+			for (String key : Arrays.asList("a", "b", "c", "d", "%dev.a")) {
+				Assert.assertEquals("Value of '" + key + "' in '" + document.getText() + "'",
+						expectedExpander.getValue(key), actualExpander.getValue(key));
+			}
+		}
+	}
+
+	private static ModelTextDocument<PropertiesModel> createIncrementalDocument(String text) {
+		TextDocumentItem item = new TextDocumentItem("application.properties", "properties", 1, text);
+		ModelTextDocument<PropertiesModel> document = new ModelTextDocument<PropertiesModel>(item,
+				PropertiesModel::parse, PropertiesModel::parse);
+		document.setIncremental(true);
+		document.getModel();
+		return document;
+	}
+
+	private static void assertIncrementalUpdate(ModelTextDocument<PropertiesModel> document, int offset, int length,
+			String text) throws BadLocationException {
+		Range range = new Range(document.positionAt(offset), document.positionAt(offset + length));
+		TextDocumentContentChangeEvent change = new TextDocumentContentChangeEvent(range, length, text);
+		document.setVersion(document.getVersion() + 1);
+		document.update(Arrays.asList(change));
+
+		PropertiesModel expected = PropertiesModel.parse(document.getText(), document.getUri());
+		PropertiesModel actual = document.getModel();
+		Assert.assertEquals("Incremental parse of '" + document.getText() + "'", toString(expected),
+				toString(actual));
+		for (Node child : actual.getChildren()) {
+			Assert.assertSame(actual, child.getOwnerModel());
+		}
+	}
+
+	private static String toString(Node node) {
+		StringBuilder result = new StringBuilder();
+		toString(node, result);
+		return result.toString();
+	}
+
+	private static void toString(Node node, StringBuilder result) {
+		if (node == null) {
+			result.append("null");
+			return;
+		}
+		result.append(node.getNodeType()).append('[').append(node.getStart()).append(',').append(node.getEnd())
+				.append(']');
+		if (node.getNodeType() == NodeType.PROPERTY) {
+			Property property = (Property) node;
+			result.append('(');
+			toString(property.getKey(), result);
+			result.append(' ');
+			toString(property.getDelimiterAssign(), result);
+			result.append(' ');
+			toString(property.getValue(), result);
+			result.append(')');
+		}
+		if (!node.getChildren().isEmpty()) {
+			result.append('{');
+			for (Node child : node.getChildren()) {
+				toString(child, result);
+				result.append(' ');
+			}
+			result.append('}');
+		}
+	}
+
 	private static void assertPropertyValue(Property property, MockNode... propertyValueParts) {
 		Assert.assertArrayEquals(propertyValueParts, property.getValue().getChildren().toArray());
 	}
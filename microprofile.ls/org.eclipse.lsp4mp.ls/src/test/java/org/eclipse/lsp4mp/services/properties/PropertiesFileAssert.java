@@ -76,6 +76,7 @@ import org.eclipse.lsp4mp.ls.commons.snippets.TextDocumentSnippetRegistry;
 import org.eclipse.lsp4mp.model.PropertiesModel;
 import org.eclipse.lsp4mp.settings.MicroProfileCommandCapabilities;
 import org.eclipse.lsp4mp.settings.MicroProfileCompletionCapabilities;
+import org.eclipse.lsp4mp.settings.MicroProfileCompletionSettings;
 import org.eclipse.lsp4mp.settings.MicroProfileFormattingSettings;
 import org.eclipse.lsp4mp.settings.MicroProfileHoverSettings;
 import org.eclipse.lsp4mp.settings.MicroProfileInlayHintSettings;
@@ -190,6 +191,24 @@ public class PropertiesFileAssert {
 	public static void testCompletionFor(String value, boolean snippetSupport, boolean insertSpacing,
 			boolean isItemDefaultsSupport, String fileURI, Integer expectedCount, MicroProfileProjectInfo projectInfo,
 			CompletionItem... expectedItems) throws BadLocationException {
+		CompletionList list = doComplete(value, snippetSupport, insertSpacing, isItemDefaultsSupport, fileURI,
+				projectInfo, new MicroProfileCompletionSettings());
+		assertCompletions(list, expectedCount, isItemDefaultsSupport, expectedItems);
+	}
+
+	public static void testCompletionFor(String value, MicroProfileProjectInfo projectInfo, int maxItems,
+			boolean expectedIncomplete, Integer expectedCount, CompletionItem... expectedItems)
+			throws BadLocationException {
+		MicroProfileCompletionSettings completionSettings = new MicroProfileCompletionSettings();
+		completionSettings.setMaxItems(maxItems);
+		CompletionList list = doComplete(value, false, false, false, null, projectInfo, completionSettings);
+		assertEquals(expectedIncomplete, list.isIncomplete());
+		assertCompletions(list, expectedCount, false, expectedItems);
+	}
+
+	private static CompletionList doComplete(String value, boolean snippetSupport, boolean insertSpacing,
+			boolean isItemDefaultsSupport, String fileURI, MicroProfileProjectInfo projectInfo,
+			MicroProfileCompletionSettings completionSettings) throws BadLocationException {
 		int offset = value.indexOf('|');
 		value = value.substring(0, offset) + value.substring(offset + 1);
 
@@ -213,11 +232,9 @@ public class PropertiesFileAssert {
 		formattingSettings.setSurroundEqualsWithSpaces(insertSpacing);
 
 		PropertiesFileLanguageService languageService = new PropertiesFileLanguageService();
-		CompletionList list = languageService.doComplete(model, position, projectInfo,
-				microProfileCompletionCapabilities, formattingSettings, () -> {
+		return languageService.doComplete(model, position, projectInfo, microProfileCompletionCapabilities,
+				completionSettings, formattingSettings, () -> {
 				});
-
-		assertCompletions(list, expectedCount, isItemDefaultsSupport, expectedItems);
 	}
 
 	public static void assertCompletions(CompletionList actual, Integer expectedCount,
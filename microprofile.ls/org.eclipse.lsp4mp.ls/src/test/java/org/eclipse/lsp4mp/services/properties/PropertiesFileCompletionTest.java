@@ -21,6 +21,7 @@ import java.util.List;
 
 import org.eclipse.lsp4mp.commons.MicroProfileProjectInfo;
 import org.eclipse.lsp4mp.commons.metadata.ItemMetadata;
+import org.eclipse.lsp4mp.extensions.ExtendedMicroProfileProjectInfo;
 import org.eclipse.lsp4mp.ls.commons.BadLocationException;
 import org.junit.Test;
 
@@ -473,4 +474,34 @@ public class PropertiesFileCompletionTest {
 		testCompletionItemUnresolvedFor(value, c("quarkus.http.cors", "quarkus.http.cors=false", r(0, 0, 21)));
 	}
 
+	@Test
+	public void completionWithMaxItems() throws BadLocationException {
+		MicroProfileProjectInfo projectInfo = new MicroProfileProjectInfo();
+		List<ItemMetadata> properties = new ArrayList<ItemMetadata>();
+		for (String name : new String[] { "quarkus.http.cors", "quarkus.http.port", "quarkus.http.host",
+				"quarkus.application.name", "quarkus.datasource.{*}.jdbc.url" }) {
+			ItemMetadata property = new ItemMetadata();
+			property.setName(name);
+			properties.add(property);
+		}
+		projectInfo.setProperties(properties);
+
+		testCompletionFor("quarkus.http|", projectInfo, 2, true, 2);
+		testCompletionFor("quarkus.http|", projectInfo, 10, true, 3);
+		testCompletionFor("QUARKUS.APP|", projectInfo, 10, true, 1,
+				c("quarkus.application.name", "quarkus.application.name=", r(0, 0, 11)));
+		testCompletionFor("quarkus.datasource.users.j|", projectInfo, 10, true, 1);
+		testCompletionFor("quarkus.http.cors=false\n" + //
+				"quarkus.http|", projectInfo, 10, true, 2);
+
+		// completion with the index of the extended project information
+		projectInfo = new ExtendedMicroProfileProjectInfo(projectInfo);
+		testCompletionFor("quarkus.http|", projectInfo, 2, true, 2);
+		testCompletionFor("quarkus.http|", projectInfo, 10, true, 3);
+		testCompletionFor("QUARKUS.APP|", projectInfo, 10, true, 1,
+				c("quarkus.application.name", "quarkus.application.name=", r(0, 0, 11)));
+		testCompletionFor("quarkus.datasource.users.j|", projectInfo, 10, true, 1);
+		testCompletionFor("%dev.quarkus.http.c|", projectInfo, 10, true, 1);
+	}
+
 }
@@ -0,0 +1,166 @@
+/*******************************************************************************
+* Copyright (c) 2023 Red Hat Inc. and others.
+*
+* This program and the accompanying materials are made available under the
+* terms of the Eclipse Public License v. 2.0 which is available at
+* http://www.eclipse.org/legal/epl-2.0, or the Apache License, Version 2.0
+* which is available at https://www.apache.org/licenses/LICENSE-2.0.
+*
+* SPDX-License-Identifier: EPL-2.0 OR Apache-2.0
+*
+* Contributors:
+*     Red Hat Inc. - initial API and implementation
+*******************************************************************************/
+package org.eclipse.lsp4mp.utils;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+import org.eclipse.lsp4mp.commons.metadata.ItemMetadata;
+import org.junit.Assert;
+import org.junit.Test;
+
+/**
+ * Tests for {@link ItemMetadataIndex}.
+ *
+ */
+public class ItemMetadataIndexTest {
+
+	@Test
+	public void exactName() {
+		ItemMetadataIndex index = createIndex("quarkus.http.port", "quarkus.http.host");
+		assertProperty("quarkus.http.port", "quarkus.http.port", index);
+		assertProperty("quarkus.http.host", "quarkus.http.host", index);
+		assertProperty(null, "quarkus.http", index);
+		assertProperty(null, "quarkus.http.port.foo", index);
+	}
+
+	@Test
+	public void keyMap() {
+		ItemMetadataIndex index = createIndex("quarkus.datasource.{*}.jdbc.url", "quarkus.log.category.{*}.level");
+		assertProperty("quarkus.datasource.{*}.jdbc.url", "quarkus.datasource.users.jdbc.url", index);
+		assertProperty("quarkus.log.category.{*}.level", "quarkus.log.category.\"org.acme\".level", index);
+		assertProperty(null, "quarkus.datasource.jdbc.url", index);
+		assertProperty(null, "quarkus.datasource..jdbc.url", index);
+		assertProperty(null, "quarkus.datasource.users.jdbc.url.foo", index);
+		assertProperty(null, "quarkus.log.category.\"org.acme.level", index);
+	}
+
+	@Test
+	public void indexArray() {
+		ItemMetadataIndex index = createIndex("quarkus.http.cors.origins[*]", "quarkus.foo[*].bar");
+		assertProperty("quarkus.http.cors.origins[*]", "quarkus.http.cors.origins[0]", index);
+		assertProperty("quarkus.foo[*].bar", "quarkus.foo[1].bar", index);
+		assertProperty(null, "quarkus.http.cors.origins", index);
+		assertProperty(null, "quarkus.foo[1].baz", index);
+	}
+
+	@Test
+	public void firstPropertyWins() {
+		ItemMetadataIndex index = createIndex("quarkus.a.{*}", "quarkus.a.b", "quarkus.{*}.b");
+		assertProperty("quarkus.a.{*}", "quarkus.a.b", index);
+
+		index = createIndex("quarkus.a.b", "quarkus.a.{*}");
+		assertProperty("quarkus.a.b", "quarkus.a.b", index);
+		assertProperty("quarkus.a.{*}", "quarkus.a.c", index);
+	}
+
+	@Test
+	public void sameResultThanMatch() {
+		List<String> names = Arrays.asList("quarkus.datasource.{*}.jdbc.url", "quarkus.http.cors.origins[*]",
+				"quarkus.log.category.{*}.level", "quarkus.http.port");
+		ItemMetadataIndex index = createIndex(names.toArray(new String[names.size()]));
+		for (String propertyName : Arrays.asList("quarkus.datasource.users.jdbc.url", "quarkus.http.cors.origins[0]",
+				"quarkus.log.category.\"org.acme\".level", "quarkus.log.category.org.level", "quarkus.http.port")) {
+			String expected = names.stream().filter(name -> PropertiesFileUtils.match(propertyName, name)).findFirst()
+					.orElse(null);
+			assertProperty(expected, propertyName, index);
+		}
+	}
+
+	@Test
+	public void similarProperties() {
+		ItemMetadataIndex index = createIndex("quarkus.http.port", "quarkus.http.host", "quarkus.http.posts",
+				"quarkus.http.port", "mp.a", "quarkus.http.cors.origins");
+		// ordered like the indexed list
+		assertSimilarProperties(index, "quarkus.http.post", "quarkus.http.port", "quarkus.http.host",
+				"quarkus.http.posts", "quarkus.http.port");
+		assertSimilarProperties(index, "quarkus.http.prot", "quarkus.http.port", "quarkus.http.port");
+		assertSimilarProperties(index, "quarkus.htp.cors.orgins", "quarkus.http.cors.origins");
+		// max distance is 0 for short names
+		assertSimilarProperties(index, "mp.a", "mp.a");
+		assertSimilarProperties(index, "mp.b");
+		assertSimilarProperties(index, "quarkus.foo");
+	}
+
+	@Test
+	public void propertiesStartingWith() {
+		ItemMetadataIndex index = createIndex("quarkus.http.port", "quarkus.datasource.{*}.jdbc.url",
+				"quarkus.datasource.jdbc.url", "quarkus.http.cors.origins[*]");
+		assertPropertiesStartingWith(index, "quarkus.http.", "quarkus.http.cors.origins[*]", "quarkus.http.port");
+		assertPropertiesStartingWith(index, "quarkus.datasource.", "quarkus.datasource.jdbc.url",
+				"quarkus.datasource.{*}.jdbc.url");
+		assertPropertiesStartingWith(index, "quarkus.datasource.users.j", "quarkus.datasource.{*}.jdbc.url");
+		// matched by the name and after the wildcard, collected once
+		assertPropertiesStartingWith(index, "quarkus.datasource.{", "quarkus.datasource.{*}.jdbc.url");
+		assertPropertiesStartingWith(index, "quarkus.http.cors.origins[", "quarkus.http.cors.origins[*]");
+	}
+
+	@Test
+	public void baseIndex() {
+		ItemMetadataIndex base = createIndex("quarkus.http.port", "quarkus.datasource.{*}.jdbc.url", "mp.a");
+		ItemMetadataIndex index = new ItemMetadataIndex(base,
+				createProperties("quarkus.http.host", "quarkus.http.port", "quarkus.datasource.{*}.username"), 1);
+		// the properties of the base index come first
+		ItemMetadata port = index.getProperty("quarkus.http.port");
+		Assert.assertSame(base.getProperty("quarkus.http.port"), port);
+		assertProperty("quarkus.http.host", "quarkus.http.host", index);
+		assertProperty("quarkus.datasource.{*}.username", "quarkus.datasource.users.username", index);
+		assertProperty("quarkus.datasource.{*}.jdbc.url", "quarkus.datasource.users.jdbc.url", index);
+		assertProperty(null, "mp.b", index);
+
+		// sorted properties of both indexes are merged
+		assertPropertiesStartingWith(index, "quarkus.", "quarkus.datasource.{*}.jdbc.url",
+				"quarkus.datasource.{*}.username", "quarkus.http.host", "quarkus.http.port", "quarkus.http.port");
+		assertPropertiesStartingWith(index, "quarkus.datasource.users.", "quarkus.datasource.{*}.jdbc.url",
+				"quarkus.datasource.{*}.username");
+		assertSimilarProperties(index, "quarkus.http.post", "quarkus.http.port", "quarkus.http.host",
+				"quarkus.http.port");
+	}
+
+	private static void assertPropertiesStartingWith(ItemMetadataIndex index, String prefix,
+			String... expectedNames) {
+		List<String> actualNames = new ArrayList<>();
+		index.collectPropertiesStartingWith(prefix, property -> actualNames.add(property.getName()));
+		Assert.assertEquals(Arrays.asList(expectedNames), actualNames);
+	}
+
+	private static void assertSimilarProperties(ItemMetadataIndex index, String propertyName,
+			String... expectedNames) {
+		List<String> actualNames = new ArrayList<>();
+		for (ItemMetadata property : index.getSimilarProperties(propertyName, 0.1f)) {
+			actualNames.add(property.getName());
+		}
+		Assert.assertEquals(Arrays.asList(expectedNames), actualNames);
+	}
+
+	private static ItemMetadataIndex createIndex(String... names) {
+		return new ItemMetadataIndex(createProperties(names), 0);
+	}
+
+	private static List<ItemMetadata> createProperties(String... names) {
+		List<ItemMetadata> properties = new ArrayList<>();
+		for (String name : names) {
+			ItemMetadata property = new ItemMetadata();
+			property.setName(name);
+			properties.add(property);
+		}
+		return properties;
+	}
+
+	private static void assertProperty(String expectedName, String propertyName, ItemMetadataIndex index) {
+		ItemMetadata property = index.getProperty(propertyName);
+		Assert.assertEquals(expectedName, property != null ? property.getName() : null);
+	}
+}